@@ -29,6 +29,7 @@ import io.ballerina.architecturemodelgenerator.core.model.functionentrypoint.Fun
 import io.ballerina.architecturemodelgenerator.core.model.service.Connection;
 import io.ballerina.architecturemodelgenerator.core.model.service.Service;
 import io.ballerina.modelgenerator.commons.PackageUtil;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 
@@ -36,76 +37,165 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Construct component model fpr project with multiple service.
  *
+ * <p>
+ * The models of the modules can be generated in parallel, in which case the model of each module is generated as a
+ * separate task of a work-stealing pool. The service, entity and function entry point generators of a module share the
+ * semantic model of the module, which is not designed for concurrent queries, and hence they run one after the other
+ * within the task of the module. The models are merged in the order of the modules regardless of the order the tasks
+ * complete, and hence both the modes construct the same model.
+ * </p>
+ *
  * @since 2201.2.2
  */
 public class ArchitectureModelBuilder {
 
+    private static final ExecutorService GENERATOR_POOL = Executors.newWorkStealingPool();
+
     public ArchitectureModel constructComponentModel(Package currentPackage) {
         return constructComponentModel(currentPackage, null);
     }
 
     public ArchitectureModel constructComponentModel(Package currentPackage, PackageCompilation packageCompilation) {
+        return constructComponentModel(currentPackage, packageCompilation, false);
+    }
+
+    /**
+     * Constructs the architecture model of the given package.
+     *
+     * @param currentPackage     the package
+     * @param packageCompilation the compilation of the package, or null to obtain the compilation of the package
+     * @param parallel           whether to generate the models of the modules in parallel
+     * @return the architecture model
+     */
+    public ArchitectureModel constructComponentModel(Package currentPackage, PackageCompilation packageCompilation,
+                                                     boolean parallel) {
+        List<Module> modules = new ArrayList<>();
+        currentPackage.modules().forEach(modules::add);
+        PackageCompilation currentPackageCompilation = packageCompilation == null ?
+                PackageUtil.getCompilation(currentPackage) : packageCompilation;
+
+        List<ModuleModel> moduleModels = new ArrayList<>();
+        if (parallel) {
+            List<CompletableFuture<ModuleModel>> moduleModelFutures = new ArrayList<>();
+            for (Module module : modules) {
+                moduleModelFutures.add(CompletableFuture.supplyAsync(
+                        () -> generateModuleModel(currentPackageCompilation, module), GENERATOR_POOL));
+            }
+            for (CompletableFuture<ModuleModel> moduleModelFuture : moduleModelFutures) {
+                moduleModels.add(join(moduleModelFuture));
+            }
+        } else {
+            for (Module module : modules) {
+                moduleModels.add(generateModuleModel(currentPackageCompilation, module));
+            }
+        }
+
         Map<String, Service> services = new HashMap<>();
         // todo: Change to TypeDefinition
         Map<String, Entity> entities = new HashMap<>();
         List<ArchitectureModelDiagnostic> diagnostics = new ArrayList<>();
         List<Connection> allDependencies = new ArrayList<>();
-        AtomicReference<FunctionEntryPoint> functionEntryPoint = new AtomicReference<>();
-        AtomicBoolean hasDiagnosticErrors = new AtomicBoolean(false);
+        FunctionEntryPoint functionEntryPoint = null;
+        for (ModuleModel moduleModel : moduleModels) {
+            ServiceModel serviceModel = moduleModel.serviceModel();
+            services.putAll(serviceModel.services());
+            allDependencies.addAll(serviceModel.dependencies());
+            if (serviceModel.diagnostic() != null) {
+                diagnostics.add(serviceModel.diagnostic());
+            }
+
+            EntityModel entityModel = moduleModel.entityModel();
+            entities.putAll(entityModel.entities());
+            if (entityModel.diagnostic() != null) {
+                diagnostics.add(entityModel.diagnostic());
+            }
+
+            FunctionEntryPointModel functionEntryPointModel = moduleModel.functionEntryPointModel();
+            if (functionEntryPointModel.functionEntryPoint() != null) {
+                functionEntryPoint = functionEntryPointModel.functionEntryPoint();
+                allDependencies.addAll(functionEntryPointModel.dependencies());
+            }
+        }
+
+        boolean hasDiagnosticErrors = !modules.isEmpty() && currentPackageCompilation.diagnosticResult().hasErrors();
         String packageOrg = currentPackage.packageOrg().value();
         String packageName = currentPackage.packageName().value();
         String packageVersion = currentPackage.packageVersion().value().toString();
+        return new ArchitectureModel(Constants.MODEL_VERSION, packageName, packageOrg, packageVersion, diagnostics,
+                services, entities, functionEntryPoint, hasDiagnosticErrors, allDependencies);
+    }
 
-        currentPackage.modules().forEach(module -> {
-            PackageCompilation currentPackageCompilation = packageCompilation == null ?
-                    PackageUtil.getCompilation(currentPackage) : packageCompilation;
-            if (currentPackageCompilation.diagnosticResult().hasErrors() && !hasDiagnosticErrors.get()) {
-                hasDiagnosticErrors.set(true);
-            }
+    private static ModuleModel generateModuleModel(PackageCompilation packageCompilation, Module module) {
+        return new ModuleModel(generateServiceModel(packageCompilation, module),
+                generateEntityModel(packageCompilation, module),
+                generateFunctionEntryPointModel(packageCompilation, module));
+    }
 
-            ServiceModelGenerator serviceModelGenerator = new ServiceModelGenerator(currentPackageCompilation, module);
-            try {
-                serviceModelGenerator.generate();
-                services.putAll(serviceModelGenerator.getServices());
-                allDependencies.addAll(serviceModelGenerator.getDependencies());
-            } catch (Exception e) {
-                DiagnosticMessage message = DiagnosticMessage.failedToGenerate(DiagnosticNode.SERVICES,
-                        e.getMessage());
-                ArchitectureModelDiagnostic diagnostic = new ArchitectureModelDiagnostic(
-                        message.getCode(), message.getDescription(), message.getSeverity(), null, null
-                );
-                diagnostics.add(diagnostic);
-            }
+    private static ServiceModel generateServiceModel(PackageCompilation packageCompilation, Module module) {
+        ServiceModelGenerator serviceModelGenerator = new ServiceModelGenerator(packageCompilation, module);
+        try {
+            serviceModelGenerator.generate();
+            return new ServiceModel(serviceModelGenerator.getServices(), serviceModelGenerator.getDependencies(),
+                    null);
+        } catch (Exception e) {
+            return new ServiceModel(Map.of(), List.of(), getDiagnostic(DiagnosticNode.SERVICES, e));
+        }
+    }
 
-            EntityModelGenerator entityModelGenerator = new EntityModelGenerator(currentPackageCompilation, module);
-            try {
-                entities.putAll(entityModelGenerator.generate());
-            } catch (Exception e) {
-                DiagnosticMessage message = DiagnosticMessage.failedToGenerate(DiagnosticNode.ENTITIES,
-                        e.getMessage());
-                ArchitectureModelDiagnostic diagnostic = new ArchitectureModelDiagnostic(
-                        message.getCode(), message.getDescription(), message.getSeverity(), null, null
-                );
-                diagnostics.add(diagnostic);
-            }
+    private static EntityModel generateEntityModel(PackageCompilation packageCompilation, Module module) {
+        EntityModelGenerator entityModelGenerator = new EntityModelGenerator(packageCompilation, module);
+        try {
+            return new EntityModel(entityModelGenerator.generate(), null);
+        } catch (Exception e) {
+            return new EntityModel(Map.of(), getDiagnostic(DiagnosticNode.ENTITIES, e));
+        }
+    }
+
+    private static FunctionEntryPointModel generateFunctionEntryPointModel(PackageCompilation packageCompilation,
+                                                                           Module module) {
+        FunctionEntryPointModelGenerator functionEntryPointModelGenerator =
+                new FunctionEntryPointModelGenerator(packageCompilation, module);
+        functionEntryPointModelGenerator.generate();
+        return new FunctionEntryPointModel(functionEntryPointModelGenerator.getFunctionEntryPoint(),
+                functionEntryPointModelGenerator.getDependencies());
+    }
+
+    private static ArchitectureModelDiagnostic getDiagnostic(DiagnosticNode node, Exception e) {
+        DiagnosticMessage message = DiagnosticMessage.failedToGenerate(node, e.getMessage());
+        return new ArchitectureModelDiagnostic(message.getCode(), message.getDescription(), message.getSeverity(),
+                null, null);
+    }
 
-            FunctionEntryPointModelGenerator functionEntryPointModelGenerator =
-                    new FunctionEntryPointModelGenerator(currentPackageCompilation, module);
-            functionEntryPointModelGenerator.generate();
-            FunctionEntryPoint generatedFunctionEntryPoint = functionEntryPointModelGenerator.getFunctionEntryPoint();
-            if (generatedFunctionEntryPoint != null) {
-                functionEntryPoint.set(generatedFunctionEntryPoint);
-                allDependencies.addAll(functionEntryPointModelGenerator.getDependencies());
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
-        });
+            throw e;
+        }
+    }
 
-        return new ArchitectureModel(Constants.MODEL_VERSION, packageName, packageOrg, packageVersion, diagnostics,
-                services, entities, functionEntryPoint.get(), hasDiagnosticErrors.get(), allDependencies);
+    private record ServiceModel(Map<String, Service> services, List<Connection> dependencies,
+                                ArchitectureModelDiagnostic diagnostic) {
+    }
+
+    private record EntityModel(Map<String, Entity> entities, ArchitectureModelDiagnostic diagnostic) {
+    }
+
+    private record FunctionEntryPointModel(FunctionEntryPoint functionEntryPoint, List<Connection> dependencies) {
+    }
+
+    private record ModuleModel(ServiceModel serviceModel, EntityModel entityModel,
+                               FunctionEntryPointModel functionEntryPointModel) {
     }
 }
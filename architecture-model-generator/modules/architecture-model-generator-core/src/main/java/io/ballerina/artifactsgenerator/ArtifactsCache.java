@@ -19,7 +19,6 @@
 package io.ballerina.artifactsgenerator;
 
 import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -28,7 +27,8 @@ import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Singleton cache for storing project artifacts. This class provides thread-safe access to artifact IDs mapped by
- * project ID and file URI.
+ * project ID and file URI. Each artifact ID is stored along with a fingerprint of its content, which is used to detect
+ * whether an artifact has changed since it was last published.
  *
  * @since 2.3.0
  */
@@ -36,8 +36,8 @@ public class ArtifactsCache {
 
     private static ArtifactsCache instance;
 
-    // Map: project_id → document id -> category -> artifact ids
-    private final ConcurrentMap<String, ConcurrentMap<String, Map<String, List<String>>>> projectCache;
+    // Map: project_id → document id -> category -> artifact id -> fingerprint
+    private final ConcurrentMap<String, ConcurrentMap<String, Map<String, Map<String, Long>>>> projectCache;
 
     // Map: project_id:file_uri → lock
     private final ConcurrentMap<String, Lock> locks;
@@ -79,7 +79,7 @@ public class ArtifactsCache {
     }
 
     public void initializeProject(String projectId,
-                                  ConcurrentMap<String, Map<String, List<String>>> documentMap) {
+                                  ConcurrentMap<String, Map<String, Map<String, Long>>> documentMap) {
         projectCache.put(projectId, documentMap);
     }
 
@@ -89,18 +89,18 @@ public class ArtifactsCache {
      *
      * @param projectId The project ID
      * @param fileUri   The file URI
-     * @return List of artifact IDs, or empty list if not found
+     * @return Map of artifact IDs to their fingerprints by category, or empty map if not found
      */
-    public Map<String, List<String>> getArtifactIds(String projectId, String fileUri) {
+    public Map<String, Map<String, Long>> getArtifactIds(String projectId, String fileUri) {
         Lock lock = getOrCreateLock(projectId, fileUri);
         lock.lock();
 
-        ConcurrentMap<String, Map<String, List<String>>> documentMap = projectCache.get(projectId);
+        ConcurrentMap<String, Map<String, Map<String, Long>>> documentMap = projectCache.get(projectId);
         if (documentMap == null) {
             return Collections.emptyMap();
         }
 
-        Map<String, List<String>> artifactIds = documentMap.get(fileUri);
+        Map<String, Map<String, Long>> artifactIds = documentMap.get(fileUri);
         if (artifactIds == null) {
             return Collections.emptyMap();
         }
@@ -114,12 +114,12 @@ public class ArtifactsCache {
      *
      * @param projectId   The project ID
      * @param fileUri     The file URI
-     * @param artifactIds The list of artifact IDs
+     * @param artifactIds The map of artifact IDs to their fingerprints by category
      */
-    public void updateArtifactIds(String projectId, String fileUri, Map<String, List<String>> artifactIds) {
+    public void updateArtifactIds(String projectId, String fileUri, Map<String, Map<String, Long>> artifactIds) {
         try {
             // Get or create document map for project
-            ConcurrentMap<String, Map<String, List<String>>> documentMap =
+            ConcurrentMap<String, Map<String, Map<String, Long>>> documentMap =
                     projectCache.computeIfAbsent(projectId, k -> new ConcurrentHashMap<>());
             documentMap.put(fileUri, artifactIds);
         } finally {
@@ -19,19 +19,25 @@
 package io.ballerina.artifactsgenerator;
 
 import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
 import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
+import io.ballerina.tools.text.LineRange;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -46,48 +52,75 @@ public class ArtifactsGenerator {
     private static final String ADDITIONS = "additions";
     private static final String UPDATES = "updates";
     private static final String DELETIONS = "deletions";
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
 
     public static Map<String, Map<String, Map<String, Artifact>>> artifactChanges(String projectPath,
                                                                                   SyntaxTree syntaxTree,
                                                                                   SemanticModel semanticModel) {
+        return artifactChanges(projectPath, null, syntaxTree, semanticModel);
+    }
+
+    /**
+     * Generates the artifacts that were added, updated or deleted in the given document since the last invocation.
+     *
+     * @param projectPath   the source root of the project
+     * @param module        the module of the document, or null if the document belongs to the default module
+     * @param syntaxTree    the syntax tree of the document
+     * @param semanticModel the semantic model of the module
+     * @return the changed artifacts, mapped by category and event type
+     */
+    public static Map<String, Map<String, Map<String, Artifact>>> artifactChanges(String projectPath, Module module,
+                                                                                  SyntaxTree syntaxTree,
+                                                                                  SemanticModel semanticModel) {
         if (!syntaxTree.containsModulePart()) {
             return Map.of();
         }
+        String documentKey = documentKey(module, syntaxTree.filePath());
+        String idPrefix = idPrefix(module);
 
-        Map<String, List<String>> prevIdMap = new HashMap<>(
-                ArtifactsCache.getInstance().getArtifactIds(projectPath, syntaxTree.filePath()));
-        Map<String, List<String>> newIdMap = new HashMap<>();
+        // Copy the cached entries, as the remaining entries are consumed as deletions
+        Map<String, Map<String, Long>> prevIdMap = new HashMap<>();
+        ArtifactsCache.getInstance().getArtifactIds(projectPath, documentKey)
+                .forEach((category, ids) -> prevIdMap.put(category, new HashMap<>(ids)));
+        Map<String, Map<String, Long>> newIdMap = new HashMap<>();
 
         Map<String, Map<String, Map<String, Artifact>>> categoryMap = new HashMap<>();
         ModulePartNode rootNode = syntaxTree.rootNode();
         ModuleNodeTransformer moduleNodeTransformer = new ModuleNodeTransformer(semanticModel);
-        rootNode.members().stream()
-                .map(member -> member.apply(moduleNodeTransformer))
-                .flatMap(Optional::stream)
-                .forEach(artifact -> {
-                    String category = Artifact.getCategory(artifact.type());
-                    String artifactId = artifact.id();
+        for (ModuleMemberDeclarationNode member : rootNode.members()) {
+            Optional<Artifact> optArtifact = member.apply(moduleNodeTransformer);
+            if (optArtifact.isEmpty()) {
+                continue;
+            }
+            Artifact artifact = qualify(optArtifact.get(), idPrefix);
+            String category = Artifact.getCategory(artifact.type());
+            String artifactId = artifact.id();
+            long fingerprint = fingerprint(member, artifact);
+            newIdMap.computeIfAbsent(category, k -> new HashMap<>()).put(artifactId, fingerprint);
 
-                    // Determine if this is an update or an addition
-                    List<String> prevIds = prevIdMap.get(category);
-                    String eventType;
-                    if (prevIds != null && prevIds.remove(artifactId)) {
-                        eventType = UPDATES;
-                    } else {
-                        eventType = ADDITIONS;
-                    }
-
-                    // Update the new artifact
-                    categoryMap.computeIfAbsent(category, k -> new HashMap<>())
-                            .computeIfAbsent(eventType, k -> new HashMap<>())
-                            .put(artifactId, artifact);
-                    newIdMap.computeIfAbsent(category, k -> new ArrayList<>()).add(artifactId);
-                });
+            // Determine if this is an update or an addition, skipping the artifacts with unchanged content
+            Map<String, Long> prevIds = prevIdMap.get(category);
+            Long prevFingerprint = prevIds == null ? null : prevIds.remove(artifactId);
+            String eventType;
+            if (prevFingerprint == null) {
+                eventType = ADDITIONS;
+            } else if (prevFingerprint != fingerprint) {
+                eventType = UPDATES;
+            } else {
+                continue;
+            }
+
+            // Update the new artifact
+            categoryMap.computeIfAbsent(category, k -> new HashMap<>())
+                    .computeIfAbsent(eventType, k -> new HashMap<>())
+                    .put(artifactId, artifact);
+        }
 
         // Process remaining items in prevIdMap as deletions
         prevIdMap.forEach((category, remainingIds) -> {
             if (!remainingIds.isEmpty()) {
-                remainingIds.forEach(id -> categoryMap
+                remainingIds.keySet().forEach(id -> categoryMap
                         .computeIfAbsent(category, k -> new HashMap<>())
                         .computeIfAbsent(DELETIONS, k -> new HashMap<>())
                         .put(id, Artifact.emptyArtifact(id)));
@@ -95,37 +128,119 @@ public class ArtifactsGenerator {
         });
 
         // Update the artifacts cache
-        ArtifactsCache.getInstance().updateArtifactIds(projectPath, syntaxTree.filePath(), newIdMap);
+        ArtifactsCache.getInstance().updateArtifactIds(projectPath, documentKey, newIdMap);
         return categoryMap;
     }
 
+    /**
+     * Generates the artifacts of all the modules in the given project, and initializes the artifacts cache of the
+     * project in the same pass. The documents are processed in parallel, accumulating the artifacts into concurrent
+     * maps per category.
+     *
+     * @param project the project to generate the artifacts for
+     * @return the artifacts of the project, mapped by category and artifact ID
+     */
     public static Map<String, Map<String, Artifact>> artifacts(Project project) {
         Package currentPackage = project.currentPackage();
-        Module defaultModule = currentPackage.getDefaultModule();
-        SemanticModel semanticModel =
-                PackageUtil.getCompilation(currentPackage).getSemanticModel(defaultModule.moduleId());
+        PackageCompilation compilation = PackageUtil.getCompilation(currentPackage);
+
+        // Obtain the semantic models upfront, so that the documents of all the modules can be processed in a single
+        // parallel pass
+        Map<ModuleId, SemanticModel> semanticModels = new HashMap<>();
+        List<Document> documents = new ArrayList<>();
+        for (Module module : currentPackage.modules()) {
+            semanticModels.put(module.moduleId(), compilation.getSemanticModel(module.moduleId()));
+            module.documentIds().forEach(documentId -> documents.add(module.document(documentId)));
+        }
 
         Map<String, Map<String, Artifact>> artifactMap = new ConcurrentHashMap<>();
-        ConcurrentMap<String, Map<String, List<String>>> documentMap = new ConcurrentHashMap<>();
-        defaultModule.documentIds().stream().parallel().forEach(documentId -> {
-            Document document = defaultModule.document(documentId);
-            Map<String, List<String>> idMap = new HashMap<>();
-            SyntaxTree syntaxTree = document.syntaxTree();
-            ModulePartNode rootNode = syntaxTree.rootNode();
-            ModuleNodeTransformer moduleNodeTransformer = new ModuleNodeTransformer(semanticModel);
-            rootNode.members().stream()
-                    .map(member -> member.apply(moduleNodeTransformer))
-                    .flatMap(Optional::stream)
-                    .forEach(artifact -> {
-                        String category = Artifact.getCategory(artifact.type());
-                        String artifactId = artifact.id();
-                        artifactMap.computeIfAbsent(category, k -> new HashMap<>()).put(artifactId, artifact);
-                        idMap.computeIfAbsent(category, k -> new ArrayList<>()).add(artifactId);
-                    });
-            documentMap.put(document.name(), idMap);
+        ConcurrentMap<String, Map<String, Map<String, Long>>> documentMap = new ConcurrentHashMap<>();
+        documents.parallelStream().forEach(document -> {
+            Module module = document.module();
+            String idPrefix = idPrefix(module);
+            Map<String, Map<String, Long>> idMap = new HashMap<>();
+            ModulePartNode rootNode = document.syntaxTree().rootNode();
+            ModuleNodeTransformer moduleNodeTransformer =
+                    new ModuleNodeTransformer(semanticModels.get(module.moduleId()));
+            for (ModuleMemberDeclarationNode member : rootNode.members()) {
+                member.apply(moduleNodeTransformer).ifPresent(generatedArtifact -> {
+                    Artifact artifact = qualify(generatedArtifact, idPrefix);
+                    String category = Artifact.getCategory(artifact.type());
+                    String artifactId = artifact.id();
+                    artifactMap.computeIfAbsent(category, k -> new ConcurrentHashMap<>()).put(artifactId, artifact);
+                    idMap.computeIfAbsent(category, k -> new HashMap<>())
+                            .put(artifactId, fingerprint(member, artifact));
+                });
+            }
+            documentMap.put(documentKey(module, document.name()), idMap);
         });
 
         ArtifactsCache.getInstance().initializeProject(project.sourceRoot().toString(), documentMap);
         return artifactMap;
     }
+
+    // The documents and artifacts of the default module retain their names, whereas the others are qualified by the
+    // module name to avoid clashes between modules
+    private static String documentKey(Module module, String documentName) {
+        return idPrefix(module) + documentName;
+    }
+
+    private static String idPrefix(Module module) {
+        if (module == null || module.isDefaultModule()) {
+            return "";
+        }
+        return module.moduleName().moduleNamePart() + "/";
+    }
+
+    private static Artifact qualify(Artifact artifact, String idPrefix) {
+        if (idPrefix.isEmpty()) {
+            return artifact;
+        }
+        return new Artifact(idPrefix + artifact.id(), artifact.location(), artifact.type(), artifact.name(),
+                artifact.accessor(), artifact.scope(), artifact.icon(), artifact.module(), artifact.children());
+    }
+
+    /**
+     * Computes a fingerprint of the given artifact. The source of the module member captures the edits that are not
+     * reflected in the artifact, whereas the artifact fields capture the location and the semantic information.
+     *
+     * @param member   the module member the artifact is generated from
+     * @param artifact the generated artifact
+     * @return the 64-bit FNV-1a hash of the artifact
+     */
+    private static long fingerprint(Node member, Artifact artifact) {
+        return hash(FNV_OFFSET_BASIS, member.toSourceCode(), artifact);
+    }
+
+    private static long hash(long seed, String source, Artifact artifact) {
+        long hash = hash(seed, source);
+        hash = hash(hash, artifact.id());
+        hash = hash(hash, artifact.type());
+        hash = hash(hash, artifact.name());
+        hash = hash(hash, artifact.accessor());
+        hash = hash(hash, artifact.scope());
+        hash = hash(hash, artifact.icon());
+        hash = hash(hash, artifact.module());
+        LineRange location = artifact.location();
+        if (location != null) {
+            hash = hash(hash, location.startLine().line() + ":" + location.startLine().offset() + "-"
+                    + location.endLine().line() + ":" + location.endLine().offset());
+        }
+        for (Artifact child : new TreeMap<>(artifact.children()).values()) {
+            hash = hash(hash, null, child);
+        }
+        return hash;
+    }
+
+    private static long hash(long seed, String value) {
+        long hash = seed;
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= FNV_PRIME;
+            }
+        }
+        // Mix in a separator, so that the boundaries between consecutive values are reflected in the hash
+        return (hash ^ 0xff) * FNV_PRIME;
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.architecturemodelgenerator.core;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.ballerina.projects.Project;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Test that the parallel construction of the architecture model matches the sequential construction.
+ *
+ * @since 2.0.0
+ */
+public class ParallelConstructionTests {
+    private static final Path RES_DIR = Paths.get("src", "test", "resources").toAbsolutePath();
+    private static final String BALLERINA = "ballerina";
+    private static final int PARALLEL_RUNS = 5;
+    Gson gson = new GsonBuilder().serializeNulls().create();
+
+    @Test(description = "parallel model generation for multi module projects")
+    public void testParallelModelGeneration() {
+        Path projectPath = RES_DIR.resolve(BALLERINA).resolve(Path.of("single_service_sample"));
+        Project project = TestUtils.loadBuildProject(projectPath, false);
+        Assert.assertTrue(project.currentPackage().moduleIds().size() > 1);
+
+        String sequentialModel = gson.toJson(new ArchitectureModelBuilder()
+                .constructComponentModel(project.currentPackage(), null, false));
+
+        // The tasks may complete in a different order in each run
+        for (int i = 0; i < PARALLEL_RUNS; i++) {
+            String parallelModel = gson.toJson(new ArchitectureModelBuilder()
+                    .constructComponentModel(project.currentPackage(), null, true));
+            Assert.assertEquals(parallelModel, sequentialModel);
+        }
+    }
+}
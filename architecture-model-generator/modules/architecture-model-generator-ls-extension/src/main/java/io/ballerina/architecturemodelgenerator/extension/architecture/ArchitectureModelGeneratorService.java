@@ -27,6 +27,7 @@ import io.ballerina.architecturemodelgenerator.core.diagnostics.ArchitectureMode
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticMessage;
 import io.ballerina.architecturemodelgenerator.core.diagnostics.DiagnosticUtils;
 import io.ballerina.architecturemodelgenerator.extension.Utils;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
@@ -70,7 +71,7 @@ public class ArchitectureModelGeneratorService implements ExtendedLanguageServer
     public CompletableFuture<ArchitectureModelResponse> getProjectComponentModels
             (ArchitectureModelRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("projectDesignService/getProjectComponentModels", () -> {
             ArchitectureModelResponse response = new ArchitectureModelResponse();
             Map<String, JsonObject> componentModelMap = new HashMap<>();
             for (String documentUri : request.getDocumentUris()) {
@@ -80,7 +81,7 @@ public class ArchitectureModelGeneratorService implements ExtendedLanguageServer
                     if (!Utils.modelAlreadyExists(componentModelMap, project.currentPackage())) {
                         ArchitectureModelBuilder architectureModelBuilder = new ArchitectureModelBuilder();
                         ArchitectureModel projectModel = architectureModelBuilder
-                                .constructComponentModel(project.currentPackage());
+                                .constructComponentModel(project.currentPackage(), null, true);
                         Gson gson = new GsonBuilder().serializeNulls().create();
                         JsonObject componentModelJson = (JsonObject) gson.toJsonTree(projectModel);
                         componentModelMap.put(projectModel.getId(), componentModelJson);
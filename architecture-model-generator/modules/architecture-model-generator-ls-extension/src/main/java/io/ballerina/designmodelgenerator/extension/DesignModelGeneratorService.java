@@ -26,6 +26,7 @@ import io.ballerina.designmodelgenerator.extension.request.ArtifactsRequest;
 import io.ballerina.designmodelgenerator.extension.request.GetDesignModelRequest;
 import io.ballerina.designmodelgenerator.extension.response.ArtifactResponse;
 import io.ballerina.designmodelgenerator.extension.response.GetDesignModelResponse;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
@@ -56,7 +57,7 @@ public class DesignModelGeneratorService implements ExtendedLanguageServerServic
 
     @JsonRequest
     public CompletableFuture<GetDesignModelResponse> getDesignModel(GetDesignModelRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("designModelService/getDesignModel", () -> {
             GetDesignModelResponse response = new GetDesignModelResponse();
             try {
                 Path projectPath = Path.of(request.projectPath());
@@ -73,7 +74,7 @@ public class DesignModelGeneratorService implements ExtendedLanguageServerServic
 
     @JsonRequest
     public CompletableFuture<ArtifactResponse> artifacts(ArtifactsRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("designModelService/artifacts", () -> {
             ArtifactResponse response = new ArtifactResponse();
             try {
                 Path projectPath = Path.of(request.projectPath());
@@ -18,11 +18,13 @@
 
 package io.ballerina.designmodelgenerator.extension;
 
+import io.ballerina.artifactsgenerator.Artifact;
 import io.ballerina.artifactsgenerator.ArtifactGenerationDebouncer;
 import io.ballerina.artifactsgenerator.ArtifactsGenerator;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.designmodelgenerator.extension.response.ArtifactsParams;
+import io.ballerina.projects.Module;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.DocumentServiceContext;
 import org.ballerinalang.langserver.commons.LanguageServerContext;
@@ -31,6 +33,7 @@ import org.ballerinalang.langserver.commons.eventsync.EventKind;
 import org.ballerinalang.langserver.commons.eventsync.spi.EventSubscriber;
 
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -66,13 +69,21 @@ public class PublishArtifactsSubscriber implements EventSubscriber {
             return;
         }
         Path projectPath = context.workspace().projectRoot(context.filePath());
+        Module module = context.workspace().module(context.filePath()).orElse(null);
 
         // Use the debouncer to schedule the artifact generation
         ArtifactGenerationDebouncer.getInstance().debounce(context.fileUri(), () -> {
+            Map<String, Map<String, Map<String, Artifact>>> artifactChanges =
+                    ArtifactsGenerator.artifactChanges(projectPath.toString(), module, syntaxTree.get(),
+                            semanticModel.get());
+
+            // Skip publishing when none of the artifacts in the document have changed
+            if (artifactChanges.isEmpty()) {
+                return;
+            }
             ArtifactsParams artifactsParams = new ArtifactsParams();
             artifactsParams.setUri(projectPath.toUri().toString());
-            artifactsParams.setArtifacts(
-                    ArtifactsGenerator.artifactChanges(projectPath.toString(), syntaxTree.get(), semanticModel.get()));
+            artifactsParams.setArtifacts(artifactChanges);
             client.publishArtifacts(artifactsParams);
         });
     }
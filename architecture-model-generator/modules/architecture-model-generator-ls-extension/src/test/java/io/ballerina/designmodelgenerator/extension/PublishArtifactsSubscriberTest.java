@@ -45,6 +45,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -106,17 +107,81 @@ public class PublishArtifactsSubscriberTest extends AbstractLSTest {
         Path configJsonPath = configDir.resolve(config);
         TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
 
-        // Create a document service context
         WorkspaceManager workspaceManager = languageServer.getWorkspaceManager();
         String sourcePath = getSourcePath(testConfig.source());
         Path filePath = Path.of(sourcePath);
+        ExtendedLanguageClient mockClient = publishDocument(sourcePath, getText(sourcePath));
+        ArgumentCaptor<Object> artifactsCaptor = ArgumentCaptor.forClass(Object.class);
+
+        // Verify the client was called with the expected artifacts
+        Mockito.verify(mockClient).publishArtifacts(artifactsCaptor.capture());
+        Object capturedValue = artifactsCaptor.getValue();
+        
+        @SuppressWarnings("unchecked")
+        ArtifactsParams artifactsParams = (ArtifactsParams) capturedValue;
+        Map<String, Map<String, Map<String, Artifact>>> expectedArtifacts = testConfig.output();
+
+        // Retrieve and validate the captured URI
+        String uri = artifactsParams.uri();
+        if (uri == null) {
+            Assert.fail("Failed to capture the uri");
+        }
+        if (!workspaceManager.projectRoot(filePath).toUri().toString().equals(uri)) {
+            Assert.fail("Failed to capture the correct uri");
+        }
+
+        // Assert the published artifacts
+        Map<String, Map<String, Map<String, Artifact>>> publishedArtifacts = artifactsParams.artifacts();
+        if (!publishedArtifacts.equals(expectedArtifacts)) {
+            TestConfig updatedConfig =
+                    new TestConfig(testConfig.source(), testConfig.description(), publishedArtifacts);
+//            updateConfig(configJsonPath, updatedConfig);
+            compareJsonElements(gson.toJsonTree(publishedArtifacts), gson.toJsonTree(expectedArtifacts));
+            Assert.fail(String.format("Failed test: '%s' (%s)", testConfig.source(), configJsonPath));
+        }
+    }
+
+    @Test(description = "Tests that only the changed artifacts are published when a document is published again",
+            dependsOnMethods = "test")
+    public void testRepublish() {
+        String sourcePath = getSourcePath("new/data_mappings.bal");
+        String content = getText(sourcePath);
+
+        // An unchanged document is not published again
+        ExtendedLanguageClient mockClient = publishDocument(sourcePath, content);
+        Mockito.verify(mockClient, Mockito.never()).publishArtifacts(Mockito.any());
+
+        // Only the artifact with a changed body is published, as an update
+        String updatedContent = content.replace("quantity: item.quantity", "quantity: item.quantity + 1");
+        Assert.assertNotEquals(updatedContent, content);
+        mockClient = publishDocument(sourcePath, updatedContent);
+        ArgumentCaptor<ArtifactsParams> artifactsCaptor = ArgumentCaptor.forClass(ArtifactsParams.class);
+        Mockito.verify(mockClient).publishArtifacts(artifactsCaptor.capture());
+        Map<String, Map<String, Map<String, Artifact>>> publishedArtifacts = artifactsCaptor.getValue().artifacts();
+        Assert.assertEquals(publishedArtifacts.size(), 1);
+        Map<String, Map<String, Artifact>> changes = publishedArtifacts.values().iterator().next();
+        Assert.assertEquals(changes.keySet(), Set.of("updates"));
+        Assert.assertEquals(changes.get("updates").values().stream().map(Artifact::name).toList(),
+                List.of("orderItemToJson"));
+
+        // Restoring the content publishes the artifact again, since its fingerprint has changed once more
+        mockClient = publishDocument(sourcePath, content);
+        Mockito.verify(mockClient).publishArtifacts(Mockito.any());
+    }
+
+    // Sends the content of the document to the workspace and invokes the subscriber, waiting until the scheduled
+    // artifact generation completes
+    private ExtendedLanguageClient publishDocument(String sourcePath, String content) {
+        // Create a document service context
+        WorkspaceManager workspaceManager = languageServer.getWorkspaceManager();
+        Path filePath = Path.of(sourcePath);
         String fileUri;
         try {
             Path path = Path.of(sourcePath).toAbsolutePath().normalize();
             fileUri = path.toUri().toString();
         } catch (Exception e) {
             Assert.fail("Error while creating the file uri", e);
-            return;
+            return null;
         }
         DocumentServiceContext documentServiceContext = ContextBuilder.buildDocumentServiceContext(
                 fileUri,
@@ -126,7 +191,7 @@ public class PublishArtifactsSubscriberTest extends AbstractLSTest {
         );
         VersionedTextDocumentIdentifier versionedTextDocumentIdentifier = new VersionedTextDocumentIdentifier();
         List<TextDocumentContentChangeEvent> changeEvents =
-                List.of(new TextDocumentContentChangeEvent(getText(sourcePath)));
+                List.of(new TextDocumentContentChangeEvent(content));
 
         // Send the didChange notification
         try {
@@ -145,9 +210,6 @@ public class PublishArtifactsSubscriberTest extends AbstractLSTest {
                 documentServiceContext,
                 languageServer.getServerContext());
 
-        // Capture the artifacts published to the client - they are Object[] arrays
-        ArgumentCaptor<Object> artifactsCaptor = ArgumentCaptor.forClass(Object.class);
-
         // Add a wait loop to verify that all scheduled tasks have completed
         // and the delayedMap is empty before proceeding with verification
         ArtifactGenerationDebouncer debouncer = ArtifactGenerationDebouncer.getInstance();
@@ -179,33 +241,7 @@ public class PublishArtifactsSubscriberTest extends AbstractLSTest {
         } catch (Exception e) {
             Assert.fail("Error while checking debouncer state", e);
         }
-
-        // Verify the client was called with the expected artifacts
-        Mockito.verify(mockClient).publishArtifacts(artifactsCaptor.capture());
-        Object capturedValue = artifactsCaptor.getValue();
-        
-        @SuppressWarnings("unchecked")
-        ArtifactsParams artifactsParams = (ArtifactsParams) capturedValue;
-        Map<String, Map<String, Map<String, Artifact>>> expectedArtifacts = testConfig.output();
-
-        // Retrieve and validate the captured URI
-        String uri = artifactsParams.uri();
-        if (uri == null) {
-            Assert.fail("Failed to capture the uri");
-        }
-        if (!workspaceManager.projectRoot(filePath).toUri().toString().equals(uri)) {
-            Assert.fail("Failed to capture the correct uri");
-        }
-
-        // Assert the published artifacts
-        Map<String, Map<String, Map<String, Artifact>>> publishedArtifacts = artifactsParams.artifacts();
-        if (!publishedArtifacts.equals(expectedArtifacts)) {
-            TestConfig updatedConfig =
-                    new TestConfig(testConfig.source(), testConfig.description(), publishedArtifacts);
-//            updateConfig(configJsonPath, updatedConfig);
-            compareJsonElements(gson.toJsonTree(publishedArtifacts), gson.toJsonTree(expectedArtifacts));
-            Assert.fail(String.format("Failed test: '%s' (%s)", testConfig.source(), configJsonPath));
-        }
+        return mockClient;
     }
 
     @Override
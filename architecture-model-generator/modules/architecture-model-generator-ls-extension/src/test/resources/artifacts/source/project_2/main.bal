@@ -0,0 +1,6 @@
+import multi_module.util;
+
+// Greets the given name with the greeting of the util module
+public function greet(string name) returns string {
+    return util:greet(name) + "!";
+}
@@ -0,0 +1,10 @@
+// Represents a greeting in a given language
+public type Greeting record {|
+    string language;
+    string text;
+|};
+
+// Returns the greeting for the given name
+public function greet(string name) returns string {
+    return "Hello, " + name + "!";
+}
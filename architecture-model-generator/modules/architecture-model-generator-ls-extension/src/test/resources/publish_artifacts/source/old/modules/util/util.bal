@@ -0,0 +1,9 @@
+// Returns the greeting for the given name
+public function greet(string name) returns string {
+    return "Hello, " + name;
+}
+
+// Returns the farewell for the given name
+public function farewell(string name) returns string {
+    return "Goodbye, " + name;
+}
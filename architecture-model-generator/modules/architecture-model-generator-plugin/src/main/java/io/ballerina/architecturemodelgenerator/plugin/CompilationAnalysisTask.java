@@ -56,7 +56,7 @@ public class CompilationAnalysisTask implements AnalysisTask<CompilationAnalysis
             ArchitectureModelBuilder architectureModelBuilder = new ArchitectureModelBuilder();
             ArchitectureModel projectModel = architectureModelBuilder
                     .constructComponentModel(compilationAnalysisContext.currentPackage(),
-                            compilationAnalysisContext.compilation());
+                            compilationAnalysisContext.compilation(), true);
             Gson gson = new GsonBuilder().setPrettyPrinting().serializeNulls().create();
             String componentModelJson = gson.toJson(projectModel) + System.lineSeparator();
             writeComponentModelJson(outPath, componentModelJson, compilationAnalysisContext);
@@ -26,6 +26,7 @@ import io.ballerina.centralconnector.response.PackageResponse;
 import io.ballerina.centralconnector.response.SymbolResponse;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The central interface to obtain library information from the Ballerina central.
@@ -49,4 +50,15 @@ public interface CentralAPI {
     ConnectorResponse connector(String organization, String name, String version, String clientName);
 
     String latestPackageVersion(String org, String name);
+
+    CompletableFuture<PackageResponse> searchPackagesAsync(Map<String, String> queryMap);
+
+    CompletableFuture<SymbolResponse> searchSymbolsAsync(Map<String, String> queryMap);
+
+    CompletableFuture<FunctionsResponse> functionsAsync(String organization, String name, String version);
+
+    CompletableFuture<ConnectorResponse> connectorAsync(String organization, String name, String version,
+                                                        String clientName);
+
+    CompletableFuture<String> latestPackageVersionAsync(String org, String name);
 }
@@ -0,0 +1,176 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.centralconnector;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * A client to send the requests of the Ballerina Central APIs over a shared HTTP client, and to cache their responses.
+ *
+ * <p>
+ * The connections of the HTTP client are reused across the requests, and HTTP/2 is negotiated when the server supports
+ * it. The base URL of Ballerina Central can be overridden with the {@value #CENTRAL_URL_PROPERTY} system property, so
+ * that the tests can use a local stub server.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class CentralHttpClient {
+
+    static final String CENTRAL_URL_PROPERTY = "ballerina.centralconnector.url";
+    private static final String DEFAULT_CENTRAL_URL = "https://api.central.ballerina.io";
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    private final String baseUrl;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    private final ResponseCache responseCache;
+
+    CentralHttpClient() {
+        this(System.getProperty(CENTRAL_URL_PROPERTY, DEFAULT_CENTRAL_URL), ResponseCache.create());
+    }
+
+    CentralHttpClient(String baseUrl, ResponseCache responseCache) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "central-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .executor(executor)
+                .build();
+        this.responseCache = responseCache;
+        executor.execute(() -> responseCache.sweep(ResponseCache.MAX_AGE, ResponseCache.MAX_SIZE_BYTES));
+    }
+
+    /**
+     * Resolves the given path of a Ballerina Central API against the base URL.
+     *
+     * @param path the path of the API
+     * @return the URI of the API
+     */
+    URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    /**
+     * Sends a GET request to the given URI, serving the response from the cache if available.
+     *
+     * @param uri the URI to send the request to
+     * @return the body of the response
+     */
+    CompletableFuture<String> get(URI uri) {
+        return get(uri, ResponseCache.Policy.STALE_WHILE_REVALIDATE);
+    }
+
+    /**
+     * Sends a GET request to the given URI, serving the response from the cache as per the given cache policy.
+     *
+     * @param uri    the URI to send the request to
+     * @param policy the cache policy of the response
+     * @return the body of the response
+     */
+    CompletableFuture<String> get(URI uri, ResponseCache.Policy policy) {
+        return send(uri.toString(), policy, HttpRequest.newBuilder(uri).GET());
+    }
+
+    /**
+     * Sends a POST request with a JSON body to the given URI, serving the response from the cache if available. Only
+     * the requests that do not modify the state of the server, such as the GraphQL queries, should be sent through
+     * this method.
+     *
+     * @param uri  the URI to send the request to
+     * @param body the JSON body of the request
+     * @return the body of the response
+     */
+    CompletableFuture<String> post(URI uri, String body) {
+        return send(uri + "\n" + body, ResponseCache.Policy.STALE_WHILE_REVALIDATE, HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns the response of the given key from the cache, loading it on the executor of the client with the given
+     * loader if it is not cached. This is used for the APIs that are not invoked over HTTP by this client.
+     *
+     * @param key    the key of the response
+     * @param loader the blocking loader of the response
+     * @return the body of the response
+     */
+    CompletableFuture<String> cached(String key, Supplier<String> loader) {
+        return cached(key, ResponseCache.Policy.STALE_WHILE_REVALIDATE, loader);
+    }
+
+    /**
+     * Returns the response of the given key from the cache as per the given cache policy, loading it on the executor
+     * of the client with the given loader if it cannot be served from the cache.
+     *
+     * @param key    the key of the response
+     * @param policy the cache policy of the response
+     * @param loader the blocking loader of the response
+     * @return the body of the response
+     */
+    CompletableFuture<String> cached(String key, ResponseCache.Policy policy, Supplier<String> loader) {
+        return responseCache.get(key, policy, staleEntry -> CompletableFuture.supplyAsync(
+                () -> ResponseCache.Entry.of(null, loader.get()), executor));
+    }
+
+    Executor executor() {
+        return executor;
+    }
+
+    private CompletableFuture<String> send(String key, ResponseCache.Policy policy,
+                                           HttpRequest.Builder requestBuilder) {
+        return responseCache.get(key, policy, staleEntry -> {
+            HttpRequest.Builder builder = requestBuilder.copy().timeout(REQUEST_TIMEOUT);
+            if (staleEntry != null && staleEntry.etag() != null) {
+                builder.header("If-None-Match", staleEntry.etag());
+            }
+            return httpClient.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                    .thenApply(response -> {
+                        if (response.statusCode() == HTTP_NOT_MODIFIED && staleEntry != null) {
+                            return staleEntry.revalidated();
+                        }
+                        if (response.statusCode() == HTTP_OK) {
+                            return ResponseCache.Entry.of(response.headers().firstValue("ETag").orElse(null),
+                                    response.body());
+                        }
+                        throw new RuntimeException("Request to Ballerina Central failed with status: " +
+                                response.statusCode());
+                    });
+        });
+    }
+}
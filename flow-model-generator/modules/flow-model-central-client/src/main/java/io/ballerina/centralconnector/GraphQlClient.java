@@ -36,13 +36,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.reflect.Type;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -54,15 +53,17 @@ class GraphQlClient {
 
     private final Map<String, String> queryMap;
     private final Gson gson;
+    private final CentralHttpClient httpClient;
 
-    private static final String GRAPHQL_API = "https://api.central.ballerina.io/2.0/graphql";
+    private static final String GRAPHQL_PATH = "/2.0/graphql";
     private static final String QUERY_DIRECTORY = "graphql_queries";
     private static final String GET_FUNCTIONS_QUERY = "GetFunctions.graphql";
     private static final String GET_FUNCTION_QUERY = "GetFunction.graphql";
     private static final String GET_CONNECTION_QUERY = "GetConnector.graphql";
 
-    public GraphQlClient() {
-        queryMap = new HashMap<>();
+    public GraphQlClient(CentralHttpClient httpClient) {
+        queryMap = new ConcurrentHashMap<>();
+        this.httpClient = httpClient;
 
         gson = new GsonBuilder()
                 .registerTypeAdapter(FunctionsResponse.Module.class, new FunctionsModuleDeserializer())
@@ -71,71 +72,35 @@ class GraphQlClient {
                 .create();
     }
 
-    public FunctionsResponse getFunctions(String org, String module, String version) {
+    public CompletableFuture<FunctionsResponse> getFunctions(String org, String module, String version) {
         String queryTemplate = getQueryTemplate(GET_FUNCTIONS_QUERY);
         String queryBody = String.format(queryTemplate, org, module, version);
-        String response = query(queryBody);
-        return gson.fromJson(response, FunctionsResponse.class);
+        return query(queryBody).thenApply(response -> gson.fromJson(response, FunctionsResponse.class));
     }
 
-    public FunctionResponse getFunction(String organization, String name, String version, String functionName) {
+    public CompletableFuture<FunctionResponse> getFunction(String organization, String name, String version,
+                                                           String functionName) {
         String queryTemplate = getQueryTemplate(GET_FUNCTION_QUERY);
         String queryBody = String.format(queryTemplate, organization, name, version, functionName);
-        String response = query(queryBody);
-        return gson.fromJson(response, FunctionResponse.class);
+        return query(queryBody).thenApply(response -> gson.fromJson(response, FunctionResponse.class));
     }
 
     @Deprecated
-    public ConnectorApiResponse getConnector(String organization, String name, String version, String clientName) {
+    public CompletableFuture<ConnectorApiResponse> getConnector(String organization, String name, String version,
+                                                                String clientName) {
         String queryTemplate = getQueryTemplate(GET_CONNECTION_QUERY);
         String queryBody = String.format(queryTemplate, organization, name, version, clientName);
-        String response = query(queryBody);
-        return gson.fromJson(response, ConnectorApiResponse.class);
+        return query(queryBody).thenApply(response -> gson.fromJson(response, ConnectorApiResponse.class));
     }
 
-    private String query(String queryBody) {
+    private CompletableFuture<String> query(String queryBody) {
         String query = String.format("{\"query\": \"%s\"}", queryBody);
-        HttpURLConnection conn = null;
-        try {
-            URL url = new URL(GRAPHQL_API);
-            conn = (HttpURLConnection) url.openConnection();
-
-            conn.setRequestMethod("POST");
-            conn.setRequestProperty("Content-Type", "application/json");
-            conn.setDoOutput(true);
-
-            // Write the request body
-            try (var os = conn.getOutputStream()) {
-                byte[] input = query.getBytes(StandardCharsets.UTF_8);
-                os.write(input, 0, input.length);
-            }
-
-            // Read the response
-            try (BufferedReader br = new BufferedReader(
-                    new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
-                StringBuilder response = new StringBuilder();
-                String responseLine;
-                while ((responseLine = br.readLine()) != null) {
-                    response.append(responseLine.trim());
-                }
-                return response.toString();
-            }
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        } finally {
-            if (conn != null) {
-                conn.disconnect();
-            }
-        }
+        return httpClient.post(httpClient.uri(GRAPHQL_PATH), query);
     }
 
     private String getQueryTemplate(String queryName) {
-        String queryTemplate = queryMap.get(queryName);
-        if (queryTemplate == null) {
-            queryTemplate = readResourceFile(Path.of(QUERY_DIRECTORY, queryName).toString());
-            queryMap.put(queryName, queryTemplate);
-        }
-        return queryTemplate;
+        return queryMap.computeIfAbsent(queryName,
+                name -> readResourceFile(Path.of(QUERY_DIRECTORY, name).toString()));
     }
 
     private String readResourceFile(String resourcePath) {
@@ -26,10 +26,14 @@ import io.ballerina.centralconnector.response.PackageResponse;
 import io.ballerina.centralconnector.response.SymbolResponse;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * An implementation {@code CentralAPI} to interact with the Ballerina central to obtain information about the Ballerina
- * libraries. This class provides a facade for interacting with REST and GraphQL clients.
+ * libraries. This class provides a facade for interacting with REST and GraphQL clients, which share the connections
+ * and the response cache of a {@link CentralHttpClient}. The synchronous methods wait for the corresponding
+ * asynchronous methods, which complete immediately for the cached responses.
  *
  * @since 2.0.0
  */
@@ -48,28 +52,29 @@ public class RemoteCentral implements CentralAPI {
     }
 
     private RemoteCentral() {
-        this.restClient = new RestClient();
-        this.graphQlClient = new GraphQlClient();
+        CentralHttpClient httpClient = new CentralHttpClient();
+        this.restClient = new RestClient(httpClient);
+        this.graphQlClient = new GraphQlClient(httpClient);
     }
 
     @Override
     public PackageResponse searchPackages(Map<String, String> queryMap) {
-        return restClient.searchPackages(queryMap);
+        return join(searchPackagesAsync(queryMap));
     }
 
     @Override
     public SymbolResponse searchSymbols(Map<String, String> queryMap) {
-        return restClient.searchSymbols(queryMap);
+        return join(searchSymbolsAsync(queryMap));
     }
 
     @Override
     public FunctionsResponse functions(String organization, String name, String version) {
-        return graphQlClient.getFunctions(organization, name, version);
+        return join(functionsAsync(organization, name, version));
     }
 
     @Override
     public FunctionResponse function(String organization, String name, String version, String functionName) {
-        return graphQlClient.getFunction(organization, name, version, functionName);
+        return join(graphQlClient.getFunction(organization, name, version, functionName));
     }
 
     @Override
@@ -79,16 +84,53 @@ public class RemoteCentral implements CentralAPI {
 
     @Override
     public ConnectorResponse connector(String id) {
-        return restClient.connector(id);
+        return join(restClient.connector(id));
     }
 
     @Override
     public ConnectorResponse connector(String organization, String name, String version, String clientName) {
-        return restClient.connector(organization, name, version, clientName);
+        return join(connectorAsync(organization, name, version, clientName));
     }
 
     @Override
     public String latestPackageVersion(String org, String name) {
+        return join(latestPackageVersionAsync(org, name));
+    }
+
+    @Override
+    public CompletableFuture<PackageResponse> searchPackagesAsync(Map<String, String> queryMap) {
+        return restClient.searchPackages(queryMap);
+    }
+
+    @Override
+    public CompletableFuture<SymbolResponse> searchSymbolsAsync(Map<String, String> queryMap) {
+        return restClient.searchSymbols(queryMap);
+    }
+
+    @Override
+    public CompletableFuture<FunctionsResponse> functionsAsync(String organization, String name, String version) {
+        return graphQlClient.getFunctions(organization, name, version);
+    }
+
+    @Override
+    public CompletableFuture<ConnectorResponse> connectorAsync(String organization, String name, String version,
+                                                               String clientName) {
+        return restClient.connector(organization, name, version, clientName);
+    }
+
+    @Override
+    public CompletableFuture<String> latestPackageVersionAsync(String org, String name) {
         return restClient.latestPackageVersion(org, name);
     }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
 }
@@ -0,0 +1,340 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.centralconnector;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * An on-disk cache of the responses of Ballerina Central, which serves the lookups without blocking on the network.
+ *
+ * <p>
+ * A response is served from the cache while it is younger than the time-to-live. A stale response is still served
+ * immediately, and is revalidated in the background, so that the repeated lookups and the offline sessions only depend
+ * on the network when a response has never been fetched. The revalidation of a response sends the entity tag of the
+ * cached response, if any, so that an unchanged response is not transferred again. Concurrent lookups of the same
+ * response share a single request.
+ * </p>
+ *
+ * <p>
+ * The responses that must not be served stale for long, such as the version listings, are cached with the
+ * {@link Policy#REVALIDATE} policy, which expires them after {@link #SHORT_TTL} and waits for their revalidation. The
+ * responses that are specific to a user input, such as the search results, are cached with the
+ * {@link Policy#MEMORY_ONLY} policy, which keeps them in memory for {@link #SHORT_TTL} and never writes them to the
+ * disk.
+ * </p>
+ *
+ * <p>
+ * The most recently used responses are also kept in memory, so that the repeated lookups do not read and parse the
+ * cache files. The cache directory is swept when the cache is created, removing the responses that have not been
+ * revalidated for {@link #MAX_AGE}, and then the least recently written responses until the directory fits in
+ * {@link #MAX_SIZE_BYTES}.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class ResponseCache {
+
+    static final String CACHE_DIR_PROPERTY = "ballerina.centralconnector.cache.dir";
+    static final String TTL_PROPERTY = "ballerina.centralconnector.cache.ttl";
+    private static final Duration DEFAULT_TTL = Duration.ofHours(24);
+    static final Duration SHORT_TTL = Duration.ofMinutes(5);
+    private static final String CACHE_FILE_EXTENSION = ".json";
+    private static final int MAX_MEMORY_ENTRIES = 256;
+    static final Duration MAX_AGE = Duration.ofDays(30);
+    static final long MAX_SIZE_BYTES = 64L * 1024 * 1024;
+
+    private final Path directory;
+    private final Duration ttl;
+    private final Duration shortTtl;
+    private final Gson gson;
+    private final ConcurrentHashMap<String, CompletableFuture<Entry>> pendingLoads;
+    private final Map<String, Entry> memoryEntries;
+
+    ResponseCache(Path directory, Duration ttl) {
+        this.directory = directory;
+        this.ttl = ttl;
+        this.shortTtl = ttl.compareTo(SHORT_TTL) < 0 ? ttl : SHORT_TTL;
+        this.gson = new Gson();
+        this.pendingLoads = new ConcurrentHashMap<>();
+        this.memoryEntries = new LinkedHashMap<>(MAX_MEMORY_ENTRIES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MAX_MEMORY_ENTRIES;
+            }
+        };
+    }
+
+    /**
+     * Creates the response cache configured by the system properties. The cache is stored in the Ballerina user home
+     * by default, and the responses expire after a day unless the time-to-live is given in seconds.
+     *
+     * @return the response cache
+     */
+    static ResponseCache create() {
+        String cacheDir = System.getProperty(CACHE_DIR_PROPERTY);
+        Path directory = cacheDir != null ? Path.of(cacheDir) :
+                Path.of(System.getProperty("user.home"), ".ballerina", "central-cache");
+        Duration ttl = DEFAULT_TTL;
+        String ttlSeconds = System.getProperty(TTL_PROPERTY);
+        if (ttlSeconds != null) {
+            try {
+                ttl = Duration.ofSeconds(Long.parseLong(ttlSeconds));
+            } catch (NumberFormatException ignored) {
+                // Fall back to the default time-to-live
+            }
+        }
+        return new ResponseCache(directory, ttl);
+    }
+
+    /**
+     * Returns the response of the given key, loading it with the provided loader if the response is not cached. The
+     * loader receives the stale response to revalidate, or null if there is none, and returns the response to cache.
+     *
+     * @param key    the key of the response
+     * @param loader the loader of the response
+     * @return the body of the response
+     */
+    CompletableFuture<String> get(String key, Function<Entry, CompletableFuture<Entry>> loader) {
+        return get(key, Policy.STALE_WHILE_REVALIDATE, loader);
+    }
+
+    /**
+     * Returns the response of the given key as per the given cache policy, loading it with the provided loader if the
+     * response is not cached or cannot be served from the cache.
+     *
+     * @param key    the key of the response
+     * @param policy the cache policy of the response
+     * @param loader the loader of the response
+     * @return the body of the response
+     */
+    CompletableFuture<String> get(String key, Policy policy, Function<Entry, CompletableFuture<Entry>> loader) {
+        Optional<Entry> cachedEntry = read(key, policy);
+        if (cachedEntry.isEmpty()) {
+            return load(key, null, policy, loader).thenApply(Entry::body);
+        }
+
+        Entry entry = cachedEntry.get();
+        if (!entry.isExpired(policy == Policy.STALE_WHILE_REVALIDATE ? ttl : shortTtl)) {
+            return CompletableFuture.completedFuture(entry.body());
+        }
+        CompletableFuture<Entry> revalidation = load(key, entry, policy, loader);
+        if (policy == Policy.STALE_WHILE_REVALIDATE) {
+            // Serve the stale response, as the revalidation fails when offline
+            return CompletableFuture.completedFuture(entry.body());
+        }
+        // Serve the stale response only if the revalidation fails, such as when offline
+        return revalidation.handle((revalidatedEntry, throwable) ->
+                throwable == null ? revalidatedEntry.body() : entry.body());
+    }
+
+    private CompletableFuture<Entry> load(String key, Entry staleEntry, Policy policy,
+                                          Function<Entry, CompletableFuture<Entry>> loader) {
+        CompletableFuture<Entry> load = new CompletableFuture<>();
+        CompletableFuture<Entry> existingLoad = pendingLoads.putIfAbsent(key, load);
+        if (existingLoad != null) {
+            return existingLoad;
+        }
+
+        CompletableFuture<Entry> response;
+        try {
+            response = loader.apply(staleEntry);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        response.whenComplete((entry, throwable) -> {
+            pendingLoads.remove(key, load);
+            if (throwable != null) {
+                load.completeExceptionally(throwable);
+                return;
+            }
+            if (policy == Policy.MEMORY_ONLY) {
+                remember(key, entry);
+            } else {
+                write(key, entry);
+            }
+            load.complete(entry);
+        });
+        return load;
+    }
+
+    /**
+     * Removes the cached responses that have not been revalidated for the maximum age, and then the least recently
+     * written responses until the cache directory fits in the maximum size.
+     *
+     * @param maxAge       the maximum age of a cached response
+     * @param maxSizeBytes the maximum total size of the cached responses
+     */
+    void sweep(Duration maxAge, long maxSizeBytes) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<CacheFile> cacheFiles = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (Path path : paths.toList()) {
+                try {
+                    cacheFiles.add(new CacheFile(path, Files.getLastModifiedTime(path).toMillis(), Files.size(path)));
+                } catch (IOException ignored) {
+                    // The file is removed by a concurrent sweep
+                }
+            }
+        } catch (IOException ignored) {
+            // The cache is best effort, and the directory is swept again when the next cache is created
+            return;
+        }
+
+        cacheFiles.sort(Comparator.comparingLong(CacheFile::lastModified).reversed());
+        long oldestAllowed = System.currentTimeMillis() - maxAge.toMillis();
+        long totalSize = 0;
+        for (CacheFile cacheFile : cacheFiles) {
+            totalSize += cacheFile.size();
+            if (cacheFile.lastModified() < oldestAllowed || totalSize > maxSizeBytes) {
+                try {
+                    Files.deleteIfExists(cacheFile.path());
+                } catch (IOException ignored) {
+                    // The file is removed on the next sweep
+                }
+            }
+        }
+    }
+
+    private Optional<Entry> read(String key, Policy policy) {
+        synchronized (memoryEntries) {
+            Entry entry = memoryEntries.get(key);
+            if (entry != null) {
+                return Optional.of(entry);
+            }
+        }
+        if (policy == Policy.MEMORY_ONLY) {
+            return Optional.empty();
+        }
+
+        Path cacheFile = directory.resolve(fileName(key));
+        if (!Files.exists(cacheFile)) {
+            return Optional.empty();
+        }
+        try {
+            Entry entry = gson.fromJson(Files.readString(cacheFile, StandardCharsets.UTF_8), Entry.class);
+            if (entry == null || entry.body() == null) {
+                return Optional.empty();
+            }
+            remember(key, entry);
+            return Optional.of(entry);
+        } catch (IOException | JsonParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void remember(String key, Entry entry) {
+        synchronized (memoryEntries) {
+            memoryEntries.put(key, entry);
+        }
+    }
+
+    private void write(String key, Entry entry) {
+        remember(key, entry);
+        try {
+            Files.createDirectories(directory);
+            // Write to a temporary file first, so that the concurrent readers never observe a partial response
+            Path tempFile = Files.createTempFile(directory, "response", ".tmp");
+            Files.writeString(tempFile, gson.toJson(entry), StandardCharsets.UTF_8);
+            Files.move(tempFile, directory.resolve(fileName(key)), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ignored) {
+            // The cache is best effort, and the response is fetched again on the next lookup
+        }
+    }
+
+    private static String fileName(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8))) +
+                    CACHE_FILE_EXTENSION;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Represents how a response is cached.
+     */
+    enum Policy {
+
+        /**
+         * The response is persisted, and a stale response is served while it is revalidated in the background.
+         */
+        STALE_WHILE_REVALIDATE,
+
+        /**
+         * The response is persisted and expires after the short time-to-live, after which the lookup waits for the
+         * revalidation. The stale response is only served if the revalidation fails.
+         */
+        REVALIDATE,
+
+        /**
+         * The response is kept in memory for the short time-to-live, and is never written to the disk.
+         */
+        MEMORY_ONLY
+    }
+
+    /**
+     * Represents a cached response.
+     *
+     * @param etag     the entity tag of the response, if any
+     * @param body     the body of the response
+     * @param storedAt the time the response was fetched or revalidated, in milliseconds since the epoch
+     */
+    record Entry(String etag, String body, long storedAt) {
+
+        static Entry of(String etag, String body) {
+            return new Entry(etag, body, System.currentTimeMillis());
+        }
+
+        Entry revalidated() {
+            return of(etag, body);
+        }
+
+        boolean isExpired(Duration ttl) {
+            return System.currentTimeMillis() - storedAt >= ttl.toMillis();
+        }
+    }
+
+    private record CacheFile(Path path, long lastModified, long size) {
+    }
+}
@@ -34,15 +34,11 @@ import org.ballerinalang.central.client.CentralAPIClient;
 import org.ballerinalang.central.client.exceptions.CentralClientException;
 import org.wso2.ballerinalang.util.RepoUtils;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static io.ballerina.projects.util.ProjectUtils.getAccessTokenOfCLI;
@@ -55,19 +51,22 @@ import static io.ballerina.projects.util.ProjectUtils.initializeProxy;
  */
 class RestClient {
 
-    private static final String BASE_URL = "https://api.central.ballerina.io/2.0/registry/";
+    private static final String REGISTRY_PATH = "/2.0/registry";
     private static final String SEARCH_SYMBOLS = "search-symbols";
     private static final String SEARCH_PACKAGES = "search-packages";
     private static final String CONNECTOR = "connector";
+    private static final String PACKAGE_VERSIONS = "package-versions";
     private final Gson gson;
     private final CentralAPIClient centralClient;
+    private final CentralHttpClient httpClient;
 
     private static final String supportedPlatform = Arrays.stream(JvmTarget.values())
             .map(JvmTarget::code)
             .collect(Collectors.joining(","));
 
-    public RestClient() {
+    public RestClient(CentralHttpClient httpClient) {
         gson = new Gson();
+        this.httpClient = httpClient;
 
         Settings settings;
         settings = RepoUtils.readSettings();
@@ -88,52 +87,61 @@ class RestClient {
         return gson.fromJson(connectorSearchResult.getAsString(), ConnectorsResponse.class);
     }
 
-    public ConnectorResponse connector(String id) {
-        JsonObject connectorSearchResult;
-        try {
-            connectorSearchResult = centralClient.getConnector(id, "any", RepoUtils.getBallerinaVersion());
-        } catch (CentralClientException e) {
-            throw new RuntimeException(e);
-        }
-        return gson.fromJson(connectorSearchResult, ConnectorResponse.class);
+    public CompletableFuture<ConnectorResponse> connector(String id) {
+        String key = String.format("%s:%s", CONNECTOR, id);
+        return httpClient.cached(key, () -> {
+            try {
+                JsonObject connector = centralClient.getConnector(id, "any", RepoUtils.getBallerinaVersion());
+                return gson.toJson(connector);
+            } catch (CentralClientException e) {
+                throw new RuntimeException(e);
+            }
+        }).thenApply(response -> gson.fromJson(response, ConnectorResponse.class));
     }
 
-    public ConnectorResponse connector(String org, String module, String version, String connector) {
-        String path = String.format("%s/connectors/%s/%s/%s/%s/%s", BASE_URL, org, module, version, module, connector);
-        String response = query(path);
-        return gson.fromJson(response, ConnectorResponse.class);
+    public CompletableFuture<ConnectorResponse> connector(String org, String module, String version,
+                                                          String connector) {
+        String path = String.format("%s/connectors/%s/%s/%s/%s/%s", REGISTRY_PATH, org, module, version, module,
+                connector);
+        return httpClient.get(httpClient.uri(path))
+                .thenApply(response -> gson.fromJson(response, ConnectorResponse.class));
     }
 
-    public PackageResponse searchPackages(Map<String, String> queryMap) {
-        String queryMapString = getQueryMapString(queryMap);
-        String response = query(SEARCH_PACKAGES, queryMapString);
-        return gson.fromJson(response, PackageResponse.class);
+    public CompletableFuture<PackageResponse> searchPackages(Map<String, String> queryMap) {
+        return query(SEARCH_PACKAGES, getQueryMapString(queryMap))
+                .thenApply(response -> gson.fromJson(response, PackageResponse.class));
     }
 
-    public SymbolResponse searchSymbols(Map<String, String> queryMap) {
-        String queryMapString = getQueryMapString(queryMap);
-        String response = query(SEARCH_SYMBOLS, queryMapString);
-        return gson.fromJson(response, SymbolResponse.class);
+    public CompletableFuture<SymbolResponse> searchSymbols(Map<String, String> queryMap) {
+        return query(SEARCH_SYMBOLS, getQueryMapString(queryMap))
+                .thenApply(response -> gson.fromJson(response, SymbolResponse.class));
     }
 
-    public String latestPackageVersion(String org, String name) {
-        try {
-            List<String> packageVersions =
-                    centralClient.getPackageVersions(org, name, supportedPlatform, RepoUtils.getBallerinaVersion());
-            if (packageVersions.isEmpty()) {
+    public CompletableFuture<String> latestPackageVersion(String org, String name) {
+        String ballerinaVersion = RepoUtils.getBallerinaVersion();
+        String key = String.format("%s:%s/%s?platforms=%s&ballerinaVersion=%s", PACKAGE_VERSIONS, org, name,
+                supportedPlatform, ballerinaVersion);
+        // The latest version is not served stale, as it determines the version of the imports that are added
+        return httpClient.cached(key, ResponseCache.Policy.REVALIDATE, () -> {
+            try {
+                return gson.toJson(centralClient.getPackageVersions(org, name, supportedPlatform, ballerinaVersion));
+            } catch (CentralClientException e) {
+                throw new RuntimeException("Package versions cannot be pulled: " + e.getMessage(), e);
+            }
+        }).thenApply(response -> {
+            String[] packageVersions = gson.fromJson(response, String[].class);
+            if (packageVersions == null || packageVersions.length == 0) {
                 throw new RuntimeException("No versions found for the package");
             }
 
-            String latestVersion = packageVersions.getFirst();
+            String latestVersion = packageVersions[0];
             for (String version : packageVersions) {
                 if (SemanticVersion.from(version).greaterThan(SemanticVersion.from(latestVersion))) {
                     latestVersion = version;
                 }
             }
             return latestVersion;
-        } catch (CentralClientException e) {
-            throw new RuntimeException("Package versions cannot be pulled: " + e.getMessage(), e);
-        }
+        });
     }
 
     private String getQueryMapString(Map<String, String> queryMap) {
@@ -149,39 +157,9 @@ class RestClient {
         return queryParams.toString();
     }
 
-    private String query(String api) {
-        HttpURLConnection conn = null;
-        try {
-            URL url = new URL(api);
-            conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("GET");
-
-            int responseCode = conn.getResponseCode();
-            if (responseCode == HttpURLConnection.HTTP_OK) { // success
-                try (BufferedReader in = new BufferedReader(
-                        new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8))) {
-                    String inputLine;
-                    StringBuilder response = new StringBuilder();
-
-                    while ((inputLine = in.readLine()) != null) {
-                        response.append(inputLine);
-                    }
-                    return response.toString();
-                }
-            }
-            throw new RuntimeException("GET request not worked");
-        } catch (Throwable e) {
-            throw new RuntimeException(e);
-        } finally {
-            if (conn != null) {
-                conn.disconnect();
-            }
-        }
-
-    }
-
-    private String query(String api, String queryMap) {
-        String fullUrl = String.format("%s/%s?%s", BASE_URL, api, queryMap);
-        return query(fullUrl);
+    // The search queries are user input, and hence their responses are not written to the disk
+    private CompletableFuture<String> query(String api, String queryMap) {
+        return httpClient.get(httpClient.uri(String.format("%s/%s?%s", REGISTRY_PATH, api, queryMap)),
+                ResponseCache.Policy.MEMORY_ONLY);
     }
 }
@@ -0,0 +1,318 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.centralconnector;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Test the caching of the Ballerina Central responses against a local stub server.
+ *
+ * @since 2.0.0
+ */
+public class CentralHttpClientTest {
+
+    private static final String PATH = "/registry/packages";
+    private static final Duration FRESH = Duration.ofDays(1);
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private Path cacheDir;
+    private volatile StubResponse stubResponse;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final List<String> receivedEtags = new CopyOnWriteArrayList<>();
+
+    @BeforeMethod
+    public void startServer() throws IOException {
+        requestCount.set(0);
+        receivedEtags.clear();
+        stubResponse = new StubResponse(200, "\"v1\"", "{\"version\":1}", null);
+        cacheDir = Files.createTempDirectory("central-cache");
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext(PATH, this::handle);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterMethod
+    public void stopServer() throws IOException {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        try (Stream<Path> paths = Files.walk(cacheDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "A fresh response is served from the cache without a request")
+    public void testFreshHit() throws Exception {
+        CentralHttpClient client = createClient(FRESH);
+        Assert.assertEquals(get(client), "{\"version\":1}");
+        Assert.assertEquals(get(client), "{\"version\":1}");
+        Assert.assertEquals(requestCount.get(), 1);
+
+        // A new client reads the response from the disk
+        Assert.assertEquals(get(createClient(FRESH)), "{\"version\":1}");
+        Assert.assertEquals(requestCount.get(), 1);
+    }
+
+    @Test(description = "A response is served from memory when the cache file is not available")
+    public void testMemoryHit() throws Exception {
+        CentralHttpClient client = createClient(FRESH);
+        Assert.assertEquals(get(client), "{\"version\":1}");
+        deleteCacheFiles();
+        Assert.assertEquals(get(client), "{\"version\":1}");
+        Assert.assertEquals(requestCount.get(), 1);
+    }
+
+    @Test(description = "A stale response is served immediately and is replaced once revalidated")
+    public void testStaleWhileRevalidate() throws Exception {
+        CentralHttpClient client = createClient(Duration.ZERO);
+        Assert.assertEquals(get(client), "{\"version\":1}");
+
+        CountDownLatch revalidation = new CountDownLatch(1);
+        stubResponse = new StubResponse(200, "\"v2\"", "{\"version\":2}", revalidation);
+        Assert.assertEquals(get(client), "{\"version\":1}");
+        Assert.assertTrue(revalidation.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        awaitBody(client, "{\"version\":2}");
+    }
+
+    @Test(description = "An unchanged response is revalidated with its entity tag and is not transferred again")
+    public void testNotModified() throws Exception {
+        CentralHttpClient client = createClient(Duration.ZERO);
+        Assert.assertEquals(get(client), "{\"version\":1}");
+
+        CountDownLatch revalidation = new CountDownLatch(1);
+        stubResponse = new StubResponse(304, null, "", revalidation);
+        Assert.assertEquals(get(client), "{\"version\":1}");
+        Assert.assertTrue(revalidation.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertEquals(receivedEtags.get(0), "");
+        Assert.assertEquals(receivedEtags.get(1), "\"v1\"");
+
+        // The revalidated response keeps the entity tag of the original response
+        awaitRequests(client, 3);
+        Assert.assertEquals(get(client), "{\"version\":1}");
+        Assert.assertEquals(receivedEtags.get(2), "\"v1\"");
+    }
+
+    @Test(description = "Concurrent lookups of the same response share a single request")
+    public void testConcurrentLoads() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        stubResponse = new StubResponse(200, "\"v1\"", "{\"version\":1}", null, release);
+        CentralHttpClient client = createClient(FRESH);
+
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            responses.add(client.get(uri(client)));
+        }
+        release.countDown();
+        for (CompletableFuture<String> response : responses) {
+            Assert.assertEquals(response.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "{\"version\":1}");
+        }
+        Assert.assertEquals(requestCount.get(), 1);
+    }
+
+    @Test(description = "A stale response is served when Ballerina Central is not reachable")
+    public void testOfflineFallback() throws Exception {
+        CentralHttpClient client = createClient(Duration.ZERO);
+        Assert.assertEquals(get(client), "{\"version\":1}");
+        server.stop(0);
+
+        Assert.assertEquals(get(client), "{\"version\":1}");
+        Assert.assertEquals(get(createClient(Duration.ZERO)), "{\"version\":1}");
+
+        // A response that has never been fetched cannot be served offline
+        CompletableFuture<String> missing = client.get(client.uri("/registry/missing"));
+        Assert.assertThrows(Exception.class, () -> missing.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test(description = "An expired response of the revalidate policy is not served until it is revalidated")
+    public void testRevalidate() throws Exception {
+        CentralHttpClient client = createClient(Duration.ZERO);
+        Assert.assertEquals(get(client, ResponseCache.Policy.REVALIDATE), "{\"version\":1}");
+
+        stubResponse = new StubResponse(200, "\"v2\"", "{\"version\":2}", null);
+        Assert.assertEquals(get(client, ResponseCache.Policy.REVALIDATE), "{\"version\":2}");
+        Assert.assertEquals(requestCount.get(), 2);
+
+        // The stale response is served only when the revalidation fails
+        server.stop(0);
+        Assert.assertEquals(get(client, ResponseCache.Policy.REVALIDATE), "{\"version\":2}");
+    }
+
+    @Test(description = "A response of the memory-only policy is served from memory and is not written to the disk")
+    public void testMemoryOnly() throws Exception {
+        CentralHttpClient client = createClient(FRESH);
+        Assert.assertEquals(get(client, ResponseCache.Policy.MEMORY_ONLY), "{\"version\":1}");
+        Assert.assertEquals(get(client, ResponseCache.Policy.MEMORY_ONLY), "{\"version\":1}");
+        Assert.assertEquals(requestCount.get(), 1);
+        try (Stream<Path> paths = Files.list(cacheDir)) {
+            Assert.assertEquals(paths.count(), 0L);
+        }
+
+        // A new client fetches the response again
+        Assert.assertEquals(get(createClient(FRESH), ResponseCache.Policy.MEMORY_ONLY), "{\"version\":1}");
+        Assert.assertEquals(requestCount.get(), 2);
+    }
+
+    @Test(description = "The responses older than the maximum age are removed, and then the least recently written " +
+            "responses until the cache fits in the maximum size")
+    public void testSweep() throws IOException {
+        long now = System.currentTimeMillis();
+        Path expired = writeCacheFile("expired", 10, now - Duration.ofDays(31).toMillis());
+        Path oldest = writeCacheFile("oldest", 60, now - Duration.ofDays(3).toMillis());
+        Path older = writeCacheFile("older", 60, now - Duration.ofDays(2).toMillis());
+        Path latest = writeCacheFile("latest", 60, now - Duration.ofDays(1).toMillis());
+
+        new ResponseCache(cacheDir, FRESH).sweep(Duration.ofDays(30), 150);
+        Assert.assertFalse(Files.exists(expired));
+        Assert.assertFalse(Files.exists(oldest));
+        Assert.assertTrue(Files.exists(older));
+        Assert.assertTrue(Files.exists(latest));
+    }
+
+    private CentralHttpClient createClient(Duration ttl) {
+        return new CentralHttpClient("http://localhost:" + server.getAddress().getPort(),
+                new ResponseCache(cacheDir, ttl));
+    }
+
+    private static URI uri(CentralHttpClient client) {
+        return client.uri(PATH);
+    }
+
+    private static String get(CentralHttpClient client) throws Exception {
+        return client.get(uri(client)).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static String get(CentralHttpClient client, ResponseCache.Policy policy) throws Exception {
+        return client.get(uri(client), policy).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    // Each lookup of a stale response starts a revalidation, which completes after the response is returned
+    private static void awaitBody(CentralHttpClient client, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        String body = get(client);
+        while (!body.equals(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            body = get(client);
+        }
+        Assert.assertEquals(body, expected);
+    }
+
+    private void awaitRequests(CentralHttpClient client, int count) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (requestCount.get() < count && System.nanoTime() < deadline) {
+            get(client);
+            Thread.sleep(10);
+        }
+        Assert.assertTrue(requestCount.get() >= count);
+    }
+
+    private void deleteCacheFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(cacheDir)) {
+            for (Path path : paths.toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private Path writeCacheFile(String name, int size, long lastModified) throws IOException {
+        Path path = cacheDir.resolve(name + ".json");
+        Files.write(path, new byte[size]);
+        Files.setLastModifiedTime(path, FileTime.fromMillis(lastModified));
+        return path;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        StubResponse response = stubResponse;
+        try {
+            if (response.release() != null) {
+                response.release().await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        requestCount.incrementAndGet();
+        receivedEtags.add(exchange.getRequestHeaders().getFirst("If-None-Match") == null ? "" :
+                exchange.getRequestHeaders().getFirst("If-None-Match"));
+
+        if (response.etag() != null) {
+            exchange.getResponseHeaders().add("ETag", response.etag());
+        }
+        byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+        if (body.length == 0) {
+            exchange.sendResponseHeaders(response.status(), -1);
+            exchange.close();
+        } else {
+            exchange.sendResponseHeaders(response.status(), body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        }
+        if (response.served() != null) {
+            response.served().countDown();
+        }
+    }
+
+    /**
+     * Represents the response of the stub server.
+     *
+     * @param status  the status code of the response
+     * @param etag    the entity tag of the response, if any
+     * @param body    the body of the response
+     * @param served  the latch counted down after the response is sent, if any
+     * @param release the latch to wait on before the response is sent, if any
+     */
+    private record StubResponse(int status, String etag, String body, CountDownLatch served, CountDownLatch release) {
+
+        StubResponse(int status, String etag, String body, CountDownLatch served) {
+            this(status, etag, body, served, null);
+        }
+    }
+}
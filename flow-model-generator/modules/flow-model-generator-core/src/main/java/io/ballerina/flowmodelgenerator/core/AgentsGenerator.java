@@ -54,7 +54,6 @@ import io.ballerina.flowmodelgenerator.core.utils.ParamUtils;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.FunctionData;
 import io.ballerina.modelgenerator.commons.FunctionDataBuilder;
-import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.modelgenerator.commons.ParameterData;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Project;
@@ -647,26 +646,22 @@ public class AgentsGenerator {
             textEdits[i] = textEdit;
         }
         TextDocument modifiedTextDoc = textDocument.apply(TextDocumentChange.from(textEdits));
-        Document modifiedDoc =
-                project.duplicate().currentPackage().module(document.module().moduleId())
-                        .document(document.documentId()).modify().withContent(String.join(System.lineSeparator(),
-                                modifiedTextDoc.textLines())).apply();
-
-        SemanticModel newSemanticModel = PackageUtil.getCompilation(modifiedDoc.module().packageInstance())
-                .getSemanticModel(modifiedDoc.module().moduleId());
         Optional<Property> property = flowNode.getProperty(Property.VARIABLE_KEY);
         if (property.isEmpty()) {
             throw new IllegalStateException("Variable name is not present");
         }
         String variableName = property.get().value().toString();
         VariableSymbol variableSymbol = null;
-        List<Symbol> moduleSymbols = newSemanticModel.moduleSymbols();
-        for (Symbol moduleSymbol : moduleSymbols) {
-            if (moduleSymbol.kind() != SymbolKind.VARIABLE) {
-                continue;
-            }
-            if (moduleSymbol.getName().orElse("").equals(variableName)) {
-                variableSymbol = (VariableSymbol) moduleSymbol;
+        try (ProjectOverlayPool.Modification modification = ProjectOverlayPool.getInstance()
+                .apply(document, String.join(System.lineSeparator(), modifiedTextDoc.textLines()))) {
+            List<Symbol> moduleSymbols = modification.semanticModel().moduleSymbols();
+            for (Symbol moduleSymbol : moduleSymbols) {
+                if (moduleSymbol.kind() != SymbolKind.VARIABLE) {
+                    continue;
+                }
+                if (moduleSymbol.getName().orElse("").equals(variableName)) {
+                    variableSymbol = (VariableSymbol) moduleSymbol;
+                }
             }
         }
         List<Item> methods = new ArrayList<>();
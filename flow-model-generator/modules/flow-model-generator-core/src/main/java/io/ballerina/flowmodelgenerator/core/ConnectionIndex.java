@@ -0,0 +1,288 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.flowmodelgenerator.core.model.Codedata;
+import io.ballerina.flowmodelgenerator.core.model.Diagnostics;
+import io.ballerina.flowmodelgenerator.core.model.FlowNode;
+import io.ballerina.flowmodelgenerator.core.model.Property;
+import io.ballerina.flowmodelgenerator.core.model.PropertyCodedata;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * An index of the connection nodes of the module-level and service-level declarations of a project, shared by the flow
+ * model, module nodes and service nodes requests.
+ *
+ * <p>
+ * A declaration is identified by its document, scope and source, and hence an edit elsewhere in the document does not
+ * invalidate it. The analyzed node of a declaration is reused as long as it had no diagnostics and the current
+ * semantic model reports none within the declaration, after moving its line ranges to the current position of the
+ * declaration. A declaration with diagnostics is analyzed again, since its diagnostics depend on the rest of the
+ * module. The connections of a client defined in the current package also depend on the client definition, and they
+ * are reused only while the documents of the module are unchanged.
+ * </p>
+ *
+ * <p>
+ * When a document is modified, the declarations of its previous version are kept until the next modification of the
+ * document, so that the unchanged declarations can be moved to the current version as they are requested.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class ConnectionIndex {
+
+    private static final Map<Project, ConnectionIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<DocumentId, DocumentConnections> documents;
+    private long generation;
+
+    private ConnectionIndex() {
+        documents = new HashMap<>();
+        generation = 0;
+    }
+
+    /**
+     * Returns the connection index of the given project, synchronized with the current versions of the documents of
+     * the default module.
+     *
+     * @param project the project
+     * @return the connection index
+     */
+    static ConnectionIndex of(Project project) {
+        ConnectionIndex index = INDEXES.computeIfAbsent(project, key -> new ConnectionIndex());
+        index.sync(project.currentPackage().getDefaultModule());
+        return index;
+    }
+
+    /**
+     * Removes the connection index of the given project, for the changes that affect all the connections, such as a
+     * change in the dependencies.
+     *
+     * @param project the project
+     */
+    public static void invalidate(Project project) {
+        INDEXES.remove(project);
+    }
+
+    /**
+     * Returns the connection node of the given declaration, analyzing the declaration only if the analyzed node of
+     * the declaration cannot be reused.
+     *
+     * @param document      the document of the declaration
+     * @param statementNode the declaration
+     * @param scope         the scope of the connection
+     * @param local         whether the client of the connection is defined in the current package
+     * @param semanticModel the semantic model of the current version of the module
+     * @param analyzer      the analyzer of the declaration
+     * @return the connection node, if the declaration defines a connection
+     */
+    Optional<FlowNode> get(Document document, NonTerminalNode statementNode, String scope, boolean local,
+                           SemanticModel semanticModel, Supplier<Optional<FlowNode>> analyzer) {
+        Declaration declaration = new Declaration(scope, statementNode.toSourceCode().strip());
+        LineRange lineRange = statementNode.lineRange();
+        long entryGeneration;
+        synchronized (this) {
+            DocumentConnections connections = documents.get(document.documentId());
+
+            // The project is modified after the index is synchronized, hence the connection cannot be indexed
+            if (connections == null || connections.syntaxTree != document.syntaxTree()) {
+                return analyzer.get();
+            }
+            entryGeneration = local ? generation : Entry.ANY_GENERATION;
+            Entry entry = connections.lookup(declaration);
+            if (entry != null && entry.isReusable(entryGeneration) &&
+                    DiagnosticIndex.of(semanticModel).query(lineRange).isEmpty()) {
+                return entry.connection().map(connection -> relocate(connection, entry.lineRange(), lineRange));
+            }
+        }
+
+        Optional<FlowNode> connection = analyzer.get();
+        synchronized (this) {
+            DocumentConnections connections = documents.get(document.documentId());
+            if (connections != null && connections.syntaxTree == document.syntaxTree()) {
+                connections.current.put(declaration, new Entry(connection, lineRange, entryGeneration,
+                        connection.map(ConnectionIndex::isClean).orElse(true)));
+            }
+        }
+        return connection;
+    }
+
+    private synchronized void sync(Module module) {
+        Map<DocumentId, DocumentConnections> currentDocuments = new HashMap<>();
+        boolean modified = documents.size() != module.documentIds().size();
+        for (DocumentId documentId : module.documentIds()) {
+            SyntaxTree syntaxTree = module.document(documentId).syntaxTree();
+            DocumentConnections connections = documents.get(documentId);
+            if (connections == null) {
+                connections = new DocumentConnections(syntaxTree, Map.of());
+                modified = true;
+            } else if (connections.syntaxTree != syntaxTree) {
+                connections = new DocumentConnections(syntaxTree, connections.current);
+                modified = true;
+            }
+            currentDocuments.put(documentId, connections);
+        }
+        if (!modified) {
+            return;
+        }
+
+        // Drops the connections of the removed documents
+        documents.clear();
+        documents.putAll(currentDocuments);
+        generation++;
+    }
+
+    private static boolean isClean(FlowNode connection) {
+        return isClean(connection.diagnostics()) && (connection.properties() == null ||
+                connection.properties().values().stream().allMatch(property -> isClean(property.diagnostics())));
+    }
+
+    private static boolean isClean(Diagnostics diagnostics) {
+        return diagnostics == null || !diagnostics.hasDiagnostics();
+    }
+
+    /**
+     * Moves the line ranges of the given connection node from the previous position of the declaration to the current
+     * position. Since the source of the declaration is unchanged, the positions within the declaration keep their
+     * relative positions to the start of the declaration.
+     */
+    private static FlowNode relocate(FlowNode connection, LineRange from, LineRange to) {
+        if (from.equals(to)) {
+            return connection;
+        }
+        Codedata codedata = connection.codedata();
+        LineRange lineRange = relocate(codedata.lineRange(), from, to);
+        Codedata relocatedCodedata = new Codedata(codedata.node(), codedata.org(), codedata.module(),
+                codedata.object(), codedata.symbol(), codedata.version(), lineRange, codedata.sourceCode(),
+                codedata.parentSymbol(), codedata.resourcePath(), codedata.id(), codedata.isNew(),
+                codedata.isGenerated(), codedata.inferredReturnType());
+
+        Map<String, Property> properties = null;
+        if (connection.properties() != null) {
+            properties = new LinkedHashMap<>();
+            for (Map.Entry<String, Property> entry : connection.properties().entrySet()) {
+                properties.put(entry.getKey(), relocate(entry.getValue(), from, to));
+            }
+        }
+        return new FlowNode(String.valueOf(Objects.hash(lineRange)), connection.metadata(), relocatedCodedata,
+                connection.returning(), connection.branches(), properties, connection.diagnostics(),
+                connection.flags());
+    }
+
+    private static Property relocate(Property property, LineRange from, LineRange to) {
+        PropertyCodedata codedata = property.codedata();
+        if (codedata == null || codedata.lineRange() == null) {
+            return property;
+        }
+        PropertyCodedata relocatedCodedata = new PropertyCodedata(codedata.kind(), codedata.originalName(),
+                codedata.dependentProperty(), relocate(codedata.lineRange(), from, to));
+        return new Property(property.metadata(), property.valueType(), property.valueTypeConstraint(),
+                property.value(), property.placeholder(), property.optional(), property.editable(),
+                property.advanced(), property.hidden(), property.diagnostics(), relocatedCodedata,
+                property.typeMembers(), property.advancedValue(), property.imports());
+    }
+
+    private static LineRange relocate(LineRange lineRange, LineRange from, LineRange to) {
+        if (lineRange == null) {
+            return null;
+        }
+        return LineRange.from(to.fileName(), relocate(lineRange.startLine(), from.startLine(), to.startLine()),
+                relocate(lineRange.endLine(), from.startLine(), to.startLine()));
+    }
+
+    private static LinePosition relocate(LinePosition position, LinePosition from, LinePosition to) {
+        int line = position.line() - from.line() + to.line();
+        int offset = position.line() == from.line() ? position.offset() - from.offset() + to.offset() :
+                position.offset();
+        return LinePosition.from(line, offset);
+    }
+
+    /**
+     * The connections of a version of a document, along with the connections of the previous version which are yet to
+     * be requested in the current version.
+     */
+    private static class DocumentConnections {
+
+        private final SyntaxTree syntaxTree;
+        private final Map<Declaration, Entry> current;
+        private final Map<Declaration, Entry> previous;
+
+        DocumentConnections(SyntaxTree syntaxTree, Map<Declaration, Entry> previous) {
+            this.syntaxTree = syntaxTree;
+            this.current = new HashMap<>();
+            this.previous = new HashMap<>(previous);
+        }
+
+        Entry lookup(Declaration declaration) {
+            Entry entry = current.get(declaration);
+            if (entry != null) {
+                return entry;
+            }
+            entry = previous.remove(declaration);
+            if (entry != null) {
+                current.put(declaration, entry);
+            }
+            return entry;
+        }
+    }
+
+    /**
+     * Represents a declaration of a connection in a document.
+     *
+     * @param scope      the scope of the connection
+     * @param sourceCode the source of the declaration
+     */
+    private record Declaration(String scope, String sourceCode) {
+    }
+
+    /**
+     * Represents the analyzed node of a declaration.
+     *
+     * @param connection the connection node, if the declaration defines a connection
+     * @param lineRange  the line range of the declaration when it was analyzed
+     * @param generation the generation of the module the node depends on, or {@link #ANY_GENERATION} if the node
+     *                   does not depend on the other declarations of the module
+     * @param clean      whether the node had no diagnostics when it was analyzed
+     */
+    private record Entry(Optional<FlowNode> connection, LineRange lineRange, long generation, boolean clean) {
+
+        static final long ANY_GENERATION = -1;
+
+        boolean isReusable(long currentGeneration) {
+            return clean && generation == currentGeneration;
+        }
+    }
+}
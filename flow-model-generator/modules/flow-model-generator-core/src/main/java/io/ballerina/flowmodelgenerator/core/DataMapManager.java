@@ -73,7 +73,6 @@ import io.ballerina.flowmodelgenerator.core.model.Property;
 import io.ballerina.flowmodelgenerator.core.model.SourceBuilder;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.DefaultValueGeneratorUtil;
-import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.diagnostics.Diagnostic;
@@ -97,10 +96,12 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Generates types of the data mapper model.
@@ -109,6 +110,7 @@ import java.util.Optional;
  */
 public class DataMapManager {
 
+    private static final int UNLIMITED_DEPTH = Integer.MAX_VALUE;
     private final WorkspaceManager workspaceManager;
     private final Document document;
     private final Gson gson;
@@ -161,50 +163,160 @@ public class DataMapManager {
 
     public JsonElement getMappings(JsonElement node, LinePosition position, String propertyKey, Path filePath,
                                    String targetField, Project project) {
+        return getMappings(node, position, propertyKey, filePath, targetField, project, UNLIMITED_DEPTH);
+    }
+
+    /**
+     * Generates the data mapper model, expanding the record types of the ports only up to the given depth. The
+     * record ports beyond the depth are marked as expandable, and can be expanded using
+     * {@link #expandPort(JsonElement, LinePosition, String, Path, String, String, int)}.
+     *
+     * @param node        the flow node of the data mapper
+     * @param position    the position to insert the flow node at
+     * @param propertyKey the property of the flow node to map
+     * @param filePath    the path of the file
+     * @param targetField the target field to map, if any
+     * @param project     the project of the file
+     * @param depth       the number of levels of the record types to expand
+     * @return the data mapper model
+     */
+    public JsonElement getMappings(JsonElement node, LinePosition position, String propertyKey, Path filePath,
+                                   String targetField, Project project, int depth) {
         FlowNode flowNode = gson.fromJson(node, FlowNode.class);
-        SourceModification modification;
-        if (flowNode.codedata().node() == NodeKind.NEW_CONNECTION) {
-            modification = applyConnection(flowNode, project, filePath);
-        } else {
-            modification = applyNode(flowNode, project, filePath, position);
+        try (SourceModification modification = applyModification(flowNode, filePath, position)) {
+            SemanticModel newSemanticModel = modification.semanticModel();
+            PortBuilder portBuilder = new PortBuilder(DataMapperTypeCache.of(newSemanticModel), depth);
+            List<MappingPort> inputPorts =
+                    getInputPorts(newSemanticModel, modification.document(), position, portBuilder);
+            inputPorts.sort(Comparator.comparing(mt -> mt.id));
+
+            TargetNode targetNode = getTargetNode(modification.stNode(), targetField, flowNode.codedata().node(),
+                    propertyKey, newSemanticModel);
+            if (targetNode == null) {
+                return null;
+            }
+
+            ExpressionNode expressionNode = targetNode.expressionNode();
+            getQueryInput(targetNode, newSemanticModel).ifPresent(queryInput ->
+                    inputPorts.add(portBuilder.build(queryInput.name(), queryInput.name(), queryInput.typeSymbol())));
+            String name = targetNode.name();
+            MappingPort outputPort = portBuilder.build(name, name, getOutputType(targetNode));
+            List<Mapping> mappings = new ArrayList<>();
+            if (expressionNode != null) {
+                TypeDescKind typeDescKind = CommonUtils.getRawType(targetNode.typeSymbol()).typeKind();
+                if (typeDescKind == TypeDescKind.RECORD) {
+                    generateRecordVariableDataMapping(expressionNode, mappings, name, newSemanticModel);
+                } else if (typeDescKind == TypeDescKind.ARRAY) {
+                    generateArrayVariableDataMapping(expressionNode, mappings, name, newSemanticModel);
+                }
+            }
+            return gson.toJsonTree(new Model(inputPorts, outputPort, mappings));
         }
-        SemanticModel newSemanticModel = modification.semanticModel();
-        List<MappingPort> inputPorts = getInputPorts(newSemanticModel, modification.document(), position);
-        inputPorts.sort(Comparator.comparing(mt -> mt.id));
+    }
 
-        TargetNode targetNode = getTargetNode(modification.stNode(), targetField, flowNode.codedata().node(),
-                propertyKey, newSemanticModel);
-        if (targetNode == null) {
-            return null;
+    /**
+     * Expands the given port of the data mapper model up to the given depth.
+     *
+     * <p>
+     * The input ports are resolved on the compilation of the workspace, and hence the consecutive expansions share the
+     * expanded types until the project is modified. The ports that depend on the flow node are resolved on a
+     * compilation of the modified document.
+     * </p>
+     *
+     * @param node        the flow node of the data mapper
+     * @param position    the position to insert the flow node at
+     * @param propertyKey the property of the flow node to map
+     * @param filePath    the path of the file
+     * @param targetField the target field to map, if any
+     * @param portId      the ID of the port to expand
+     * @param depth       the number of levels of the record types to expand
+     * @return the expanded port
+     */
+    public JsonElement expandPort(JsonElement node, LinePosition position, String propertyKey, Path filePath,
+                                  String targetField, String portId, int depth) {
+        int separatorIndex = portId.indexOf('.');
+        String rootId = separatorIndex == -1 ? portId : portId.substring(0, separatorIndex);
+
+        SemanticModel semanticModel = workspaceManager.semanticModel(filePath).orElse(null);
+        Symbol rootSymbol = semanticModel == null ? null :
+                getInputSymbol(semanticModel, document, position, rootId).orElse(null);
+        if (rootSymbol != null) {
+            return expandPort(semanticModel, rootId, rootSymbol, portId, depth);
         }
 
-        Type type;
+        FlowNode flowNode = gson.fromJson(node, FlowNode.class);
+        try (SourceModification modification = applyModification(flowNode, filePath, position)) {
+            semanticModel = modification.semanticModel();
+            rootSymbol = getInputSymbol(semanticModel, modification.document(), position, rootId).orElse(null);
+            if (rootSymbol == null) {
+                TargetNode targetNode = getTargetNode(modification.stNode(), targetField,
+                        flowNode.codedata().node(), propertyKey, semanticModel);
+                if (targetNode == null) {
+                    throw new IllegalStateException("Port cannot be found for : " + portId);
+                }
+                Optional<QueryInput> queryInput = getQueryInput(targetNode, semanticModel);
+                if (queryInput.isPresent() && queryInput.get().name().equals(rootId)) {
+                    rootSymbol = queryInput.get().typeSymbol();
+                } else if (targetNode.name().equals(rootId)) {
+                    rootSymbol = getOutputType(targetNode);
+                } else {
+                    throw new IllegalStateException("Port cannot be found for : " + portId);
+                }
+            }
+            return expandPort(semanticModel, rootId, rootSymbol, portId, depth);
+        }
+    }
+
+    private JsonElement expandPort(SemanticModel semanticModel, String rootId, Symbol rootSymbol, String portId,
+                                   int depth) {
+        PortBuilder portBuilder = new PortBuilder(DataMapperTypeCache.of(semanticModel), depth);
+        MappingPort port = portBuilder.expand(rootId, rootSymbol, portId);
+        if (port == null) {
+            throw new IllegalStateException("Port cannot be expanded for : " + portId);
+        }
+        return gson.toJsonTree(port);
+    }
+
+    private SourceModification applyModification(FlowNode flowNode, Path filePath, LinePosition position) {
+        if (flowNode.codedata().node() == NodeKind.NEW_CONNECTION) {
+            return applyConnection(flowNode, filePath);
+        }
+        return applyNode(flowNode, filePath, position);
+    }
+
+    private Optional<Symbol> getInputSymbol(SemanticModel semanticModel, Document document, LinePosition position,
+                                            String name) {
+        return semanticModel.visibleSymbols(document, position).stream()
+                .filter(symbol -> symbol.kind() == SymbolKind.VARIABLE || symbol.kind() == SymbolKind.PARAMETER)
+                .filter(symbol -> symbol.nameEquals(name))
+                .findFirst();
+    }
+
+    // Returns the variable of the from clause of a query expression, which is an input port of the query
+    private Optional<QueryInput> getQueryInput(TargetNode targetNode, SemanticModel semanticModel) {
         ExpressionNode expressionNode = targetNode.expressionNode();
-        if (expressionNode != null && targetNode.expressionNode().kind() == SyntaxKind.QUERY_EXPRESSION) {
-            FromClauseNode fromClauseNode =
-                    ((QueryExpressionNode) targetNode.expressionNode()).queryPipeline().fromClause();
-            Optional<TypeSymbol> typeSymbol = newSemanticModel.typeOf(fromClauseNode.expression());
-            if (typeSymbol.isPresent() && typeSymbol.get().typeKind() == TypeDescKind.ARRAY) {
-                String fromClauseVar = fromClauseNode.typedBindingPattern().bindingPattern().toSourceCode().trim();
-                inputPorts.add(getMappingPort(fromClauseVar, fromClauseVar,
-                        Type.fromSemanticSymbol(((ArrayTypeSymbol) typeSymbol.get()).memberTypeDescriptor())));
-            }
-            type = Type.fromSemanticSymbol(((ArrayTypeSymbol) targetNode.typeSymbol()).memberTypeDescriptor());
-        } else {
-            type = Type.fromSemanticSymbol(targetNode.typeSymbol());
+        if (expressionNode == null || expressionNode.kind() != SyntaxKind.QUERY_EXPRESSION) {
+            return Optional.empty();
         }
-        String name = targetNode.name();
-        MappingPort outputPort = getMappingPort(name, name, type);
-        List<Mapping> mappings = new ArrayList<>();
-        if (expressionNode != null) {
-            TypeDescKind typeDescKind = CommonUtils.getRawType(targetNode.typeSymbol()).typeKind();
-            if (typeDescKind == TypeDescKind.RECORD) {
-                generateRecordVariableDataMapping(expressionNode, mappings, name, newSemanticModel);
-            } else if (typeDescKind == TypeDescKind.ARRAY) {
-                generateArrayVariableDataMapping(expressionNode, mappings, name, newSemanticModel);
-            }
+        FromClauseNode fromClauseNode = ((QueryExpressionNode) expressionNode).queryPipeline().fromClause();
+        Optional<TypeSymbol> typeSymbol = semanticModel.typeOf(fromClauseNode.expression());
+        if (typeSymbol.isEmpty() || typeSymbol.get().typeKind() != TypeDescKind.ARRAY) {
+            return Optional.empty();
         }
-        return gson.toJsonTree(new Model(inputPorts, outputPort, mappings));
+        String fromClauseVar = fromClauseNode.typedBindingPattern().bindingPattern().toSourceCode().trim();
+        return Optional.of(new QueryInput(fromClauseVar,
+                ((ArrayTypeSymbol) typeSymbol.get()).memberTypeDescriptor()));
+    }
+
+    private TypeSymbol getOutputType(TargetNode targetNode) {
+        ExpressionNode expressionNode = targetNode.expressionNode();
+        if (expressionNode != null && expressionNode.kind() == SyntaxKind.QUERY_EXPRESSION) {
+            return ((ArrayTypeSymbol) targetNode.typeSymbol()).memberTypeDescriptor();
+        }
+        return targetNode.typeSymbol();
+    }
+
+    private record QueryInput(String name, TypeSymbol typeSymbol) {
     }
 
     private TargetNode getTargetNode(Node parentNode, String targetField, NodeKind nodeKind, String propertyKey,
@@ -541,7 +653,8 @@ public class DataMapManager {
         return diagnosticMsgs;
     }
 
-    private List<MappingPort> getInputPorts(SemanticModel semanticModel, Document document, LinePosition position) {
+    private List<MappingPort> getInputPorts(SemanticModel semanticModel, Document document, LinePosition position,
+                                            PortBuilder portBuilder) {
         List<MappingPort> mappingPorts = new ArrayList<>();
 
         List<Symbol> symbols = semanticModel.visibleSymbols(document, position);
@@ -552,8 +665,7 @@ public class DataMapManager {
                 if (optName.isEmpty()) {
                     continue;
                 }
-                Type type = Type.fromSemanticSymbol(symbol);
-                MappingPort mappingPort = getMappingPort(optName.get(), optName.get(), type);
+                MappingPort mappingPort = portBuilder.build(optName.get(), optName.get(), symbol);
                 if (mappingPort == null) {
                     continue;
                 }
@@ -569,8 +681,7 @@ public class DataMapManager {
                 if (optName.isEmpty()) {
                     continue;
                 }
-                Type type = Type.fromSemanticSymbol(symbol);
-                MappingPort mappingPort = getMappingPort(optName.get(), optName.get(), type);
+                MappingPort mappingPort = portBuilder.build(optName.get(), optName.get(), symbol);
                 if (mappingPort == null) {
                     continue;
                 }
@@ -589,7 +700,7 @@ public class DataMapManager {
         return mappingPorts;
     }
 
-    private MappingPort getMappingPort(String id, String name, Type type) {
+    private static MappingPort getMappingPort(String id, String name, Type type) {
         if (type.getTypeName().equals("record")) {
             RecordType recordType = (RecordType) type;
             TypeInfo typeInfo = type.getTypeInfo();
@@ -810,40 +921,40 @@ public class DataMapManager {
     public String getQuery(JsonElement fNode, String targetField, Path filePath, LinePosition position,
                            Project project) {
         FlowNode flowNode = gson.fromJson(fNode, FlowNode.class);
-        SourceModification modification = applyNode(flowNode, project, filePath, position);
-
-        TargetNode targetNode = getTargetNode(modification.stNode(), targetField, flowNode.codedata().node(), null,
-                modification.semanticModel());
-        if (targetNode == null) {
-            return "";
-        }
+        try (SourceModification modification = applyNode(flowNode, filePath, position)) {
+            TargetNode targetNode = getTargetNode(modification.stNode(), targetField, flowNode.codedata().node(), null,
+                    modification.semanticModel());
+            if (targetNode == null) {
+                return "";
+            }
 
-        TypeSymbol targetTypeSymbol = CommonUtils.getRawType(targetNode.typeSymbol());
-        if (targetTypeSymbol.typeKind() != TypeDescKind.ARRAY) {
-            return "";
-        }
-        TypeSymbol typeSymbol = CommonUtils.getRawType(((ArrayTypeSymbol) targetTypeSymbol).memberTypeDescriptor());
-        if (typeSymbol.typeKind() != TypeDescKind.RECORD) {
-            return "";
-        }
+            TypeSymbol targetTypeSymbol = CommonUtils.getRawType(targetNode.typeSymbol());
+            if (targetTypeSymbol.typeKind() != TypeDescKind.ARRAY) {
+                return "";
+            }
+            TypeSymbol typeSymbol = CommonUtils.getRawType(((ArrayTypeSymbol) targetTypeSymbol).memberTypeDescriptor());
+            if (typeSymbol.typeKind() != TypeDescKind.RECORD) {
+                return "";
+            }
 
-        String query = getQuerySource(targetNode.expressionNode(), (RecordTypeSymbol) typeSymbol);
-        if (targetField == null) {
-            return query;
-        }
-        if (flowNode.codedata().node() != NodeKind.VARIABLE) {
-            return query;
-        }
-        Optional<Property> optProperty = flowNode.getProperty(Property.EXPRESSION_KEY);
-        if (optProperty.isEmpty()) {
-            return query;
+            String query = getQuerySource(targetNode.expressionNode(), (RecordTypeSymbol) typeSymbol);
+            if (targetField == null) {
+                return query;
+            }
+            if (flowNode.codedata().node() != NodeKind.VARIABLE) {
+                return query;
+            }
+            Optional<Property> optProperty = flowNode.getProperty(Property.EXPRESSION_KEY);
+            if (optProperty.isEmpty()) {
+                return query;
+            }
+            Property property = optProperty.get();
+            String expr = property.toSourceCode();
+            return expr.replace(targetNode.expressionNode().toSourceCode(), query);
         }
-        Property property = optProperty.get();
-        String expr = property.toSourceCode();
-        return expr.replace(targetNode.expressionNode().toSourceCode(), query);
     }
 
-    private SourceModification applyNode(FlowNode flowNode, Project project, Path filePath, LinePosition position) {
+    private SourceModification applyNode(FlowNode flowNode, Path filePath, LinePosition position) {
         SourceBuilder sourceBuilder = new SourceBuilder(flowNode, this.workspaceManager, filePath);
         String source = NodeBuilder.getNodeFromKind(flowNode.codedata().node())
                 .toSource(sourceBuilder).entrySet().stream().iterator().next().getValue().get(0).getNewText();
@@ -854,23 +965,20 @@ public class DataMapManager {
                         0), source);
         io.ballerina.tools.text.TextEdit[] textEdits = {textEdit};
         TextDocument modifiedTextDoc = textDocument.apply(TextDocumentChange.from(textEdits));
-        Document modifiedDoc =
-                project.duplicate().currentPackage().module(document.module().moduleId())
-                        .document(document.documentId()).modify().withContent(String.join(System.lineSeparator(),
-                                modifiedTextDoc.textLines())).apply();
+        ProjectOverlayPool.Modification modification = ProjectOverlayPool.getInstance()
+                .apply(document, String.join(System.lineSeparator(), modifiedTextDoc.textLines()));
+        Document modifiedDoc = modification.document();
 
-        SemanticModel newSemanticModel = PackageUtil.getCompilation(modifiedDoc.module().packageInstance())
-                .getSemanticModel(modifiedDoc.module().moduleId());
         LinePosition startLine = modifiedTextDoc.linePositionFrom(startTextPosition);
         LinePosition endLine = modifiedTextDoc.linePositionFrom(startTextPosition + source.length());
         Range range = new Range(new Position(startLine.line(), startLine.offset()),
                 new Position(endLine.line(), endLine.offset()));
         NonTerminalNode stNode = CommonUtil.findNode(range, modifiedDoc.syntaxTree());
 
-        return new SourceModification(source, modifiedDoc, newSemanticModel, stNode);
+        return new SourceModification(source, modification, stNode);
     }
 
-    private SourceModification applyConnection(FlowNode flowNode, Project project, Path filePath) {
+    private SourceModification applyConnection(FlowNode flowNode, Path filePath) {
         SourceBuilder sourceBuilder = new SourceBuilder(flowNode, this.workspaceManager, filePath);
         Path connectionPath = workspaceManager.projectRoot(filePath).resolve("connections.bal");
         List<TextEdit> connectionTextEdits =
@@ -891,18 +999,14 @@ public class DataMapManager {
             textEdits[i] = textEdit;
         }
         TextDocument modifiedTextDoc = textDocument.apply(TextDocumentChange.from(textEdits));
-        Document modifiedDoc =
-                project.duplicate().currentPackage().module(document.module().moduleId())
-                        .document(document.documentId()).modify().withContent(String.join(System.lineSeparator(),
-                                modifiedTextDoc.textLines())).apply();
-
         Optional<Property> optVariable = flowNode.getProperty("variable");
         if (optVariable.isEmpty()) {
             throw new IllegalStateException("Variable cannot be found for the connection");
         }
-        SemanticModel newSemanticModel = PackageUtil.getCompilation(modifiedDoc.module().packageInstance())
-                .getSemanticModel(modifiedDoc.module().moduleId());
-        return new SourceModification("", modifiedDoc, newSemanticModel, connectionNode(modifiedDoc,
+        ProjectOverlayPool.Modification modification = ProjectOverlayPool.getInstance()
+                .apply(document, String.join(System.lineSeparator(), modifiedTextDoc.textLines()));
+        Document modifiedDoc = modification.document();
+        return new SourceModification("", modification, connectionNode(modifiedDoc,
                 optVariable.get().toSourceCode()));
     }
 
@@ -920,7 +1024,21 @@ public class DataMapManager {
         return null;
     }
 
-    private record SourceModification(String source, Document document, SemanticModel semanticModel, Node stNode) {
+    private record SourceModification(String source, ProjectOverlayPool.Modification modification, Node stNode)
+            implements AutoCloseable {
+
+        Document document() {
+            return modification.document();
+        }
+
+        SemanticModel semanticModel() {
+            return modification.semanticModel();
+        }
+
+        @Override
+        public void close() {
+            modification.close();
+        }
     }
 
     private String getQuerySource(NonTerminalNode inputExpr, RecordTypeSymbol recordTypeSymbol) {
@@ -952,51 +1070,53 @@ public class DataMapManager {
         List<String> visualizableProperties = new ArrayList<>();
         NodeKind nodeKind = flowNode.codedata().node();
         if (nodeKind == NodeKind.VARIABLE) {
-            SourceModification sourceModification = applyNode(flowNode, project, filePath, position);
-            Node stNode = sourceModification.stNode();
-            if (stNode.kind() != SyntaxKind.LOCAL_VAR_DECL) {
-                throw new IllegalStateException("Node is not a variable declaration");
-            }
-            Optional<Symbol> optVarSymbol = sourceModification.semanticModel().symbol(stNode);
-            if (optVarSymbol.isEmpty()) {
-                throw new IllegalStateException("Symbol cannot be found for the variable declaration");
-            }
-            VariableSymbol variableSymbol = (VariableSymbol) optVarSymbol.get();
-            if (isEffectiveRecordType(variableSymbol.typeDescriptor())) {
-                visualizableProperties.add("expression");
+            try (SourceModification sourceModification = applyNode(flowNode, filePath, position)) {
+                Node stNode = sourceModification.stNode();
+                if (stNode.kind() != SyntaxKind.LOCAL_VAR_DECL) {
+                    throw new IllegalStateException("Node is not a variable declaration");
+                }
+                Optional<Symbol> optVarSymbol = sourceModification.semanticModel().symbol(stNode);
+                if (optVarSymbol.isEmpty()) {
+                    throw new IllegalStateException("Symbol cannot be found for the variable declaration");
+                }
+                VariableSymbol variableSymbol = (VariableSymbol) optVarSymbol.get();
+                if (isEffectiveRecordType(variableSymbol.typeDescriptor())) {
+                    visualizableProperties.add("expression");
+                }
             }
         } else if (nodeKind == NodeKind.NEW_CONNECTION) {
-            SourceModification sourceModification = applyConnection(flowNode, project, filePath);
-            Optional<Property> optVariable = flowNode.getProperty("variable");
-            if (optVariable.isEmpty()) {
-                throw new IllegalStateException("Variable cannot be found for the connection");
-            }
-            List<Symbol> symbols = sourceModification.semanticModel().moduleSymbols();
-            String variableName = optVariable.get().toSourceCode();
-            Optional<Symbol> optVariableSymbol = symbols.parallelStream()
-                    .filter(symbol -> symbol.getName().isPresent() && symbol.getName().get().equals(variableName))
-                    .findAny();
-            if (optVariableSymbol.isEmpty()) {
-                throw new IllegalStateException("Symbol cannot be found for the connection variable");
-            }
-
-            VariableSymbol variableSymbol = (VariableSymbol) optVariableSymbol.get();
-            TypeSymbol typeSymbol = CommonUtils.getRawType(variableSymbol.typeDescriptor());
-            if (typeSymbol.kind() != SymbolKind.CLASS) {
-                throw new IllegalStateException("Connection symbol is not a class symbol");
-            }
-            ClassSymbol classSymbol = (ClassSymbol) typeSymbol;
-            Optional<MethodSymbol> optInitMethodSymbol = classSymbol.initMethod();
-            if (optInitMethodSymbol.isEmpty()) {
-                throw new IllegalStateException("Init method cannot be found for the connection class");
-            }
-            MethodSymbol initMethodSymbol = optInitMethodSymbol.get();
-            Optional<List<ParameterSymbol>> optParams = initMethodSymbol.typeDescriptor().params();
-            if (optParams.isPresent()) {
-                List<ParameterSymbol> params = optParams.get();
-                for (ParameterSymbol param : params) {
-                    if (isEffectiveRecordType(param.typeDescriptor())) {
-                        visualizableProperties.add(param.getName().get());
+            try (SourceModification sourceModification = applyConnection(flowNode, filePath)) {
+                Optional<Property> optVariable = flowNode.getProperty("variable");
+                if (optVariable.isEmpty()) {
+                    throw new IllegalStateException("Variable cannot be found for the connection");
+                }
+                List<Symbol> symbols = sourceModification.semanticModel().moduleSymbols();
+                String variableName = optVariable.get().toSourceCode();
+                Optional<Symbol> optVariableSymbol = symbols.parallelStream()
+                        .filter(symbol -> symbol.getName().isPresent() && symbol.getName().get().equals(variableName))
+                        .findAny();
+                if (optVariableSymbol.isEmpty()) {
+                    throw new IllegalStateException("Symbol cannot be found for the connection variable");
+                }
+
+                VariableSymbol variableSymbol = (VariableSymbol) optVariableSymbol.get();
+                TypeSymbol typeSymbol = CommonUtils.getRawType(variableSymbol.typeDescriptor());
+                if (typeSymbol.kind() != SymbolKind.CLASS) {
+                    throw new IllegalStateException("Connection symbol is not a class symbol");
+                }
+                ClassSymbol classSymbol = (ClassSymbol) typeSymbol;
+                Optional<MethodSymbol> optInitMethodSymbol = classSymbol.initMethod();
+                if (optInitMethodSymbol.isEmpty()) {
+                    throw new IllegalStateException("Init method cannot be found for the connection class");
+                }
+                MethodSymbol initMethodSymbol = optInitMethodSymbol.get();
+                Optional<List<ParameterSymbol>> optParams = initMethodSymbol.typeDescriptor().params();
+                if (optParams.isPresent()) {
+                    List<ParameterSymbol> params = optParams.get();
+                    for (ParameterSymbol param : params) {
+                        if (isEffectiveRecordType(param.typeDescriptor())) {
+                            visualizableProperties.add(param.getName().get());
+                        }
                     }
                 }
             }
@@ -1026,42 +1146,43 @@ public class DataMapManager {
         Property property = optProperty.get();
         String source = property.toSourceCode();
 
-        SourceModification sourceModification = applyNode(flowNode, project, filePath, position);
-        Node stNode = sourceModification.stNode();
-        if (stNode.kind() != SyntaxKind.LOCAL_VAR_DECL) {
-            return "";
-        }
-        Optional<Symbol> symbol = sourceModification.semanticModel().symbol(stNode);
-        if (symbol.isEmpty()) {
-            return "";
-        }
-        TypeSymbol targetType = getTargetType(((VariableSymbol) symbol.get()).typeDescriptor(), targetField);
-        if (targetType == null) {
-            return "";
-        }
-        if (targetType.typeKind() == TypeDescKind.ARRAY) {
-            targetType = ((ArrayTypeSymbol) targetType).memberTypeDescriptor();
-        }
-        String defaultVal = DefaultValueGeneratorUtil.getDefaultValueForType(targetType);
-        if (source.equals("[]")) {
-            return "[" + defaultVal + "]";
-        }
-        VariableDeclarationNode varDeclNode = (VariableDeclarationNode) stNode;
-        if (varDeclNode.initializer().isEmpty()) {
-            return source;
-        }
-        ExpressionNode initializer = varDeclNode.initializer().get();
-        ExpressionNode expr = getArrayExpr(targetField, initializer);
-        if (expr == null || expr.kind() != SyntaxKind.LIST_CONSTRUCTOR) {
-            return source;
-        }
-        ListConstructorExpressionNode listCtrExpr = (ListConstructorExpressionNode) expr;
-        if (!listCtrExpr.expressions().isEmpty()) {
-            defaultVal = ", " + defaultVal;
+        try (SourceModification sourceModification = applyNode(flowNode, filePath, position)) {
+            Node stNode = sourceModification.stNode();
+            if (stNode.kind() != SyntaxKind.LOCAL_VAR_DECL) {
+                return "";
+            }
+            Optional<Symbol> symbol = sourceModification.semanticModel().symbol(stNode);
+            if (symbol.isEmpty()) {
+                return "";
+            }
+            TypeSymbol targetType = getTargetType(((VariableSymbol) symbol.get()).typeDescriptor(), targetField);
+            if (targetType == null) {
+                return "";
+            }
+            if (targetType.typeKind() == TypeDescKind.ARRAY) {
+                targetType = ((ArrayTypeSymbol) targetType).memberTypeDescriptor();
+            }
+            String defaultVal = DefaultValueGeneratorUtil.getDefaultValueForType(targetType);
+            if (source.equals("[]")) {
+                return "[" + defaultVal + "]";
+            }
+            VariableDeclarationNode varDeclNode = (VariableDeclarationNode) stNode;
+            if (varDeclNode.initializer().isEmpty()) {
+                return source;
+            }
+            ExpressionNode initializer = varDeclNode.initializer().get();
+            ExpressionNode expr = getArrayExpr(targetField, initializer);
+            if (expr == null || expr.kind() != SyntaxKind.LIST_CONSTRUCTOR) {
+                return source;
+            }
+            ListConstructorExpressionNode listCtrExpr = (ListConstructorExpressionNode) expr;
+            if (!listCtrExpr.expressions().isEmpty()) {
+                defaultVal = ", " + defaultVal;
+            }
+            int pos = listCtrExpr.closeBracket().position() - initializer.position();
+            source = initializer.toSourceCode();
+            return source.substring(0, pos) + defaultVal + source.substring(pos);
         }
-        int pos = listCtrExpr.closeBracket().position() - initializer.position();
-        source = initializer.toSourceCode();
-        return source.substring(0, pos) + defaultVal + source.substring(pos);
     }
 
     private ExpressionNode getArrayExpr(String targetField, ExpressionNode expr) {
@@ -1147,6 +1268,8 @@ public class DataMapManager {
         String typeName;
         String kind;
         String category;
+        String ref;
+        Boolean expandable;
 
         MappingPort(String id, String variableName, String typeName, String kind) {
             this.id = id;
@@ -1199,4 +1322,155 @@ public class DataMapManager {
             this.member = member;
         }
     }
+
+    /**
+     * Builds the ports of the data mapper model, expanding the record types only up to a given depth. The record
+     * ports beyond the depth, and the recursive references of a record type, are emitted without their fields along
+     * with the signature of the type. The fields of the record types are resolved through the type cache of the
+     * compilation, whereas the rest of the types are converted to the port model as a whole.
+     */
+    private static class PortBuilder {
+
+        private final DataMapperTypeCache typeCache;
+        private final int maxDepth;
+        private final Set<String> expandingTypes;
+
+        PortBuilder(DataMapperTypeCache typeCache, int maxDepth) {
+            this.typeCache = typeCache;
+            this.maxDepth = maxDepth;
+            this.expandingTypes = new HashSet<>();
+        }
+
+        MappingPort build(String id, String name, Symbol symbol) {
+            return build(id, name, symbol, 0);
+        }
+
+        /**
+         * Builds the port with the given ID, which is either the root port or a port nested in its record types.
+         *
+         * @param rootId     the ID of the root port
+         * @param rootSymbol the symbol of the root port
+         * @param portId     the ID of the port to build
+         * @return the port, or null if the ID does not refer to a record field of the root port
+         */
+        MappingPort expand(String rootId, Symbol rootSymbol, String portId) {
+            Symbol symbol = rootSymbol;
+            String name = rootId;
+            if (portId.length() > rootId.length()) {
+                for (String fieldName : portId.substring(rootId.length() + 1).split("\\.")) {
+                    RecordTypeSymbol recordTypeSymbol = getRecordType(getTypeDescriptor(symbol));
+                    if (recordTypeSymbol == null) {
+                        return null;
+                    }
+                    Optional<DataMapperTypeCache.Field> field = getFields(getTypeDescriptor(symbol), recordTypeSymbol)
+                            .stream().filter(f -> f.name().equals(fieldName)).findFirst();
+                    if (field.isEmpty()) {
+                        return null;
+                    }
+                    symbol = field.get().symbol();
+                    name = fieldName;
+                }
+            }
+            return build(portId, name, symbol, null, 0);
+        }
+
+        private MappingPort build(String id, String name, Symbol symbol, int depth) {
+            return build(id, name, symbol, null, depth);
+        }
+
+        // The cached field is given for the record fields, so that the port model of a field is converted only once
+        private MappingPort build(String id, String name, Symbol symbol, DataMapperTypeCache.Field field,
+                                  int depth) {
+            TypeSymbol typeDescriptor = getTypeDescriptor(symbol);
+            if (typeDescriptor != null) {
+                if (isRecord(typeDescriptor)) {
+                    return buildRecordPort(id, name, typeDescriptor, depth);
+                }
+                TypeSymbol rawType = CommonUtils.getRawType(typeDescriptor);
+                if (rawType.typeKind() == TypeDescKind.ARRAY && getRecordType(rawType) != null) {
+                    MappingPort memberPort =
+                            build(id, null, ((ArrayTypeSymbol) rawType).memberTypeDescriptor(), depth);
+                    MappingArrayPort arrayPort = new MappingArrayPort(id, name, memberPort == null ? "record" :
+                            memberPort.typeName + "[]", "array");
+                    arrayPort.setMember(memberPort);
+                    return arrayPort;
+                }
+            }
+            Type type = field != null ? field.type() : Type.fromSemanticSymbol(symbol);
+            return type == null ? null : getMappingPort(id, name, type);
+        }
+
+        private MappingPort buildRecordPort(String id, String name, TypeSymbol typeDescriptor, int depth) {
+            String typeName = typeDescriptor.typeKind() == TypeDescKind.TYPE_REFERENCE ?
+                    typeDescriptor.getName().orElse("record") : "record";
+            MappingRecordPort recordPort = new MappingRecordPort(id, name, typeName, "record");
+            String signature = typeDescriptor.typeKind() == TypeDescKind.TYPE_REFERENCE ?
+                    typeDescriptor.signature() : null;
+            if (depth >= maxDepth || (signature != null && expandingTypes.contains(signature))) {
+                recordPort.fields = null;
+                recordPort.ref = signature;
+                recordPort.expandable = true;
+                return recordPort;
+            }
+
+            if (signature != null) {
+                expandingTypes.add(signature);
+            }
+            for (DataMapperTypeCache.Field field : getFields(typeDescriptor, getRecordType(typeDescriptor))) {
+                recordPort.fields.add(
+                        build(id + "." + field.name(), field.name(), field.symbol(), field, depth + 1));
+            }
+            if (signature != null) {
+                expandingTypes.remove(signature);
+            }
+            return recordPort;
+        }
+
+        private List<DataMapperTypeCache.Field> getFields(TypeSymbol typeDescriptor,
+                                                           RecordTypeSymbol recordTypeSymbol) {
+            String signature = typeDescriptor.typeKind() == TypeDescKind.TYPE_REFERENCE ?
+                    typeDescriptor.signature() : null;
+            return typeCache.fields(signature, recordTypeSymbol);
+        }
+
+        private static boolean isRecord(TypeSymbol typeDescriptor) {
+            return switch (typeDescriptor.typeKind()) {
+                case RECORD -> true;
+                case TYPE_REFERENCE -> CommonUtils.getRawType(typeDescriptor).typeKind() == TypeDescKind.RECORD;
+                default -> false;
+            };
+        }
+
+        // Returns the record type of the given type, or the record type of the members of the given array type
+        private static RecordTypeSymbol getRecordType(TypeSymbol typeDescriptor) {
+            if (typeDescriptor == null) {
+                return null;
+            }
+            if (isRecord(typeDescriptor)) {
+                return (RecordTypeSymbol) CommonUtils.getRawType(typeDescriptor);
+            }
+            TypeSymbol rawType = CommonUtils.getRawType(typeDescriptor);
+            if (rawType.typeKind() == TypeDescKind.ARRAY) {
+                return getRecordType(((ArrayTypeSymbol) rawType).memberTypeDescriptor());
+            }
+            return null;
+        }
+
+        private static TypeSymbol getTypeDescriptor(Symbol symbol) {
+            if (symbol instanceof TypeSymbol typeSymbol) {
+                return typeSymbol;
+            }
+            if (symbol instanceof VariableSymbol variableSymbol) {
+                return variableSymbol.typeDescriptor();
+            }
+            if (symbol instanceof ParameterSymbol parameterSymbol) {
+                return parameterSymbol.typeDescriptor();
+            }
+            if (symbol instanceof RecordFieldSymbol recordFieldSymbol) {
+                return recordFieldSymbol.typeDescriptor();
+            }
+            return null;
+        }
+    }
+
 }
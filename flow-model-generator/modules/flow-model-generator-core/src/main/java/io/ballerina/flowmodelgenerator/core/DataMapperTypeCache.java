@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.RecordFieldSymbol;
+import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
+import org.ballerinalang.diagramutil.connector.models.connector.Type;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Caches the expanded record types of the data mapper ports of a compilation.
+ *
+ * <p>
+ * The fields of a named record type are resolved once per compilation, and are shared by all the ports of that type,
+ * including the ports of the recursive references of the type and the ports expanded on demand by the later requests
+ * on the same compilation. The type of a field is also converted to the port model at most once. The cache of a
+ * compilation is discarded along with its semantic model.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class DataMapperTypeCache {
+
+    private static final Map<SemanticModel, DataMapperTypeCache> CACHES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, List<Field>> recordFields;
+
+    private DataMapperTypeCache() {
+        recordFields = new HashMap<>();
+    }
+
+    /**
+     * Returns the cache of the compilation of the given semantic model.
+     *
+     * @param semanticModel the semantic model of the compilation
+     * @return the type cache
+     */
+    static DataMapperTypeCache of(SemanticModel semanticModel) {
+        return CACHES.computeIfAbsent(semanticModel, key -> new DataMapperTypeCache());
+    }
+
+    /**
+     * Returns the fields of the given record type, in the order of their declaration.
+     *
+     * @param signature        the signature of the named type of the record, or null if the record is anonymous
+     * @param recordTypeSymbol the record type
+     * @return the fields of the record
+     */
+    List<Field> fields(String signature, RecordTypeSymbol recordTypeSymbol) {
+        if (signature == null) {
+            return collectFields(recordTypeSymbol);
+        }
+        synchronized (recordFields) {
+            return recordFields.computeIfAbsent(signature, key -> collectFields(recordTypeSymbol));
+        }
+    }
+
+    private static List<Field> collectFields(RecordTypeSymbol recordTypeSymbol) {
+        List<Field> fields = new ArrayList<>();
+        recordTypeSymbol.fieldDescriptors().forEach((name, symbol) -> fields.add(new Field(name, symbol)));
+        return Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * Represents a field of a record type.
+     */
+    static class Field {
+
+        private final String name;
+        private final RecordFieldSymbol symbol;
+        private volatile Type type;
+
+        Field(String name, RecordFieldSymbol symbol) {
+            this.name = name;
+            this.symbol = symbol;
+        }
+
+        String name() {
+            return name;
+        }
+
+        RecordFieldSymbol symbol() {
+            return symbol;
+        }
+
+        /**
+         * Returns the port model of the field, which is only used for the fields that are not records.
+         *
+         * @return the port model of the field
+         */
+        Type type() {
+            Type fieldType = type;
+            if (fieldType == null) {
+                fieldType = Type.fromSemanticSymbol(symbol);
+                type = fieldType;
+            }
+            return fieldType;
+        }
+    }
+}
@@ -21,32 +21,33 @@ package io.ballerina.flowmodelgenerator.core;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.flowmodelgenerator.core.model.Diagnostics;
 import io.ballerina.tools.diagnostics.Diagnostic;
-import io.ballerina.tools.diagnostics.DiagnosticSeverity;
-import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
-import org.ballerinalang.langserver.common.utils.PositionUtil;
 
-import java.util.Iterator;
+import java.util.BitSet;
 
 /**
- * Handles diagnostics for a given flow model.
+ * Handles diagnostics for a given flow model. The diagnostics overlapping a node are obtained from the
+ * {@link DiagnosticIndex} of the semantic model, and hence the nodes can be handled in any order.
+ *
+ * <p>
+ * A diagnostic spanning a non-leaf node is added to the node, and a diagnostic within a non-leaf node only marks the
+ * node as having diagnostics. A diagnostic is added to the first leaf node it spans or lies within, unless it has
+ * already been added to an enclosing non-leaf node. A diagnostic is consumed once it is added to a leaf node or to a
+ * node of the same range, after which it is not added to any other node.
+ * </p>
  *
  * @since 2.0.0
  */
 public class DiagnosticHandler {
 
-    private final Iterator<Diagnostic> iterator;
-    private Diagnostic currentDiagnostic;
-    private boolean hasNodeAnnotated;
+    private final DiagnosticIndex diagnosticIndex;
+    private final BitSet consumedDiagnostics;
+    private final BitSet annotatedDiagnostics;
 
     public DiagnosticHandler(SemanticModel semanticModel) {
-        // TODO: Consider all the diagnostics once fixed: #256
-        iterator = semanticModel.diagnostics().parallelStream()
-                .filter(diagnostic -> diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR).iterator();
-        hasNodeAnnotated = false;
-        if (iterator.hasNext()) {
-            currentDiagnostic = iterator.next();
-        }
+        this.diagnosticIndex = DiagnosticIndex.of(semanticModel);
+        this.consumedDiagnostics = new BitSet();
+        this.annotatedDiagnostics = new BitSet();
     }
 
     /**
@@ -58,93 +59,50 @@ public class DiagnosticHandler {
      * @param isLeafNode    whether the node is a leaf node
      */
     public void handle(DiagnosticCapable builder, LineRange nodeLineRange, boolean isLeafNode) {
-        if (currentDiagnostic == null) {
-            return;
-        }
-        LinePosition nodeStartLine = nodeLineRange.startLine();
+        long nodeStart = DiagnosticIndex.encode(nodeLineRange.startLine());
+        long nodeEnd = DiagnosticIndex.encode(nodeLineRange.endLine());
 
-        while (currentDiagnostic != null) {
-            // Check if the diagnostic is in the same file as the node
-            if (!nodeLineRange.fileName().equals(currentDiagnostic.location().lineRange().fileName())) {
-                next();
+        for (DiagnosticIndex.Entry entry : diagnosticIndex.query(nodeLineRange)) {
+            int id = entry.id();
+            if (consumedDiagnostics.get(id)) {
                 continue;
             }
-
-            // Checks if the diagnostic has passed the node
-            LineRange diagnosticLineRange = currentDiagnostic.location().lineRange();
-            LinePosition diagnosticEndLine = diagnosticLineRange.endLine();
-            while (hasDiagnosticPassed(nodeStartLine, diagnosticEndLine, isLeafNode)) {
-                if (iterator.hasNext()) {
-                    currentDiagnostic = iterator.next();
-                    hasNodeAnnotated = false;
-                    diagnosticLineRange = currentDiagnostic.location().lineRange();
-                    diagnosticEndLine = diagnosticLineRange.endLine();
-                    continue;
-                }
-                currentDiagnostic = null;
-                return;
-            }
-
-            boolean isNodeWithinDiagnostic = PositionUtil.isWithinLineRange(nodeLineRange, diagnosticLineRange);
-            boolean isDiagnosticWithinNode = PositionUtil.isWithinLineRange(diagnosticLineRange, nodeLineRange);
+            boolean isNodeWithinDiagnostic = entry.contains(nodeStart, nodeEnd);
+            boolean isDiagnosticWithinNode = entry.isWithin(nodeStart, nodeEnd);
 
             // Both node and diagnostic are within the same range
             if (isNodeWithinDiagnostic && isDiagnosticWithinNode) {
-                if (!isLeafNode) {
-                    hasNodeAnnotated = true;
+                addDiagnostic(builder, entry.diagnostic());
+                consumedDiagnostics.set(id);
+                continue;
+            }
+
+            if (isLeafNode) {
+                if (isNodeWithinDiagnostic || isDiagnosticWithinNode) {
+                    if (!annotatedDiagnostics.get(id)) {
+                        addDiagnostic(builder, entry.diagnostic());
+                    }
+                    consumedDiagnostics.set(id);
                 }
-                addDiagnostic(builder);
-                next();
                 continue;
             }
 
             // Node is within the diagnostic range
             if (isNodeWithinDiagnostic) {
-                if (handleLeafNode(builder, isLeafNode)) {
-                    continue;
-                }
-                hasNodeAnnotated = true;
-                addDiagnostic(builder);
-                return;
+                annotatedDiagnostics.set(id);
+                addDiagnostic(builder, entry.diagnostic());
+                continue;
             }
 
             // Diagnostic is within the node range
             if (isDiagnosticWithinNode) {
-                if (handleLeafNode(builder, isLeafNode)) {
-                    continue;
-                }
                 builder.diagnostics().hasDiagnostics();
             }
-            return;
-        }
-    }
-
-    private boolean handleLeafNode(DiagnosticCapable builder, boolean isLeafNode) {
-        if (isLeafNode) {
-            if (!hasNodeAnnotated) {
-                addDiagnostic(builder);
-            }
-            next();
-            return true;
         }
-        return false;
-    }
-
-    private void next() {
-        this.currentDiagnostic = iterator.hasNext() ? iterator.next() : null;
-        hasNodeAnnotated = false;
-    }
-
-    private void addDiagnostic(DiagnosticCapable builder) {
-        builder.diagnostics()
-                .diagnostic(currentDiagnostic.diagnosticInfo().severity(), currentDiagnostic.message());
     }
 
-    private static boolean hasDiagnosticPassed(LinePosition nodeStartLine, LinePosition diagnosticEndLine,
-                                               boolean isLeafNode) {
-        return !isLeafNode && (nodeStartLine.line() > diagnosticEndLine.line() ||
-                (nodeStartLine.line() == diagnosticEndLine.line() &&
-                        nodeStartLine.offset() > diagnosticEndLine.offset()));
+    private static void addDiagnostic(DiagnosticCapable builder, Diagnostic diagnostic) {
+        builder.diagnostics().diagnostic(diagnostic.diagnosticInfo().severity(), diagnostic.message());
     }
 
     /**
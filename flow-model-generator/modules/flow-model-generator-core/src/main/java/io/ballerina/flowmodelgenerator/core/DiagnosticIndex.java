@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * An index of the error diagnostics of a semantic model, grouped by file. The diagnostics of each file are stored in a
+ * static interval tree, which returns the diagnostics overlapping a given line range in O(log n + k) time, regardless
+ * of the order the compiler reports them.
+ *
+ * <p>
+ * The index is built once per semantic model and shared by all the requests on the same compilation.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class DiagnosticIndex {
+
+    private static final Map<SemanticModel, DiagnosticIndex> CACHE =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<String, IntervalTree> trees;
+
+    DiagnosticIndex(List<Diagnostic> diagnostics) {
+        Map<String, List<Entry>> entriesByFile = new HashMap<>();
+        for (int i = 0; i < diagnostics.size(); i++) {
+            Diagnostic diagnostic = diagnostics.get(i);
+            LineRange lineRange = diagnostic.location().lineRange();
+            entriesByFile.computeIfAbsent(lineRange.fileName(), k -> new ArrayList<>())
+                    .add(new Entry(i, encode(lineRange.startLine()), encode(lineRange.endLine()), diagnostic));
+        }
+        this.trees = new HashMap<>();
+        entriesByFile.forEach((fileName, entries) -> trees.put(fileName, new IntervalTree(entries)));
+    }
+
+    /**
+     * Returns the index of the given semantic model, building it if not already cached.
+     *
+     * @param semanticModel the semantic model
+     * @return the diagnostic index
+     */
+    static DiagnosticIndex of(SemanticModel semanticModel) {
+        DiagnosticIndex index = CACHE.get(semanticModel);
+        if (index != null) {
+            return index;
+        }
+        // TODO: Consider all the diagnostics once fixed: #256
+        index = new DiagnosticIndex(semanticModel.diagnostics().stream()
+                .filter(diagnostic -> diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR)
+                .toList());
+        CACHE.put(semanticModel, index);
+        return index;
+    }
+
+    /**
+     * Returns the diagnostics overlapping the given line range, ordered by their start position.
+     *
+     * @param lineRange the line range to query
+     * @return the overlapping diagnostics
+     */
+    List<Entry> query(LineRange lineRange) {
+        IntervalTree tree = trees.get(lineRange.fileName());
+        if (tree == null) {
+            return List.of();
+        }
+        List<Entry> result = new ArrayList<>();
+        tree.query(encode(lineRange.startLine()), encode(lineRange.endLine()), result);
+        return result;
+    }
+
+    static long encode(LinePosition position) {
+        return ((long) position.line() << 32) | (position.offset() & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Represents an indexed diagnostic.
+     *
+     * @param id         the position of the diagnostic in the semantic model
+     * @param start      the encoded start position
+     * @param end        the encoded end position
+     * @param diagnostic the diagnostic
+     */
+    record Entry(int id, long start, long end, Diagnostic diagnostic) {
+
+        boolean contains(long otherStart, long otherEnd) {
+            return start <= otherStart && otherEnd <= end;
+        }
+
+        boolean isWithin(long otherStart, long otherEnd) {
+            return otherStart <= start && end <= otherEnd;
+        }
+    }
+
+    /**
+     * A static interval tree over entries sorted by the start position. The tree is implicit in the sorted array, where
+     * the middle element of each range is the root of the range, and each root keeps the largest end position of its
+     * range to prune the subtrees that cannot overlap the query.
+     */
+    private static class IntervalTree {
+
+        private final Entry[] entries;
+        private final long[] maxEnds;
+
+        IntervalTree(List<Entry> entryList) {
+            entries = entryList.toArray(new Entry[0]);
+            Arrays.sort(entries, Comparator.comparingLong(Entry::start)
+                    .thenComparingLong(Entry::end)
+                    .thenComparingInt(Entry::id));
+            maxEnds = new long[entries.length];
+            build(0, entries.length - 1);
+        }
+
+        private long build(int low, int high) {
+            if (low > high) {
+                return Long.MIN_VALUE;
+            }
+            int mid = (low + high) >>> 1;
+            long maxEnd = Math.max(entries[mid].end(), Math.max(build(low, mid - 1), build(mid + 1, high)));
+            maxEnds[mid] = maxEnd;
+            return maxEnd;
+        }
+
+        void query(long start, long end, List<Entry> result) {
+            query(0, entries.length - 1, start, end, result);
+        }
+
+        // Traverses the tree in order, hence the result is sorted by the start position
+        private void query(int low, int high, long start, long end, List<Entry> result) {
+            if (low > high) {
+                return;
+            }
+            int mid = (low + high) >>> 1;
+            if (maxEnds[mid] < start) {
+                return;
+            }
+            query(low, mid - 1, start, end, result);
+            Entry entry = entries[mid];
+            if (entry.start() > end) {
+                return;
+            }
+            if (entry.end() >= start) {
+                result.add(entry);
+            }
+            query(mid + 1, high, start, end, result);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.flowmodelgenerator.core.model.JsonPayload;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
+import io.ballerina.projects.BallerinaToml;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleDependency;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.toml.semantic.ast.TomlTableNode;
+import io.ballerina.tools.text.LineRange;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Caches the generated flow models across the flow model requests.
+ *
+ * <p>
+ * A flow model is identified by the project, the file and the line range of the canvas, and is bound to the versions of
+ * the documents it was generated from. These are the documents of the module of the file and the modules of the package
+ * it imports, which contribute to its semantic model, the data mappings and functions documents of the project, and the
+ * Ballerina.toml of the package. The project API shares the syntax trees of the unmodified documents across package
+ * instances, and hence an identity comparison of the syntax trees detects whether any of the contributing documents has
+ * changed. The entries are also evicted eagerly when a contributing document is changed, so that the stale models do
+ * not retain the previous compilations.
+ * </p>
+ *
+ * <p>
+ * Concurrent requests for the same flow model share a single generation, provided that they are made against the same
+ * versions of the contributing documents.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class FlowModelCache {
+
+    private static final int MAX_ENTRIES = 64;
+
+    private final Map<Key, Entry> entries;
+    private final ConcurrentHashMap<Key, PendingLoad> pendingLoads;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final AtomicLong evictions;
+
+    private FlowModelCache() {
+        entries = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+        pendingLoads = new ConcurrentHashMap<>();
+        hits = new AtomicLong();
+        misses = new AtomicLong();
+        evictions = new AtomicLong();
+        RequestMetrics.getInstance().registerGauge("flowModelCache", this::metrics);
+    }
+
+    public static FlowModelCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns the cached flow model if it is generated from the current versions of the contributing documents.
+     * Otherwise, generates the flow model and caches it, unless a generation of the same flow model and versions is
+     * already in progress, in which case its result is shared.
+     *
+     * @param key       the key of the flow model
+     * @param version   the current versions of the contributing documents
+     * @param generator the generator of the flow model
+     * @return the flow model
+     */
+    public JsonPayload get(Key key, Version version, Supplier<JsonPayload> generator) {
+        JsonPayload cachedFlowModel = lookup(key, version);
+        if (cachedFlowModel != null) {
+            hits.incrementAndGet();
+            return cachedFlowModel;
+        }
+
+        PendingLoad load = new PendingLoad(version, new CompletableFuture<>());
+        PendingLoad existingLoad = pendingLoads.putIfAbsent(key, load);
+        if (existingLoad != null) {
+            if (existingLoad.version().matches(version)) {
+                hits.incrementAndGet();
+                return join(existingLoad.flowModel());
+            }
+            // The generation in progress is for other versions of the documents, and hence its result is not shared
+            misses.incrementAndGet();
+            return generator.get();
+        }
+
+        try {
+            // Another thread may have completed the generation between the lookup and the registration
+            cachedFlowModel = lookup(key, version);
+            JsonPayload flowModel;
+            if (cachedFlowModel != null) {
+                hits.incrementAndGet();
+                flowModel = cachedFlowModel;
+            } else {
+                misses.incrementAndGet();
+                flowModel = generator.get();
+                synchronized (entries) {
+                    entries.put(key, new Entry(version, flowModel));
+                }
+            }
+            load.flowModel().complete(flowModel);
+            return flowModel;
+        } catch (RuntimeException e) {
+            load.flowModel().completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingLoads.remove(key, load);
+        }
+    }
+
+    /**
+     * Removes the cached flow models the given document contributes to.
+     *
+     * @param projectRoot the root of the project of the document
+     * @param documentId  the ID of the changed document
+     */
+    public void invalidate(Path projectRoot, DocumentId documentId) {
+        synchronized (entries) {
+            remove(entry -> entry.getKey().projectRoot().equals(projectRoot) &&
+                    entry.getValue().version().documentIds().contains(documentId));
+        }
+    }
+
+    /**
+     * Removes the cached flow models of the given project.
+     *
+     * @param projectRoot the root of the project
+     */
+    public void invalidate(Path projectRoot) {
+        synchronized (entries) {
+            remove(entry -> entry.getKey().projectRoot().equals(projectRoot));
+        }
+    }
+
+    /**
+     * Returns a snapshot of the cache metrics.
+     *
+     * @return the cache metrics
+     */
+    public Metrics metrics() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Metrics(hits.get(), misses.get(), evictions.get(), size);
+    }
+
+    private JsonPayload lookup(Key key, Version version) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            return entry != null && entry.version().matches(version) ? entry.flowModel() : null;
+        }
+    }
+
+    private static JsonPayload join(CompletableFuture<JsonPayload> flowModel) {
+        try {
+            return flowModel.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    private void remove(Predicate<Map.Entry<Key, Entry>> predicate) {
+        int size = entries.size();
+        entries.entrySet().removeIf(predicate);
+        evictions.addAndGet(size - entries.size());
+    }
+
+    /**
+     * Represents the key of a flow model.
+     *
+     * @param projectRoot the root of the project
+     * @param filePath    the path of the file of the canvas
+     * @param fileName    the file name of the canvas line range
+     * @param startLine   the start line of the canvas
+     * @param startOffset the start offset of the canvas
+     * @param endLine     the end line of the canvas
+     * @param endOffset   the end offset of the canvas
+     */
+    public record Key(Path projectRoot, Path filePath, String fileName, int startLine, int startOffset, int endLine,
+                      int endOffset) {
+
+        public static Key from(Path projectRoot, Path filePath, LineRange lineRange) {
+            return new Key(projectRoot, filePath, lineRange.fileName(), lineRange.startLine().line(),
+                    lineRange.startLine().offset(), lineRange.endLine().line(), lineRange.endLine().offset());
+        }
+    }
+
+    /**
+     * Represents the versions of the documents contributing to a flow model.
+     *
+     * @param documentIds   the IDs of the contributing documents
+     * @param syntaxTrees   the syntax trees of the contributing documents, in the order of the IDs
+     * @param ballerinaToml the root node of the Ballerina.toml of the package, if any
+     */
+    public record Version(List<DocumentId> documentIds, List<SyntaxTree> syntaxTrees, TomlTableNode ballerinaToml) {
+
+        /**
+         * Captures the versions of the documents of the module of the given document, the modules of the package it
+         * imports, the given dependent documents, and the Ballerina.toml of the package.
+         *
+         * @param document           the document of the canvas
+         * @param dependentDocuments the documents referred by the flow model outside the semantic model, if any
+         * @return the versions of the contributing documents
+         */
+        public static Version of(Document document, Document... dependentDocuments) {
+            Map<DocumentId, SyntaxTree> syntaxTrees = new LinkedHashMap<>();
+            Package currentPackage = document.module().packageInstance();
+            Set<ModuleId> visited = new HashSet<>();
+            Deque<ModuleId> pending = new ArrayDeque<>();
+            pending.push(document.module().moduleId());
+            while (!pending.isEmpty()) {
+                ModuleId moduleId = pending.pop();
+                if (!visited.add(moduleId)) {
+                    continue;
+                }
+                Module module = currentPackage.module(moduleId);
+                for (DocumentId documentId : module.documentIds()) {
+                    syntaxTrees.put(documentId, module.document(documentId).syntaxTree());
+                }
+                // The modules of the same package imported by the module also contribute to its semantic model
+                for (ModuleDependency dependency : module.moduleDependencies()) {
+                    if (currentPackage.moduleIds().contains(dependency.moduleId())) {
+                        pending.push(dependency.moduleId());
+                    }
+                }
+            }
+            for (Document dependentDocument : dependentDocuments) {
+                if (dependentDocument != null) {
+                    syntaxTrees.put(dependentDocument.documentId(), dependentDocument.syntaxTree());
+                }
+            }
+            List<DocumentId> documentIds = new ArrayList<>(syntaxTrees.keySet());
+            return new Version(documentIds, documentIds.stream().map(syntaxTrees::get).toList(),
+                    currentPackage.ballerinaToml().map(BallerinaToml::tomlAstNode).orElse(null));
+        }
+
+        boolean matches(Version other) {
+            if (!documentIds.equals(other.documentIds) || ballerinaToml != other.ballerinaToml) {
+                return false;
+            }
+            for (int i = 0; i < syntaxTrees.size(); i++) {
+                if (syntaxTrees.get(i) != other.syntaxTrees.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Represents the metrics of the cache.
+     *
+     * @param hits      the number of requests served from the cache
+     * @param misses    the number of requests that generated the flow model
+     * @param evictions the number of entries removed due to document changes
+     * @param size      the number of cached flow models
+     */
+    public record Metrics(long hits, long misses, long evictions, int size) {
+    }
+
+    private record Entry(Version version, JsonPayload flowModel) {
+    }
+
+    private record PendingLoad(Version version, CompletableFuture<JsonPayload> flowModel) {
+    }
+
+    private static class Holder {
+
+        private static final FlowModelCache INSTANCE = new FlowModelCache();
+    }
+}
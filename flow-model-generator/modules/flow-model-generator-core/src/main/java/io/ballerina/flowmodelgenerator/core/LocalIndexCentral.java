@@ -26,6 +26,7 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.google.gson.reflect.TypeToken;
 import com.google.gson.stream.JsonReader;
 import io.ballerina.flowmodelgenerator.core.model.AvailableNode;
@@ -41,19 +42,28 @@ import java.io.InputStreamReader;
 import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * An implementation of the Central API using a local index.
  *
+ * <p>
+ * The bundled index is loaded in the background as soon as the instance is created, and is published once fully
+ * loaded. The node templates and the connector actions are only parsed into JSON trees, and the individual entries are
+ * deserialized on demand by their {@link Codedata} key.
+ * </p>
+ *
  * @since 2.0.0
  */
 public class LocalIndexCentral {
 
     private final Gson gson;
-    private Map<String, FlowNode> templateCache;
-    private Map<String, List<Item>> connectionMap;
+    private final CompletableFuture<Snapshot> snapshot;
     private static final String NODE_TEMPLATES_JSON = "node_templates.json";
     private static final String CONNECTORS_JSON = "connectors.json";
     private static final String CONNECTIONS_JSON = "connections.json";
@@ -73,30 +83,27 @@ public class LocalIndexCentral {
                 .registerTypeAdapter(Item.class, new ItemDeserializer())
                 .registerTypeAdapter(Category.class, new CategoryDeserializer())
                 .create();
+        this.snapshot = CompletableFuture.supplyAsync(this::loadSnapshot, runnable -> {
+            Thread thread = new Thread(runnable, "local-index-loader");
+            thread.setDaemon(true);
+            thread.start();
+        });
     }
 
     public FlowNode getNodeTemplate(Codedata codedata) {
-        if (templateCache == null) {
-            initializeTemplateCache();
-        }
-        return templateCache.get(codedata.toString());
+        return snapshot().nodeTemplates().get(codedata.toString());
     }
 
     public List<Item> getConnectors() {
-        Category connectors = readJsonResource(CONNECTORS_JSON, Category.class);
-        return connectors.items();
+        return snapshot().connectors().items();
     }
 
     public List<Item> getFunctions() {
-        Category functions = readJsonResource(FUNCTIONS_JSON, Category.class);
-        return functions.items();
+        return snapshot().functions().items();
     }
 
     public List<Item> getConnectorActions(Codedata codedata) {
-        if (connectionMap == null) {
-            initializeConnectionMap();
-        }
-        return connectionMap.get(codedata.toString());
+        return snapshot().connectionMap().get(codedata.toString());
     }
 
     public List<AvailableNode> getConnectors(Map<String, String> queryMap) {
@@ -132,31 +139,88 @@ public class LocalIndexCentral {
         return availableNodes;
     }
 
-    private void initializeTemplateCache() {
-        templateCache = readJsonResource(NODE_TEMPLATES_JSON, new FlowNodeTypeToken().getType());
+    private Snapshot snapshot() {
+        try {
+            return snapshot.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
     }
 
-    private void initializeConnectionMap() {
-        connectionMap = readJsonResource(CONNECTIONS_JSON, new ConnectionTypeToken().getType());
+    private Snapshot loadSnapshot() {
+        return new Snapshot(
+                new LazyIndex<>(readJsonResource(NODE_TEMPLATES_JSON), FlowNode.class),
+                new LazyIndex<>(readJsonResource(CONNECTIONS_JSON), new ConnectionTypeToken().getType()),
+                readJsonResource(CONNECTORS_JSON, Category.class),
+                readJsonResource(FUNCTIONS_JSON, Category.class));
     }
 
     public  <T> T readJsonResource(String resourcePath, Type type) {
-        InputStream resourceStream = getClass().getClassLoader().getResourceAsStream(resourcePath);
-        if (resourceStream == null) {
-            throw new IllegalArgumentException("Resource not found: " + resourcePath);
-        }
-        try (JsonReader reader = new JsonReader(new InputStreamReader(resourceStream, StandardCharsets.UTF_8))) {
+        try (JsonReader reader = getJsonReader(resourcePath)) {
             return gson.fromJson(reader, type);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
-    private static class FlowNodeTypeToken extends TypeToken<Map<String, FlowNode>> {
+    private JsonObject readJsonResource(String resourcePath) {
+        try (JsonReader reader = getJsonReader(resourcePath)) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
 
+    private JsonReader getJsonReader(String resourcePath) {
+        InputStream resourceStream = getClass().getClassLoader().getResourceAsStream(resourcePath);
+        if (resourceStream == null) {
+            throw new IllegalArgumentException("Resource not found: " + resourcePath);
+        }
+        return new JsonReader(new InputStreamReader(resourceStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Represents the loaded local index.
+     *
+     * @param nodeTemplates the node templates mapped by the codedata
+     * @param connectionMap the connector actions mapped by the codedata of the connector
+     * @param connectors    the available connectors
+     * @param functions     the available functions
+     */
+    private record Snapshot(LazyIndex<FlowNode> nodeTemplates, LazyIndex<List<Item>> connectionMap,
+                            Category connectors, Category functions) {
+    }
+
+    /**
+     * Holds the entries of a JSON object, deserializing each entry when it is first requested.
+     *
+     * @param <T> the type of the entries
+     */
+    private class LazyIndex<T> {
+
+        private final Map<String, JsonElement> entries;
+        private final Type type;
+        private final Map<String, T> resolvedEntries;
+
+        LazyIndex(JsonObject jsonObject, Type type) {
+            this.entries = new HashMap<>(jsonObject.asMap());
+            this.type = type;
+            this.resolvedEntries = new ConcurrentHashMap<>();
+        }
+
+        T get(String key) {
+            JsonElement entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            return resolvedEntries.computeIfAbsent(key, k -> gson.fromJson(entry, type));
+        }
     }
 
-    private static class ConnectionTypeToken extends TypeToken<Map<String, List<Item>>> {
+    private static class ConnectionTypeToken extends TypeToken<List<Item>> {
 
     }
 
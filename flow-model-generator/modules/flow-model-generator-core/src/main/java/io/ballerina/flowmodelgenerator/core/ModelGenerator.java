@@ -18,9 +18,6 @@
 
 package io.ballerina.flowmodelgenerator.core;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.ClassFieldSymbol;
 import io.ballerina.compiler.api.symbols.ClassSymbol;
@@ -46,6 +43,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.flowmodelgenerator.core.model.Diagram;
 import io.ballerina.flowmodelgenerator.core.model.FlowNode;
+import io.ballerina.flowmodelgenerator.core.model.JsonPayload;
 import io.ballerina.flowmodelgenerator.core.model.Property;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.ModuleInfo;
@@ -65,11 +63,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -81,14 +77,13 @@ public class ModelGenerator {
 
     private final SemanticModel semanticModel;
     private final Path filePath;
-    private final Gson gson;
     private final Project project;
+    private ConnectionIndex connectionIndex;
 
     public ModelGenerator(Project project, SemanticModel model, Path filePath) {
         this.semanticModel = model;
         this.filePath = filePath;
         this.project = project;
-        this.gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
     }
 
     /**
@@ -96,7 +91,7 @@ public class ModelGenerator {
      *
      * @return JSON representation of the flow model
      */
-    public JsonElement getFlowModel(Document document, LineRange lineRange, Document dataMappingDoc,
+    public JsonPayload getFlowModel(Document document, LineRange lineRange, Document dataMappingDoc,
                                     Document functionsDoc) {
         // Obtain the code block representing the canvas
         SyntaxTree syntaxTree = document.syntaxTree();
@@ -150,10 +145,10 @@ public class ModelGenerator {
 
         // Generate the flow model
         Diagram diagram = new Diagram(filePath.toString(), codeAnalyzer.getFlowNodes(), moduleConnections);
-        return gson.toJsonTree(diagram);
+        return JsonPayload.of(diagram);
     }
 
-    public JsonElement getModuleNodes() {
+    public JsonPayload getModuleNodes() {
         List<FlowNode> connectionsList = semanticModel.moduleSymbols().stream()
                 .flatMap(symbol -> buildConnection(symbol).stream())
                 .sorted(Comparator.comparing(
@@ -162,10 +157,10 @@ public class ModelGenerator {
                                 .orElse("")))
                 .toList();
         Diagram diagram = new Diagram(filePath.toString(), List.of(), connectionsList);
-        return gson.toJsonTree(diagram);
+        return JsonPayload.of(diagram);
     }
 
-    public JsonElement getServiceFieldNodes(LinePosition pos) {
+    public JsonPayload getServiceFieldNodes(LinePosition pos) {
         for (Symbol symbol : semanticModel.moduleSymbols()) {
             if (symbol.kind() != SymbolKind.SERVICE_DECLARATION) {
                 continue;
@@ -176,10 +171,11 @@ public class ModelGenerator {
                 continue;
             }
             Map<String, ClassFieldSymbol> fieldsMap = serviceDeclarationSymbol.fieldDescriptors();
-            Set<String> classFieldRefs = new HashSet<>();
+            Map<String, TypeSymbol> classFieldRefs = new HashMap<>();
             for (Map.Entry<String, ClassFieldSymbol> field : fieldsMap.entrySet()) {
-                if (isClassOrObject(CommonUtils.getRawType(field.getValue().typeDescriptor()))) {
-                    classFieldRefs.add("self." + field.getKey());
+                TypeSymbol fieldType = field.getValue().typeDescriptor();
+                if (isClassOrObject(CommonUtils.getRawType(fieldType))) {
+                    classFieldRefs.put("self." + field.getKey(), fieldType);
                 }
             }
             Optional<Location> optLocation = serviceDeclarationSymbol.getLocation();
@@ -211,20 +207,24 @@ public class ModelGenerator {
                     if (statement.kind() != SyntaxKind.ASSIGNMENT_STATEMENT) {
                         continue;
                     }
-                    if (!classFieldRefs
-                            .contains(((AssignmentStatementNode) statement).varRef().toSourceCode().trim())) {
+                    TypeSymbol fieldType = classFieldRefs
+                            .get(((AssignmentStatementNode) statement).varRef().toSourceCode().trim());
+                    if (fieldType == null) {
                         continue;
                     }
-                    CodeAnalyzer codeAnalyzer = new CodeAnalyzer(project, semanticModel, Property.SERVICE_SCOPE,
-                            Map.of(), Map.of(), document.textDocument(),
-                            ModuleInfo.from(document.module().descriptor()), false);
-                    statement.accept(codeAnalyzer);
-                    List<FlowNode> nodes = codeAnalyzer.getFlowNodes();
-                    connections.add(nodes.stream().findFirst().orElseThrow());
+                    connections.add(connectionIndex().get(document, statement, Property.SERVICE_SCOPE,
+                            isLocal(fieldType, document), semanticModel, () -> {
+                                CodeAnalyzer codeAnalyzer = new CodeAnalyzer(project, semanticModel,
+                                        Property.SERVICE_SCOPE, Map.of(), Map.of(), document.textDocument(),
+                                        ModuleInfo.from(document.module().descriptor()), false);
+                                statement.accept(codeAnalyzer);
+                                List<FlowNode> nodes = codeAnalyzer.getFlowNodes();
+                                return nodes.stream().findFirst();
+                            }).orElseThrow());
                 }
             }
             Diagram diagram = new Diagram(filePath.toString(), List.of(), connections);
-            return gson.toJsonTree(diagram);
+            return JsonPayload.of(diagram);
         }
         return null;
     }
@@ -276,11 +276,32 @@ public class ModelGenerator {
         if (statementNode == null) {
             return Optional.empty();
         }
-        CodeAnalyzer codeAnalyzer = new CodeAnalyzer(project, semanticModel, scope, Map.of(), Map.of(),
-                document.textDocument(), ModuleInfo.from(document.module().descriptor()), false);
-        statementNode.accept(codeAnalyzer);
-        List<FlowNode> connections = codeAnalyzer.getFlowNodes();
-        return connections.stream().findFirst();
+        return connectionIndex().get(document, statementNode, scope, isLocal(typeSymbol, document), semanticModel,
+                () -> {
+                    CodeAnalyzer codeAnalyzer = new CodeAnalyzer(project, semanticModel, scope, Map.of(), Map.of(),
+                            document.textDocument(), ModuleInfo.from(document.module().descriptor()), false);
+                    statementNode.accept(codeAnalyzer);
+                    List<FlowNode> connections = codeAnalyzer.getFlowNodes();
+                    return connections.stream().findFirst();
+                });
+    }
+
+    private ConnectionIndex connectionIndex() {
+        if (connectionIndex == null) {
+            connectionIndex = ConnectionIndex.of(project);
+        }
+        return connectionIndex;
+    }
+
+    /**
+     * Checks whether the client of the given type is defined in the package of the given document.
+     */
+    private static boolean isLocal(TypeSymbol typeSymbol, Document document) {
+        ModuleInfo moduleInfo = ModuleInfo.from(document.module().descriptor());
+        return typeSymbol.getModule()
+                .map(module -> module.id().orgName().equals(moduleInfo.org()) &&
+                        module.id().packageName().equals(moduleInfo.packageName()))
+                .orElse(true);
     }
 
     private boolean isClassOrObject(TypeSymbol typeSymbol) {
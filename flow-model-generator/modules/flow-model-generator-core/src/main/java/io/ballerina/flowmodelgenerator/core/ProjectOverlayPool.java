@@ -0,0 +1,342 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.modelgenerator.commons.PackageUtil;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocumentChange;
+import io.ballerina.tools.text.TextEdit;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compiles the "what-if" modifications of a document on overlays of the project, so that the requests previewing an
+ * edit neither modify the workspace project nor duplicate it.
+ *
+ * <p>
+ * An overlay is a long-lived copy of a workspace project. A modification is applied to the pristine package of the
+ * overlay, and hence the project API only compiles the modified module and the modules depending on it. The unmodified
+ * modules are shared with the pristine package, and thus their compilation is reused by the later modifications of the
+ * same overlay. The modified package is discarded afterwards, which rolls the overlay back to the pristine package for
+ * the next modification. An overlay is leased to one request at a time until the request closes the modification, and
+ * the pool keeps a few overlays per project to serve the concurrent requests. The overlays are reused as long as the
+ * documents of the workspace project are unchanged, and are replaced otherwise.
+ * </p>
+ *
+ * <p>
+ * An overlay shares the syntax trees of the workspace project and the compilations of the dependencies, but once
+ * modified, it retains its own compilation of the modules of the package, which costs about as much memory as the
+ * compilation of the workspace project. Hence, the pool retains at most {@link #MAX_IDLE_OVERLAYS} idle overlays in
+ * total, of which at most {@link #MAX_OVERLAYS_PER_PROJECT} belong to the same project, evicting the overlays of the
+ * least recently used projects first. The overlays leased to the running requests are not bounded, as they are
+ * released once the requests complete.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class ProjectOverlayPool {
+
+    public static final int MAX_IDLE_OVERLAYS = 8;
+    public static final int MAX_OVERLAYS_PER_PROJECT = 4;
+
+    // The idle overlays of each project, ordered from the least recently used project
+    private final Map<Path, Deque<Overlay>> overlays;
+
+    private final AtomicInteger leasedOverlays = new AtomicInteger();
+    private final LongAdder createdOverlays = new LongAdder();
+    private final LongAdder reusedOverlays = new LongAdder();
+    private final LongAdder evictedOverlays = new LongAdder();
+
+    private ProjectOverlayPool() {
+        overlays = new LinkedHashMap<>(MAX_IDLE_OVERLAYS, 0.75f, true);
+        RequestMetrics.getInstance().registerGauge("projectOverlayPool", this::metrics);
+    }
+
+    public static ProjectOverlayPool getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Applies the given text edits to the document on an overlay of its project, and compiles the overlay.
+     *
+     * @param document  the document in the workspace
+     * @param textEdits the text edits to apply
+     * @return the modified document and the semantic model of its module, which must be closed once used
+     */
+    public Modification apply(Document document, List<TextEdit> textEdits) {
+        TextDocument textDocument = document.textDocument()
+                .apply(TextDocumentChange.from(textEdits.toArray(new TextEdit[0])));
+        return apply(document, String.join(System.lineSeparator(), textDocument.textLines()));
+    }
+
+    /**
+     * Replaces the content of the document on an overlay of its project, and compiles the overlay.
+     *
+     * @param document the document in the workspace
+     * @param content  the new content of the document
+     * @return the modified document and the semantic model of its module, which must be closed once used
+     */
+    public Modification apply(Document document, String content) {
+        Package sourcePackage = document.module().packageInstance();
+        Overlay overlay = acquire(sourcePackage);
+        try {
+            Document modifiedDocument = overlay.apply(document.documentId(), content);
+            Module module = modifiedDocument.module();
+            SemanticModel semanticModel =
+                    PackageUtil.getCompilation(module.packageInstance()).getSemanticModel(module.moduleId());
+            return new Modification(modifiedDocument, semanticModel, () -> release(overlay));
+        } catch (RuntimeException e) {
+            release(overlay);
+            throw e;
+        }
+    }
+
+    /**
+     * Removes the overlays of the given project.
+     *
+     * @param sourceRoot the source root of the project
+     */
+    public void invalidate(Path sourceRoot) {
+        synchronized (overlays) {
+            Deque<Overlay> idleOverlays = overlays.remove(sourceRoot);
+            if (idleOverlays != null) {
+                evictedOverlays.add(idleOverlays.size());
+            }
+        }
+    }
+
+    /**
+     * Returns a snapshot of the pool metrics.
+     *
+     * @return the current pool metrics
+     */
+    public PoolMetrics metrics() {
+        int projects;
+        int idleOverlays;
+        synchronized (overlays) {
+            projects = overlays.size();
+            idleOverlays = overlays.values().stream().mapToInt(Deque::size).sum();
+        }
+        return new PoolMetrics(projects, idleOverlays, leasedOverlays.get(), createdOverlays.sum(),
+                reusedOverlays.sum(), evictedOverlays.sum());
+    }
+
+    private Overlay acquire(Package sourcePackage) {
+        Path sourceRoot = sourcePackage.project().sourceRoot();
+        while (true) {
+            Overlay overlay;
+            synchronized (overlays) {
+                Deque<Overlay> idleOverlays = overlays.get(sourceRoot);
+                overlay = idleOverlays == null ? null : idleOverlays.poll();
+                if (idleOverlays != null && idleOverlays.isEmpty()) {
+                    overlays.remove(sourceRoot);
+                }
+            }
+            if (overlay == null) {
+                overlay = Overlay.from(sourcePackage);
+                createdOverlays.increment();
+                leasedOverlays.incrementAndGet();
+                return overlay;
+            }
+            // Validate outside the lock, as it walks the documents of the package. The stale overlays are dropped.
+            if (overlay.isValidFor(sourcePackage)) {
+                reusedOverlays.increment();
+                leasedOverlays.incrementAndGet();
+                return overlay;
+            }
+            evictedOverlays.increment();
+        }
+    }
+
+    private void release(Overlay overlay) {
+        leasedOverlays.decrementAndGet();
+        synchronized (overlays) {
+            Deque<Overlay> idleOverlays = overlays.computeIfAbsent(overlay.sourceRoot(), k -> new ArrayDeque<>());
+            // Keep the most recent overlays, which are derived from the latest version of the project
+            idleOverlays.push(overlay);
+            while (idleOverlays.size() > MAX_OVERLAYS_PER_PROJECT) {
+                idleOverlays.removeLast();
+                evictedOverlays.increment();
+            }
+
+            // Evict the overlays of the least recently used projects, and then the oldest overlays of this project
+            int totalOverlays = overlays.values().stream().mapToInt(Deque::size).sum();
+            Iterator<Deque<Overlay>> iterator = overlays.values().iterator();
+            while (totalOverlays > MAX_IDLE_OVERLAYS && iterator.hasNext()) {
+                Deque<Overlay> eldestOverlays = iterator.next();
+                while (totalOverlays > MAX_IDLE_OVERLAYS && !eldestOverlays.isEmpty()) {
+                    eldestOverlays.removeLast();
+                    evictedOverlays.increment();
+                    totalOverlays--;
+                }
+                if (eldestOverlays.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Represents a document modified on an overlay. The overlay is leased to the holder of the modification until it is
+     * closed, as the project of the modified document is rolled back by the next modification of the overlay.
+     */
+    public static class Modification implements AutoCloseable {
+
+        private final Document document;
+        private final SemanticModel semanticModel;
+        private final Runnable releaser;
+        private final AtomicBoolean closed;
+
+        private Modification(Document document, SemanticModel semanticModel, Runnable releaser) {
+            this.document = document;
+            this.semanticModel = semanticModel;
+            this.releaser = releaser;
+            this.closed = new AtomicBoolean(false);
+        }
+
+        /**
+         * Returns the modified document.
+         *
+         * @return the modified document
+         */
+        public Document document() {
+            return document;
+        }
+
+        /**
+         * Returns the semantic model of the module of the modified document.
+         *
+         * @return the semantic model
+         */
+        public SemanticModel semanticModel() {
+            return semanticModel;
+        }
+
+        @Override
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                releaser.run();
+            }
+        }
+    }
+
+    /**
+     * Represents a snapshot of the overlay pool metrics.
+     *
+     * @param projects        number of projects with idle overlays
+     * @param idleOverlays    number of overlays retained for the later modifications
+     * @param leasedOverlays  number of overlays leased to the running requests
+     * @param createdOverlays number of overlays created
+     * @param reusedOverlays  number of modifications served by an existing overlay
+     * @param evictedOverlays number of overlays dropped as stale or to bound the pool
+     * @since 2.0.0
+     */
+    public record PoolMetrics(int projects, int idleOverlays, int leasedOverlays, long createdOverlays,
+                              long reusedOverlays, long evictedOverlays) {
+
+    }
+
+    /**
+     * Represents a copy of a workspace project, along with the state of the package it was derived from.
+     */
+    private static class Overlay {
+
+        private final Path sourceRoot;
+        private final Package pristinePackage;
+        private final Map<DocumentId, SyntaxTree> sourceSyntaxTrees;
+
+        private Overlay(Path sourceRoot, Package pristinePackage, Map<DocumentId, SyntaxTree> sourceSyntaxTrees) {
+            this.sourceRoot = sourceRoot;
+            this.pristinePackage = pristinePackage;
+            this.sourceSyntaxTrees = sourceSyntaxTrees;
+        }
+
+        static Overlay from(Package sourcePackage) {
+            // The pristine package is not compiled upfront, as an edit in the workspace invalidates the overlay anyway.
+            // The first modification compiles the unmodified modules, which the later modifications reuse.
+            Project overlayProject = sourcePackage.project().duplicate();
+            Package pristinePackage = overlayProject.currentPackage();
+            return new Overlay(sourcePackage.project().sourceRoot(), pristinePackage,
+                    collectSyntaxTrees(sourcePackage));
+        }
+
+        Path sourceRoot() {
+            return sourceRoot;
+        }
+
+        // Checks whether the package is unchanged since the overlay was created. The syntax trees of the unmodified
+        // documents are shared across package instances, and hence an identity comparison is sufficient for most of
+        // the documents. The content is compared otherwise, as a document can be reverted to its original content.
+        boolean isValidFor(Package sourcePackage) {
+            Map<DocumentId, SyntaxTree> syntaxTrees = collectSyntaxTrees(sourcePackage);
+            if (syntaxTrees.size() != sourceSyntaxTrees.size()) {
+                return false;
+            }
+            for (Map.Entry<DocumentId, SyntaxTree> entry : syntaxTrees.entrySet()) {
+                SyntaxTree sourceSyntaxTree = sourceSyntaxTrees.get(entry.getKey());
+                if (sourceSyntaxTree == null) {
+                    return false;
+                }
+                if (sourceSyntaxTree != entry.getValue() && !sourceSyntaxTree.textDocument().toString()
+                        .equals(entry.getValue().textDocument().toString())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Document apply(DocumentId documentId, String content) {
+            Document pristineDocument = pristinePackage.module(documentId.moduleId()).document(documentId);
+            return pristineDocument.modify().withContent(content).apply();
+        }
+
+        private static Map<DocumentId, SyntaxTree> collectSyntaxTrees(Package pkg) {
+            Map<DocumentId, SyntaxTree> syntaxTrees = new HashMap<>();
+            for (Module module : pkg.modules()) {
+                for (DocumentId documentId : module.documentIds()) {
+                    syntaxTrees.put(documentId, module.document(documentId).syntaxTree());
+                }
+            }
+            return syntaxTrees;
+        }
+    }
+
+    private static class Holder {
+
+        private static final ProjectOverlayPool INSTANCE = new ProjectOverlayPool();
+    }
+}
@@ -19,9 +19,9 @@
 package io.ballerina.flowmodelgenerator.core;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import io.ballerina.flowmodelgenerator.core.model.FlowNode;
+import io.ballerina.flowmodelgenerator.core.model.JsonPayload;
 import io.ballerina.flowmodelgenerator.core.model.NodeBuilder;
 import io.ballerina.flowmodelgenerator.core.model.SourceBuilder;
 import org.ballerinalang.langserver.LSClientLogger;
@@ -41,17 +41,13 @@ import java.util.Map;
  */
 public class SourceGenerator {
 
-    private final Gson gson;
+    private static final Gson gson = JsonPayload.gson();
     private final WorkspaceManager workspaceManager;
     private Path filePath;
 
     public SourceGenerator(WorkspaceManager workspaceManager, Path filePath) {
         this.workspaceManager = workspaceManager;
         this.filePath = filePath;
-        gson = new GsonBuilder()
-                .setPrettyPrinting()
-                .disableHtmlEscaping()
-                .create();
     }
 
     /**
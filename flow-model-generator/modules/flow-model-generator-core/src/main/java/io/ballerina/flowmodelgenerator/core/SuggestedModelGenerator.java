@@ -20,10 +20,10 @@
 package io.ballerina.flowmodelgenerator.core;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.flowmodelgenerator.core.model.JsonPayload;
 import io.ballerina.flowmodelgenerator.core.model.NodeKind;
 import io.ballerina.projects.Document;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
@@ -38,7 +38,7 @@ public class SuggestedModelGenerator {
     private final List<LineRange> errorLocations;
     private boolean foundError;
     private int errorIndex;
-    private final Gson gson;
+    private static final Gson gson = JsonPayload.gson();
     private final LineRange newLineRange;
     private boolean hasSuggestedNodes;
 
@@ -47,7 +47,6 @@ public class SuggestedModelGenerator {
         this.errorIndex = 0;
         this.hasSuggestedNodes = false;
         this.newLineRange = newLineRange;
-        this.gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
         this.errorLocations = new ArrayList<>();
         document.syntaxTree().diagnostics()
                 .forEach(diagnostic -> errorLocations.add(diagnostic.location().lineRange()));
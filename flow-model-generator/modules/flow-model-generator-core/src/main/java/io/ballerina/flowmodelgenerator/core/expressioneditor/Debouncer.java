@@ -19,20 +19,35 @@
 package io.ballerina.flowmodelgenerator.core.expressioneditor;
 
 import io.ballerina.flowmodelgenerator.core.expressioneditor.services.DebouncedExpressionEditorRequest;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
 
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Debouncing ensures that a task is only executed after a specified delay has passed since its last invocation,
  * cancelling any pending executions in between. This class follows the Singleton pattern, ensuring only one instance
  * exists across the application.
  *
+ * <p>
+ * Tasks are debounced per document and per expression editor API. Once the delay elapses, the task is handed over to a
+ * bounded worker pool. Tasks of the same project are executed in the order they were scheduled, since a task modifies
+ * its document in the shared project, and the compilation of a sibling document would otherwise observe the
+ * modification. Tasks of different projects are executed concurrently. A superseded task is cancelled cooperatively,
+ * so that a running task stops at its next cancellation check.
+ * </p>
+ *
  * @since 2.0.0
  */
 public class Debouncer {
@@ -40,56 +55,128 @@ public class Debouncer {
     // Time unit for the delay
     private static final TimeUnit TIME_UNIT = TimeUnit.MILLISECONDS;
 
-    // Map to hold scheduled tasks
+    private static final int MAX_WORKERS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 60;
+
+    // Map to hold scheduled tasks, keyed by the document and the expression editor API
     private final ConcurrentHashMap<String, ScheduledTaskHolder<?>> delayedMap;
 
-    // Single-thread scheduler to debounce tasks.
+    // Map to hold the last task dispatched for each project, which the next task of the project is chained to
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> projectQueues;
+
+    // Single-thread scheduler that only tracks the delays of the tasks
     private final ScheduledExecutorService scheduler;
 
+    // Worker pool that executes the tasks once their delay has elapsed
+    private final ThreadPoolExecutor workers;
+
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+    private final AtomicInteger activeTasks = new AtomicInteger();
+    private final LongAdder completedTasks = new LongAdder();
+    private final LongAdder cancelledTasks = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
     private Debouncer() {
-        scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("expression-editor-debouncer"));
+        workers = new ThreadPoolExecutor(MAX_WORKERS, MAX_WORKERS, WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), daemonThreadFactory("expression-editor-worker"));
+        workers.allowCoreThreadTimeOut(true);
         delayedMap = new ConcurrentHashMap<>();
+        projectQueues = new ConcurrentHashMap<>();
+        RequestMetrics.getInstance().registerGauge("expressionEditorDebouncer", this::metrics);
     }
 
     /**
      * Debounce the given DebouncedExpressionEditorApi request by scheduling it to execute after the provided delay.
-     * Any previously scheduled task with the same key is cancelled.
+     * Any previously scheduled task with the same key on the same document is cancelled.
      */
     public <T> CompletableFuture<T> debounce(DebouncedExpressionEditorRequest<T> request) {
         long delay = request.getDelay();
-        String key = request.getKey();
+        String projectKey = request.getProjectKey();
+        String key = request.getDocumentKey() + "#" + request.getKey();
         CompletableFuture<T> promise = new CompletableFuture<>();
 
-        // Schedule the task to run after the specified delay.
-        Future<?> scheduledFuture = scheduler.schedule(() -> {
-            try {
-                T result = request.call();
-                promise.complete(result);
-            } catch (Exception ex) {
-                promise.completeExceptionally(ex);
-            } finally {
-                if (promise.isCompletedExceptionally()) {
-                    request.revertDocument();
-                }
-                delayedMap.remove(key);
-            }
-        }, delay, TIME_UNIT);
+        // Schedule the task to be dispatched to the worker pool after the specified delay.
+        Future<?> scheduledFuture = scheduler.schedule(() -> dispatch(projectKey, key, request, promise),
+                delay, TIME_UNIT);
 
         // Replace any existing scheduled task with the new one.
         @SuppressWarnings("unchecked")
         ScheduledTaskHolder<T> prev = (ScheduledTaskHolder<T>) delayedMap.put(key,
-                new ScheduledTaskHolder<>(promise, scheduledFuture));
+                new ScheduledTaskHolder<>(request, promise, scheduledFuture));
         if (prev != null) {
-            prev.future().cancel(true);
+            prev.request().cancel();
+            prev.future().cancel(false);
             prev.promise().completeExceptionally(new CancellationException("Debounced by a new request"));
         }
         return promise;
     }
 
+    private <T> void dispatch(String projectKey, String key, DebouncedExpressionEditorRequest<T> request,
+                              CompletableFuture<T> promise) {
+        long readyAt = System.nanoTime();
+        queuedTasks.incrementAndGet();
+        CompletableFuture<Void> task = projectQueues.compute(projectKey, (k, previous) ->
+                (previous == null ? CompletableFuture.<Void>completedFuture(null) : previous)
+                        .handleAsync((result, throwable) -> {
+                            execute(key, request, promise, readyAt);
+                            return null;
+                        }, workers));
+        task.whenComplete((result, throwable) -> projectQueues.remove(projectKey, task));
+    }
+
+    private <T> void execute(String key, DebouncedExpressionEditorRequest<T> request, CompletableFuture<T> promise,
+                             long readyAt) {
+        queuedTasks.decrementAndGet();
+        long waitNanos = System.nanoTime() - readyAt;
+        totalWaitNanos.add(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+
+        activeTasks.incrementAndGet();
+        try {
+            T result = request.call();
+            promise.complete(result);
+        } catch (CancellationException ex) {
+            cancelledTasks.increment();
+            promise.completeExceptionally(ex);
+        } catch (Exception ex) {
+            promise.completeExceptionally(ex);
+        } finally {
+            if (promise.isCompletedExceptionally()) {
+                request.revertDocument();
+            }
+            delayedMap.computeIfPresent(key, (k, holder) -> holder.promise() == promise ? null : holder);
+            activeTasks.decrementAndGet();
+            completedTasks.increment();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the debouncer metrics.
+     *
+     * @return the current debouncer metrics
+     */
+    public DebouncerMetrics metrics() {
+        long completed = completedTasks.sum();
+        long averageWaitMillis = completed == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum() / completed);
+        return new DebouncerMetrics(delayedMap.size(), queuedTasks.get(), activeTasks.get(), MAX_WORKERS, completed,
+                cancelledTasks.sum(), averageWaitMillis, TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+    }
+
     public static Debouncer getInstance() {
         return Holder.INSTANCE;
     }
 
+    private static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
     private static class Holder {
 
         private static final Debouncer INSTANCE = new Debouncer();
@@ -99,9 +186,30 @@ public class Debouncer {
      * Holder for scheduled task information.
      *
      * @param <T>     the type of result promised by the CompletableFuture.
+     * @param request the request to be executed, which is cancelled when superseded.
      * @param promise the CompletableFuture that will eventually complete with the result of the scheduled task.
      * @param future  the Future representing the scheduled task, allowing for control over task execution.
      */
-    private record ScheduledTaskHolder<T>(CompletableFuture<T> promise, Future<?> future) {
+    private record ScheduledTaskHolder<T>(DebouncedExpressionEditorRequest<T> request, CompletableFuture<T> promise,
+                                          Future<?> future) {
+    }
+
+    /**
+     * Represents a snapshot of the debouncer metrics.
+     *
+     * @param pendingTasks      number of tasks that are scheduled or running, excluding the superseded ones
+     * @param queuedTasks       number of tasks whose delay has elapsed, waiting for a worker or a preceding task
+     * @param activeTasks       number of tasks being executed
+     * @param maxWorkers        maximum number of tasks executed concurrently
+     * @param completedTasks    number of tasks executed, including the failed and cancelled ones
+     * @param cancelledTasks    number of tasks stopped after being superseded
+     * @param averageWaitMillis average time between the delay elapsing and the task starting
+     * @param maxWaitMillis     maximum time between the delay elapsing and the task starting
+     * @since 2.0.0
+     */
+    public record DebouncerMetrics(int pendingTasks, int queuedTasks, int activeTasks, int maxWorkers,
+                                   long completedTasks, long cancelledTasks, long averageWaitMillis,
+                                   long maxWaitMillis) {
+
     }
 }
@@ -122,6 +122,25 @@ public class DocumentContext {
         return fileUri;
     }
 
+    /**
+     * Returns a key identifying the requested document, without loading the project.
+     *
+     * @return the input URI if provided, otherwise the input file path
+     */
+    public String documentKey() {
+        return inputFileUri != null ? inputFileUri : inputFilePath.toString();
+    }
+
+    /**
+     * Returns a key identifying the project of the requested document. Falls back to the document key if the project
+     * cannot be loaded.
+     *
+     * @return the source root of the project if loaded, otherwise the document key
+     */
+    public String projectKey() {
+        return project().map(loadedProject -> loadedProject.sourceRoot().toString()).orElseGet(this::documentKey);
+    }
+
     public Document document() {
         if (document == null) {
             initialize();
@@ -19,8 +19,10 @@
 package io.ballerina.flowmodelgenerator.core.expressioneditor;
 
 import com.google.gson.JsonObject;
+import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.flowmodelgenerator.core.ProjectOverlayPool;
 import io.ballerina.flowmodelgenerator.core.model.NodeKind;
 import io.ballerina.flowmodelgenerator.core.model.SourceBuilder;
 import io.ballerina.modelgenerator.commons.CommonUtils;
@@ -155,6 +157,23 @@ public class ExpressionEditorContext {
      * @return the line range of the generated statement.
      */
     public LineRange generateStatement() {
+        applyTextEdits(getStatementTextEdits());
+        return statementLineRange;
+    }
+
+    /**
+     * Generates the same statement as {@link #generateStatement()}, and compiles it on an overlay of the project
+     * without modifying the document in the workspace.
+     *
+     * @return the line range of the generated statement and the overlay compilation, which must be closed once used
+     */
+    public StatementCompilation compileStatement() {
+        List<TextEdit> textEdits = getStatementTextEdits();
+        return new StatementCompilation(statementLineRange,
+                ProjectOverlayPool.getInstance().apply(documentContext.document(), textEdits));
+    }
+
+    private List<TextEdit> getStatementTextEdits() {
         String prefix = "any|error __reserved__ = ";
         List<TextEdit> textEdits = new ArrayList<>();
         int lineOffset = 0;
@@ -197,14 +216,13 @@ public class ExpressionEditorContext {
         String statement = String.format("%s%s;%n", prefix, info.expression());
         this.expressionOffset = prefix.length();
         textEdits.add(TextEdit.from(TextRange.from(textPosition, 0), statement));
-        applyTextEdits(textEdits);
 
-        // Return the line range of the generated statement
+        // Capture the line range of the generated statement
         LinePosition startLine = LinePosition.from(cursorStartLine.line() + lineOffset, cursorStartLine.offset());
         LinePosition endLineRange =
                 LinePosition.from(startLine.line() + numberOfLines, startLine.offset() + statement.length());
         this.statementLineRange = LineRange.from(getFileName(documentContext.filePath()), startLine, endLineRange);
-        return statementLineRange;
+        return textEdits;
     }
 
     public LineRange getExpressionLineRange() {
@@ -405,6 +423,25 @@ public class ExpressionEditorContext {
         }
     }
 
+    /**
+     * Represents the result of compiling the generated statement on an overlay of the project.
+     *
+     * @param lineRange    The line range of the generated statement
+     * @param modification The modification of the document on the overlay
+     */
+    public record StatementCompilation(LineRange lineRange, ProjectOverlayPool.Modification modification)
+            implements AutoCloseable {
+
+        public SemanticModel semanticModel() {
+            return modification.semanticModel();
+        }
+
+        @Override
+        public void close() {
+            modification.close();
+        }
+    }
+
     /**
      * Represents the json format of the expression editor context.
      *
@@ -56,6 +56,7 @@ public class CompletionRequest extends DebouncedExpressionEditorRequest<Either<L
     @Override
     public Either<List<CompletionItem>, CompletionList> getResponse(ExpressionEditorContext context) {
         context.generateStatement();
+        checkCancelled();
         Position position = context.getCursorPosition();
         TextDocumentIdentifier identifier = new TextDocumentIdentifier(context.fileUri());
         CompletionParams params = new CompletionParams(identifier, position, completionContext);
@@ -22,6 +22,7 @@ import io.ballerina.flowmodelgenerator.core.expressioneditor.ExpressionEditorCon
 import io.ballerina.tools.text.TextDocument;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 
 /**
  * Abstract base class representing a debounced expression editor request. This class provides a template for handling
@@ -37,6 +38,7 @@ public abstract class DebouncedExpressionEditorRequest<T> implements Callable<T>
     private final ExpressionEditorContext context;
     private TextDocument prevDoc;
     private boolean reverted;
+    private volatile boolean cancelled;
 
     public DebouncedExpressionEditorRequest(ExpressionEditorContext context) {
         this.context = context;
@@ -67,8 +69,52 @@ public abstract class DebouncedExpressionEditorRequest<T> implements Callable<T>
      */
     public abstract long getDelay();
 
+    /**
+     * Returns the key of the document targeted by the request. Requests on the same document and the same expression
+     * editor API debounce each other.
+     *
+     * @return A string identifier for the document
+     */
+    public String getDocumentKey() {
+        return context.documentContext().documentKey();
+    }
+
+    /**
+     * Returns the key of the project of the document targeted by the request. Requests on the same project are executed
+     * in order, since a request modifies the shared state of the project, whereas requests on different projects may be
+     * executed concurrently.
+     *
+     * @return A string identifier for the project
+     */
+    public String getProjectKey() {
+        return context.documentContext().projectKey();
+    }
+
+    /**
+     * Marks the request as superseded. A request that is already running stops at the next cancellation check.
+     */
+    public final void cancel() {
+        this.cancelled = true;
+    }
+
+    public final boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Throws a {@link CancellationException} if the request has been superseded. Expression editor APIs should invoke
+     * this between expensive stages, such as before compiling the modified document.
+     */
+    protected final void checkCancelled() {
+        if (cancelled) {
+            throw new CancellationException("Debounced by a new request");
+        }
+    }
+
     @Override
     public T call() throws Exception {
+        checkCancelled();
+
         // Capture the first state of the document
         prevDoc = context.textDocument();
 
@@ -81,7 +127,8 @@ public abstract class DebouncedExpressionEditorRequest<T> implements Callable<T>
     }
 
     public final void revertDocument() {
-        if (!reverted && prevDoc != null) {
+        // Skip reverting when the request did not modify the document, as it would trigger a redundant compilation
+        if (!reverted && prevDoc != null && context.textDocument() != prevDoc) {
             context.applyContent(prevDoc);
             this.reverted = true;
         }
@@ -91,6 +91,7 @@ public abstract class DiagnosticsRequest extends DebouncedExpressionEditorReques
         }
 
         // Check for semantic errors
+        checkCancelled();
         return new Diagnostics(getSemanticDiagnostics(context));
     }
 
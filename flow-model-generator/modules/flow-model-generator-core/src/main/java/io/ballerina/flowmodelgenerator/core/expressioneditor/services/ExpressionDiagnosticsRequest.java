@@ -18,16 +18,13 @@
 
 package io.ballerina.flowmodelgenerator.core.expressioneditor.services;
 
-import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.ExpressionEditorContext;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
-import io.ballerina.tools.text.LineRange;
 import org.eclipse.lsp4j.Diagnostic;
 
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -50,12 +47,11 @@ public class ExpressionDiagnosticsRequest extends DiagnosticsRequest {
 
     @Override
     protected Set<Diagnostic> getSemanticDiagnostics(ExpressionEditorContext context) {
-        LineRange lineRange = context.generateStatement();
-        Optional<SemanticModel> semanticModel =
-                context.workspaceManager().semanticModel(context.filePath());
-        return semanticModel.map(model -> model.diagnostics(lineRange).stream()
-                .filter(diagnostic -> diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR)
-                .map(CommonUtils::transformBallerinaDiagnostic)
-                .collect(Collectors.toSet())).orElseGet(Set::of);
+        try (ExpressionEditorContext.StatementCompilation compilation = context.compileStatement()) {
+            return compilation.semanticModel().diagnostics(compilation.lineRange()).stream()
+                    .filter(diagnostic -> diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR)
+                    .map(CommonUtils::transformBallerinaDiagnostic)
+                    .collect(Collectors.toSet());
+        }
     }
 }
@@ -18,7 +18,6 @@
 
 package io.ballerina.flowmodelgenerator.core.expressioneditor.services;
 
-import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.BracedExpressionNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.FieldAccessExpressionNode;
@@ -28,11 +27,9 @@ import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.flowmodelgenerator.core.expressioneditor.ExpressionEditorContext;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
-import io.ballerina.tools.text.LineRange;
 import org.ballerinalang.util.diagnostic.DiagnosticErrorCode;
 import org.eclipse.lsp4j.Diagnostic;
 
-import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -103,13 +100,12 @@ public class LvExpressionDiagnosticRequest extends DiagnosticsRequest {
 
     @Override
     protected Set<Diagnostic> getSemanticDiagnostics(ExpressionEditorContext context) {
-        LineRange lineRange = context.generateStatement();
-        Optional<SemanticModel> semanticModel =
-                context.workspaceManager().semanticModel(context.filePath());
-        return semanticModel.map(model -> model.diagnostics(lineRange).stream()
-                .filter(diagnostic -> diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR
-                        && !UNDERSCORE_NOT_ALLOWED_CODE.diagnosticId().equals(diagnostic.diagnosticInfo().code()))
-                .map(CommonUtils::transformBallerinaDiagnostic)
-                .collect(Collectors.toSet())).orElseGet(Set::of);
+        try (ExpressionEditorContext.StatementCompilation compilation = context.compileStatement()) {
+            return compilation.semanticModel().diagnostics(compilation.lineRange()).stream()
+                    .filter(diagnostic -> diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR
+                            && !UNDERSCORE_NOT_ALLOWED_CODE.diagnosticId().equals(diagnostic.diagnosticInfo().code()))
+                    .map(CommonUtils::transformBallerinaDiagnostic)
+                    .collect(Collectors.toSet());
+        }
     }
 }
@@ -50,6 +50,7 @@ public class SignatureHelpRequest extends DebouncedExpressionEditorRequest<Signa
     @Override
     public SignatureHelp getResponse(ExpressionEditorContext context) {
         context.generateStatement();
+        checkCancelled();
         Position position = context.getCursorPosition();
         TextDocumentIdentifier identifier = new TextDocumentIdentifier(context.fileUri());
         SignatureHelpParams params = new SignatureHelpParams(identifier, position, signatureHelpContext);
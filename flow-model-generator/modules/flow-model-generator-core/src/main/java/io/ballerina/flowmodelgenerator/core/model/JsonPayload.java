@@ -0,0 +1,114 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core.model;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Represents a model to be sent in a response, which is serialized directly into the response stream.
+ *
+ * <p>
+ * The language server serializes the response once more after the model is converted to a {@link JsonElement}, and
+ * hence building the intermediate tree doubles the allocations for large models such as the flow model. Instead, the
+ * payload holds the model itself, and its type adapter writes the model into the writer of the response using the
+ * shared compact {@link Gson} instance. The type adapters of the shared instance are created once and reused by all the
+ * generators.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+@JsonAdapter(JsonPayload.PayloadAdapter.class)
+public final class JsonPayload {
+
+    private static final Gson GSON = createGson();
+
+    private final Object value;
+    private final Type type;
+
+    private JsonPayload(Object value, Type type) {
+        this.value = value;
+        this.type = type;
+    }
+
+    /**
+     * Creates a payload for the given model.
+     *
+     * @param value the model to serialize
+     * @return the payload of the model
+     */
+    public static JsonPayload of(Object value) {
+        return new JsonPayload(value, value == null ? Object.class : value.getClass());
+    }
+
+    /**
+     * Returns the shared compact {@link Gson} instance used to serialize the models.
+     *
+     * @return the shared instance
+     */
+    public static Gson gson() {
+        return GSON;
+    }
+
+    /**
+     * Converts the model to a JSON tree, for the callers that need to modify the serialized model.
+     *
+     * @return the JSON tree of the model
+     */
+    public JsonElement toJsonTree() {
+        return GSON.toJsonTree(value, type);
+    }
+
+    private static Gson createGson() {
+        Gson gson = new GsonBuilder().disableHtmlEscaping().create();
+        // Create the adapters of the large models upfront, so that the first request does not pay for the reflection
+        gson.getAdapter(Diagram.class);
+        gson.getAdapter(FlowNode.class);
+        return gson;
+    }
+
+    /**
+     * Writes the model of the payload directly into the writer of the response.
+     */
+    public static class PayloadAdapter extends TypeAdapter<JsonPayload> {
+
+        @Override
+        public void write(JsonWriter out, JsonPayload payload) throws IOException {
+            if (payload == null || payload.value == null) {
+                out.nullValue();
+                return;
+            }
+            GSON.toJson(payload.value, payload.type, out);
+        }
+
+        @Override
+        public JsonPayload read(JsonReader in) {
+            return JsonPayload.of(JsonParser.parseReader(in));
+        }
+    }
+}
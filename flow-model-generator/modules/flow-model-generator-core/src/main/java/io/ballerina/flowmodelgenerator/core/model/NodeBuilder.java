@@ -69,6 +69,7 @@ import io.ballerina.flowmodelgenerator.core.model.node.WhileBuilder;
 import io.ballerina.flowmodelgenerator.core.model.node.XmlPayloadBuilder;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.ModuleInfo;
+import io.ballerina.modelgenerator.commons.ModuleResolver;
 import io.ballerina.projects.Document;
 import io.ballerina.tools.text.LinePosition;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
@@ -298,5 +299,17 @@ public abstract class NodeBuilder implements DiagnosticHandler.DiagnosticCapable
                 return new HashSet<>();
             }
         }
+
+        /**
+         * Returns a resolver seeded with the imports of the document, so that the missing imports are pulled in the
+         * same batch as the module of the node.
+         *
+         * @return the module resolver
+         */
+        public ModuleResolver moduleResolver() {
+            ModuleResolver moduleResolver = new ModuleResolver(lsClientLogger);
+            workspaceManager.document(filePath).ifPresent(moduleResolver::addImports);
+            return moduleResolver;
+        }
     }
 }
@@ -34,6 +34,7 @@ import io.ballerina.flowmodelgenerator.core.utils.FileSystemUtils;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.DefaultValueGeneratorUtil;
 import io.ballerina.modelgenerator.commons.ModuleInfo;
+import io.ballerina.modelgenerator.commons.ModuleResolver;
 import io.ballerina.modelgenerator.commons.PackageUtil;
 import io.ballerina.modelgenerator.commons.ParameterData;
 import io.ballerina.projects.Document;
@@ -277,13 +278,13 @@ public class SourceBuilder {
         // Obtain the symbols of the imports
         Map<String, BLangPackage> packageMap = new HashMap<>();
         if (imports != null) {
-            imports.values().forEach(moduleId -> {
-                ModuleInfo moduleInfo = ModuleInfo.from(moduleId);
-                PackageUtil.pullModuleAndNotify(lsClientLogger, moduleInfo).ifPresent(pkg ->
-                        packageMap.put(CommonUtils.getDefaultModulePrefix(pkg.packageName().value()),
-                                PackageUtil.getCompilation(pkg).defaultModuleBLangPackage())
-                );
-            });
+            // Resolve the imported modules together, so that the missing modules are pulled in a single batch
+            ModuleResolver moduleResolver = new ModuleResolver(lsClientLogger);
+            imports.values().forEach(moduleId -> moduleResolver.add(ModuleInfo.from(moduleId)));
+            moduleResolver.resolve().values().forEach(modulePackage -> modulePackage.ifPresent(pkg ->
+                    packageMap.put(CommonUtils.getDefaultModulePrefix(pkg.packageName().value()),
+                            PackageUtil.getCompilation(pkg).defaultModuleBLangPackage())
+            ));
         }
 
         SemanticModel semanticModel = FileSystemUtils.getSemanticModel(workspaceManager, filePath);
@@ -66,7 +66,7 @@ public abstract class CallBuilder extends NodeBuilder {
         FunctionDataBuilder functionDataBuilder = new FunctionDataBuilder()
                 .name(codedata.symbol())
                 .moduleInfo(new ModuleInfo(codedata.org(), codedata.module(), codedata.module(), codedata.version()))
-                .lsClientLogger(context.lsClientLogger())
+                .moduleResolver(context.moduleResolver())
                 .functionResultKind(getFunctionResultKind())
                 .userModuleInfo(moduleInfo);
 
@@ -85,7 +85,7 @@ public class NPFunctionDefinitionBuilder extends FunctionDefinitionBuilder {
                 .parentSymbolType(codedata.object())
                 .name(CALL_LLM_FUNCTION)
                 .moduleInfo(new ModuleInfo(NaturalFunctions.BALLERINA_ORG, NP_PACKAGE, NP_PACKAGE, null))
-                .lsClientLogger(context.lsClientLogger())
+                .moduleResolver(context.moduleResolver())
                 .functionResultKind(FunctionData.Kind.FUNCTION)
                 .userModuleInfo(moduleInfo);
 
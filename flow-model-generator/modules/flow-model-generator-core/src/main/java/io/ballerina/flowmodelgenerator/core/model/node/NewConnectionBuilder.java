@@ -129,7 +129,7 @@ public class NewConnectionBuilder extends CallBuilder {
                 .name(codedata.symbol())
                 .moduleInfo(
                         new ModuleInfo(codedata.org(), codedata.module(), codedata.module(), codedata.version()))
-                .lsClientLogger(context.lsClientLogger())
+                .moduleResolver(context.moduleResolver())
                 .functionResultKind(FunctionData.Kind.CONNECTOR)
                 .userModuleInfo(moduleInfo);
 
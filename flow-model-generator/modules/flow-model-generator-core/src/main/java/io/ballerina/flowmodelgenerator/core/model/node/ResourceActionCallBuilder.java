@@ -67,7 +67,7 @@ public class ResourceActionCallBuilder extends CallBuilder {
         FunctionDataBuilder functionDataBuilder = new FunctionDataBuilder()
                 .name(codedata.symbol())
                 .moduleInfo(new ModuleInfo(codedata.org(), codedata.module(), codedata.module(), codedata.version()))
-                .lsClientLogger(context.lsClientLogger())
+                .moduleResolver(context.moduleResolver())
                 .parentSymbolType(codedata.object())
                 .resourcePath(codedata.resourcePath())
                 .project(PackageUtil.loadProject(context.workspaceManager(), context.filePath()))
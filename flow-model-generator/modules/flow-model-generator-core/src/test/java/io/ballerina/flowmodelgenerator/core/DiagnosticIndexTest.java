@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.core;
+
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticFactory;
+import io.ballerina.tools.diagnostics.DiagnosticInfo;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextRange;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test the queries of the diagnostic index against the line ranges of the flow nodes.
+ *
+ * @since 2.0.0
+ */
+public class DiagnosticIndexTest {
+
+    private static final String FILE_NAME = "main.bal";
+    private static final DiagnosticInfo DIAGNOSTIC_INFO =
+            new DiagnosticInfo("BCE0000", "error", DiagnosticSeverity.ERROR);
+    private static final int RANDOM_DIAGNOSTICS = 200;
+    private static final int RANDOM_QUERIES = 500;
+
+    @Test(description = "Overlapping and nested diagnostics are returned in the order of their start positions")
+    public void testOverlappingAndNestedRanges() {
+        List<Diagnostic> diagnostics = List.of(
+                diagnostic(2, 0, 8, 1),
+                diagnostic(3, 4, 3, 20),
+                diagnostic(3, 10, 5, 2),
+                diagnostic(10, 0, 12, 1));
+        DiagnosticIndex index = new DiagnosticIndex(diagnostics);
+
+        // A diagnostic nested within another one is returned along with the enclosing diagnostic
+        Assert.assertEquals(ids(index.query(range(3, 5, 3, 6))), List.of(0, 1));
+
+        // The diagnostics touching the boundaries of the query are considered overlapping
+        Assert.assertEquals(ids(index.query(range(3, 20, 8, 1))), List.of(0, 1, 2));
+        Assert.assertEquals(ids(index.query(range(8, 2, 9, 0))), List.of());
+        Assert.assertEquals(ids(index.query(range(8, 1, 10, 0))), List.of(0, 3));
+    }
+
+    @Test(description = "A node spanning several diagnostics contains all of them")
+    public void testNodeSpanningDiagnostics() {
+        DiagnosticIndex index = new DiagnosticIndex(List.of(
+                diagnostic(4, 4, 4, 12),
+                diagnostic(5, 8, 5, 16),
+                diagnostic(6, 0, 9, 1)));
+        LineRange nodeRange = range(3, 0, 7, 1);
+        long nodeStart = DiagnosticIndex.encode(nodeRange.startLine());
+        long nodeEnd = DiagnosticIndex.encode(nodeRange.endLine());
+
+        List<DiagnosticIndex.Entry> entries = index.query(nodeRange);
+        Assert.assertEquals(ids(entries), List.of(0, 1, 2));
+        Assert.assertTrue(entries.get(0).isWithin(nodeStart, nodeEnd));
+        Assert.assertTrue(entries.get(1).isWithin(nodeStart, nodeEnd));
+
+        // The last diagnostic only overlaps the node
+        Assert.assertFalse(entries.get(2).isWithin(nodeStart, nodeEnd));
+        Assert.assertFalse(entries.get(2).contains(nodeStart, nodeEnd));
+    }
+
+    @Test(description = "Zero-length diagnostics and queries are matched at their positions")
+    public void testZeroLengthRanges() {
+        DiagnosticIndex index = new DiagnosticIndex(List.of(
+                diagnostic(5, 10, 5, 10),
+                diagnostic(5, 4, 5, 12)));
+
+        Assert.assertEquals(ids(index.query(range(5, 10, 5, 10))), List.of(1, 0));
+        Assert.assertEquals(ids(index.query(range(5, 0, 5, 10))), List.of(1, 0));
+        Assert.assertEquals(ids(index.query(range(5, 11, 5, 11))), List.of(1));
+        Assert.assertEquals(ids(index.query(range(5, 13, 5, 13))), List.of());
+
+        // A zero-length diagnostic is both within and containing the node at the same position
+        DiagnosticIndex.Entry entry = index.query(range(5, 10, 5, 10)).get(1);
+        long position = DiagnosticIndex.encode(LinePosition.from(5, 10));
+        Assert.assertTrue(entry.contains(position, position));
+        Assert.assertTrue(entry.isWithin(position, position));
+    }
+
+    @Test(description = "The diagnostics of other files are not returned")
+    public void testOtherFiles() {
+        DiagnosticIndex index = new DiagnosticIndex(List.of(
+                diagnostic(1, 0, 3, 0),
+                diagnostic(LineRange.from("types.bal", LinePosition.from(1, 0), LinePosition.from(3, 0)))));
+
+        Assert.assertEquals(ids(index.query(range(2, 0, 2, 1))), List.of(0));
+        Assert.assertEquals(ids(index.query(LineRange.from("types.bal", LinePosition.from(2, 0),
+                LinePosition.from(2, 1)))), List.of(1));
+        Assert.assertEquals(ids(index.query(LineRange.from("functions.bal", LinePosition.from(2, 0),
+                LinePosition.from(2, 1)))), List.of());
+    }
+
+    @Test(description = "The queries over diagnostics reported in any order match a linear scan")
+    public void testUnsortedRanges() {
+        Random random = new Random(42);
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        for (int i = 0; i < RANDOM_DIAGNOSTICS; i++) {
+            diagnostics.add(diagnostic(randomRange(random)));
+        }
+        DiagnosticIndex index = new DiagnosticIndex(diagnostics);
+
+        for (int i = 0; i < RANDOM_QUERIES; i++) {
+            LineRange query = randomRange(random);
+            long start = DiagnosticIndex.encode(query.startLine());
+            long end = DiagnosticIndex.encode(query.endLine());
+            List<DiagnosticIndex.Entry> expected = new ArrayList<>();
+            for (int id = 0; id < diagnostics.size(); id++) {
+                LineRange lineRange = diagnostics.get(id).location().lineRange();
+                DiagnosticIndex.Entry entry = new DiagnosticIndex.Entry(id,
+                        DiagnosticIndex.encode(lineRange.startLine()), DiagnosticIndex.encode(lineRange.endLine()),
+                        diagnostics.get(id));
+                if (entry.start() <= end && entry.end() >= start) {
+                    expected.add(entry);
+                }
+            }
+            expected.sort(Comparator.comparingLong(DiagnosticIndex.Entry::start)
+                    .thenComparingLong(DiagnosticIndex.Entry::end)
+                    .thenComparingInt(DiagnosticIndex.Entry::id));
+            Assert.assertEquals(ids(index.query(query)), ids(expected), "Failed query: " + query);
+        }
+    }
+
+    private static LineRange randomRange(Random random) {
+        int startLine = random.nextInt(100);
+        int startOffset = random.nextInt(40);
+        int endLine = startLine + random.nextInt(3);
+        int endOffset = endLine == startLine ? startOffset + random.nextInt(20) : random.nextInt(40);
+        return range(startLine, startOffset, endLine, endOffset);
+    }
+
+    private static LineRange range(int startLine, int startOffset, int endLine, int endOffset) {
+        return LineRange.from(FILE_NAME, LinePosition.from(startLine, startOffset),
+                LinePosition.from(endLine, endOffset));
+    }
+
+    private static Diagnostic diagnostic(int startLine, int startOffset, int endLine, int endOffset) {
+        return diagnostic(range(startLine, startOffset, endLine, endOffset));
+    }
+
+    private static Diagnostic diagnostic(LineRange lineRange) {
+        return DiagnosticFactory.createDiagnostic(DIAGNOSTIC_INFO, new TestLocation(lineRange));
+    }
+
+    private static List<Integer> ids(List<DiagnosticIndex.Entry> entries) {
+        return entries.stream().map(DiagnosticIndex.Entry::id).toList();
+    }
+
+    private record TestLocation(LineRange lineRange) implements Location {
+
+        @Override
+        public TextRange textRange() {
+            return TextRange.from(0, 0);
+        }
+    }
+}
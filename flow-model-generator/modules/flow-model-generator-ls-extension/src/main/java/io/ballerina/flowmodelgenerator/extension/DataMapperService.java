@@ -21,16 +21,19 @@ package io.ballerina.flowmodelgenerator.extension;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.flowmodelgenerator.core.DataMapManager;
 import io.ballerina.flowmodelgenerator.extension.request.DataMapperAddElementRequest;
+import io.ballerina.flowmodelgenerator.extension.request.DataMapperExpandPortRequest;
 import io.ballerina.flowmodelgenerator.extension.request.DataMapperModelRequest;
 import io.ballerina.flowmodelgenerator.extension.request.DataMapperQueryConvertRequest;
 import io.ballerina.flowmodelgenerator.extension.request.DataMapperSourceRequest;
 import io.ballerina.flowmodelgenerator.extension.request.DataMapperTypesRequest;
 import io.ballerina.flowmodelgenerator.extension.request.DataMapperVisualizeRequest;
 import io.ballerina.flowmodelgenerator.extension.response.DataMapperAddElementResponse;
+import io.ballerina.flowmodelgenerator.extension.response.DataMapperExpandPortResponse;
 import io.ballerina.flowmodelgenerator.extension.response.DataMapperModelResponse;
 import io.ballerina.flowmodelgenerator.extension.response.DataMapperSourceResponse;
 import io.ballerina.flowmodelgenerator.extension.response.DataMapperTypesResponse;
 import io.ballerina.flowmodelgenerator.extension.response.DataMapperVisualizeResponse;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
@@ -62,7 +65,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperTypesResponse> types(DataMapperTypesRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("dataMapper/types", () -> {
             DataMapperTypesResponse response = new DataMapperTypesResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -85,7 +88,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperModelResponse> mappings(DataMapperModelRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("dataMapper/mappings", () -> {
             DataMapperModelResponse response = new DataMapperModelResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -96,8 +99,32 @@ public class DataMapperService implements ExtendedLanguageServerService {
                 }
 
                 DataMapManager dataMapManager = new DataMapManager(this.workspaceManager, document.get());
+                int depth = request.depth() == null ? Integer.MAX_VALUE : request.depth();
                 response.setMappingsModel(dataMapManager.getMappings(request.flowNode(), request.position(),
-                        request.propertyKey(), Path.of(request.filePath()), request.targetField(), project));
+                        request.propertyKey(), Path.of(request.filePath()), request.targetField(), project, depth));
+            } catch (Throwable e) {
+                response.setError(e);
+            }
+            return response;
+        });
+    }
+
+    @JsonRequest
+    public CompletableFuture<DataMapperExpandPortResponse> expandPort(DataMapperExpandPortRequest request) {
+        return RequestMetrics.supplyAsync("dataMapper/expandPort", () -> {
+            DataMapperExpandPortResponse response = new DataMapperExpandPortResponse();
+            try {
+                Path filePath = Path.of(request.filePath());
+                this.workspaceManager.loadProject(filePath);
+                Optional<Document> document = this.workspaceManager.document(filePath);
+                if (document.isEmpty()) {
+                    return response;
+                }
+
+                DataMapManager dataMapManager = new DataMapManager(this.workspaceManager, document.get());
+                int depth = request.depth() == null ? Integer.MAX_VALUE : request.depth();
+                response.setPort(dataMapManager.expandPort(request.flowNode(), request.position(),
+                        request.propertyKey(), filePath, request.targetField(), request.portId(), depth));
             } catch (Throwable e) {
                 response.setError(e);
             }
@@ -107,7 +134,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperSourceResponse> getSource(DataMapperSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("dataMapper/getSource", () -> {
             DataMapperSourceResponse response = new DataMapperSourceResponse();
             try {
                 DataMapManager dataMapManager = new DataMapManager(null, null);
@@ -122,7 +149,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperSourceResponse> convertToQuery(DataMapperQueryConvertRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("dataMapper/convertToQuery", () -> {
             DataMapperSourceResponse response = new DataMapperSourceResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -144,7 +171,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperVisualizeResponse> visualizable(DataMapperVisualizeRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("dataMapper/visualizable", () -> {
             DataMapperVisualizeResponse response = new DataMapperVisualizeResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -165,7 +192,7 @@ public class DataMapperService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<DataMapperAddElementResponse> addElement(DataMapperAddElementRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("dataMapper/addElement", () -> {
             DataMapperAddElementResponse response = new DataMapperAddElementResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -42,6 +42,7 @@ import io.ballerina.flowmodelgenerator.extension.response.VisibleVariableTypesRe
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.ModuleInfo;
 import io.ballerina.modelgenerator.commons.PackageUtil;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
 import io.ballerina.projects.CompilationOptions;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Module;
@@ -92,7 +93,7 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<VisibleVariableTypesResponse> visibleVariableTypes(VisibleVariableTypeRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("expressionEditor/visibleVariableTypes", () -> {
             VisibleVariableTypesResponse response = new VisibleVariableTypesResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -117,7 +118,7 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<Either<List<CompletionItem>, CompletionList>> types(ExpressionEditorTypesRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("expressionEditor/types", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 DocumentContext documentContext = new DocumentContext(workspaceManagerProxy, filePath);
@@ -132,47 +133,50 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
     @JsonRequest
     public CompletableFuture<SignatureHelp> signatureHelp(ExpressionEditorSignatureRequest request) {
         String fileUri = CommonUtils.getExprUri(request.filePath());
-        return Debouncer.getInstance().debounce(new SignatureHelpRequest(
-                new ExpressionEditorContext(
-                        workspaceManagerProxy,
-                        fileUri,
-                        request.context(),
-                        Path.of(request.filePath())
-                ),
-                request.signatureHelpContext(),
-                langServer.getTextDocumentService()));
+        return RequestMetrics.track("expressionEditor/signatureHelp", () -> Debouncer.getInstance().debounce(
+                new SignatureHelpRequest(
+                        new ExpressionEditorContext(
+                                workspaceManagerProxy,
+                                fileUri,
+                                request.context(),
+                                Path.of(request.filePath())
+                        ),
+                        request.signatureHelpContext(),
+                        langServer.getTextDocumentService())));
     }
 
     @JsonRequest
     public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(
             ExpressionEditorCompletionRequest request) {
         String fileUri = CommonUtils.getExprUri(request.filePath());
-        return Debouncer.getInstance().debounce(new CompletionRequest(
-                new ExpressionEditorContext(
-                        workspaceManagerProxy,
-                        fileUri,
-                        request.context(),
-                        Path.of(request.filePath())
-                ),
-                request.completionContext(),
-                langServer.getTextDocumentService()));
+        return RequestMetrics.track("expressionEditor/completion", () -> Debouncer.getInstance().debounce(
+                new CompletionRequest(
+                        new ExpressionEditorContext(
+                                workspaceManagerProxy,
+                                fileUri,
+                                request.context(),
+                                Path.of(request.filePath())
+                        ),
+                        request.completionContext(),
+                        langServer.getTextDocumentService())));
     }
 
     @JsonRequest
     public CompletableFuture<DiagnosticsRequest.Diagnostics> diagnostics(ExpressionEditorDiagnosticsRequest request) {
         String fileUri = CommonUtils.getExprUri(request.filePath());
-        return Debouncer.getInstance().debounce(DiagnosticsRequest.from(
-                new ExpressionEditorContext(
-                        workspaceManagerProxy,
-                        fileUri,
-                        request.context(),
-                        Path.of(request.filePath())
-                )));
+        return RequestMetrics.track("expressionEditor/diagnostics", () -> Debouncer.getInstance().debounce(
+                DiagnosticsRequest.from(
+                        new ExpressionEditorContext(
+                                workspaceManagerProxy,
+                                fileUri,
+                                request.context(),
+                                Path.of(request.filePath())
+                        ))));
     }
 
     @JsonRequest
     public CompletableFuture<FunctionCallTemplateResponse> functionCallTemplate(FunctionCallTemplateRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("expressionEditor/functionCallTemplate", () -> {
             FunctionCallTemplateResponse response = new FunctionCallTemplateResponse();
             try {
                 Codedata codedata = request.codedata();
@@ -211,7 +215,7 @@ public class ExpressionEditorService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<ImportModuleResponse> importModule(ImportModuleRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("expressionEditor/importModule", () -> {
             ImportModuleResponse response = new ImportModuleResponse();
             try {
                 String importStatement = request.importStatement()
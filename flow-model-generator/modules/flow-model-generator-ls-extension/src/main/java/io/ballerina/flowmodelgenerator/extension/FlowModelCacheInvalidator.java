@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import io.ballerina.flowmodelgenerator.core.ConnectionIndex;
+import io.ballerina.flowmodelgenerator.core.FlowModelCache;
+import io.ballerina.flowmodelgenerator.core.ProjectOverlayPool;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Project;
+import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.DocumentServiceContext;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.client.ExtendedLanguageClient;
+import org.ballerinalang.langserver.commons.eventsync.EventKind;
+import org.ballerinalang.langserver.commons.eventsync.spi.EventSubscriber;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Evicts the cached flow models a changed document contributes to. When a file other than a document is changed, the
+ * indexed connections and the overlays of the project are also evicted, as their documents do not reflect the change.
+ *
+ * @since 2.0.0
+ */
+@JavaSPIService("org.ballerinalang.langserver.commons.eventsync.spi.EventSubscriber")
+public class FlowModelCacheInvalidator implements EventSubscriber {
+
+    public static final String NAME = "Flow model cache invalidator";
+    private static final String EXPR_URI = "expr";
+
+    @Override
+    public EventKind eventKind() {
+        return EventKind.PROJECT_UPDATE;
+    }
+
+    @Override
+    public void onEvent(ExtendedLanguageClient client, DocumentServiceContext context,
+                        LanguageServerContext serverContext) {
+        // The cloned projects of the expression editor are not cached
+        if (context.fileUri().startsWith(EXPR_URI)) {
+            return;
+        }
+
+        Path filePath = context.filePath();
+        Path projectRoot = context.workspace().projectRoot(filePath);
+        Optional<Project> project = context.workspace().project(filePath);
+        if (project.isEmpty()) {
+            FlowModelCache.getInstance().invalidate(projectRoot);
+            return;
+        }
+
+        // Changes to the files other than the documents, such as the Ballerina.toml, affect the entire package
+        DocumentId documentId;
+        try {
+            documentId = project.get().documentId(filePath);
+        } catch (RuntimeException e) {
+            FlowModelCache.getInstance().invalidate(projectRoot);
+            ConnectionIndex.invalidate(project.get());
+            ProjectOverlayPool.getInstance().invalidate(project.get().sourceRoot());
+            return;
+        }
+        FlowModelCache.getInstance().invalidate(projectRoot, documentId);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
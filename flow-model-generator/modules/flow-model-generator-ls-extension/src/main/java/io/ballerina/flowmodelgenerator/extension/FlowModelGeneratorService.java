@@ -28,13 +28,17 @@ import io.ballerina.flowmodelgenerator.core.CopilotContextGenerator;
 import io.ballerina.flowmodelgenerator.core.DeleteNodeHandler;
 import io.ballerina.flowmodelgenerator.core.EnclosedNodeFinder;
 import io.ballerina.flowmodelgenerator.core.ErrorHandlerGenerator;
+import io.ballerina.flowmodelgenerator.core.FlowModelCache;
+import io.ballerina.flowmodelgenerator.core.LocalIndexCentral;
 import io.ballerina.flowmodelgenerator.core.ModelGenerator;
 import io.ballerina.flowmodelgenerator.core.NodeTemplateGenerator;
 import io.ballerina.flowmodelgenerator.core.OpenApiServiceGenerator;
+import io.ballerina.flowmodelgenerator.core.ProjectOverlayPool;
 import io.ballerina.flowmodelgenerator.core.SourceGenerator;
 import io.ballerina.flowmodelgenerator.core.SuggestedComponentService;
 import io.ballerina.flowmodelgenerator.core.SuggestedModelGenerator;
 import io.ballerina.flowmodelgenerator.core.analyzers.function.ModuleNodeAnalyzer;
+import io.ballerina.flowmodelgenerator.core.model.JsonPayload;
 import io.ballerina.flowmodelgenerator.core.search.SearchCommand;
 import io.ballerina.flowmodelgenerator.core.utils.FileSystemUtils;
 import io.ballerina.flowmodelgenerator.extension.request.ComponentDeleteRequest;
@@ -63,10 +67,8 @@ import io.ballerina.flowmodelgenerator.extension.response.FlowNodeDeleteResponse
 import io.ballerina.flowmodelgenerator.extension.response.FunctionDefinitionResponse;
 import io.ballerina.flowmodelgenerator.extension.response.OpenApiServiceGenerationResponse;
 import io.ballerina.modelgenerator.commons.ModuleInfo;
-import io.ballerina.modelgenerator.commons.PackageUtil;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
 import io.ballerina.projects.Document;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Module;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.tools.text.LinePosition;
@@ -107,6 +109,8 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                      LanguageServerContext serverContext) {
         this.workspaceManager = workspaceManager;
         this.lsClientLogger = LSClientLogger.getInstance(serverContext);
+        // Start loading the local index in the background, so that it is ready by the first request
+        LocalIndexCentral.getInstance();
     }
 
     @Override
@@ -117,7 +121,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelGeneratorResponse> getFlowModel(FlowModelGeneratorRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("flowDesignService/getFlowModel", () -> {
             FlowModelGeneratorResponse response = new FlowModelGeneratorResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -134,12 +138,16 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
                 Optional<Document> dataMappingsDoc = getDocumentFromFile(projectPath, "data_mappings.bal");
                 Optional<Document> functionsDoc = getDocumentFromFile(projectPath, "functions.bal");
 
-                // Generate the flow design model
-                ModelGenerator modelGenerator = new ModelGenerator(project, semanticModel.get(), filePath);
-                response.setFlowDesignModel(
-                        modelGenerator.getFlowModel(document.get(), request.lineRange(),
-                                dataMappingsDoc.orElse(null),
-                                functionsDoc.orElse(null)));
+                // Generate the flow design model, unless the contributing documents are unchanged since the last call
+                FlowModelCache.Key key = FlowModelCache.Key.from(projectPath, filePath, request.lineRange());
+                FlowModelCache.Version version = FlowModelCache.Version.of(document.get(),
+                        dataMappingsDoc.orElse(null), functionsDoc.orElse(null));
+                response.setFlowDesignModel(FlowModelCache.getInstance().get(key, version, () -> {
+                    ModelGenerator modelGenerator = new ModelGenerator(project, semanticModel.get(), filePath);
+                    return modelGenerator.getFlowModel(document.get(), request.lineRange(),
+                            dataMappingsDoc.orElse(null),
+                            functionsDoc.orElse(null));
+                }));
             } catch (Throwable e) {
                 response.setError(e);
             }
@@ -151,7 +159,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     public CompletableFuture<FlowModelGeneratorResponse> getSuggestedFlowModel(
             FlowModelSuggestedGenerationRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("flowDesignService/getSuggestedFlowModel", () -> {
             FlowModelGeneratorResponse response = new FlowModelGeneratorResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -170,68 +178,49 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
                 // Generate the flow design model
                 ModelGenerator modelGenerator = new ModelGenerator(project, semanticModel.get(), filePath);
-                JsonElement oldFlowModel =
+                JsonPayload oldFlowModel =
                         modelGenerator.getFlowModel(document.get(), request.lineRange(),
                                 dataMappingsDoc.orElse(null),
                                 functionsDoc.orElse(null));
 
-                // Create a temporary directory for the in-memory cache
-                Project newProject = project.duplicate();
-                DocumentId documentId = newProject.documentId(filePath);
-                Module newModule = newProject.currentPackage().module(documentId.moduleId());
-                SemanticModel newSemanticModel =
-                        PackageUtil.getCompilation(newProject).getSemanticModel(newModule.moduleId());
-                Document newDocument = newModule.document(documentId);
-                if (newSemanticModel == null || newDocument == null) {
-                    return response;
-                }
-                Optional<Document> newDataMappingsDoc;
-                Optional<Document> newFunctionsDoc;
-                try {
-                    DocumentId dataMappingDocId = newProject.documentId(projectPath.resolve("data_mappings.bal"));
-                    Module dataMappingModule = newProject.currentPackage().module(dataMappingDocId.moduleId());
-                    newDataMappingsDoc = Optional.of(dataMappingModule.document(dataMappingDocId));
-
-                    DocumentId functionsDocId = newProject.documentId(projectPath.resolve("functions.bal"));
-                    Module functionsModule = newProject.currentPackage().module(functionsDocId.moduleId());
-                    newFunctionsDoc = Optional.of(functionsModule.document(functionsDocId));
-                } catch (Throwable e) {
-                    newDataMappingsDoc = Optional.empty();
-                    newFunctionsDoc = Optional.empty();
-                }
-
-                TextDocument textDocument = newDocument.textDocument();
+                // Apply the suggestion on an overlay of the project
+                TextDocument textDocument = document.get().textDocument();
                 int textPosition = textDocument.textPositionFrom(request.position());
 
                 TextEdit textEdit = TextEdit.from(TextRange.from(textPosition, 0), request.text());
                 TextDocument newTextDocument =
                         textDocument.apply(TextDocumentChange.from(List.of(textEdit).toArray(new TextEdit[0])));
-                Document newDoc = newDocument.modify()
-                        .withContent(String.join(System.lineSeparator(), newTextDocument.textLines()))
-                        .apply();
-
-                int end = textDocument.textPositionFrom(request.endLine());
-                LineRange endLineRange = LineRange.from(request.lineRange().fileName(), request.lineRange().startLine(),
-                        newTextDocument.linePositionFrom(end + request.text().length()));
-
-                ModelGenerator suggestedModelGenerator =
-                        new ModelGenerator(newProject, PackageUtil.getCompilation(newProject)
-                                .getSemanticModel(newDoc.module().moduleId()), filePath);
-                JsonElement newFlowModel = suggestedModelGenerator.getFlowModel(newDoc,
-                        endLineRange, newDataMappingsDoc.orElse(null), newFunctionsDoc.orElse(null));
-
-                LinePosition endPosition = newTextDocument.linePositionFrom(textPosition + request.text().length());
-                LineRange newLineRange =
-                        LineRange.from(getRelativePath(projectPath, filePath), request.position(), endPosition);
-
-                JsonArray newNodes = newFlowModel.getAsJsonObject().getAsJsonArray("nodes");
-                SuggestedModelGenerator suggestedNodesGenerator =
-                        new SuggestedModelGenerator(newDoc, newLineRange, newSemanticModel);
-                suggestedNodesGenerator.markSuggestedNodes(newNodes, 1);
-                if (!suggestedNodesGenerator.hasSuggestedNodes()) {
-                    newFlowModel.getAsJsonObject().add("nodes", new JsonArray());
+                try (ProjectOverlayPool.Modification modification = ProjectOverlayPool.getInstance()
+                        .apply(document.get(), String.join(System.lineSeparator(), newTextDocument.textLines()))) {
+                    Document newDoc = modification.document();
+                    Project newProject = newDoc.module().project();
+                    Optional<Document> newDataMappingsDoc =
+                            dataMappingsDoc.map(doc -> getOverlayDocument(newDoc, doc));
+                    Optional<Document> newFunctionsDoc = functionsDoc.map(doc -> getOverlayDocument(newDoc, doc));
+
+                    int end = textDocument.textPositionFrom(request.endLine());
+                    LineRange endLineRange = LineRange.from(request.lineRange().fileName(),
+                            request.lineRange().startLine(),
+                            newTextDocument.linePositionFrom(end + request.text().length()));
+
+                    ModelGenerator suggestedModelGenerator =
+                            new ModelGenerator(newProject, modification.semanticModel(), filePath);
+                    JsonElement newFlowModel = suggestedModelGenerator.getFlowModel(newDoc,
+                            endLineRange, newDataMappingsDoc.orElse(null), newFunctionsDoc.orElse(null)).toJsonTree();
+
+                    LinePosition endPosition = newTextDocument.linePositionFrom(textPosition + request.text().length());
+                    LineRange newLineRange =
+                            LineRange.from(getRelativePath(projectPath, filePath), request.position(), endPosition);
+
+                    JsonArray newNodes = newFlowModel.getAsJsonObject().getAsJsonArray("nodes");
+                    SuggestedModelGenerator suggestedNodesGenerator =
+                            new SuggestedModelGenerator(newDoc, newLineRange, semanticModel.get());
+                    suggestedNodesGenerator.markSuggestedNodes(newNodes, 1);
+                    if (!suggestedNodesGenerator.hasSuggestedNodes()) {
+                        newFlowModel.getAsJsonObject().add("nodes", new JsonArray());
+                    }
+                    response.setFlowDesignModel(JsonPayload.of(newFlowModel));
                 }
-                response.setFlowDesignModel(newFlowModel);
             } catch (Throwable e) {
                 response.setError(e);
             }
@@ -241,7 +230,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<JsonObject> getSuggestedComponents(SuggestedComponentRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("flowDesignService/getSuggestedComponents", () -> {
             JsonObject response = new JsonObject();
             try {
                 String fileContent = request.content();
@@ -261,7 +250,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelSourceGeneratorResponse> getSourceCode(FlowModelSourceGeneratorRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("flowDesignService/getSourceCode", () -> {
             FlowModelSourceGeneratorResponse response = new FlowModelSourceGeneratorResponse();
             try {
                 SourceGenerator sourceGenerator =
@@ -278,7 +267,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     public CompletableFuture<FlowModelAvailableNodesResponse> getAvailableNodes(
             FlowModelAvailableNodesRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("flowDesignService/getAvailableNodes", () -> {
             FlowModelAvailableNodesResponse response = new FlowModelAvailableNodesResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -303,12 +292,12 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelNodeTemplateResponse> getNodeTemplate(FlowModelNodeTemplateRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("flowDesignService/getNodeTemplate", () -> {
             FlowModelNodeTemplateResponse response = new FlowModelNodeTemplateResponse();
             try {
                 NodeTemplateGenerator generator = new NodeTemplateGenerator(lsClientLogger);
                 Path filePath = Path.of(request.filePath());
-                JsonElement nodeTemplate =
+                JsonPayload nodeTemplate =
                         generator.getNodeTemplate(workspaceManager, filePath, request.position(), request.id());
                 response.setFlowNode(nodeTemplate);
             } catch (Throwable e) {
@@ -321,7 +310,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelGeneratorResponse> getModuleNodes(FilePathRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("flowDesignService/getModuleNodes", () -> {
             FlowModelGeneratorResponse response = new FlowModelGeneratorResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -343,7 +332,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelGeneratorResponse> getServiceNodes(ServiceFieldNodesRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("flowDesignService/getServiceNodes", () -> {
             FlowModelGeneratorResponse response = new FlowModelGeneratorResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -364,7 +353,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<CopilotContextResponse> getCopilotContext(CopilotContextRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("flowDesignService/getCopilotContext", () -> {
             CopilotContextResponse response = new CopilotContextResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -385,7 +374,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     // TODO: Need to remove this API and usages must be migrated to `deleteComponent(ComponentDeleteRequest request)`
     public CompletableFuture<FlowNodeDeleteResponse> deleteFlowNode(FlowNodeDeleteRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("flowDesignService/deleteFlowNode", () -> {
             FlowNodeDeleteResponse response = new FlowNodeDeleteResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -408,7 +397,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<ComponentDeleteResponse> deleteComponent(ComponentDeleteRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("flowDesignService/deleteComponent", () -> {
             ComponentDeleteResponse response = new ComponentDeleteResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -434,7 +423,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     public CompletableFuture<OpenApiServiceGenerationResponse> generateServiceFromOpenApiContract(
             OpenAPIServiceGenerationRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("flowDesignService/generateServiceFromOpenApiContract", () -> {
             OpenApiServiceGenerationResponse response = new OpenApiServiceGenerationResponse();
             try {
                 Path openApiContractPath = Path.of(request.openApiContractPath());
@@ -453,7 +442,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
     @JsonRequest
     public CompletableFuture<FlowModelSourceGeneratorResponse> addErrorHandler(FilePathRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("flowDesignService/addErrorHandler", () -> {
             FlowModelSourceGeneratorResponse response = new FlowModelSourceGeneratorResponse();
             try {
                 ErrorHandlerGenerator errorHandlerGenerator =
@@ -469,7 +458,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<EnclosedFuncDefResponse> getEnclosedFunctionDef(EnclosedFuncDefRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("flowDesignService/getEnclosedFunctionDef", () -> {
             EnclosedFuncDefResponse response = new EnclosedFuncDefResponse();
             try {
                 Path path = Path.of(request.filePath());
@@ -493,7 +482,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<FunctionDefinitionResponse> functionDefinition(FunctionDefinitionRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("flowDesignService/functionDefinition", () -> {
             FunctionDefinitionResponse response = new FunctionDefinitionResponse();
             try {
                 // Load the project
@@ -525,7 +514,7 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
 
     @JsonRequest
     public CompletableFuture<FlowModelAvailableNodesResponse> search(SearchRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("flowDesignService/search", () -> {
             FlowModelAvailableNodesResponse response = new FlowModelAvailableNodesResponse();
             try {
                 Path filePath = Path.of(request.filePath());
@@ -564,6 +553,11 @@ public class FlowModelGeneratorService implements ExtendedLanguageServerService
         return relativePath.toString();
     }
 
+    private static Document getOverlayDocument(Document overlayDocument, Document workspaceDocument) {
+        return overlayDocument.module().packageInstance().module(workspaceDocument.module().moduleId())
+                .document(workspaceDocument.documentId());
+    }
+
     private Optional<Document> getDocumentFromFile(Path projectPath, String fileName) {
         try {
             return this.workspaceManager.document(projectPath.resolve(fileName));
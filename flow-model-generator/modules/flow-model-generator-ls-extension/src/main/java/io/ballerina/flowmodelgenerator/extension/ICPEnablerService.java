@@ -29,6 +29,7 @@ import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.flowmodelgenerator.extension.request.CreateFilesRequest;
 import io.ballerina.flowmodelgenerator.extension.response.CommonSourceResponse;
 import io.ballerina.flowmodelgenerator.extension.response.ICPEnabledResponse;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
 import io.ballerina.projects.BallerinaToml;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
@@ -82,7 +83,7 @@ public class ICPEnablerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<ICPEnabledResponse> isIcpEnabled(CreateFilesRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("icpService/isIcpEnabled", () -> {
             ICPEnabledResponse response = new ICPEnabledResponse();
             try {
                 Path filePath = Path.of(request.projectPath());
@@ -135,7 +136,7 @@ public class ICPEnablerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> addICP(CreateFilesRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("icpService/addICP", () -> {
             CommonSourceResponse response = new CommonSourceResponse();
             try {
                 Path filePath = Path.of(request.projectPath());
@@ -211,7 +212,7 @@ public class ICPEnablerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> disableICP(CreateFilesRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("icpService/disableICP", () -> {
             CommonSourceResponse response = new CommonSourceResponse();
             try {
                 Path filePath = Path.of(request.projectPath());
@@ -21,6 +21,7 @@ package io.ballerina.flowmodelgenerator.extension;
 import com.google.gson.Gson;
 import io.ballerina.flowmodelgenerator.extension.request.CreateFilesRequest;
 import io.ballerina.flowmodelgenerator.extension.response.CreateFilesResponse;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
@@ -47,7 +48,7 @@ public class InitializerService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<CreateFilesResponse> createFiles(CreateFilesRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("initializer/createFiles", () -> {
             CreateFilesResponse response = new CreateFilesResponse();
             try {
                 Path projectPath = Path.of(request.projectPath());
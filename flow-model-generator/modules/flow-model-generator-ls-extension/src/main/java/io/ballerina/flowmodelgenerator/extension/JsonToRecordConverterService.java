@@ -23,6 +23,7 @@ import io.ballerina.flowmodelgenerator.core.converters.JsonToRecordMapper;
 import io.ballerina.flowmodelgenerator.core.utils.FileSystemUtils;
 import io.ballerina.flowmodelgenerator.extension.request.JsonToRecordRequest;
 import io.ballerina.flowmodelgenerator.extension.response.JsonToRecordResponse;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
 import io.ballerina.projects.Document;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
@@ -57,7 +58,7 @@ public class JsonToRecordConverterService implements ExtendedLanguageServerServi
 
     @JsonRequest
     public CompletableFuture<JsonToRecordResponse> convert(JsonToRecordRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("jsonToRecordTypes/convert", () -> {
             JsonToRecordResponse response = new JsonToRecordResponse();
 
             String jsonString = request.getJsonString();
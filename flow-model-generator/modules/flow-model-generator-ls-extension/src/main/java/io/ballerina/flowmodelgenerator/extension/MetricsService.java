@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import io.ballerina.flowmodelgenerator.core.model.JsonPayload;
+import io.ballerina.flowmodelgenerator.extension.request.MetricsRequest;
+import io.ballerina.flowmodelgenerator.extension.response.MetricsResponse;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
+import org.ballerinalang.annotation.JavaSPIService;
+import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
+import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
+import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Serves the request latency and cache metrics recorded by the model generator extensions.
+ *
+ * @since 2.0.0
+ */
+@JavaSPIService("org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService")
+@JsonSegment("modelGeneratorMetrics")
+public class MetricsService implements ExtendedLanguageServerService {
+
+    @Override
+    public Class<?> getRemoteInterface() {
+        return getClass();
+    }
+
+    @JsonRequest
+    public CompletableFuture<MetricsResponse> getMetrics(MetricsRequest request) {
+        // Served on the calling thread, so that the snapshot is not delayed by the requests it reports on
+        MetricsResponse response = new MetricsResponse();
+        try {
+            RequestMetrics metrics = RequestMetrics.getInstance();
+            RequestMetrics.Snapshot snapshot = metrics.snapshot();
+            response.setMetrics(JsonPayload.of(snapshot));
+            if (request.outputPath() != null && !request.outputPath().isBlank()) {
+                Path outputPath = Path.of(request.outputPath());
+                if (!metrics.dump(outputPath)) {
+                    throw new IllegalStateException("Failed to write the metrics to " + outputPath);
+                }
+                response.setOutputPath(outputPath.toAbsolutePath().toString());
+            }
+            if (request.reset()) {
+                metrics.reset();
+            }
+        } catch (Throwable e) {
+            response.setError(e);
+        }
+        return CompletableFuture.completedFuture(response);
+    }
+}
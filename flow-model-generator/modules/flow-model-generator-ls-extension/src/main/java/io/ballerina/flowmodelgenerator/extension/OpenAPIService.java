@@ -25,6 +25,7 @@ import io.ballerina.flowmodelgenerator.extension.request.OpenAPIGeneratedModules
 import io.ballerina.flowmodelgenerator.extension.response.OpenAPIClientDeleteResponse;
 import io.ballerina.flowmodelgenerator.extension.response.OpenAPIClientGenerationResponse;
 import io.ballerina.flowmodelgenerator.extension.response.OpenAPIGeneratedModulesResponse;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
@@ -50,7 +51,7 @@ public class OpenAPIService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<OpenAPIClientGenerationResponse> genClient(OpenAPIClientGenerationRequest req) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("openAPIService/genClient", () -> {
             OpenAPIClientGenerationResponse response = new OpenAPIClientGenerationResponse();
             try {
                 OpenAPIClientGenerator openAPIClientGenerator =
@@ -65,7 +66,7 @@ public class OpenAPIService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<OpenAPIGeneratedModulesResponse> getModules(OpenAPIGeneratedModulesRequest req) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("openAPIService/getModules", () -> {
             OpenAPIGeneratedModulesResponse response = new OpenAPIGeneratedModulesResponse();
             try {
                 OpenAPIClientGenerator openAPIClientGenerator =
@@ -80,7 +81,7 @@ public class OpenAPIService implements ExtendedLanguageServerService {
 
     @JsonRequest
     public CompletableFuture<OpenAPIClientDeleteResponse> deleteModule(OpenAPIClientDeleteRequest req) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("openAPIService/deleteModule", () -> {
             OpenAPIClientDeleteResponse response = new OpenAPIClientDeleteResponse();
             try {
                 OpenAPIClientGenerator openAPIClientGenerator =
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension.request;
+
+import com.google.gson.JsonElement;
+import io.ballerina.tools.text.LinePosition;
+
+/**
+ * Represents a request to expand a port of the data mapper model.
+ *
+ * @param filePath    file path of the source file
+ * @param flowNode    diagram node
+ * @param position    position of the end of previous statement
+ * @param propertyKey The property that needs to consider to get the type
+ * @param targetField The target field that needs to consider to get the type
+ * @param portId      The ID of the port to expand
+ * @param depth       The number of levels of the record types to expand, or null to expand all the levels
+ *
+ * @since 2.0.0
+ */
+public record DataMapperExpandPortRequest(String filePath, JsonElement flowNode, LinePosition position,
+                                          String propertyKey, String targetField, String portId, Integer depth) {
+}
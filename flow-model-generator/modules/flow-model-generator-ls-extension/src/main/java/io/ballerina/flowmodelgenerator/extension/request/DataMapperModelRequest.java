@@ -29,9 +29,10 @@ import io.ballerina.tools.text.LinePosition;
  * @param position    position of the end of previous statement
  * @param propertyKey The property that needs to consider to get the type
  * @param targetField The target field that needs to consider to get the type
+ * @param depth       The number of levels of the record types to expand, or null to expand all the levels
  *
  * @since 2.0.0
  */
 public record DataMapperModelRequest(String filePath, JsonElement flowNode, LinePosition position, String propertyKey,
-                                     String targetField) {
+                                     String targetField, Integer depth) {
 }
@@ -1,6 +1,6 @@
 package io.ballerina.flowmodelgenerator.extension.response;
 
-import com.google.gson.JsonElement;
+import io.ballerina.flowmodelgenerator.core.model.JsonPayload;
 
 /**
  * Represents the response for the flow model getNodeTemplate API.
@@ -9,13 +9,13 @@ import com.google.gson.JsonElement;
  */
 public class FlowModelNodeTemplateResponse extends AbstractFlowModelResponse {
 
-    private JsonElement flowNode;
+    private JsonPayload flowNode;
 
-    public void setFlowNode(JsonElement flowNode) {
+    public void setFlowNode(JsonPayload flowNode) {
         this.flowNode = flowNode;
     }
 
-    public JsonElement flowNode() {
+    public JsonPayload flowNode() {
         return flowNode;
     }
 }
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension.response;
+
+import io.ballerina.flowmodelgenerator.core.model.JsonPayload;
+
+/**
+ * Represents the response for the metrics API.
+ *
+ * @since 2.0.0
+ */
+public class MetricsResponse extends AbstractFlowModelResponse {
+
+    private JsonPayload metrics;
+    private String outputPath;
+
+    public JsonPayload metrics() {
+        return metrics;
+    }
+
+    public void setMetrics(JsonPayload metrics) {
+        this.metrics = metrics;
+    }
+
+    public String outputPath() {
+        return outputPath;
+    }
+
+    public void setOutputPath(String outputPath) {
+        this.outputPath = outputPath;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.flowmodelgenerator.extension.request.DataMapperExpandPortRequest;
+import io.ballerina.modelgenerator.commons.AbstractLSTest;
+import io.ballerina.tools.text.LinePosition;
+import org.ballerinalang.langserver.BallerinaLanguageServer;
+import org.ballerinalang.langserver.util.TestUtil;
+import org.eclipse.lsp4j.jsonrpc.Endpoint;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Tests for the expansion of the ports of the data mapper model.
+ *
+ * @since 2.0.0
+ */
+public class DataMappingExpandPortTest extends AbstractLSTest {
+
+    @DataProvider(name = "data-provider")
+    @Override
+    protected Object[] getConfigsList() {
+        return new Object[][]{
+                {Path.of("variable1.json")},
+                {Path.of("variable2.json")},
+                {Path.of("variable3.json")},
+        };
+    }
+
+    @Override
+    @Test(dataProvider = "data-provider")
+    public void test(Path config) throws IOException {
+        Endpoint endpoint = TestUtil.newLanguageServer().withLanguageServer(new BallerinaLanguageServer()).build();
+        Path configJsonPath = configDir.resolve(config);
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+
+        DataMapperExpandPortRequest request =
+                new DataMapperExpandPortRequest(sourceDir.resolve(testConfig.source()).toAbsolutePath().toString(),
+                        testConfig.diagram(), testConfig.position(), testConfig.propertyKey(),
+                        testConfig.targetField(), testConfig.portId(), testConfig.depth());
+        JsonObject port = getResponse(endpoint, request).getAsJsonObject("port");
+        String actual = port.toString().replace(" ", "");
+        String expected = testConfig.port().toString().replace(" ", "");
+        if (!actual.equals(expected)) {
+            TestConfig updateConfig = new TestConfig(testConfig.source(), testConfig.description(),
+                    testConfig.diagram(), testConfig.propertyKey(), testConfig.position(), testConfig.targetField(),
+                    testConfig.portId(), testConfig.depth(), port);
+//            updateConfig(configJsonPath, updateConfig);
+            compareJsonElements(port, testConfig.port());
+            Assert.fail(String.format("Failed test: '%s' (%s)", testConfig.description(), configJsonPath));
+        }
+    }
+
+    @Override
+    protected String getResourceDir() {
+        return "data_mapper_expand_port";
+    }
+
+    @Override
+    protected Class<? extends AbstractLSTest> clazz() {
+        return DataMappingExpandPortTest.class;
+    }
+
+    @Override
+    protected String getApiName() {
+        return "expandPort";
+    }
+
+    @Override
+    protected String getServiceName() {
+        return "dataMapper";
+    }
+
+    /**
+     * Represents the test configuration for the port expansion test.
+     *
+     * @param source      The source file name
+     * @param description The description of the test
+     * @param diagram     The diagram of the data mapper
+     * @param propertyKey The property that needs to consider to get the type
+     * @param position    position of the end of previous statement
+     * @param targetField The target field of the data mapper
+     * @param portId      The ID of the port to expand
+     * @param depth       The number of levels to expand
+     * @param port        The expected port
+     */
+    private record TestConfig(String source, String description, JsonElement diagram, String propertyKey,
+                              LinePosition position, String targetField, String portId, Integer depth,
+                              JsonElement port) {
+
+        public String description() {
+            return description == null ? "" : description;
+        }
+    }
+}
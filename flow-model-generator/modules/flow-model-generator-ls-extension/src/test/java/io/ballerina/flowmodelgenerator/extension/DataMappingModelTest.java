@@ -101,7 +101,7 @@ public class DataMappingModelTest extends AbstractLSTest {
         DataMapperModelRequest request =
                 new DataMapperModelRequest(sourceDir.resolve(testConfig.source()).toAbsolutePath().toString(),
                         testConfig.diagram(), testConfig.position(), testConfig.propertyKey(),
-                        testConfig.targetField());
+                        testConfig.targetField(), null);
         JsonObject model = getResponse(endpoint, request).getAsJsonObject("mappingsModel");
         String actual = model.toString().replace(" ", "");
         String expected = testConfig.model().toString().replace(" ", "");
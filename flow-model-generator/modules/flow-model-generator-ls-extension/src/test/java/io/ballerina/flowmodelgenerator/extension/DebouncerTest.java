@@ -0,0 +1,264 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import io.ballerina.flowmodelgenerator.core.expressioneditor.Debouncer;
+import io.ballerina.flowmodelgenerator.core.expressioneditor.ExpressionEditorContext;
+import io.ballerina.flowmodelgenerator.core.expressioneditor.services.DebouncedExpressionEditorRequest;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Test the execution order and the cancellation of the expression editor requests of the debouncer, using requests
+ * that modify the documents of an in-memory project.
+ *
+ * @since 2.0.0
+ */
+public class DebouncerTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final String ORIGINAL = "original";
+    private static final String MODIFIED = "modified";
+    private static final String MAIN_BAL = "main.bal";
+    private static final String UTILS_BAL = "utils.bal";
+
+    private final Debouncer debouncer = Debouncer.getInstance();
+
+    @Test(description = "A running request that is superseded is cancelled, and its document is reverted before the " +
+            "superseding request runs")
+    public void testSupersedeWhileRunning() throws Exception {
+        StubProject project = new StubProject("supersede", MAIN_BAL);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        long cancelledTasks = debouncer.metrics().cancelledTasks();
+
+        CompletableFuture<String> first = debouncer.debounce(new StubRequest(project, MAIN_BAL, "diagnostics",
+                request -> {
+                    request.modify(MODIFIED);
+                    started.countDown();
+                    await(release);
+                    request.stopIfCancelled();
+                    return "first";
+                }));
+        Assert.assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        CompletableFuture<String> second = debouncer.debounce(new StubRequest(project, MAIN_BAL, "diagnostics",
+                request -> project.content(MAIN_BAL)));
+
+        // The promise of the superseded request is cancelled before the request stops
+        Assert.assertTrue(first.isCompletedExceptionally());
+        Assert.assertFalse(second.isDone());
+        release.countDown();
+
+        Assert.assertEquals(second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), ORIGINAL);
+        Assert.assertEquals(project.content(MAIN_BAL), ORIGINAL);
+        Assert.assertTrue(debouncer.metrics().cancelledTasks() > cancelledTasks);
+    }
+
+    @Test(description = "The requests of the same document are executed one at a time in the order they are scheduled")
+    public void testSameDocumentOrdering() throws Exception {
+        StubProject project = new StubProject("ordering", MAIN_BAL);
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        List<String> expectedEvents = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String key = "api" + i;
+            responses.add(debouncer.debounce(new StubRequest(project, MAIN_BAL, key, request -> {
+                events.add("start:" + key + ":" + project.content(MAIN_BAL));
+                request.modify(key);
+                sleep();
+                events.add("end:" + key);
+                return key;
+            })));
+            expectedEvents.add("start:" + key + ":" + ORIGINAL);
+            expectedEvents.add("end:" + key);
+        }
+
+        for (int i = 0; i < responses.size(); i++) {
+            Assert.assertEquals(responses.get(i).get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "api" + i);
+        }
+        Assert.assertEquals(events, expectedEvents);
+        Assert.assertEquals(project.content(MAIN_BAL), ORIGINAL);
+    }
+
+    @Test(description = "A request of a sibling document does not observe the modification of a running request, " +
+            "whereas the requests of other projects run concurrently")
+    public void testSiblingDocuments() throws Exception {
+        StubProject project = new StubProject("siblings", MAIN_BAL, UTILS_BAL);
+        StubProject otherProject = new StubProject("other", MAIN_BAL);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> first = debouncer.debounce(new StubRequest(project, MAIN_BAL, "completions",
+                request -> {
+                    request.modify(MODIFIED);
+                    started.countDown();
+                    await(release);
+                    return "first";
+                }));
+        Assert.assertTrue(started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        CompletableFuture<String> sibling = debouncer.debounce(new StubRequest(project, UTILS_BAL, "completions",
+                request -> project.content(MAIN_BAL)));
+        CompletableFuture<String> other = debouncer.debounce(new StubRequest(otherProject, MAIN_BAL, "completions",
+                request -> "other"));
+
+        Assert.assertEquals(other.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "other");
+        Assert.assertFalse(sibling.isDone());
+        release.countDown();
+
+        Assert.assertEquals(first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), "first");
+        Assert.assertEquals(sibling.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), ORIGINAL);
+        Assert.assertEquals(project.content(MAIN_BAL), ORIGINAL);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            Assert.assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Represents the shared state of a project, whose documents are modified in place by the requests.
+     */
+    private static class StubProject {
+
+        private final String key;
+        private final Map<String, TextDocument> documents;
+
+        StubProject(String key, String... documentNames) {
+            this.key = key + "-" + System.nanoTime();
+            this.documents = new ConcurrentHashMap<>();
+            for (String documentName : documentNames) {
+                documents.put(documentName, TextDocuments.from(ORIGINAL));
+            }
+        }
+
+        String content(String documentName) {
+            return String.join(System.lineSeparator(), documents.get(documentName).textLines());
+        }
+    }
+
+    /**
+     * An expression editor context over a document of a stub project.
+     */
+    private static class StubContext extends ExpressionEditorContext {
+
+        private final StubProject project;
+        private final String documentName;
+
+        StubContext(StubProject project, String documentName) {
+            super(null, null, Path.of(documentName), null);
+            this.project = project;
+            this.documentName = documentName;
+        }
+
+        @Override
+        public TextDocument textDocument() {
+            return project.documents.get(documentName);
+        }
+
+        @Override
+        public void applyContent(TextDocument textDocument) {
+            project.documents.put(documentName, textDocument);
+        }
+    }
+
+    /**
+     * A request that modifies a document of a stub project.
+     */
+    private static class StubRequest extends DebouncedExpressionEditorRequest<String> {
+
+        private final StubProject project;
+        private final String documentName;
+        private final String key;
+        private final StubContext context;
+        private final Function<StubRequest, String> response;
+
+        StubRequest(StubProject project, String documentName, String key, Function<StubRequest, String> response) {
+            this(new StubContext(project, documentName), project, documentName, key, response);
+        }
+
+        private StubRequest(StubContext context, StubProject project, String documentName, String key,
+                            Function<StubRequest, String> response) {
+            super(context);
+            this.context = context;
+            this.project = project;
+            this.documentName = documentName;
+            this.key = key;
+            this.response = response;
+        }
+
+        void modify(String content) {
+            context.applyContent(TextDocuments.from(content));
+        }
+
+        void stopIfCancelled() {
+            checkCancelled();
+        }
+
+        @Override
+        public String getResponse(ExpressionEditorContext context) {
+            return response.apply(this);
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public long getDelay() {
+            return 0;
+        }
+
+        @Override
+        public String getDocumentKey() {
+            return project.key + "/" + documentName;
+        }
+
+        @Override
+        public String getProjectKey() {
+            return project.key;
+        }
+    }
+}
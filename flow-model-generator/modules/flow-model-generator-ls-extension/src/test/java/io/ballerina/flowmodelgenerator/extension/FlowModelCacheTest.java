@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import com.google.gson.JsonObject;
+import io.ballerina.flowmodelgenerator.core.FlowModelCache;
+import io.ballerina.flowmodelgenerator.extension.request.FlowModelGeneratorRequest;
+import io.ballerina.modelgenerator.commons.AbstractLSTest;
+import io.ballerina.tools.text.LinePosition;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Test cases for the caching of the flow models across the getFlowModel requests, where a file of the project is
+ * modified between the requests. The test cases share the projects, and each case restores the modified file.
+ *
+ * @since 2.0.0
+ */
+public class FlowModelCacheTest extends AbstractLSTest {
+
+    private int documentVersion = 1;
+
+    @Override
+    @Test(dataProvider = "data-provider")
+    public void test(Path config) throws IOException {
+        Path configJsonPath = configDir.resolve(config);
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+
+        Path projectPath = Path.of(getSourcePath(testConfig.source()));
+        FlowModelGeneratorRequest request = new FlowModelGeneratorRequest(
+                projectPath.resolve(testConfig.file()).toString(), testConfig.start(), testConfig.end());
+        JsonObject flowModel = getFlowModel(request);
+
+        // An unchanged project is served from the cache
+        long hits = FlowModelCache.getInstance().metrics().hits();
+        Assert.assertEquals(getFlowModel(request), flowModel);
+        Assert.assertEquals(FlowModelCache.getInstance().metrics().hits(), hits + 1,
+                String.format("Flow model not cached: '%s' (%s)", testConfig.description(), configJsonPath));
+
+        // Restore the edited file so that the next test case starts from the content on the disk
+        Path editedFilePath = projectPath.resolve(testConfig.editedFile());
+        boolean cached;
+        try {
+            changeDocument(editedFilePath, testConfig.content());
+            hits = FlowModelCache.getInstance().metrics().hits();
+            getFlowModel(request);
+            cached = FlowModelCache.getInstance().metrics().hits() == hits + 1;
+        } finally {
+            changeDocument(editedFilePath, Files.readString(editedFilePath));
+        }
+        if (cached != testConfig.cached()) {
+            TestConfig updatedConfig = new TestConfig(testConfig.source(), testConfig.description(),
+                    testConfig.file(), testConfig.start(), testConfig.end(), testConfig.editedFile(),
+                    testConfig.content(), cached);
+//            updateConfig(configJsonPath, updatedConfig);
+            Assert.fail(String.format("Failed test: '%s' (%s)", testConfig.description(), configJsonPath));
+        }
+    }
+
+    private void changeDocument(Path filePath, String content) {
+        VersionedTextDocumentIdentifier documentIdentifier = new VersionedTextDocumentIdentifier();
+        documentIdentifier.setUri(filePath.toUri().toString());
+        documentIdentifier.setVersion(++documentVersion);
+        try {
+            languageServer.getWorkspaceManager().didChange(filePath, new DidChangeTextDocumentParams(
+                    documentIdentifier, List.of(new TextDocumentContentChangeEvent(content))));
+        } catch (WorkspaceDocumentException e) {
+            Assert.fail("Error while sending didChange notification", e);
+        }
+    }
+
+    private JsonObject getFlowModel(FlowModelGeneratorRequest request) throws IOException {
+        JsonObject response = getResponse(request);
+        Assert.assertNull(response.get("errorMsg"), "Error while generating the flow model");
+        return response.getAsJsonObject("flowModel");
+    }
+
+    @Override
+    protected String getResourceDir() {
+        return "flow_model_cache";
+    }
+
+    @Override
+    protected Class<? extends AbstractLSTest> clazz() {
+        return FlowModelCacheTest.class;
+    }
+
+    @Override
+    protected String getApiName() {
+        return "getFlowModel";
+    }
+
+    /**
+     * Represents the test configuration for the caching of the flow models.
+     *
+     * @param source      The project path
+     * @param description The description of the test
+     * @param file        The file of the canvas, relative to the project
+     * @param start       The start position of the canvas
+     * @param end         The end position of the canvas
+     * @param editedFile  The file to modify, relative to the project
+     * @param content     The new content of the modified file
+     * @param cached      Whether the flow model is served from the cache after the modification
+     */
+    private record TestConfig(String source, String description, String file, LinePosition start, LinePosition end,
+                              String editedFile, String content, boolean cached) {
+
+        public String description() {
+            return description == null ? "" : description;
+        }
+    }
+}
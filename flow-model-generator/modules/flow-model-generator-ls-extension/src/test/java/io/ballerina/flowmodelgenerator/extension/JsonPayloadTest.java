@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.ballerina.flowmodelgenerator.core.model.Diagram;
+import io.ballerina.flowmodelgenerator.core.model.JsonPayload;
+import io.ballerina.flowmodelgenerator.extension.response.FlowModelGeneratorResponse;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Test that a flow model streamed into the response serializes the same as the JSON tree of the model, regardless of
+ * the settings of the Gson instance that serializes the response.
+ *
+ * @since 2.0.0
+ */
+public class JsonPayloadTest {
+
+    private static final String FILE_NAME = "<main> & \"data\"='1'.bal";
+
+    @Test(dataProvider = "data-provider")
+    public void testStreamedSerialization(String description, Gson responseGson) {
+        Diagram diagram = new Diagram(FILE_NAME, List.of(), null);
+        JsonPayload payload = JsonPayload.of(diagram);
+
+        FlowModelGeneratorResponse streamedResponse = new FlowModelGeneratorResponse();
+        streamedResponse.setFlowDesignModel(payload);
+        FlowModelGeneratorResponse treeResponse = new FlowModelGeneratorResponse();
+        treeResponse.setFlowDesignModel(JsonPayload.of(payload.toJsonTree()));
+
+        JsonElement streamed = JsonParser.parseString(responseGson.toJson(streamedResponse));
+        JsonElement tree = JsonParser.parseString(responseGson.toJson(treeResponse));
+        Assert.assertEquals(streamed, tree, description);
+
+        // The null fields of the model are omitted, and the strings are preserved as they are
+        JsonObject flowModel = streamed.getAsJsonObject().getAsJsonObject("flowModel");
+        Assert.assertFalse(flowModel.has("connections"), description);
+        Assert.assertEquals(flowModel.get("fileName").getAsString(), FILE_NAME, description);
+    }
+
+    @Test(dataProvider = "data-provider")
+    public void testNullSerialization(String description, Gson responseGson) {
+        FlowModelGeneratorResponse nullPayloadResponse = new FlowModelGeneratorResponse();
+        nullPayloadResponse.setFlowDesignModel(JsonPayload.of(null));
+        FlowModelGeneratorResponse nullResponse = new FlowModelGeneratorResponse();
+        nullResponse.setFlowDesignModel(null);
+
+        Assert.assertEquals(responseGson.toJson(nullPayloadResponse), responseGson.toJson(nullResponse), description);
+    }
+
+    @DataProvider(name = "data-provider")
+    protected Object[][] getDataProvider() {
+        return new Object[][]{
+                {"default response serializer", new Gson()},
+                {"response serializer with nulls", new GsonBuilder().serializeNulls().create()},
+                {"response serializer without HTML escaping", new GsonBuilder().disableHtmlEscaping().create()},
+                {"pretty printing response serializer", new GsonBuilder().setPrettyPrinting().create()}
+        };
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.ballerina.flowmodelgenerator.extension.request.FilePathRequest;
+import io.ballerina.modelgenerator.commons.AbstractLSTest;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Test cases for the getModuleNodes API, where the connections are generated again after a document of the project is
+ * modified.
+ *
+ * @since 2.0.0
+ */
+public class ModuleNodesChangeTest extends AbstractLSTest {
+
+    @Override
+    @Test(dataProvider = "data-provider")
+    public void test(Path config) throws IOException {
+        Path configJsonPath = configDir.resolve(config);
+        TestConfig testConfig = gson.fromJson(Files.newBufferedReader(configJsonPath), TestConfig.class);
+
+        String projectPath = getSourcePath(testConfig.source());
+        FilePathRequest request = new FilePathRequest(projectPath);
+        JsonArray before = getConnections(getResponse(request));
+
+        Path filePath = Path.of(projectPath).resolve(testConfig.file());
+        VersionedTextDocumentIdentifier documentIdentifier = new VersionedTextDocumentIdentifier();
+        documentIdentifier.setUri(filePath.toUri().toString());
+        documentIdentifier.setVersion(2);
+        try {
+            languageServer.getWorkspaceManager().didChange(filePath, new DidChangeTextDocumentParams(
+                    documentIdentifier, List.of(new TextDocumentContentChangeEvent(testConfig.content()))));
+        } catch (WorkspaceDocumentException e) {
+            Assert.fail("Error while sending didChange notification", e);
+        }
+        JsonArray after = getConnections(getResponse(request));
+
+        if (!before.equals(testConfig.before()) || !after.equals(testConfig.after())) {
+            TestConfig updatedConfig = new TestConfig(testConfig.source(), testConfig.description(),
+                    testConfig.file(), testConfig.content(), before, after);
+//            updateConfig(configJsonPath, updatedConfig);
+            compareJsonElements(before, testConfig.before());
+            compareJsonElements(after, testConfig.after());
+            Assert.fail(String.format("Failed test: '%s' (%s)", testConfig.description(), configJsonPath));
+        }
+    }
+
+    // Extracts the properties of the connections that depend on the rest of the module and the document
+    private static JsonArray getConnections(JsonObject response) {
+        JsonArray connections = new JsonArray();
+        for (JsonElement element : response.getAsJsonObject("flowModel").getAsJsonArray("connections")) {
+            JsonObject connection = element.getAsJsonObject();
+            JsonObject codedata = connection.getAsJsonObject("codedata");
+            JsonObject diagnostics = connection.getAsJsonObject("diagnostics");
+
+            JsonObject summary = new JsonObject();
+            summary.add("sourceCode", codedata.get("sourceCode"));
+            summary.add("lineRange", codedata.get("lineRange"));
+            summary.addProperty("hasDiagnostics",
+                    diagnostics != null && diagnostics.get("hasDiagnostics").getAsBoolean());
+            connections.add(summary);
+        }
+        return connections;
+    }
+
+    @Override
+    protected String getResourceDir() {
+        return "module_nodes_change";
+    }
+
+    @Override
+    protected Class<? extends AbstractLSTest> clazz() {
+        return ModuleNodesChangeTest.class;
+    }
+
+    @Override
+    protected String getApiName() {
+        return "getModuleNodes";
+    }
+
+    /**
+     * Represents the test configuration for the getModuleNodes API after a document is modified.
+     *
+     * @param source      The project path
+     * @param description The description of the test
+     * @param file        The document to modify, relative to the project
+     * @param content     The new content of the document
+     * @param before      The expected connections before the modification
+     * @param after       The expected connections after the modification
+     */
+    private record TestConfig(String source, String description, String file, String content, JsonArray before,
+                              JsonArray after) {
+
+        public String description() {
+            return description == null ? "" : description;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.flowmodelgenerator.extension;
+
+import io.ballerina.flowmodelgenerator.core.ProjectOverlayPool;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.SingleFileProject;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Test the leasing, the reuse and the eviction of the overlays of the project overlay pool.
+ *
+ * @since 2.0.0
+ */
+public class ProjectOverlayPoolTest {
+
+    private static final String SOURCE = "public function main() {\n    int value = 1;\n}\n";
+    private static final String MODIFIED_SOURCE = "public function main() {\n    int value = 2;\n}\n";
+    private static final String EDITED_SOURCE = "public function main() {\n    int value = 3;\n}\n";
+
+    private final ProjectOverlayPool pool = ProjectOverlayPool.getInstance();
+    private Path tempDir;
+
+    @BeforeClass
+    public void createTempDir() throws IOException {
+        tempDir = Files.createTempDirectory("overlay-pool");
+    }
+
+    @AfterClass
+    public void deleteTempDir() throws IOException {
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Test(description = "An overlay is released when the request holding the modification fails")
+    public void testReleaseOnException() throws IOException {
+        Document document = loadDocument("release_on_exception");
+        int leasedOverlays = pool.metrics().leasedOverlays();
+
+        Project overlayProject = null;
+        try (ProjectOverlayPool.Modification modification = pool.apply(document, MODIFIED_SOURCE)) {
+            overlayProject = modification.document().module().project();
+            Assert.assertEquals(pool.metrics().leasedOverlays(), leasedOverlays + 1);
+            throw new IllegalStateException("The request failed");
+        } catch (IllegalStateException ignored) {
+            // The modification is closed by the try-with-resources statement
+        }
+        Assert.assertEquals(pool.metrics().leasedOverlays(), leasedOverlays);
+
+        // The released overlay serves the next modification, and the workspace project is not modified
+        try (ProjectOverlayPool.Modification modification = pool.apply(document, EDITED_SOURCE)) {
+            Assert.assertSame(modification.document().module().project(), overlayProject);
+            Assert.assertEquals(modification.document().textDocument().toString(), EDITED_SOURCE);
+        }
+        Assert.assertEquals(currentDocument(document.module().project()).textDocument().toString(), SOURCE);
+    }
+
+    @Test(description = "An overlay is reused while the content of the workspace documents is unchanged, and is " +
+            "replaced once the workspace document is edited")
+    public void testReuseAfterBaseChange() throws IOException {
+        Document document = loadDocument("reuse_after_base_change");
+        Project overlayProject = overlayProject(document);
+
+        // A new syntax tree of the same content keeps the overlay
+        Document reparsedDocument = document.modify().withContent(document.textDocument().toString()).apply();
+        Assert.assertNotSame(reparsedDocument.syntaxTree(), document.syntaxTree());
+        Assert.assertSame(overlayProject(reparsedDocument), overlayProject);
+
+        // An edit of the workspace document replaces the overlay
+        Document editedDocument = reparsedDocument.modify().withContent(EDITED_SOURCE).apply();
+        long evictedOverlays = pool.metrics().evictedOverlays();
+        Project editedOverlayProject = overlayProject(editedDocument);
+        Assert.assertNotSame(editedOverlayProject, overlayProject);
+        Assert.assertTrue(pool.metrics().evictedOverlays() > evictedOverlays);
+        Assert.assertSame(overlayProject(editedDocument), editedOverlayProject);
+    }
+
+    @Test(description = "The idle overlays are bounded per project and in total, evicting the least recently used " +
+            "projects first")
+    public void testEviction() throws IOException {
+        // The concurrent modifications of a project lease an overlay each, of which only a few are retained
+        Document document = loadDocument("eviction_per_project");
+        List<ProjectOverlayPool.Modification> modifications = new ArrayList<>();
+        for (int i = 0; i <= ProjectOverlayPool.MAX_OVERLAYS_PER_PROJECT; i++) {
+            modifications.add(pool.apply(document, MODIFIED_SOURCE));
+        }
+        modifications.forEach(ProjectOverlayPool.Modification::close);
+        modifications.clear();
+
+        ProjectOverlayPool.PoolMetrics metrics = pool.metrics();
+        for (int i = 0; i <= ProjectOverlayPool.MAX_OVERLAYS_PER_PROJECT; i++) {
+            modifications.add(pool.apply(document, MODIFIED_SOURCE));
+        }
+        modifications.forEach(ProjectOverlayPool.Modification::close);
+        Assert.assertEquals(pool.metrics().reusedOverlays(),
+                metrics.reusedOverlays() + ProjectOverlayPool.MAX_OVERLAYS_PER_PROJECT);
+        Assert.assertEquals(pool.metrics().createdOverlays(), metrics.createdOverlays() + 1);
+
+        // The overlays of the least recently used project are evicted once the pool is full
+        Document firstDocument = loadDocument("eviction_first");
+        Project firstOverlayProject = overlayProject(firstDocument);
+        for (int i = 0; i < ProjectOverlayPool.MAX_IDLE_OVERLAYS; i++) {
+            overlayProject(loadDocument("eviction_" + i));
+        }
+        Assert.assertTrue(pool.metrics().idleOverlays() <= ProjectOverlayPool.MAX_IDLE_OVERLAYS);
+        Assert.assertNotSame(overlayProject(firstDocument), firstOverlayProject);
+    }
+
+    private Document loadDocument(String name) throws IOException {
+        Path filePath = tempDir.resolve(name + ".bal");
+        Files.writeString(filePath, SOURCE);
+        return currentDocument(SingleFileProject.load(filePath));
+    }
+
+    private static Document currentDocument(Project project) {
+        Module module = project.currentPackage().getDefaultModule();
+        return module.document(module.documentIds().iterator().next());
+    }
+
+    private Project overlayProject(Document document) {
+        try (ProjectOverlayPool.Modification modification = pool.apply(document, MODIFIED_SOURCE)) {
+            return modification.document().module().project();
+        }
+    }
+}
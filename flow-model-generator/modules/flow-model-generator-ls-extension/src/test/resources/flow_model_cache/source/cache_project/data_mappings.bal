@@ -0,0 +1 @@
+function transform(int value) returns string => value.toString();
@@ -0,0 +1,4 @@
+public function main() {
+    int total = 1 + 2;
+    int doubled = total * 2;
+}
@@ -0,0 +1,3 @@
+function increment(int value) returns int {
+    return value + 1;
+}
@@ -0,0 +1,6 @@
+import imported_module.util;
+
+public function main() {
+    int total = util:add(1, 2);
+    int doubled = total * 2;
+}
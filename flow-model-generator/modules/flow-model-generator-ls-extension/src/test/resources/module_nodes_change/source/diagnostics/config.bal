@@ -0,0 +1 @@
+configurable string url = "http://example.com";
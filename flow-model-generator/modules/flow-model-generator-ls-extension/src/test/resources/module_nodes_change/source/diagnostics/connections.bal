@@ -0,0 +1,3 @@
+import ballerina/http;
+
+final http:Client httpClient = check new (url);
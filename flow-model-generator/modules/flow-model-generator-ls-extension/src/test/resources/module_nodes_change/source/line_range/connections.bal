@@ -0,0 +1,4 @@
+import ballerina/http;
+
+// Connection to the example service
+final http:Client httpClient = check new ("http://example.com");
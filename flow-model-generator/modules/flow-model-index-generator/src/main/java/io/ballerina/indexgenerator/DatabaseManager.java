@@ -18,16 +18,18 @@
 
 package io.ballerina.indexgenerator;
 
+import io.ballerina.modelgenerator.commons.CentralIndexQueries;
+
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 class DatabaseManager {
@@ -35,34 +37,82 @@ class DatabaseManager {
     private static final Logger LOGGER = Logger.getLogger(DatabaseManager.class.getName());
     private static final String INDEX_FILE_NAME = "central-index.sqlite";
     private static final String CENTRAL_INDEX_SQL = "central-index.sql";
-    private static final String dbPath = getDatabasePath();
+    private static final Path dbFilePath =
+            Path.of("flow-model-generator/modules/flow-model-generator-ls-extension/src/main/resources")
+                    .resolve(INDEX_FILE_NAME);
+    private static final String dbPath = "jdbc:sqlite:" + dbFilePath;
+
+    // Primary keys are assigned upfront, since the rows are written asynchronously by the index writer
+    private static final AtomicInteger packageIdSequence = new AtomicInteger();
+    private static final AtomicInteger functionIdSequence = new AtomicInteger();
+    private static final AtomicInteger parameterIdSequence = new AtomicInteger();
+    private static IndexWriter indexWriter;
+
+    static final List<String> DELETE_PACKAGE_STATEMENTS = List.of(
+            "DELETE FROM ParameterMemberType WHERE parameter_id IN (" +
+                    "SELECT pa.parameter_id FROM Parameter pa " +
+                    "JOIN Function f ON pa.function_id = f.function_id WHERE f.package_id = ?)",
+            "DELETE FROM Parameter WHERE function_id IN (SELECT function_id FROM Function WHERE package_id = ?)",
+            "DELETE FROM FunctionConnector WHERE connector_id IN (" +
+                    "SELECT function_id FROM Function WHERE package_id = ?)",
+            "DELETE FROM Function WHERE package_id = ?",
+            "DELETE FROM Package WHERE package_id = ?"
+    );
 
-    private static String getDatabasePath() {
-        String destinationPath =
-                Path.of("flow-model-generator/modules/flow-model-generator-ls-extension/src/main/resources")
-                        .resolve(INDEX_FILE_NAME)
-                        .toString();
-        return "jdbc:sqlite:" + destinationPath;
+    // A package row is written after the rest of the rows of the package, hence the rows that do not lead to a package
+    // are the remains of a package that was not completely written
+    static final List<String> DELETE_INCOMPLETE_ROWS_STATEMENTS = List.of(
+            "DELETE FROM Function WHERE package_id NOT IN (SELECT package_id FROM Package)",
+            "DELETE FROM FunctionConnector WHERE function_id NOT IN (SELECT function_id FROM Function) " +
+                    "OR connector_id NOT IN (SELECT function_id FROM Function)",
+            "DELETE FROM Parameter WHERE function_id NOT IN (SELECT function_id FROM Function)",
+            "DELETE FROM ParameterMemberType WHERE parameter_id NOT IN (SELECT parameter_id FROM Parameter)"
+    );
+
+    static final String INDEXED_PACKAGES_QUERY = "SELECT package_id, org, name, version FROM Package";
+
+    /**
+     * Starts the writer that inserts the rows produced by the analysis workers. The primary key sequences continue
+     * from the rows that already exist in the database.
+     *
+     * @param durable whether the rows must survive a crash, which is required when updating an existing database
+     */
+    public static void startWriter(boolean durable) {
+        packageIdSequence.set(IndexWriter.maxId(dbPath, "Package", "package_id"));
+        functionIdSequence.set(IndexWriter.maxId(dbPath, "Function", "function_id"));
+        parameterIdSequence.set(IndexWriter.maxId(dbPath, "Parameter", "parameter_id"));
+        indexWriter = IndexWriter.start(dbPath, durable);
     }
 
-    private static int insertEntry(String sql, Object[] params) {
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            for (int i = 0; i < params.length; i++) {
-                stmt.setObject(i + 1, params[i]);
-            }
-            stmt.executeUpdate();
-            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    return generatedKeys.getInt(1);
-                } else {
-                    throw new SQLException("Creating package failed, no ID obtained.");
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.severe("Error executing query: " + e.getMessage());
-            return -1;
+    /**
+     * Writes the pending rows and stops the writer. Must be invoked before querying or updating the inserted rows.
+     *
+     * @throws IllegalStateException if the writer failed to write the rows
+     */
+    public static void stopWriter() {
+        if (indexWriter != null) {
+            indexWriter.close();
+            indexWriter = null;
+        }
+    }
+
+    // Fails if the writer has stopped due to a failure, rather than skipping the row, since the keys of the rows
+    // referring to it are already assigned
+    private static void insertEntry(String sql, Object[] params) {
+        if (indexWriter == null) {
+            throw new IllegalStateException("The index writer has not been started");
         }
+        indexWriter.write(sql, params);
+    }
+
+    /**
+     * Updates the planner statistics and verifies that the runtime queries are served by indexes.
+     *
+     * @throws IllegalStateException if any of the runtime queries falls back to a full table scan
+     */
+    public static void optimizeDatabase() {
+        QueryPlanVerifier.analyze(dbPath);
+        QueryPlanVerifier.verify(dbPath, CentralIndexQueries.accessPaths());
     }
 
     public static void createDatabase() {
@@ -87,19 +137,69 @@ class DatabaseManager {
         }
     }
 
-    public static int insertPackage(String org, String name, String version, List<String> keywords) {
-        String sql = "INSERT INTO Package (org, name, version, keywords) VALUES (?, ?, ?, ?)";
-        return insertEntry(sql, new Object[]{org, name, version, keywords == null ? "" : String.join(",", keywords)});
+    public static boolean databaseExists() {
+        return Files.isRegularFile(dbFilePath);
+    }
+
+    public static List<PackageIndexDiff.IndexedPackage> getIndexedPackages() {
+        return PackageIndexDiff.getIndexedPackages(dbPath, INDEXED_PACKAGES_QUERY);
+    }
+
+    /**
+     * Deletes the rows of the packages that were not completely written, so that the packages are indexed again.
+     */
+    public static void deleteIncompleteRows() {
+        PackageIndexDiff.deleteIncompleteRows(dbPath, DELETE_INCOMPLETE_ROWS_STATEMENTS);
+    }
+
+    /**
+     * Deletes the given packages along with their functions, parameters and connector mappings in a single
+     * transaction. The rows are deleted explicitly, since foreign key enforcement is not enabled on the database.
+     *
+     * @param packages the packages to delete
+     */
+    public static void deletePackages(List<PackageIndexDiff.IndexedPackage> packages) {
+        if (packages.isEmpty()) {
+            return;
+        }
+        PackageIndexDiff.deletePackages(dbPath, DELETE_PACKAGE_STATEMENTS, packages);
+    }
+
+    /**
+     * Reserves the primary key of a package, so that the rows of the package can be written before the package.
+     *
+     * @return the primary key of the package
+     */
+    public static int reservePackageId() {
+        return packageIdSequence.incrementAndGet();
+    }
+
+    /**
+     * Writes a package with a reserved primary key. Must be invoked after all the rows of the package are written,
+     * since the presence of the package marks it as indexed.
+     *
+     * @param packageId the reserved primary key of the package
+     * @param org       the organization of the package
+     * @param name      the name of the package
+     * @param version   the version of the package
+     * @param keywords  the keywords of the package
+     */
+    public static void insertPackage(int packageId, String org, String name, String version, List<String> keywords) {
+        String sql = "INSERT INTO Package (package_id, org, name, version, keywords) VALUES (?, ?, ?, ?, ?)";
+        insertEntry(sql, new Object[]{packageId, org, name, version,
+                keywords == null ? "" : String.join(",", keywords)});
     }
 
     public static int insertFunction(int packageId, String name, String description, String returnType, String kind,
                                      String resourcePath, int returnError, boolean inferredReturnType,
                                      String importStatements) {
-        String sql = "INSERT INTO Function (package_id, name, description, " +
+        String sql = "INSERT INTO Function (function_id, package_id, name, description, " +
                 "return_type, kind, resource_path, return_error, inferred_return_type, import_statements) " +
-                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        return insertEntry(sql, new Object[]{packageId, name, description,
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        int functionId = functionIdSequence.incrementAndGet();
+        insertEntry(sql, new Object[]{functionId, packageId, name, description,
                 returnType, kind, resourcePath, returnError, inferredReturnType ? 1 : 0, importStatements});
+        return functionId;
     }
 
     public static int insertFunctionParameter(int functionId, String paramName, String paramDescription,
@@ -108,12 +208,14 @@ class DatabaseManager {
                                               int optional, String importStatements) {
 
         String sql =
-                "INSERT INTO Parameter (function_id, name, description, type, default_value, kind, optional, " +
-                        "import_statements) " +
-                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-        return insertEntry(sql,
-                new Object[]{functionId, paramName, paramDescription, paramType, defaultValue,
+                "INSERT INTO Parameter (parameter_id, function_id, name, description, type, default_value, kind, " +
+                        "optional, import_statements) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        int parameterId = parameterIdSequence.incrementAndGet();
+        insertEntry(sql,
+                new Object[]{parameterId, functionId, paramName, paramDescription, paramType, defaultValue,
                         parameterKind.name(), optional, importStatements});
+        return parameterId;
     }
 
     public static void insertParameterMemberType(int parameterId, String type, String kind, String packageIdentifier) {
@@ -101,19 +101,44 @@ class IndexGenerator {
     private static final Logger LOGGER = Logger.getLogger(IndexGenerator.class.getName());
 
     public static void main(String[] args) {
-        DatabaseManager.createDatabase();
+        // Only the added or changed packages are analyzed in the incremental mode
+        boolean incremental = PackageIndexDiff.isIncremental(args) && DatabaseManager.databaseExists();
+        if (incremental) {
+            // Remove the rows of the packages that were not completely written by an interrupted run
+            DatabaseManager.deleteIncompleteRows();
+        } else {
+            DatabaseManager.createDatabase();
+        }
         BuildProject buildProject = PackageUtil.getSampleProject();
 
         Gson gson = new Gson();
         URL resource = IndexGenerator.class.getClassLoader().getResource(PackageListGenerator.PACKAGE_JSON_FILE);
         try (FileReader reader = new FileReader(Objects.requireNonNull(resource).getFile(), StandardCharsets.UTF_8)) {
-            Map<String, List<PackageListGenerator.PackageMetadataInfo>> packagesMap = gson.fromJson(reader,
+            Map<String, List<PackageListGenerator.PackageMetadataInfo>> listedPackages = gson.fromJson(reader,
                     typeToken);
+            Map<String, List<PackageListGenerator.PackageMetadataInfo>> packagesMap;
+            if (incremental) {
+                PackageIndexDiff<PackageListGenerator.PackageMetadataInfo> diff = PackageIndexDiff.compute(
+                        listedPackages, PackageListGenerator.PackageMetadataInfo::name,
+                        PackageListGenerator.PackageMetadataInfo::version, DatabaseManager.getIndexedPackages());
+                DatabaseManager.deletePackages(diff.packagesToDelete());
+                LOGGER.info("Incremental index update: " + diff.packagesToIndexCount() + " packages to index, " +
+                        diff.packagesToDelete().size() + " packages deleted");
+                packagesMap = diff.packagesToIndex();
+            } else {
+                packagesMap = listedPackages;
+            }
+
+            // The writer fails fast, and hence a failed row aborts the run. The packages that were not completely
+            // written are removed at the start of the next incremental run.
+            DatabaseManager.startWriter(incremental);
             ForkJoinPool forkJoinPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
             forkJoinPool.submit(() -> packagesMap.forEach((key, value) -> value.parallelStream().forEach(
                     packageMetadataInfo -> resolvePackage(buildProject, key, packageMetadataInfo)))).join();
         } catch (IOException e) {
             LOGGER.severe("Error reading packages JSON file: " + e.getMessage());
+        } finally {
+            DatabaseManager.stopWriter();
         }
 
         // TODO: Remove this once thw raw parameter property type is introduced
@@ -149,6 +174,8 @@ class IndexGenerator {
         DatabaseManager.updateTypeParameter("lang.table", "table:Type", "(any|error)");
         DatabaseManager.updateTypeParameter("lang.value", "value:AnydataType", "anydata");
         DatabaseManager.updateTypeParameter("lang.value", "value:Type", "(any|error)");
+
+        DatabaseManager.optimizeDatabase();
     }
 
     private static void resolvePackage(BuildProject buildProject, String org,
@@ -164,12 +191,7 @@ class IndexGenerator {
         PackageDescriptor descriptor = resolvedPackage.descriptor();
 
         LOGGER.info("Processing package: " + descriptor.name().value());
-        int packageId = DatabaseManager.insertPackage(descriptor.org().value(), descriptor.name().value(),
-                descriptor.version().value().toString(), resolvedPackage.manifest().keywords());
-        if (packageId == -1) {
-            LOGGER.severe("Error inserting package to database: " + descriptor.name().value());
-            return;
-        }
+        int packageId = DatabaseManager.reservePackageId();
 
         SemanticModel semanticModel;
         try {
@@ -238,6 +260,10 @@ class IndexGenerator {
                 }
             }
         }
+
+        // The package is written after its functions, so that a package is only indexed once all its rows are written
+        DatabaseManager.insertPackage(packageId, descriptor.org().value(), descriptor.name().value(),
+                descriptor.version().value().toString(), resolvedPackage.manifest().keywords());
     }
 
     private static boolean hasAllQualifiers(List<Qualifier> actualQualifiers, List<Qualifier> expectedQualifiers) {
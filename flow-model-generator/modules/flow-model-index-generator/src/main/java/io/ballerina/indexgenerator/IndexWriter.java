@@ -0,0 +1,253 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Writes the rows produced by the index generators to the database on a single dedicated thread.
+ *
+ * <p>
+ * The analysis workers only enqueue the rows, whereas the writer owns the only connection to the database. The rows
+ * are grouped into JDBC batches per statement and committed in large transactions, so that the workers never contend
+ * on the database lock. Since the rows are written asynchronously, the primary keys are assigned by the caller,
+ * typically from a sequence initialized with {@link #maxId(String, String, String)}. The rows are written in the order
+ * they are enqueued, and hence a row is only committed after all the rows enqueued before it.
+ * </p>
+ *
+ * <p>
+ * Unlike the synchronous inserts it replaces, which logged and skipped a failed row, the writer fails fast. Skipping a
+ * row is not sound when the keys are assigned upfront, since the rows referring to the skipped row are still written.
+ * Hence, the first failure rolls back the open transaction and stops the writer, after which {@link #write} and
+ * {@link #close} throw. The transactions committed before the failure may contain the rows of a package that was not
+ * completely written, which the caller must be able to detect and remove, as the central index generator does by
+ * writing the package row last.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class IndexWriter implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(IndexWriter.class.getName());
+    private static final int QUEUE_CAPACITY = 16384;
+    private static final int BATCH_SIZE = 1000;
+    private static final int TRANSACTION_SIZE = 50000;
+    private static final long ENQUEUE_TIMEOUT_MILLIS = 500;
+    private static final PendingRow END_OF_ROWS = new PendingRow(null, null);
+
+    private final String dbPath;
+    private final boolean durable;
+    private final BlockingQueue<PendingRow> queue;
+    private final Thread writerThread;
+    private volatile SQLException failure;
+
+    private IndexWriter(String dbPath, boolean durable) {
+        this.dbPath = dbPath;
+        this.durable = durable;
+        this.queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        this.writerThread = new Thread(this::drain, "index-writer");
+    }
+
+    /**
+     * Starts a writer for the given database.
+     *
+     * @param dbPath  the JDBC URL of the database
+     * @param durable whether the committed transactions must survive a crash, as when updating an existing database
+     * @return the started writer
+     */
+    static IndexWriter start(String dbPath, boolean durable) {
+        IndexWriter writer = new IndexWriter(dbPath, durable);
+        writer.writerThread.start();
+        return writer;
+    }
+
+    /**
+     * Returns the largest value of the given column, which is used to continue the primary key sequence of a table.
+     *
+     * @param dbPath the JDBC URL of the database
+     * @param table  the name of the table
+     * @param column the name of the primary key column
+     * @return the largest value of the column, or 0 if the table is empty
+     */
+    static int maxId(String dbPath, String table, String column) {
+        try (Connection conn = DriverManager.getConnection(dbPath);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (SQLException e) {
+            LOGGER.severe("Error reading the maximum ID of " + table + ": " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Enqueues a row to be written, blocking while the writer is behind by more than the queue capacity.
+     *
+     * @param sql    the insert statement
+     * @param params the parameters of the statement
+     * @throws IllegalStateException if the writer has stopped due to a failure
+     */
+    void write(String sql, Object[] params) {
+        if (failure != null || !enqueue(new PendingRow(sql, params))) {
+            throw new IllegalStateException("The index writer is not running", failure);
+        }
+    }
+
+    /**
+     * Writes the remaining rows, commits the final transaction and stops the writer.
+     */
+    @Override
+    public void close() {
+        try {
+            enqueue(END_OF_ROWS);
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the index writer", e);
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Failed to write the index: " + failure.getMessage(), failure);
+        }
+    }
+
+    private boolean enqueue(PendingRow row) {
+        try {
+            // Poll the state of the writer, so that the producers are not blocked forever if the writer fails
+            while (!queue.offer(row, ENQUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!writerThread.isAlive()) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while enqueuing a row to the index writer", e);
+        }
+    }
+
+    private void drain() {
+        Map<String, PreparedStatement> statements = new LinkedHashMap<>();
+        Map<String, Integer> batchSizes = new LinkedHashMap<>();
+        try (Connection conn = DriverManager.getConnection(dbPath)) {
+            try {
+                writeRows(conn, statements, batchSizes);
+            } catch (SQLException | InterruptedException e) {
+                rollback(conn);
+                throw e;
+            } finally {
+                for (PreparedStatement stmt : statements.values()) {
+                    try {
+                        stmt.close();
+                    } catch (SQLException e) {
+                        LOGGER.warning("Error closing prepared statement: " + e.getMessage());
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.severe("Error writing rows to the index: " + e.getMessage());
+            failure = e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = new SQLException("The index writer was interrupted", e);
+        }
+    }
+
+    private static void rollback(Connection conn) {
+        try {
+            if (!conn.getAutoCommit()) {
+                conn.rollback();
+            }
+        } catch (SQLException e) {
+            LOGGER.warning("Error rolling back the index transaction: " + e.getMessage());
+        }
+    }
+
+    private void writeRows(Connection conn, Map<String, PreparedStatement> statements,
+                           Map<String, Integer> batchSizes) throws SQLException, InterruptedException {
+        long rowsWritten = 0;
+        // A new database is regenerated from the sources on failure, hence durability is only required when an existing
+        // database is updated
+        if (!durable) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("PRAGMA synchronous = OFF");
+                stmt.execute("PRAGMA journal_mode = MEMORY");
+            }
+        }
+        conn.setAutoCommit(false);
+
+        List<PendingRow> rows = new ArrayList<>(BATCH_SIZE);
+        int uncommittedRows = 0;
+        boolean done = false;
+        while (!done) {
+            rows.add(queue.take());
+            queue.drainTo(rows, BATCH_SIZE - 1);
+            for (PendingRow row : rows) {
+                if (row == END_OF_ROWS) {
+                    done = true;
+                    break;
+                }
+                PreparedStatement stmt = statements.get(row.sql());
+                if (stmt == null) {
+                    stmt = conn.prepareStatement(row.sql());
+                    statements.put(row.sql(), stmt);
+                }
+                for (int i = 0; i < row.params().length; i++) {
+                    stmt.setObject(i + 1, row.params()[i]);
+                }
+                stmt.addBatch();
+                int batchSize = batchSizes.merge(row.sql(), 1, Integer::sum);
+                if (batchSize >= BATCH_SIZE) {
+                    stmt.executeBatch();
+                    batchSizes.put(row.sql(), 0);
+                }
+                uncommittedRows++;
+                rowsWritten++;
+            }
+            rows.clear();
+
+            if (done || uncommittedRows >= TRANSACTION_SIZE) {
+                for (Map.Entry<String, PreparedStatement> entry : statements.entrySet()) {
+                    if (batchSizes.getOrDefault(entry.getKey(), 0) > 0) {
+                        entry.getValue().executeBatch();
+                        batchSizes.put(entry.getKey(), 0);
+                    }
+                }
+                conn.commit();
+                uncommittedRows = 0;
+            }
+        }
+        LOGGER.info("Index writer committed " + rowsWritten + " rows");
+    }
+
+    private record PendingRow(String sql, Object[] params) {
+    }
+}
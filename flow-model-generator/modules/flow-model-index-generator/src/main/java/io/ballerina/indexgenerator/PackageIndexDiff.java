@@ -0,0 +1,200 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Represents the difference between the packages listed for an index and the packages already stored in the index
+ * database. Used by the incremental mode of the index generators, which only analyzes the added or changed packages and
+ * deletes the packages that are no longer listed.
+ *
+ * @param packagesToIndex  the listed packages that are not in the database, mapped by organization
+ * @param packagesToDelete the packages in the database that are no longer listed, including the outdated versions
+ * @param <T>              the type of the package metadata in the package list
+ * @since 2.0.0
+ */
+record PackageIndexDiff<T>(Map<String, List<T>> packagesToIndex, List<IndexedPackage> packagesToDelete) {
+
+    private static final Logger LOGGER = Logger.getLogger(PackageIndexDiff.class.getName());
+    static final String INCREMENTAL_FLAG = "--incremental";
+
+    /**
+     * Checks whether the incremental mode is requested through the program arguments.
+     *
+     * @param args the program arguments
+     * @return true if the incremental flag is present
+     */
+    static boolean isIncremental(String[] args) {
+        return Arrays.asList(args).contains(INCREMENTAL_FLAG);
+    }
+
+    /**
+     * Computes the packages to analyze and delete, comparing the org, name and version of each package.
+     *
+     * @param packagesMap      the listed packages, mapped by organization
+     * @param nameFunction     the function to obtain the name of a listed package
+     * @param versionFunction  the function to obtain the version of a listed package
+     * @param indexedPackages  the packages stored in the database
+     * @param <T>              the type of the package metadata in the package list
+     * @return the difference between the listed and stored packages
+     */
+    static <T> PackageIndexDiff<T> compute(Map<String, List<T>> packagesMap, Function<T, String> nameFunction,
+                                           Function<T, String> versionFunction,
+                                           List<IndexedPackage> indexedPackages) {
+        Set<String> indexedKeys = new HashSet<>();
+        indexedPackages.forEach(indexedPackage -> indexedKeys.add(indexedPackage.key()));
+
+        Set<String> listedKeys = new HashSet<>();
+        Map<String, List<T>> packagesToIndex = new HashMap<>();
+        packagesMap.forEach((org, packages) -> {
+            for (T pkg : packages) {
+                String key = key(org, nameFunction.apply(pkg), versionFunction.apply(pkg));
+                listedKeys.add(key);
+                if (!indexedKeys.contains(key)) {
+                    packagesToIndex.computeIfAbsent(org, k -> new ArrayList<>()).add(pkg);
+                }
+            }
+        });
+
+        List<IndexedPackage> packagesToDelete = indexedPackages.stream()
+                .filter(indexedPackage -> !listedKeys.contains(indexedPackage.key()))
+                .toList();
+        return new PackageIndexDiff<>(packagesToIndex, packagesToDelete);
+    }
+
+    /**
+     * Reads the packages stored in the database.
+     *
+     * @param dbPath the JDBC URL of the database
+     * @param sql    the query selecting the primary key, organization, name and version of each package, in order
+     * @return the stored packages
+     */
+    static List<IndexedPackage> getIndexedPackages(String dbPath, String sql) {
+        List<IndexedPackage> packages = new ArrayList<>();
+        try (Connection conn = DriverManager.getConnection(dbPath);
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                packages.add(new IndexedPackage(rs.getInt(1), rs.getString(2), rs.getString(3), rs.getString(4)));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Error reading the indexed packages: " + e.getMessage(), e);
+        }
+        return packages;
+    }
+
+    /**
+     * Deletes the rows of the packages that were not completely written in a single transaction, so that the packages
+     * are not considered as indexed and are analyzed again.
+     *
+     * @param dbPath     the JDBC URL of the database
+     * @param statements the delete statements, ordered such that the rows referring to the deleted rows are deleted
+     *                   afterward
+     */
+    static void deleteIncompleteRows(String dbPath, List<String> statements) {
+        try (Connection conn = DriverManager.getConnection(dbPath)) {
+            conn.setAutoCommit(false);
+            int deletedRows = 0;
+            try (Statement stmt = conn.createStatement()) {
+                for (String sql : statements) {
+                    deletedRows += stmt.executeUpdate(sql);
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+            if (deletedRows > 0) {
+                LOGGER.info("Deleted " + deletedRows + " rows of incompletely indexed packages");
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Error deleting the incompletely indexed packages: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Deletes the given packages from the database in a single transaction. Each statement is executed once per
+     * package, with the primary key of the package as its only parameter.
+     *
+     * @param dbPath     the JDBC URL of the database
+     * @param statements the delete statements, ordered such that the dependent rows are deleted first
+     * @param packages   the packages to delete
+     */
+    static void deletePackages(String dbPath, List<String> statements, List<IndexedPackage> packages) {
+        try (Connection conn = DriverManager.getConnection(dbPath)) {
+            conn.setAutoCommit(false);
+            try {
+                for (String sql : statements) {
+                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                        for (IndexedPackage indexedPackage : packages) {
+                            stmt.setInt(1, indexedPackage.id());
+                            stmt.addBatch();
+                        }
+                        stmt.executeBatch();
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+            packages.forEach(indexedPackage -> LOGGER.info("Deleted package: " + indexedPackage.key()));
+        } catch (SQLException e) {
+            throw new IllegalStateException("Error deleting the removed packages: " + e.getMessage(), e);
+        }
+    }
+
+    int packagesToIndexCount() {
+        return packagesToIndex.values().stream().mapToInt(List::size).sum();
+    }
+
+    private static String key(String org, String name, String version) {
+        return org + "/" + name + ":" + version;
+    }
+
+    /**
+     * Represents a package stored in an index database.
+     *
+     * @param id      the primary key of the package
+     * @param org     the organization of the package
+     * @param name    the name of the package
+     * @param version the version of the package
+     */
+    record IndexedPackage(int id, String org, String name, String version) {
+
+        String key() {
+            return PackageIndexDiff.key(org, name, version);
+        }
+    }
+}
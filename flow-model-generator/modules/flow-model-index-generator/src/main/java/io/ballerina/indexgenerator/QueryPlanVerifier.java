@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import io.ballerina.modelgenerator.commons.CentralIndexQueries;
+import io.ballerina.modelgenerator.commons.SearchIndexQueries;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Verifies that the queries issued by the model generators at runtime are served by indexes. The index build fails if
+ * the query plan of any of the runtime queries falls back to a full table scan. The queries are obtained from
+ * {@link CentralIndexQueries} and {@link SearchIndexQueries}, from which the database managers of the model generators
+ * build their lookups.
+ *
+ * @since 2.0.0
+ */
+class QueryPlanVerifier {
+
+    private static final Logger LOGGER = Logger.getLogger(QueryPlanVerifier.class.getName());
+    private static final String FULL_SCAN_PREFIX = "SCAN ";
+    private static final String VIRTUAL_TABLE_SCAN = "VIRTUAL TABLE";
+
+    private QueryPlanVerifier() {
+    }
+
+    /**
+     * Updates the planner statistics of the database so that the runtime queries pick the most selective index.
+     *
+     * @param dbPath the JDBC URL of the database
+     */
+    static void analyze(String dbPath) {
+        try (Connection conn = DriverManager.getConnection(dbPath);
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("ANALYZE");
+            LOGGER.info("Database statistics updated successfully");
+        } catch (SQLException e) {
+            LOGGER.severe("Error analyzing the database: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Checks the query plan of each of the given queries and fails if any of them performs a full table scan.
+     *
+     * @param dbPath  the JDBC URL of the database
+     * @param queries the runtime queries to verify
+     * @throws IllegalStateException if a query plan contains a full table scan or could not be obtained
+     */
+    static void verify(String dbPath, List<String> queries) {
+        List<String> violations = new ArrayList<>();
+        try (Connection conn = DriverManager.getConnection(dbPath)) {
+            for (String query : queries) {
+                for (String detail : getQueryPlan(conn, query)) {
+                    if (detail.startsWith(FULL_SCAN_PREFIX) && !detail.contains(VIRTUAL_TABLE_SCAN)) {
+                        violations.add(detail + " in query: " + query.strip().replaceAll("\\s+", " "));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to verify the query plans: " + e.getMessage(), e);
+        }
+
+        if (!violations.isEmpty()) {
+            violations.forEach(violation -> LOGGER.severe("Full table scan detected: " + violation));
+            throw new IllegalStateException(violations.size() + " runtime queries fall back to a full table scan");
+        }
+        LOGGER.info("Verified the query plans of " + queries.size() + " queries");
+    }
+
+    private static List<String> getQueryPlan(Connection conn, String query) throws SQLException {
+        List<String> details = new ArrayList<>();
+        try (PreparedStatement stmt = conn.prepareStatement("EXPLAIN QUERY PLAN " + query)) {
+            ParameterMetaData metaData = stmt.getParameterMetaData();
+            for (int i = 1; i <= metaData.getParameterCount(); i++) {
+                stmt.setObject(i, null);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    details.add(rs.getString("detail"));
+                }
+            }
+        }
+        return details;
+    }
+}
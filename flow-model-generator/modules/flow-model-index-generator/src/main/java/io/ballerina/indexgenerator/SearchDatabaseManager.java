@@ -18,6 +18,8 @@
 
 package io.ballerina.indexgenerator;
 
+import io.ballerina.modelgenerator.commons.SearchIndexQueries;
+
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -27,6 +29,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -42,15 +45,18 @@ class SearchDatabaseManager {
     private static final Logger LOGGER = Logger.getLogger(DatabaseManager.class.getName());
     private static final String INDEX_FILE_NAME = "search-index.sqlite";
     private static final String CENTRAL_INDEX_SQL = "search-index.sql";
-    private static final String dbPath = getDatabasePath();
-
-    private static String getDatabasePath() {
-        String destinationPath = Path
-                .of("flow-model-generator/modules/flow-model-generator-ls-extension/src/main/resources")
-                .resolve(INDEX_FILE_NAME)
-                .toString();
-        return "jdbc:sqlite:" + destinationPath;
-    }
+    private static final Path dbFilePath = Path
+            .of("flow-model-generator/modules/flow-model-generator-ls-extension/src/main/resources")
+            .resolve(INDEX_FILE_NAME);
+    private static final String dbPath = "jdbc:sqlite:" + dbFilePath;
+
+    static final List<String> DELETE_PACKAGE_STATEMENTS = List.of(
+            "DELETE FROM Function WHERE package_id = ?",
+            "DELETE FROM Connector WHERE package_id = ?",
+            "DELETE FROM Type WHERE package_id = ?",
+            "DELETE FROM Package WHERE id = ?"
+    );
+    static final String INDEXED_PACKAGES_QUERY = "SELECT id, org, name, version FROM Package";
 
     private static void executeQuery(String sql) {
         try (Connection conn = DriverManager.getConnection(dbPath);
@@ -62,24 +68,14 @@ class SearchDatabaseManager {
         }
     }
 
-    private static int insertEntry(String sql, Object[] params) {
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            for (int i = 0; i < params.length; i++) {
-                stmt.setObject(i + 1, params[i]);
-            }
-            stmt.executeUpdate();
-            try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
-                if (generatedKeys.next()) {
-                    return generatedKeys.getInt(1);
-                } else {
-                    throw new SQLException("Creating package failed, no ID obtained.");
-                }
-            }
-        } catch (SQLException e) {
-            LOGGER.severe("Error executing query: " + e.getMessage());
-            return -1;
-        }
+    /**
+     * Updates the planner statistics and verifies that the runtime queries are served by indexes.
+     *
+     * @throws IllegalStateException if any of the runtime queries falls back to a full table scan
+     */
+    public static void optimizeDatabase() {
+        QueryPlanVerifier.analyze(dbPath);
+        QueryPlanVerifier.verify(dbPath, SearchIndexQueries.accessPaths());
     }
 
     public static void createDatabase() {
@@ -93,25 +89,85 @@ class SearchDatabaseManager {
         }
     }
 
-    public static int insertPackage(String org, String name, String version, int pullCount, List<String> keywords) {
-        String sql = "INSERT INTO Package (org, name, version, pull_count, keywords) VALUES (?, ?, ?, ?, ?)";
-        return insertEntry(sql,
-                new Object[]{org, name, version, pullCount, keywords == null ? "" : String.join(",", keywords)});
+    public static boolean databaseExists() {
+        return Files.isRegularFile(dbFilePath);
+    }
+
+    public static List<PackageIndexDiff.IndexedPackage> getIndexedPackages() {
+        return PackageIndexDiff.getIndexedPackages(dbPath, INDEXED_PACKAGES_QUERY);
     }
 
-    public static void insertFunction(String name, String description, int packageId) {
-        String sql = "INSERT INTO Function (name, description, package_id) VALUES (?, ?, ?)";
-        insertEntry(sql, new Object[]{name, description, packageId});
+    /**
+     * Deletes the given packages along with their functions, connectors and types in a single transaction. The
+     * package is deleted last, since the delete triggers of the FTS tables look up the package name.
+     *
+     * @param packages the packages to delete
+     */
+    public static void deletePackages(List<PackageIndexDiff.IndexedPackage> packages) {
+        if (packages.isEmpty()) {
+            return;
+        }
+        PackageIndexDiff.deletePackages(dbPath, DELETE_PACKAGE_STATEMENTS, packages);
+    }
+
+    /**
+     * Writes a package along with its functions, connectors and types in a single transaction, so that a package is
+     * only indexed once all its rows are written. The package is written first, since the insert triggers of the FTS
+     * tables look up the package name. A duplicate function, connector or type of a package is skipped.
+     *
+     * @param packageRows the rows of the package
+     * @throws SQLException if the rows cannot be written, in which case none of the rows are written
+     */
+    public static synchronized void insertPackage(PackageRows packageRows) throws SQLException {
+        try (Connection conn = DriverManager.getConnection(dbPath)) {
+            conn.setAutoCommit(false);
+            try {
+                int packageId;
+                try (PreparedStatement stmt = conn.prepareStatement(
+                        "INSERT INTO Package (org, name, version, pull_count, keywords) VALUES (?, ?, ?, ?, ?)")) {
+                    setParameters(stmt, packageRows.packageParams);
+                    stmt.executeUpdate();
+                    try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                        if (!generatedKeys.next()) {
+                            throw new SQLException("Creating package failed, no ID obtained.");
+                        }
+                        packageId = generatedKeys.getInt(1);
+                    }
+                }
+                insertRows(conn, "INSERT OR IGNORE INTO Function (name, description, package_id) VALUES (?, ?, ?)",
+                        packageRows.functions, packageId);
+                insertRows(conn,
+                        "INSERT OR IGNORE INTO Connector (name, description, category, package_id) VALUES (?, ?, ?, ?)",
+                        packageRows.connectors, packageId);
+                insertRows(conn, "INSERT OR IGNORE INTO Type (name, description, kind, package_id) VALUES (?, ?, ?, ?)",
+                        packageRows.types, packageId);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
     }
 
-    public static void insertConnector(String name, String description, String category, int packageId) {
-        String sql = "INSERT INTO Connector (name, description, category, package_id) VALUES (?, ?, ?, ?)";
-        insertEntry(sql, new Object[]{name, description, category, packageId});
+    private static void insertRows(Connection conn, String sql, List<Object[]> rows, int packageId)
+            throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (Object[] row : rows) {
+                setParameters(stmt, row);
+                stmt.setInt(row.length + 1, packageId);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
     }
 
-    public static void insertType(String name, String description, String kind, int packageId) {
-        String sql = "INSERT INTO Type (name, description, kind, package_id) VALUES (?, ?, ?, ?)";
-        insertEntry(sql, new Object[]{name, description, kind, packageId});
+    private static void setParameters(PreparedStatement stmt, Object[] params) throws SQLException {
+        for (int i = 0; i < params.length; i++) {
+            stmt.setObject(i + 1, params[i]);
+        }
     }
 
     public static void deleteConnector(String packageName, List<String> connectors) {
@@ -127,4 +183,32 @@ class SearchDatabaseManager {
             LOGGER.severe("Error deleting connector: " + e.getMessage());
         }
     }
+
+    /**
+     * Collects the rows of a package until the package is completely analyzed.
+     */
+    static class PackageRows {
+
+        private final Object[] packageParams;
+        private final List<Object[]> functions = new ArrayList<>();
+        private final List<Object[]> connectors = new ArrayList<>();
+        private final List<Object[]> types = new ArrayList<>();
+
+        PackageRows(String org, String name, String version, int pullCount, List<String> keywords) {
+            this.packageParams = new Object[]{org, name, version, pullCount,
+                    keywords == null ? "" : String.join(",", keywords)};
+        }
+
+        void addFunction(String name, String description) {
+            functions.add(new Object[]{name, description});
+        }
+
+        void addConnector(String name, String description, String category) {
+            connectors.add(new Object[]{name, description, category});
+        }
+
+        void addType(String name, String description, String kind) {
+            types.add(new Object[]{name, description, kind});
+        }
+    }
 }
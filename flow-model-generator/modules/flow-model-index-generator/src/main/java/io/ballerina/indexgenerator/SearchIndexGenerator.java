@@ -41,6 +41,7 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -67,14 +68,30 @@ public class SearchIndexGenerator {
     private static final String CONNECTOR_EXCLUDE_JSON = "connector_exclude.json";
 
     public static void main(String[] args) {
-        SearchDatabaseManager.createDatabase();
+        // Only the added or changed packages are analyzed in the incremental mode
+        boolean incremental = PackageIndexDiff.isIncremental(args) && SearchDatabaseManager.databaseExists();
+        if (!incremental) {
+            SearchDatabaseManager.createDatabase();
+        }
         BuildProject buildProject = PackageUtil.getSampleProject();
 
         Gson gson = new Gson();
         URL resource = IndexGenerator.class.getClassLoader().getResource(SearchListGenerator.PACKAGE_JSON_FILE);
         try (FileReader reader = new FileReader(Objects.requireNonNull(resource).getFile(), StandardCharsets.UTF_8)) {
-            Map<String, List<SearchListGenerator.PackageMetadataInfo>> packagesMap = gson.fromJson(reader,
+            Map<String, List<SearchListGenerator.PackageMetadataInfo>> listedPackages = gson.fromJson(reader,
                     typeToken);
+            Map<String, List<SearchListGenerator.PackageMetadataInfo>> packagesMap;
+            if (incremental) {
+                PackageIndexDiff<SearchListGenerator.PackageMetadataInfo> diff = PackageIndexDiff.compute(
+                        listedPackages, SearchListGenerator.PackageMetadataInfo::name,
+                        SearchListGenerator.PackageMetadataInfo::version, SearchDatabaseManager.getIndexedPackages());
+                SearchDatabaseManager.deletePackages(diff.packagesToDelete());
+                LOGGER.info("Incremental index update: " + diff.packagesToIndexCount() + " packages to index, " +
+                        diff.packagesToDelete().size() + " packages deleted");
+                packagesMap = diff.packagesToIndex();
+            } else {
+                packagesMap = listedPackages;
+            }
             int totalPackages = packagesMap.values().stream().mapToInt(List::size).sum();
             SearchIndexLogger logger = new SearchIndexLogger(totalPackages);
             packagesMap.forEach((key, packages) ->
@@ -116,6 +133,8 @@ public class SearchIndexGenerator {
         } catch (URISyntaxException | IOException e) {
             LOGGER.severe("Error reading connector_exclude.json file: " + e.getMessage());
         }
+
+        SearchDatabaseManager.optimizeDatabase();
     }
 
     private static void resolvePackage(BuildProject buildProject, String org,
@@ -131,13 +150,9 @@ public class SearchIndexGenerator {
         }
         PackageDescriptor descriptor = resolvedPackage.descriptor();
 
-        int packageId = SearchDatabaseManager.insertPackage(descriptor.org().value(), descriptor.name().value(),
-                descriptor.version().value().toString(), packageMetadataInfo.pullCount(),
-                resolvedPackage.manifest().keywords());
-
-        if (packageId == -1) {
-            throw new Exception("Error inserting package to database: " + descriptor.name().value());
-        }
+        SearchDatabaseManager.PackageRows packageRows = new SearchDatabaseManager.PackageRows(
+                descriptor.org().value(), descriptor.name().value(), descriptor.version().value().toString(),
+                packageMetadataInfo.pullCount(), resolvedPackage.manifest().keywords());
 
         SemanticModel semanticModel = PackageUtil.getCompilation(resolvedPackage)
                 .getSemanticModel(resolvedPackage.getDefaultModule().moduleId());
@@ -149,7 +164,7 @@ public class SearchIndexGenerator {
                     if (info.isEmpty()) {
                         continue;
                     }
-                    SearchDatabaseManager.insertFunction(info.get().name(), info.get().description(), packageId);
+                    packageRows.addFunction(info.get().name(), info.get().description());
                 }
                 case CLASS -> {
                     ClassSymbol classSymbol = (ClassSymbol) symbol;
@@ -159,11 +174,9 @@ public class SearchIndexGenerator {
                     }
 
                     if (classSymbol.qualifiers().contains(Qualifier.CLIENT)) {
-                        SearchDatabaseManager.insertConnector(info.get().name(), info.get().description(), "Connector",
-                                packageId);
+                        packageRows.addConnector(info.get().name(), info.get().description(), "Connector");
                     } else {
-                        SearchDatabaseManager.insertType(info.get().name(), info.get().description(), "class",
-                                packageId);
+                        packageRows.addType(info.get().name(), info.get().description(), "class");
                     }
                 }
                 case TYPE_DEFINITION -> {
@@ -173,20 +186,26 @@ public class SearchIndexGenerator {
                         continue;
                     }
                     String kind = CommonUtils.getRawType(typeDefinitionSymbol.typeDescriptor()).typeKind().getName();
-                    SearchDatabaseManager.insertType(info.get().name(), info.get().description(), kind, packageId);
+                    packageRows.addType(info.get().name(), info.get().description(), kind);
                 }
                 case ENUM -> {
                     Optional<Info> info = getName(symbol);
                     if (info.isEmpty()) {
                         continue;
                     }
-                    SearchDatabaseManager.insertType(info.get().name(), info.get().description(), "enum", packageId);
+                    packageRows.addType(info.get().name(), info.get().description(), "enum");
                 }
                 default -> {
                     // Do nothing
                 }
             }
         }
+
+        try {
+            SearchDatabaseManager.insertPackage(packageRows);
+        } catch (SQLException e) {
+            throw new Exception("Error inserting package to database: " + descriptor.name().value(), e);
+        }
         logger.completion(packageMetadataInfo.name());
     }
 
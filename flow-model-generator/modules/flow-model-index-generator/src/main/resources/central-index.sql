@@ -63,3 +63,12 @@ CREATE TABLE ParameterMemberType (
     package TEXT, -- format of the package is org:name:version
     FOREIGN KEY (parameter_id) REFERENCES Parameter(parameter_id) ON DELETE CASCADE
 );
+
+-- Create indexes for the lookups performed by the model generators
+CREATE INDEX idx_package_org_name ON Package(org, name, version);
+CREATE INDEX idx_package_name ON Package(name, org, version);
+CREATE INDEX idx_function_package_kind_name ON Function(package_id, kind, name, resource_path);
+CREATE INDEX idx_function_kind ON Function(kind, package_id);
+CREATE INDEX idx_function_connector_connector ON FunctionConnector(connector_id, function_id);
+CREATE INDEX idx_parameter_function ON Parameter(function_id);
+CREATE INDEX idx_parameter_member_type_parameter ON ParameterMemberType(parameter_id, type, kind, package);
@@ -47,6 +47,12 @@ CREATE TABLE Type (
     FOREIGN KEY (package_id) REFERENCES Package(id)
 );
 
+-- Create indexes for the lookups performed by the model generators
+CREATE INDEX idx_package_name ON Package(name, org, version);
+CREATE INDEX idx_function_package ON Function(package_id, name);
+CREATE INDEX idx_connector_package ON Connector(package_id, name);
+CREATE INDEX idx_type_package ON Type(package_id, name);
+
 -- Create FTS tables for search
 CREATE VIRTUAL TABLE ConnectorFTS USING fts5(
     name,
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Test the failure handling of the index writer.
+ *
+ * @since 2.0.0
+ */
+public class IndexWriterTest {
+
+    private static final Path CENTRAL_INDEX_SQL = Paths.get("src", "main", "resources", "central-index.sql");
+    private static final String INSERT_PACKAGE = "INSERT INTO Package (package_id, org, name, version, keywords) " +
+            "VALUES (?, 'ballerina', ?, '1.0.0', '')";
+
+    private Path dbFile;
+    private String dbPath;
+
+    @BeforeMethod
+    public void createDatabase() throws IOException, SQLException {
+        dbFile = Files.createTempFile("central-index", ".sqlite");
+        dbPath = "jdbc:sqlite:" + dbFile;
+        try (Connection conn = DriverManager.getConnection(dbPath);
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(Files.readString(CENTRAL_INDEX_SQL));
+        }
+    }
+
+    @AfterMethod
+    public void deleteDatabase() throws IOException {
+        Files.deleteIfExists(dbFile);
+    }
+
+    @Test(description = "The rows of a committed transaction are written")
+    public void testWrite() {
+        try (IndexWriter writer = IndexWriter.start(dbPath, true)) {
+            writer.write(INSERT_PACKAGE, new Object[]{1, "http"});
+            writer.write(INSERT_PACKAGE, new Object[]{2, "io"});
+        }
+        Assert.assertEquals(IndexWriter.maxId(dbPath, "Package", "package_id"), 2);
+    }
+
+    @Test(description = "A failed row stops the writer and rolls back the open transaction, instead of being skipped")
+    public void testFailFast() {
+        IndexWriter writer = IndexWriter.start(dbPath, true);
+        writer.write(INSERT_PACKAGE, new Object[]{1, "http"});
+        writer.write(INSERT_PACKAGE, new Object[]{1, "io"});
+        Assert.assertThrows(IllegalStateException.class, writer::close);
+        Assert.assertThrows(IllegalStateException.class, () -> writer.write(INSERT_PACKAGE, new Object[]{2, "log"}));
+        Assert.assertEquals(IndexWriter.maxId(dbPath, "Package", "package_id"), 0);
+    }
+}
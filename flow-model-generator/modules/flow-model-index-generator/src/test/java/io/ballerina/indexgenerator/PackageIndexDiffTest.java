@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test the incremental update of the central index.
+ *
+ * @since 2.0.0
+ */
+public class PackageIndexDiffTest {
+
+    private static final Path CENTRAL_INDEX_SQL = Paths.get("src", "main", "resources", "central-index.sql");
+    private static final String INSERT_FUNCTION = "INSERT INTO Function (function_id, package_id, name, kind, " +
+            "resource_path) VALUES (?, ?, ?, 'FUNCTION', '')";
+    private static final String INSERT_PARAMETER = "INSERT INTO Parameter (parameter_id, function_id, name, kind) " +
+            "VALUES (?, ?, ?, 'REQUIRED')";
+    private static final String INSERT_MEMBER_TYPE = "INSERT INTO ParameterMemberType (parameter_id, type, kind, " +
+            "package) VALUES (?, 'string', 'OTHER', '')";
+    private static final String INSERT_PACKAGE = "INSERT INTO Package (package_id, org, name, version, keywords) " +
+            "VALUES (?, ?, ?, ?, '')";
+
+    private Path dbFile;
+    private String dbPath;
+
+    @BeforeMethod
+    public void createDatabase() throws IOException, SQLException {
+        dbFile = Files.createTempFile("central-index", ".sqlite");
+        dbPath = "jdbc:sqlite:" + dbFile;
+        try (Connection conn = DriverManager.getConnection(dbPath);
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(Files.readString(CENTRAL_INDEX_SQL));
+        }
+    }
+
+    @AfterMethod
+    public void deleteDatabase() throws IOException {
+        Files.deleteIfExists(dbFile);
+    }
+
+    @Test(description = "Only the added and changed packages are indexed, and the changed and removed packages are " +
+            "deleted")
+    public void testCompute() {
+        Map<String, List<ListedPackage>> listedPackages = Map.of(
+                "ballerina", List.of(new ListedPackage("http", "2.0.0"), new ListedPackage("io", "1.1.0"),
+                        new ListedPackage("log", "1.0.0")));
+        List<PackageIndexDiff.IndexedPackage> indexedPackages = List.of(
+                new PackageIndexDiff.IndexedPackage(1, "ballerina", "http", "2.0.0"),
+                new PackageIndexDiff.IndexedPackage(2, "ballerina", "io", "1.0.0"),
+                new PackageIndexDiff.IndexedPackage(3, "ballerina", "time", "1.0.0"));
+
+        PackageIndexDiff<ListedPackage> diff = PackageIndexDiff.compute(listedPackages, ListedPackage::name,
+                ListedPackage::version, indexedPackages);
+
+        Assert.assertEquals(diff.packagesToIndex(), Map.of(
+                "ballerina", List.of(new ListedPackage("io", "1.1.0"), new ListedPackage("log", "1.0.0"))));
+        Assert.assertEquals(diff.packagesToIndexCount(), 2);
+        Assert.assertEquals(diff.packagesToDelete(), List.of(indexedPackages.get(1), indexedPackages.get(2)));
+    }
+
+    @Test(description = "The rows of the deleted packages are deleted, and the rows of the other packages are kept")
+    public void testDeletePackages() throws SQLException {
+        writePackage(1, "http", true);
+        writePackage(2, "io", true);
+
+        List<PackageIndexDiff.IndexedPackage> indexedPackages =
+                PackageIndexDiff.getIndexedPackages(dbPath, DatabaseManager.INDEXED_PACKAGES_QUERY);
+        Assert.assertEquals(indexedPackages, List.of(
+                new PackageIndexDiff.IndexedPackage(1, "ballerina", "http", "1.0.0"),
+                new PackageIndexDiff.IndexedPackage(2, "ballerina", "io", "1.0.0")));
+
+        PackageIndexDiff.deletePackages(dbPath, DatabaseManager.DELETE_PACKAGE_STATEMENTS,
+                List.of(indexedPackages.get(0)));
+        Assert.assertEquals(PackageIndexDiff.getIndexedPackages(dbPath, DatabaseManager.INDEXED_PACKAGES_QUERY),
+                List.of(indexedPackages.get(1)));
+        assertRowCounts(1);
+    }
+
+    @Test(description = "The rows of a package that was not completely written are deleted, and the package is " +
+            "indexed again")
+    public void testRetryIncompletePackage() throws SQLException {
+        writePackage(1, "http", true);
+        // The run is interrupted after the functions of the package are written, but before the package is written
+        writePackage(2, "io", false);
+        assertRowCounts(2);
+
+        PackageIndexDiff.deleteIncompleteRows(dbPath, DatabaseManager.DELETE_INCOMPLETE_ROWS_STATEMENTS);
+        assertRowCounts(1);
+
+        List<PackageIndexDiff.IndexedPackage> indexedPackages =
+                PackageIndexDiff.getIndexedPackages(dbPath, DatabaseManager.INDEXED_PACKAGES_QUERY);
+        Map<String, List<ListedPackage>> listedPackages = Map.of(
+                "ballerina", List.of(new ListedPackage("http", "1.0.0"), new ListedPackage("io", "1.0.0")));
+        PackageIndexDiff<ListedPackage> diff = PackageIndexDiff.compute(listedPackages, ListedPackage::name,
+                ListedPackage::version, indexedPackages);
+        Assert.assertEquals(diff.packagesToIndex(), Map.of("ballerina", List.of(new ListedPackage("io", "1.0.0"))));
+        Assert.assertTrue(diff.packagesToDelete().isEmpty());
+    }
+
+    // Writes a package with a function and a parameter through the index writer, in the order used by the generator
+    private void writePackage(int id, String name, boolean complete) {
+        try (IndexWriter writer = IndexWriter.start(dbPath, true)) {
+            writer.write(INSERT_FUNCTION, new Object[]{id, id, name + "Function"});
+            writer.write(INSERT_PARAMETER, new Object[]{id, id, "param"});
+            writer.write(INSERT_MEMBER_TYPE, new Object[]{id});
+            if (complete) {
+                writer.write(INSERT_PACKAGE, new Object[]{id, "ballerina", name, "1.0.0"});
+            }
+        }
+    }
+
+    private void assertRowCounts(int expected) throws SQLException {
+        for (String table : List.of("Function", "Parameter", "ParameterMemberType")) {
+            try (Connection conn = DriverManager.getConnection(dbPath);
+                 Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + table)) {
+                Assert.assertEquals(rs.getInt(1), expected, "Unexpected number of rows in " + table);
+            }
+        }
+    }
+
+    private record ListedPackage(String name, String version) {
+    }
+}
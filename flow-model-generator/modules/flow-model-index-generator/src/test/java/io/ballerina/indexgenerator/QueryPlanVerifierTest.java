@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.indexgenerator;
+
+import io.ballerina.modelgenerator.commons.CentralIndexQueries;
+import io.ballerina.modelgenerator.commons.SearchIndexQueries;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Test the query plans of the runtime queries against the schemas of the generated databases.
+ *
+ * @since 2.0.0
+ */
+public class QueryPlanVerifierTest {
+
+    private static final Path RESOURCES = Paths.get("src", "main", "resources");
+
+    @Test(dataProvider = "data-provider")
+    public void testVerify(String schema, List<String> queries) throws IOException, SQLException {
+        Path dbFile = Files.createTempFile("index", ".sqlite");
+        try {
+            String dbPath = "jdbc:sqlite:" + dbFile;
+            try (Connection conn = DriverManager.getConnection(dbPath);
+                 Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate(Files.readString(RESOURCES.resolve(schema)));
+            }
+            QueryPlanVerifier.analyze(dbPath);
+            QueryPlanVerifier.verify(dbPath, queries);
+        } finally {
+            Files.deleteIfExists(dbFile);
+        }
+    }
+
+    @Test(description = "A query without an index on its filter is reported")
+    public void testFullTableScan() throws IOException, SQLException {
+        Path dbFile = Files.createTempFile("index", ".sqlite");
+        try {
+            String dbPath = "jdbc:sqlite:" + dbFile;
+            try (Connection conn = DriverManager.getConnection(dbPath);
+                 Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate(Files.readString(RESOURCES.resolve("central-index.sql")));
+            }
+            Assert.assertThrows(IllegalStateException.class,
+                    () -> QueryPlanVerifier.verify(dbPath, List.of("SELECT * FROM Function WHERE description = ?")));
+        } finally {
+            Files.deleteIfExists(dbFile);
+        }
+    }
+
+    @DataProvider(name = "data-provider")
+    protected Object[][] getDataProvider() {
+        return new Object[][]{
+                {"central-index.sql", CentralIndexQueries.accessPaths()},
+                {"search-index.sql", SearchIndexQueries.accessPaths()}
+        };
+    }
+}
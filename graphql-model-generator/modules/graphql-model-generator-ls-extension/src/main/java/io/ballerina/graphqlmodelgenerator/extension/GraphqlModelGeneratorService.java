@@ -25,6 +25,7 @@ import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.graphqlmodelgenerator.core.ModelGenerator;
 import io.ballerina.graphqlmodelgenerator.core.exception.GraphqlModelGenerationException;
 import io.ballerina.graphqlmodelgenerator.core.model.GraphqlModel;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
 import io.ballerina.projects.Project;
 import org.ballerinalang.annotation.JavaSPIService;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
@@ -66,7 +67,7 @@ public class GraphqlModelGeneratorService implements ExtendedLanguageServerServi
     @JsonRequest
     public CompletableFuture<GraphqlDesignServiceResponse> getGraphqlModel(GraphqlDesignServiceRequest request) {
 
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("graphqlDesignService/getGraphqlModel", () -> {
             GraphqlDesignServiceResponse response = new GraphqlDesignServiceResponse();
             try {
                 Path filePath = Path.of(request.getFilePath());
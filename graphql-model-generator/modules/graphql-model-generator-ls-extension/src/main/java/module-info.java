@@ -24,4 +24,5 @@ module io.ballerina.LSExtensions.GraphqlDesignService {
     requires com.google.gson;
     requires io.ballerina.tools.api;
     requires io.ballerina.graphql.model.generator;
+    requires io.ballerina.model.generator.commons;
 }
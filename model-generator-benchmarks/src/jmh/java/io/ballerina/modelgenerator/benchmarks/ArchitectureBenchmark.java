@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.modelgenerator.benchmarks;
+
+import io.ballerina.artifactsgenerator.Artifact;
+import io.ballerina.artifactsgenerator.ArtifactsGenerator;
+import io.ballerina.designmodelgenerator.core.DesignModelGenerator;
+import io.ballerina.designmodelgenerator.core.model.DesignModel;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.Map;
+
+/**
+ * Benchmarks the generation of the design model and the artifacts of a package.
+ *
+ * @since 2.0.0
+ */
+public class ArchitectureBenchmark extends ProjectBenchmark {
+
+    @Benchmark
+    public DesignModel generateDesignModel() {
+        return new DesignModelGenerator(sampleProject.project().currentPackage()).generate();
+    }
+
+    @Benchmark
+    public Map<String, Map<String, Artifact>> artifacts() {
+        return ArtifactsGenerator.artifacts(sampleProject.project());
+    }
+}
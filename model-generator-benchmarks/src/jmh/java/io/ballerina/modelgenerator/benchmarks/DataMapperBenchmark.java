@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.modelgenerator.benchmarks;
+
+import com.google.gson.JsonElement;
+import io.ballerina.flowmodelgenerator.core.DataMapManager;
+import io.ballerina.projects.Document;
+import io.ballerina.tools.text.LinePosition;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmarks the generation of the data mapper model of a new variable, which compiles the variable on the project.
+ *
+ * @since 2.0.0
+ */
+public class DataMapperBenchmark extends ProjectBenchmark {
+
+    private Document document;
+    private LinePosition position;
+    private JsonElement variableNode;
+
+    @Override
+    protected void setup() {
+        document = sampleProject.document(SampleProject.MAIN_FILE);
+        position = sampleProject.insertPosition();
+        variableNode = FlowNodes.variable(SampleProject.MAIN_FILE, position, "Student" + size / 2, "mapped");
+    }
+
+    @Benchmark
+    public JsonElement getMappings() {
+        DataMapManager dataMapManager = new DataMapManager(sampleProject.workspaceManager(), document);
+        return dataMapManager.getMappings(variableNode, position, "expression", sampleProject.mainFile(), null,
+                sampleProject.project());
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.modelgenerator.benchmarks;
+
+import com.google.gson.JsonElement;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.flowmodelgenerator.core.ModelGenerator;
+import io.ballerina.flowmodelgenerator.core.SourceGenerator;
+import io.ballerina.flowmodelgenerator.core.model.JsonPayload;
+import io.ballerina.projects.Document;
+import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.langserver.LSClientLogger;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmarks the generation of the flow model of a function, and the generation of the source of a flow node.
+ *
+ * @since 2.0.0
+ */
+public class FlowModelBenchmark extends ProjectBenchmark {
+
+    private SemanticModel semanticModel;
+    private Document document;
+    private Document dataMappingsDoc;
+    private LineRange canvas;
+    private JsonElement variableNode;
+    private LSClientLogger lsClientLogger;
+
+    @Override
+    protected void setup() {
+        semanticModel = sampleProject.semanticModel();
+        document = sampleProject.document(SampleProject.MAIN_FILE);
+        dataMappingsDoc = sampleProject.document("data_mappings.bal");
+        canvas = sampleProject.canvasLineRange();
+        variableNode = FlowNodes.variable(SampleProject.MAIN_FILE, sampleProject.insertPosition(),
+                "Student" + size / 2, "student");
+        lsClientLogger = LSClientLogger.getInstance(sampleProject.serverContext());
+    }
+
+    @Benchmark
+    public String getFlowModel() {
+        ModelGenerator modelGenerator =
+                new ModelGenerator(sampleProject.project(), semanticModel, sampleProject.mainFile());
+        JsonPayload flowModel = modelGenerator.getFlowModel(document, canvas, dataMappingsDoc, null);
+        // Serialize the model as the response does
+        return JsonPayload.gson().toJson(flowModel);
+    }
+
+    @Benchmark
+    public JsonElement toSourceCode() {
+        SourceGenerator sourceGenerator =
+                new SourceGenerator(sampleProject.workspaceManager(), sampleProject.mainFile());
+        return sourceGenerator.toSourceCode(variableNode, lsClientLogger);
+    }
+}
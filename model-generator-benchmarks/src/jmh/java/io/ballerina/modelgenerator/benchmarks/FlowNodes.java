@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.modelgenerator.benchmarks;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import io.ballerina.tools.text.LinePosition;
+
+/**
+ * Builds the flow nodes sent by the client in the benchmarked requests.
+ *
+ * @since 2.0.0
+ */
+final class FlowNodes {
+
+    private FlowNodes() {
+    }
+
+    /**
+     * Returns a new variable node to be inserted at the given position.
+     *
+     * @param fileName the name of the file
+     * @param position the position to insert the variable
+     * @param type     the type of the variable
+     * @param name     the name of the variable
+     * @return the JSON representation of the variable node
+     */
+    static JsonElement variable(String fileName, LinePosition position, String type, String name) {
+        return JsonParser.parseString(String.format("""
+                {
+                  "id": "1",
+                  "metadata": {"label": "Variable", "description": "Assign a value to a variable"},
+                  "codedata": {
+                    "node": "VARIABLE",
+                    "lineRange": {
+                      "fileName": "%1$s",
+                      "startLine": {"line": %2$d, "offset": %3$d},
+                      "endLine": {"line": %2$d, "offset": %3$d}
+                    },
+                    "sourceCode": ""
+                  },
+                  "returning": false,
+                  "properties": {
+                    "expression": {
+                      "metadata": {"label": "Expression", "description": "Expression"},
+                      "valueType": "EXPRESSION",
+                      "value": "{}",
+                      "optional": false,
+                      "editable": true
+                    },
+                    "variable": {
+                      "metadata": {"label": "Variable", "description": "Name of the variable"},
+                      "valueType": "IDENTIFIER",
+                      "value": "%5$s",
+                      "optional": false,
+                      "editable": true
+                    },
+                    "type": {
+                      "metadata": {"label": "Type", "description": "Type of the variable"},
+                      "valueType": "TYPE",
+                      "value": "%4$s",
+                      "optional": false,
+                      "editable": true
+                    }
+                  },
+                  "flags": 0
+                }
+                """, fileName, position.line(), position.offset(), type, name));
+    }
+}
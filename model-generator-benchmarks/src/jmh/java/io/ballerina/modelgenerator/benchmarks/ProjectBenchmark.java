@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.modelgenerator.benchmarks;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base of the benchmarks running on a generated sample project. Each benchmark reports the throughput and the latency
+ * distribution, and the allocation rate is reported by the GC profiler configured in the build.
+ *
+ * @since 2.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public abstract class ProjectBenchmark {
+
+    @Param({"10", "100", "500"})
+    protected int size;
+
+    protected SampleProject sampleProject;
+
+    @Setup(Level.Trial)
+    public void createProject() throws Exception {
+        sampleProject = SampleProject.create(size);
+        setup();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteProject() throws IOException {
+        sampleProject.delete();
+    }
+
+    /**
+     * Prepares the inputs of the benchmark once the sample project is loaded.
+     *
+     * @throws Exception if the inputs cannot be prepared
+     */
+    protected void setup() throws Exception {
+    }
+}
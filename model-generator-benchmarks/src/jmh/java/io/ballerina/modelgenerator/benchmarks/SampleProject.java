@@ -0,0 +1,220 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.benchmarks;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import org.ballerinalang.langserver.LanguageServerContextImpl;
+import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Generates and loads a Ballerina package of the given size, with the constructs the model generators commonly
+ * process: record types, HTTP client connections, data mapping functions, functions calling the connections, and an
+ * HTTP service. The size is the number of functions, and the other constructs grow proportionally.
+ *
+ * @since 2.0.0
+ */
+final class SampleProject {
+
+    static final String MAIN_FILE = "main.bal";
+    private static final int FUNCTIONS_PER_CONNECTION = 10;
+
+    private final Path root;
+    private final int size;
+    private final LanguageServerContext serverContext;
+    private final WorkspaceManager workspaceManager;
+    private final Project project;
+
+    private SampleProject(Path root, int size) throws Exception {
+        this.root = root;
+        this.size = size;
+        this.serverContext = new LanguageServerContextImpl();
+        this.workspaceManager = new BallerinaWorkspaceManager(serverContext);
+        this.project = workspaceManager.loadProject(mainFile());
+    }
+
+    /**
+     * Writes a package of the given size to a temporary directory, and loads it into a workspace.
+     *
+     * @param size the number of functions in the package
+     * @return the loaded sample project
+     * @throws Exception if the package cannot be written or loaded
+     */
+    static SampleProject create(int size) throws Exception {
+        Path root = Files.createTempDirectory("benchmark-project");
+        int connections = Math.max(1, size / FUNCTIONS_PER_CONNECTION);
+
+        Files.writeString(root.resolve("Ballerina.toml"), """
+                [package]
+                org = "wso2"
+                name = "benchmark"
+                version = "0.1.0"
+                """);
+
+        StringBuilder types = new StringBuilder();
+        StringBuilder dataMappings = new StringBuilder();
+        StringBuilder functions = new StringBuilder();
+        StringBuilder resources = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            types.append(String.format("""
+                    type Person%1$d record {|
+                        string name;
+                        int age;
+                        string city;
+                    |};
+
+                    type Student%1$d record {|
+                        string name;
+                        int age;
+                        string location;
+                    |};
+
+                    """, i));
+            dataMappings.append(String.format("""
+                    function transform%1$d(Person%1$d person) returns Student%1$d => {
+                        name: person.name,
+                        age: person.age,
+                        location: person.city
+                    };
+
+                    """, i));
+            functions.append(String.format("""
+                    function process%1$d(Person%1$d person) returns Student%1$d|error {
+                        json response = check client%2$d->get("/persons/" + person.name);
+                        Student%1$d student = transform%1$d(person);
+                        if person.age > 18 {
+                            student.name = person.name + response.toString();
+                        }
+                        foreach int j in 0 ..< person.age {
+                            student.age = student.age + j;
+                        }
+                        return student;
+                    }
+
+                    """, i, i % connections));
+            resources.append(String.format("""
+                        resource function get persons%1$d/[string name]() returns Student%1$d|error {
+                            return process%1$d({name, age: 20, city: "Colombo"});
+                        }
+
+                    """, i));
+        }
+
+        StringBuilder connectionDeclarations = new StringBuilder("import ballerina/http;\n\n");
+        for (int i = 0; i < connections; i++) {
+            connectionDeclarations.append(
+                    String.format("final http:Client client%d = check new (\"http://localhost:9090\");%n", i));
+        }
+
+        Files.writeString(root.resolve("types.bal"), types.toString());
+        Files.writeString(root.resolve("data_mappings.bal"), dataMappings.toString());
+        Files.writeString(root.resolve("connections.bal"), connectionDeclarations.toString());
+        Files.writeString(root.resolve(MAIN_FILE), functions.toString());
+        Files.writeString(root.resolve("service.bal"),
+                "import ballerina/http;\n\nservice /api on new http:Listener(9090) {\n\n" + resources + "}\n");
+        return new SampleProject(root, size);
+    }
+
+    Path mainFile() {
+        return root.resolve(MAIN_FILE);
+    }
+
+    Path resolve(String fileName) {
+        return root.resolve(fileName);
+    }
+
+    int size() {
+        return size;
+    }
+
+    LanguageServerContext serverContext() {
+        return serverContext;
+    }
+
+    WorkspaceManager workspaceManager() {
+        return workspaceManager;
+    }
+
+    Project project() {
+        return project;
+    }
+
+    Document document(String fileName) {
+        return workspaceManager.document(root.resolve(fileName)).orElseThrow();
+    }
+
+    SemanticModel semanticModel() {
+        return workspaceManager.semanticModel(mainFile()).orElseThrow();
+    }
+
+    /**
+     * Returns the function in the middle of the main file, which is used as the canvas of the benchmarks.
+     *
+     * @return the definition of the function
+     */
+    FunctionDefinitionNode canvasFunction() {
+        String functionName = "process" + size / 2;
+        ModulePartNode modulePartNode = document(MAIN_FILE).syntaxTree().rootNode();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (member.kind() == SyntaxKind.FUNCTION_DEFINITION &&
+                    ((FunctionDefinitionNode) member).functionName().text().equals(functionName)) {
+                return (FunctionDefinitionNode) member;
+            }
+        }
+        throw new IllegalStateException("Function not found: " + functionName);
+    }
+
+    LineRange canvasLineRange() {
+        return canvasFunction().lineRange();
+    }
+
+    /**
+     * Returns the position of the first statement of the canvas, where the benchmarks insert new nodes.
+     *
+     * @return the position of the first statement
+     */
+    LinePosition insertPosition() {
+        FunctionBodyBlockNode body = (FunctionBodyBlockNode) canvasFunction().functionBody();
+        return body.statements().get(0).lineRange().startLine();
+    }
+
+    void delete() throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
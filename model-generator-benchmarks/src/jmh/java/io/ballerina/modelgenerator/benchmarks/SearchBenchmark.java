@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.modelgenerator.benchmarks;
+
+import com.google.gson.JsonArray;
+import io.ballerina.flowmodelgenerator.core.search.SearchCommand;
+import io.ballerina.tools.text.LineRange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import java.util.Map;
+
+/**
+ * Benchmarks the search of each kind, for both the default view and a query.
+ *
+ * @since 2.0.0
+ */
+public class SearchBenchmark extends ProjectBenchmark {
+
+    @Param({"FUNCTION", "CONNECTOR", "TYPE", "NP_FUNCTION"})
+    protected SearchCommand.Kind kind;
+
+    @Param({"", "get"})
+    protected String query;
+
+    private LineRange position;
+    private Map<String, String> queryMap;
+
+    @Override
+    protected void setup() {
+        position = sampleProject.canvasLineRange();
+        queryMap = Map.of("q", query);
+    }
+
+    @Benchmark
+    public JsonArray execute() {
+        return SearchCommand.from(kind, sampleProject.project(), position, queryMap, null).execute();
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.util.List;
+
+/**
+ * The queries issued by the {@link DatabaseManager} against the central index. The index generator verifies the query
+ * plans of the same strings, and hence every lookup of the database manager must be built from this class.
+ *
+ * @since 2.0.0
+ */
+public final class CentralIndexQueries {
+
+    public static final String ALL_FUNCTIONS = "SELECT " +
+            "f.function_id, " +
+            "f.name AS function_name, " +
+            "f.description AS function_description, " +
+            "f.return_type, " +
+            "f.resource_path, " +
+            "f.kind, " +
+            "f.return_error, " +
+            "f.inferred_return_type, " +
+            "f.import_statements, " +
+            "p.name AS package_name, " +
+            "p.org, " +
+            "p.version " +
+            "FROM Function f " +
+            "JOIN Package p ON f.package_id = p.package_id " +
+            "WHERE f.kind = ? " +
+            "LIMIT ? " +
+            "OFFSET ?;";
+
+    public static final String FUNCTIONS_BY_ORG = "SELECT " +
+            "f.function_id, " +
+            "f.name AS function_name, " +
+            "f.description AS function_description, " +
+            "f.return_type, " +
+            "f.kind, " +
+            "f.return_error, " +
+            "f.inferred_return_type, " +
+            "f.import_statements, " +
+            "f.resource_path, " +
+            "p.name AS package_name, " +
+            "p.org, " +
+            "p.version " +
+            "FROM Function f " +
+            "JOIN Package p ON f.package_id = p.package_id " +
+            "WHERE f.kind = ? AND p.org = ?;";
+
+    public static final String SEARCH_FUNCTIONS = "SELECT " +
+            "f.function_id, " +
+            "f.name AS function_name, " +
+            "f.description AS function_description, " +
+            "f.return_type, " +
+            "f.resource_path, " +
+            "f.kind, " +
+            "f.return_error, " +
+            "f.inferred_return_type, " +
+            "f.import_statements, " +
+            "p.name AS package_name, " +
+            "p.org, " +
+            "p.version " +
+            "FROM Function f " +
+            "JOIN Package p ON f.package_id = p.package_id " +
+            "WHERE f.kind = ? " +
+            "AND (" +
+            "f.name LIKE ? OR " +
+            "p.name LIKE ? " +
+            ")" +
+            "LIMIT ? " +
+            "OFFSET ?;";
+
+    public static final String FUNCTION_BY_ID = "SELECT " +
+            "f.function_id, " +
+            "f.name AS function_name, " +
+            "f.description AS function_description, " +
+            "f.return_type, " +
+            "p.name AS package_name, " +
+            "p.org, " +
+            "p.version, " +
+            "f.resource_path, " +
+            "f.kind, " +
+            "f.return_error, " +
+            "f.inferred_return_type " +
+            "FROM Function f " +
+            "JOIN Package p ON f.package_id = p.package_id " +
+            "WHERE f.function_id = ?;";
+
+    public static final String FUNCTION_PARAMETERS = "SELECT " +
+            "p.parameter_id, " +
+            "p.name, " +
+            "p.type, " +
+            "p.kind, " +
+            "p.optional, " +
+            "p.default_value, " +
+            "p.description, " +
+            "p.import_statements " +
+            "FROM Parameter p " +
+            "WHERE p.function_id = ?;";
+
+    public static final String FUNCTION_PARAMETERS_WITH_MEMBER_TYPES = "SELECT " +
+            "p.parameter_id, " +
+            "p.name, " +
+            "p.type, " +
+            "p.kind, " +
+            "p.optional, " +
+            "p.default_value, " +
+            "p.description, " +
+            "p.import_statements, " +
+            "pmt.type AS member_type, " +
+            "pmt.kind AS member_kind, " +
+            "pmt.package AS member_package " +
+            "FROM Parameter p " +
+            "LEFT JOIN ParameterMemberType pmt ON p.parameter_id = pmt.parameter_id " +
+            "WHERE p.function_id = ?;";
+
+    public static final String CONNECTOR_ACTIONS = "SELECT " +
+            "f.function_id, " +
+            "f.name AS function_name, " +
+            "f.description, " +
+            "f.kind, " +
+            "f.return_type, " +
+            "f.resource_path, " +
+            "f.return_error, " +
+            "f.inferred_return_type " +
+            "FROM Function f " +
+            "JOIN FunctionConnector fc ON f.function_id = fc.function_id " +
+            "WHERE fc.connector_id = ?;";
+
+    public static final String METHODS = "SELECT " +
+            "f.function_id, " +
+            "f.name AS function_name, " +
+            "f.description, " +
+            "f.kind, " +
+            "p.version, " +
+            "f.return_type, " +
+            "f.resource_path, " +
+            "f.return_error, " +
+            "f.inferred_return_type, " +
+            "f.import_statements " +
+            "FROM Function f " +
+            "JOIN FunctionConnector fc ON f.function_id = fc.function_id " +
+            "JOIN Function c ON fc.connector_id = c.function_id " +
+            "JOIN Package p ON c.package_id = p.package_id " +
+            "WHERE c.name = ? " +
+            "AND p.org = ? " +
+            "AND p.name = ? " +
+            "AND c.kind = 'CONNECTOR';";
+
+    private CentralIndexQueries() {
+    }
+
+    /**
+     * Returns the query to find a function of a module by its name.
+     *
+     * @param hasResourcePath whether the function is also matched by its resource path
+     * @return the query
+     */
+    public static String function(boolean hasResourcePath) {
+        StringBuilder sql = new StringBuilder("SELECT ");
+        sql.append("f.function_id, ");
+        sql.append("f.name AS function_name, ");
+        sql.append("f.description AS function_description, ");
+        sql.append("f.return_type, ");
+        sql.append("f.resource_path, ");
+        sql.append("f.kind, ");
+        sql.append("f.return_error, ");
+        sql.append("f.inferred_return_type, ");
+        sql.append("f.import_statements, ");
+        sql.append("p.name AS package_name, ");
+        sql.append("p.org, ");
+        sql.append("p.version ");
+        sql.append("FROM Function f ");
+        sql.append("JOIN Package p ON f.package_id = p.package_id ");
+        sql.append("WHERE p.org = ? ");
+        sql.append("AND p.name = ? ");
+        sql.append("AND f.kind = ? ");
+        sql.append("AND f.name = ? ");
+        if (hasResourcePath) {
+            sql.append("AND f.resource_path = ?");
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Returns the query to search the functions of the given number of packages.
+     *
+     * @param packageCount the number of package names to match
+     * @param hasQuery     whether the function and package names are also matched against a keyword
+     * @return the query
+     */
+    public static String searchFunctionsInPackages(int packageCount, boolean hasQuery) {
+        StringBuilder sql = new StringBuilder("SELECT ");
+        sql.append("f.function_id, ");
+        sql.append("f.name AS function_name, ");
+        sql.append("f.description AS function_description, ");
+        sql.append("f.return_type, ");
+        sql.append("f.resource_path, ");
+        sql.append("f.kind, ");
+        sql.append("f.return_error, ");
+        sql.append("f.inferred_return_type, ");
+        sql.append("f.import_statements, ");
+        sql.append("p.name AS package_name, ");
+        sql.append("p.org, ");
+        sql.append("p.version ");
+        sql.append("FROM Function f ");
+        sql.append("JOIN Package p ON f.package_id = p.package_id ");
+        sql.append("WHERE p.name IN (");
+        for (int i = 0; i < packageCount; i++) {
+            sql.append("?");
+            if (i < packageCount - 1) {
+                sql.append(", ");
+            }
+        }
+        sql.append(") AND f.kind = ? ");
+        if (hasQuery) {
+            sql.append("AND (f.name LIKE ? OR p.name LIKE ?) ");
+        }
+        sql.append("LIMIT ? OFFSET ?");
+        return sql.toString();
+    }
+
+    /**
+     * Returns every distinct access path of the {@link DatabaseManager}, with two values for each variable-length list
+     * of parameters.
+     *
+     * @return the queries to verify
+     */
+    public static List<String> accessPaths() {
+        return List.of(
+                ALL_FUNCTIONS,
+                FUNCTIONS_BY_ORG,
+                SEARCH_FUNCTIONS,
+                function(false),
+                function(true),
+                FUNCTION_BY_ID,
+                FUNCTION_PARAMETERS,
+                FUNCTION_PARAMETERS_WITH_MEMBER_TYPES,
+                CONNECTOR_ACTIONS,
+                METHODS,
+                searchFunctionsInPackages(2, false),
+                searchFunctionsInPackages(2, true)
+        );
+    }
+}
@@ -75,6 +75,7 @@ import java.net.URI;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -98,6 +99,14 @@ public class CommonUtils {
     private static final String NATURAL_FUNCTION = "NaturalFunction";
     private static final String CALL_LLM = "callLlm";
     private static final String UNKNOWN_TYPE = "Unknown Type";
+    private static final int MAX_RENDERED_SIGNATURES = 4096;
+    private static final Map<RenderedSignatureKey, String> RENDERED_SIGNATURES =
+            new LinkedHashMap<>(MAX_RENDERED_SIGNATURES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<RenderedSignatureKey, String> eldest) {
+                    return size() > MAX_RENDERED_SIGNATURES;
+                }
+            };
 
     /**
      * Removes the quotes from the given string.
@@ -125,6 +134,15 @@ public class CommonUtils {
      */
     public static String getTypeSignature(SemanticModel semanticModel, TypeSymbol typeSymbol, boolean ignoreError,
                                           ModuleInfo moduleInfo) {
+        if (semanticModel == null) {
+            return renderTypeSignature(null, typeSymbol, ignoreError, moduleInfo);
+        }
+        return TypeSignatureCache.of(semanticModel).get(typeSymbol, moduleInfo, ignoreError,
+                () -> renderTypeSignature(semanticModel, typeSymbol, ignoreError, moduleInfo));
+    }
+
+    private static String renderTypeSignature(SemanticModel semanticModel, TypeSymbol typeSymbol, boolean ignoreError,
+                                              ModuleInfo moduleInfo) {
         return switch (typeSymbol.typeKind()) {
             case COMPILATION_ERROR -> UNKNOWN_TYPE;
             case UNION -> {
@@ -170,6 +188,27 @@ public class CommonUtils {
      */
     public static String getTypeSignature(TypeSymbol typeSymbol, ModuleInfo moduleInfo) {
         String text = typeSymbol.signature();
+        // The signatures of the built-in types and the anonymous types do not have qualified module IDs
+        if (text.indexOf('/') == -1 || text.indexOf(':') == -1) {
+            return text;
+        }
+
+        RenderedSignatureKey key =
+                new RenderedSignatureKey(text, moduleInfo == null ? null : moduleInfo.packageName());
+        synchronized (RENDERED_SIGNATURES) {
+            String signature = RENDERED_SIGNATURES.get(key);
+            if (signature != null) {
+                return signature;
+            }
+        }
+        String signature = renderTypeSignature(text, key.packageName());
+        synchronized (RENDERED_SIGNATURES) {
+            RENDERED_SIGNATURES.put(key, signature);
+        }
+        return signature;
+    }
+
+    private static String renderTypeSignature(String text, String packageName) {
         StringBuilder newText = new StringBuilder();
         Matcher matcher = FULLY_QUALIFIED_MODULE_ID_PATTERN.matcher(text);
         int nextStart = 0;
@@ -185,7 +224,7 @@ public class CommonUtils {
 
             String typeName = matcher.group(4);
 
-            if (moduleInfo == null || !modPart.equals(moduleInfo.packageName())) {
+            if (packageName == null || !modPart.equals(packageName)) {
                 newText.append(modPart);
                 newText.append(":");
             }
@@ -200,6 +239,16 @@ public class CommonUtils {
         return !newText.isEmpty() ? newText.toString() : text;
     }
 
+    /**
+     * Represents the key of a rendered signature. The rendering only depends on the package name of the default
+     * module, and hence the signatures are shared across the compilations.
+     *
+     * @param signature   the signature of the type symbol
+     * @param packageName the package name of the default module
+     */
+    private record RenderedSignatureKey(String signature, String packageName) {
+    }
+
     /**
      * Returns the module name of the given symbol.
      *
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import io.ballerina.projects.Package;
+
+import java.lang.ref.SoftReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of compiled bala packages resolved from Ballerina Central, keyed by the organization, name and
+ * version of the package.
+ *
+ * <p>
+ * The cache retains the most recently used packages up to a fixed capacity. Entries are softly referenced so that the
+ * garbage collector can reclaim the compiled packages under memory pressure. Concurrent requests for the same package
+ * share a single load.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class CompiledPackageCache {
+
+    private static final int MAX_ENTRIES = 16;
+
+    private final Map<String, SoftReference<Package>> entries;
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<Package>>> pendingLoads;
+
+    CompiledPackageCache() {
+        this.entries = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SoftReference<Package>> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+        this.pendingLoads = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the cached package for the given coordinates, loading it with the provided loader on a cache miss. Empty
+     * results are not cached, so that a failed resolution is retried on the next request.
+     *
+     * @param org     the organization name of the package
+     * @param name    the name of the package
+     * @param version the version of the package
+     * @param loader  the loader that resolves and compiles the package
+     * @return an Optional containing the compiled package
+     */
+    Optional<Package> get(String org, String name, String version, Supplier<Optional<Package>> loader) {
+        String key = org + "/" + name + ":" + version;
+        Package cachedPackage = lookup(key);
+        if (cachedPackage != null) {
+            return Optional.of(cachedPackage);
+        }
+
+        CompletableFuture<Optional<Package>> load = new CompletableFuture<>();
+        CompletableFuture<Optional<Package>> existingLoad = pendingLoads.putIfAbsent(key, load);
+        if (existingLoad != null) {
+            try {
+                return existingLoad.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            // Another thread may have completed the load between the lookup and the registration
+            cachedPackage = lookup(key);
+            Optional<Package> result = cachedPackage != null ? Optional.of(cachedPackage) : loader.get();
+            result.ifPresent(pkg -> store(key, pkg));
+            load.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingLoads.remove(key, load);
+        }
+    }
+
+    /**
+     * Removes all the cached packages.
+     */
+    void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private Package lookup(String key) {
+        synchronized (entries) {
+            SoftReference<Package> reference = entries.get(key);
+            if (reference == null) {
+                return null;
+            }
+            Package pkg = reference.get();
+            if (pkg == null) {
+                entries.remove(key);
+            }
+            return pkg;
+        }
+    }
+
+    private void store(String key, Package pkg) {
+        synchronized (entries) {
+            entries.put(key, new SoftReference<>(pkg));
+        }
+    }
+}
@@ -18,12 +18,6 @@
 
 package io.ballerina.modelgenerator.commons;
 
-import java.io.IOException;
-import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -43,7 +37,7 @@ public class DatabaseManager {
 
     private static final String INDEX_FILE_NAME = "central-index.sqlite";
     private static final Logger LOGGER = Logger.getLogger(DatabaseManager.class.getName());
-    private final String dbPath;
+    private final SQLiteConnectionPool connectionPool;
 
     private static class Holder {
 
@@ -55,78 +49,48 @@ public class DatabaseManager {
     }
 
     private DatabaseManager() {
-        try {
-            Class.forName("org.sqlite.JDBC");
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException("Failed to load SQLite JDBC driver", e);
-        }
-
-        Path tempDir;
-        try {
-            tempDir = Files.createTempDirectory("central-index");
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to create a temporary directory", e);
-        }
-
-        URL dbUrl = getClass().getClassLoader().getResource(INDEX_FILE_NAME);
-        if (dbUrl == null) {
-            throw new RuntimeException("Database resource not found: " + INDEX_FILE_NAME);
-        }
-        Path tempFile = tempDir.resolve(INDEX_FILE_NAME);
-        try {
-            Files.copy(dbUrl.openStream(), tempFile);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
-        }
+        connectionPool = SQLiteConnectionPool.fromResource(INDEX_FILE_NAME, getClass().getClassLoader());
+        RequestMetrics.getInstance().registerGauge("centralIndexPool", connectionPool::metrics);
+    }
 
-        dbPath = "jdbc:sqlite:" + tempFile.toString();
+    /**
+     * Returns a snapshot of the connection pool metrics of the index database.
+     *
+     * @return the connection pool metrics
+     */
+    public SQLiteConnectionPool.PoolMetrics getPoolMetrics() {
+        return connectionPool.metrics();
     }
 
     @Deprecated
     public List<FunctionData> getAllFunctions(FunctionData.Kind kind, Map<String, String> queryMap) {
-        String sql = "SELECT " +
-                "f.function_id, " +
-                "f.name AS function_name, " +
-                "f.description AS function_description, " +
-                "f.return_type, " +
-                "f.resource_path, " +
-                "f.kind, " +
-                "f.return_error, " +
-                "f.inferred_return_type, " +
-                "f.import_statements, " +
-                "p.name AS package_name, " +
-                "p.org, " +
-                "p.version " +
-                "FROM Function f " +
-                "JOIN Package p ON f.package_id = p.package_id " +
-                "WHERE f.kind = ? " +
-                "LIMIT ? " +
-                "OFFSET ?;";
-
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        String sql = CentralIndexQueries.ALL_FUNCTIONS;
+
+        try (SQLiteConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, kind.name());
             stmt.setString(2, queryMap.get("limit"));
             stmt.setString(3, queryMap.get("offset"));
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -135,46 +99,32 @@ public class DatabaseManager {
 
     @Deprecated
     public List<FunctionData> getFunctionsByOrg(String orgName, FunctionData.Kind functionKind) {
-        String sql = "SELECT " +
-                "f.function_id, " +
-                "f.name AS function_name, " +
-                "f.description AS function_description, " +
-                "f.return_type, " +
-                "f.kind, " +
-                "f.return_error, " +
-                "f.inferred_return_type, " +
-                "f.import_statements, " +
-                "f.resource_path, " +
-                "p.name AS package_name, " +
-                "p.org, " +
-                "p.version " +
-                "FROM Function f " +
-                "JOIN Package p ON f.package_id = p.package_id " +
-                "WHERE f.kind = ? AND p.org = ?;";
-
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        String sql = CentralIndexQueries.FUNCTIONS_BY_ORG;
+
+        try (SQLiteConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, functionKind.name());
             stmt.setString(2, orgName);
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -183,56 +133,36 @@ public class DatabaseManager {
 
     @Deprecated
     public List<FunctionData> searchFunctions(Map<String, String> queryMap, FunctionData.Kind kind) {
-        String sql = "SELECT " +
-                "f.function_id, " +
-                "f.name AS function_name, " +
-                "f.description AS function_description, " +
-                "f.return_type, " +
-                "f.resource_path, " +
-                "f.kind, " +
-                "f.return_error, " +
-                "f.inferred_return_type, " +
-                "f.import_statements, " +
-                "p.name AS package_name, " +
-                "p.org, " +
-                "p.version " +
-                "FROM Function f " +
-                "JOIN Package p ON f.package_id = p.package_id " +
-                "WHERE f.kind = ? " +
-                "AND (" +
-                "f.name LIKE ? OR " +
-                "p.name LIKE ? " +
-                ")" +
-                "LIMIT ? " +
-                "OFFSET ?;";
+        String sql = CentralIndexQueries.SEARCH_FUNCTIONS;
         String wildcardKeyword = "%" + queryMap.get("q") + "%";
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        try (SQLiteConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, kind.name());
             stmt.setString(2, wildcardKeyword);
             stmt.setString(3, wildcardKeyword);
             stmt.setString(4, queryMap.get("limit"));
             stmt.setString(5, queryMap.get("offset"));
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -241,31 +171,10 @@ public class DatabaseManager {
 
     public Optional<FunctionData> getFunction(String org, String module, String symbol, FunctionData.Kind kind,
                                               String resourcePath) {
-        StringBuilder sql = new StringBuilder("SELECT ");
-        sql.append("f.function_id, ");
-        sql.append("f.name AS function_name, ");
-        sql.append("f.description AS function_description, ");
-        sql.append("f.return_type, ");
-        sql.append("f.resource_path, ");
-        sql.append("f.kind, ");
-        sql.append("f.return_error, ");
-        sql.append("f.inferred_return_type, ");
-        sql.append("f.import_statements, ");
-        sql.append("p.name AS package_name, ");
-        sql.append("p.org, ");
-        sql.append("p.version ");
-        sql.append("FROM Function f ");
-        sql.append("JOIN Package p ON f.package_id = p.package_id ");
-        sql.append("WHERE p.org = ? ");
-        sql.append("AND p.name = ? ");
-        sql.append("AND f.kind = ? ");
-        sql.append("AND f.name = ? ");
-        if (resourcePath != null) {
-            sql.append("AND f.resource_path = ?");
-        }
+        String sql = CentralIndexQueries.function(resourcePath != null);
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (SQLiteConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, org);
             stmt.setString(2, module);
             stmt.setString(3, kind.name());
@@ -273,23 +182,24 @@ public class DatabaseManager {
             if (resourcePath != null) {
                 stmt.setString(5, resourcePath);
             }
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                return Optional.of(new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements")));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements")));
+                }
+                return Optional.empty();
             }
-            return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return Optional.empty();
@@ -298,42 +208,29 @@ public class DatabaseManager {
 
     @Deprecated
     public Optional<FunctionData> getFunction(int functionId) {
-        String sql = "SELECT " +
-                "f.function_id, " +
-                "f.name AS function_name, " +
-                "f.description AS function_description, " +
-                "f.return_type, " +
-                "p.name AS package_name, " +
-                "p.org, " +
-                "p.version, " +
-                "f.resource_path, " +
-                "f.kind, " +
-                "f.return_error, " +
-                "f.inferred_return_type " +
-                "FROM Function f " +
-                "JOIN Package p ON f.package_id = p.package_id " +
-                "WHERE f.function_id = ?;";
-
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        String sql = CentralIndexQueries.FUNCTION_BY_ID;
+
+        try (SQLiteConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, functionId);
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                return Optional.of(new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements")));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements")));
+                }
+                return Optional.empty();
             }
-            return Optional.empty();
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return Optional.empty();
@@ -342,39 +239,30 @@ public class DatabaseManager {
 
     @Deprecated
     public List<ParameterData> getFunctionParameters(int functionId) {
-        String sql = "SELECT " +
-                "p.parameter_id, " +
-                "p.name, " +
-                "p.type, " +
-                "p.kind, " +
-                "p.optional, " +
-                "p.default_value, " +
-                "p.description, " +
-                "p.import_statements " +
-                "FROM Parameter p " +
-                "WHERE p.function_id = ?;";
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        String sql = CentralIndexQueries.FUNCTION_PARAMETERS;
+        try (SQLiteConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, functionId);
-            ResultSet rs = stmt.executeQuery();
-            List<ParameterData> parameterResults = new ArrayList<>();
-            while (rs.next()) {
-                ParameterData
-                        parameterData = new ParameterData(
-                        rs.getInt("parameter_id"),
-                        rs.getString("name"),
-                        rs.getString("type"),
-                        ParameterData.Kind.valueOf(rs.getString("kind")),
-                        rs.getString("default_value"),
-                        rs.getString("description"),
-                        "",
-                        rs.getBoolean("optional"),
-                        rs.getString("import_statements"),
-                        new ArrayList<>()
-                );
-                parameterResults.add(parameterData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<ParameterData> parameterResults = new ArrayList<>();
+                while (rs.next()) {
+                    ParameterData
+                            parameterData = new ParameterData(
+                            rs.getInt("parameter_id"),
+                            rs.getString("name"),
+                            rs.getString("type"),
+                            ParameterData.Kind.valueOf(rs.getString("kind")),
+                            rs.getString("default_value"),
+                            rs.getString("description"),
+                            "",
+                            rs.getBoolean("optional"),
+                            rs.getString("import_statements"),
+                            new ArrayList<>()
+                    );
+                    parameterResults.add(parameterData);
+                }
+                return parameterResults;
             }
-            return parameterResults;
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -382,75 +270,61 @@ public class DatabaseManager {
     }
 
     public LinkedHashMap<String, ParameterData> getFunctionParametersAsMap(int functionId) {
-        String sql = "SELECT " +
-                "p.parameter_id, " +
-                "p.name, " +
-                "p.type, " +
-                "p.kind, " +
-                "p.optional, " +
-                "p.default_value, " +
-                "p.description, " +
-                "p.import_statements, " +
-                "pmt.type AS member_type, " +
-                "pmt.kind AS member_kind, " +
-                "pmt.package AS member_package " +
-                "FROM Parameter p " +
-                "LEFT JOIN ParameterMemberType pmt ON p.parameter_id = pmt.parameter_id " +
-                "WHERE p.function_id = ?;";
-
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        String sql = CentralIndexQueries.FUNCTION_PARAMETERS_WITH_MEMBER_TYPES;
+
+        try (SQLiteConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, functionId);
-            ResultSet rs = stmt.executeQuery();
-
-            // Use a builder to accumulate parameter data and member types
-            LinkedHashMap<String, ParameterDataBuilder> builders = new LinkedHashMap<>();
-
-            while (rs.next()) {
-                String paramName = rs.getString("name");
-                int parameterId = rs.getInt("parameter_id");
-                String type = rs.getString("type");
-                ParameterData.Kind kind = ParameterData.Kind.valueOf(rs.getString("kind"));
-                String defaultValue = rs.getString("default_value");
-                String description = rs.getString("description");
-                boolean optional = rs.getBoolean("optional");
-                String importStatements = rs.getString("import_statements");
-
-                // Member type data
-                String memberType = rs.getString("member_type");
-                String memberKind = rs.getString("member_kind");
-                String memberPackage = rs.getString("member_package");
-
-                // Get or create the builder for this parameter
-                ParameterDataBuilder builder = builders.get(paramName);
-                if (builder == null) {
-                    builder = new ParameterDataBuilder();
-                    builder.parameterId = parameterId;
-                    builder.name = paramName;
-                    builder.type = type;
-                    builder.kind = kind;
-                    builder.defaultValue = defaultValue;
-                    builder.description = description;
-                    builder.optional = optional;
-                    builder.importStatements = importStatements;
-                    builders.put(paramName, builder);
+            try (ResultSet rs = stmt.executeQuery()) {
+
+                // Use a builder to accumulate parameter data and member types
+                LinkedHashMap<String, ParameterDataBuilder> builders = new LinkedHashMap<>();
+
+                while (rs.next()) {
+                    String paramName = rs.getString("name");
+                    int parameterId = rs.getInt("parameter_id");
+                    String type = rs.getString("type");
+                    ParameterData.Kind kind = ParameterData.Kind.valueOf(rs.getString("kind"));
+                    String defaultValue = rs.getString("default_value");
+                    String description = rs.getString("description");
+                    boolean optional = rs.getBoolean("optional");
+                    String importStatements = rs.getString("import_statements");
+
+                    // Member type data
+                    String memberType = rs.getString("member_type");
+                    String memberKind = rs.getString("member_kind");
+                    String memberPackage = rs.getString("member_package");
+
+                    // Get or create the builder for this parameter
+                    ParameterDataBuilder builder = builders.get(paramName);
+                    if (builder == null) {
+                        builder = new ParameterDataBuilder();
+                        builder.parameterId = parameterId;
+                        builder.name = paramName;
+                        builder.type = type;
+                        builder.kind = kind;
+                        builder.defaultValue = defaultValue;
+                        builder.description = description;
+                        builder.optional = optional;
+                        builder.importStatements = importStatements;
+                        builders.put(paramName, builder);
+                    }
+
+                    // Add member type if present
+                    if (memberType != null) {
+                        ParameterMemberTypeData memberData = new ParameterMemberTypeData(
+                                memberType, memberKind, memberPackage);
+                        builder.typeMembers.add(memberData);
+                    }
                 }
 
-                // Add member type if present
-                if (memberType != null) {
-                    ParameterMemberTypeData memberData = new ParameterMemberTypeData(
-                            memberType, memberKind, memberPackage);
-                    builder.typeMembers.add(memberData);
+                // Convert builders to ParameterData
+                LinkedHashMap<String, ParameterData> parameterResults = new LinkedHashMap<>();
+                for (ParameterDataBuilder builder : builders.values()) {
+                    parameterResults.put(builder.name, builder.build());
                 }
+                return parameterResults;
             }
-
-            // Convert builders to ParameterData
-            LinkedHashMap<String, ParameterData> parameterResults = new LinkedHashMap<>();
-            for (ParameterDataBuilder builder : builders.values()) {
-                parameterResults.put(builder.name, builder.build());
-            }
-            return parameterResults;
-
         } catch (SQLException e) {
             Logger.getGlobal().severe("Error executing query: " + e.getMessage());
             return new LinkedHashMap<>();
@@ -488,41 +362,31 @@ public class DatabaseManager {
 
     @Deprecated
     public List<FunctionData> getConnectorActions(int connectorId) {
-        String sql = "SELECT " +
-                "f.function_id, " +
-                "f.name AS function_name, " +
-                "f.description, " +
-                "f.kind, " +
-                "f.return_type, " +
-                "f.resource_path, " +
-                "f.return_error, " +
-                "f.inferred_return_type " +
-                "FROM Function f " +
-                "JOIN FunctionConnector fc ON f.function_id = fc.function_id " +
-                "WHERE fc.connector_id = ?;";
-
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        String sql = CentralIndexQueries.CONNECTOR_ACTIONS;
+
+        try (SQLiteConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setInt(1, connectorId);
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("description"),
-                        rs.getString("return_type"),
-                        null, // packageName is not selected in this query
-                        null, // org is not selected in this query
-                        null, // version is not selected in this query
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("description"),
+                            rs.getString("return_type"),
+                            null, // packageName is not selected in this query
+                            null, // org is not selected in this query
+                            null, // version is not selected in this query
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -530,50 +394,33 @@ public class DatabaseManager {
     }
 
     public List<FunctionData> getMethods(String connectorName, String org, String packageName) {
-        String sql = "SELECT " +
-                "f.function_id, " +
-                "f.name AS function_name, " +
-                "f.description, " +
-                "f.kind, " +
-                "p.version, " +
-                "f.return_type, " +
-                "f.resource_path, " +
-                "f.return_error, " +
-                "f.inferred_return_type, " +
-                "f.import_statements " +
-                "FROM Function f " +
-                "JOIN FunctionConnector fc ON f.function_id = fc.function_id " +
-                "JOIN Function c ON fc.connector_id = c.function_id " +
-                "JOIN Package p ON c.package_id = p.package_id " +
-                "WHERE c.name = ? " +
-                "AND p.org = ? " +
-                "AND p.name = ? " +
-                "AND c.kind = 'CONNECTOR';";
-
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        String sql = CentralIndexQueries.METHODS;
+
+        try (SQLiteConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             stmt.setString(1, connectorName);
             stmt.setString(2, org);
             stmt.setString(3, packageName);
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("description"),
-                        rs.getString("return_type"),
-                        packageName,
-                        org,
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("description"),
+                            rs.getString("return_type"),
+                            packageName,
+                            org,
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
@@ -587,39 +434,11 @@ public class DatabaseManager {
             return List.of();
         }
 
-        StringBuilder sql = new StringBuilder("SELECT ");
-        sql.append("f.function_id, ");
-        sql.append("f.name AS function_name, ");
-        sql.append("f.description AS function_description, ");
-        sql.append("f.return_type, ");
-        sql.append("f.resource_path, ");
-        sql.append("f.kind, ");
-        sql.append("f.return_error, ");
-        sql.append("f.inferred_return_type, ");
-        sql.append("f.import_statements, ");
-        sql.append("p.name AS package_name, ");
-        sql.append("p.org, ");
-        sql.append("p.version ");
-        sql.append("FROM Function f ");
-        sql.append("JOIN Package p ON f.package_id = p.package_id ");
-        sql.append("WHERE p.name IN (");
-        for (int i = 0; i < packageNames.size(); i++) {
-            sql.append("?");
-            if (i < packageNames.size() - 1) {
-                sql.append(", ");
-            }
-        }
-        sql.append(") AND f.kind = ? ");
-
         boolean hasQuery = queryMap.containsKey("q");
-        if (hasQuery) {
-            sql.append("AND (f.name LIKE ? OR p.name LIKE ?) ");
-        }
+        String sql = CentralIndexQueries.searchFunctionsInPackages(packageNames.size(), hasQuery);
 
-        sql.append("LIMIT ? OFFSET ?");
-
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+        try (SQLiteConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
             int paramIndex = 1;
 
             // Set package name parameters
@@ -641,25 +460,26 @@ public class DatabaseManager {
             stmt.setInt(paramIndex++, queryMap.containsKey("limit") ? Integer.parseInt(queryMap.get("limit")) : 10);
             stmt.setInt(paramIndex, queryMap.containsKey("offset") ? Integer.parseInt(queryMap.get("offset")) : 0);
 
-            ResultSet rs = stmt.executeQuery();
-            List<FunctionData> functionDataList = new ArrayList<>();
-            while (rs.next()) {
-                FunctionData functionData = new FunctionData(
-                        rs.getInt("function_id"),
-                        rs.getString("function_name"),
-                        rs.getString("function_description"),
-                        rs.getString("return_type"),
-                        rs.getString("package_name"),
-                        rs.getString("org"),
-                        rs.getString("version"),
-                        rs.getString("resource_path"),
-                        FunctionData.Kind.valueOf(rs.getString("kind")),
-                        rs.getBoolean("return_error"),
-                        rs.getBoolean("inferred_return_type"),
-                        rs.getString("import_statements"));
-                functionDataList.add(functionData);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<FunctionData> functionDataList = new ArrayList<>();
+                while (rs.next()) {
+                    FunctionData functionData = new FunctionData(
+                            rs.getInt("function_id"),
+                            rs.getString("function_name"),
+                            rs.getString("function_description"),
+                            rs.getString("return_type"),
+                            rs.getString("package_name"),
+                            rs.getString("org"),
+                            rs.getString("version"),
+                            rs.getString("resource_path"),
+                            FunctionData.Kind.valueOf(rs.getString("kind")),
+                            rs.getBoolean("return_error"),
+                            rs.getBoolean("inferred_return_type"),
+                            rs.getString("import_statements"));
+                    functionDataList.add(functionData);
+                }
+                return functionDataList;
             }
-            return functionDataList;
         } catch (SQLException e) {
             LOGGER.severe("Error executing query: " + e.getMessage());
             return List.of();
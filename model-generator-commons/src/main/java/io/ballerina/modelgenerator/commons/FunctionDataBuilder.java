@@ -18,8 +18,6 @@
 
 package io.ballerina.modelgenerator.commons;
 
-import io.ballerina.centralconnector.CentralAPI;
-import io.ballerina.centralconnector.RemoteCentral;
 import io.ballerina.compiler.api.ModuleID;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.TypeBuilder;
@@ -76,7 +74,6 @@ import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.TextRange;
 import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.common.utils.CommonUtil;
-import org.eclipse.lsp4j.MessageType;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -113,6 +110,7 @@ public class FunctionDataBuilder {
     private ObjectTypeSymbol parentSymbol;
     private String parentSymbolType;
     private LSClientLogger lsClientLogger;
+    private ModuleResolver moduleResolver;
     private Project project;
     private boolean isCurrentModule;
 
@@ -120,11 +118,6 @@ public class FunctionDataBuilder {
     public static final String REST_PARAM_PATH = "/path/to/resource";
     public static final String REST_RESOURCE_PATH_LABEL = "Remaining Resource Path";
 
-    // Package resolution messages
-    private static final String PULLING_THE_MODULE_MESSAGE = "Pulling the module '%s' from the central";
-    private static final String MODULE_PULLING_FAILED_MESSAGE = "Failed to pull the module: %s";
-    private static final String MODULE_PULLING_SUCCESS_MESSAGE = "Successfully pulled the module: %s";
-
     private static final String CLIENT_SYMBOL = "Client";
 
     public FunctionDataBuilder semanticModel(SemanticModel semanticModel) {
@@ -210,6 +203,18 @@ public class FunctionDataBuilder {
         return this;
     }
 
+    /**
+     * Sets the resolver to pull the module of the function with. The module is resolved along with the modules already
+     * added to the resolver, such as the other imports of the document.
+     *
+     * @param moduleResolver the module resolver
+     * @return this builder
+     */
+    public FunctionDataBuilder moduleResolver(ModuleResolver moduleResolver) {
+        this.moduleResolver = moduleResolver;
+        return this;
+    }
+
     public FunctionDataBuilder project(Project project) {
         this.project = project;
         return this;
@@ -251,23 +256,16 @@ public class FunctionDataBuilder {
 
         // Check if the package is pulled
         if (semanticModel == null) {
-            if (moduleInfo.version() == null) {
-                CentralAPI centralApi = RemoteCentral.getInstance();
-                moduleInfo = new ModuleInfo(moduleInfo.org(), moduleInfo.packageName(), moduleInfo.moduleName(),
-                        centralApi.latestPackageVersion(moduleInfo.org(), moduleInfo.packageName()));
-            }
+            // The latest version is served from the response cache of the central client once it is resolved
+            moduleInfo = PackageUtil.fetchVersionIfNotExists(moduleInfo);
 
-            if (moduleInfo.isComplete() &&
-                    PackageUtil.isModuleUnresolved(moduleInfo.org(), moduleInfo.packageName(), moduleInfo.version())) {
-                notifyClient(MessageType.Info, PULLING_THE_MODULE_MESSAGE);
-                if (semanticModel == null) {
-                    deriveSemanticModel();
-                }
-                if (semanticModel == null) {
-                    notifyClient(MessageType.Error, MODULE_PULLING_FAILED_MESSAGE);
-                } else {
-                    notifyClient(MessageType.Info, MODULE_PULLING_SUCCESS_MESSAGE);
-                }
+            // Only a pulled module is compiled here, since the index may serve the function without compiling it
+            if (moduleInfo.isComplete()) {
+                ModuleResolver resolver = moduleResolver != null ? moduleResolver : new ModuleResolver(lsClientLogger);
+                resolver.add(moduleInfo).pullUnresolved()
+                        .getOrDefault(moduleInfo, Optional.empty())
+                        .ifPresent(pkg -> semanticModel(PackageUtil.getCompilation(pkg)
+                                .getSemanticModel(pkg.getDefaultModule().moduleId())));
             }
         }
 
@@ -979,14 +977,6 @@ public class FunctionDataBuilder {
         return CommonUtils.getImportStatements(typeSymbol, moduleInfo).orElse(null);
     }
 
-    private void notifyClient(MessageType messageType, String message) {
-        if (lsClientLogger != null) {
-            String signature =
-                    String.format("%s/%s:%s", moduleInfo.org(), moduleInfo.packageName(), moduleInfo.version());
-            lsClientLogger.notifyClient(messageType, String.format(message, signature));
-        }
-    }
-
     private String getLabel(List<AnnotationAttachmentSymbol> annotationAttachmentSymbols) {
         for (AnnotationAttachmentSymbol annotAttachment : annotationAttachmentSymbols) {
             AnnotationSymbol annotationSymbol = annotAttachment.typeDescriptor();
@@ -0,0 +1,300 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import io.ballerina.centralconnector.RemoteCentral;
+import io.ballerina.compiler.syntax.tree.IdentifierToken;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleDependency;
+import io.ballerina.projects.ModuleDescriptor;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.PackageDescriptor;
+import org.ballerinalang.langserver.LSClientLogger;
+import org.eclipse.lsp4j.MessageType;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves a batch of modules, pulling the modules that are not available locally from Ballerina Central.
+ *
+ * <p>
+ * The modules needed for a request are collected first, and are resolved together: the latest versions of the modules
+ * without a version are fetched concurrently, the availability of the modules is checked in a single offline
+ * resolution, and the unavailable modules are pulled in a single online resolution. The modules are then loaded and
+ * compiled in parallel, up to a fixed number at a time. The progress of the pulls is reported to the client as a single
+ * stream of notifications, rather than a set of notifications per module.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class ModuleResolver {
+
+    private static final int MAX_CONCURRENT_LOADS = 4;
+    private static final ExecutorService LOAD_EXECUTOR = Executors.newFixedThreadPool(MAX_CONCURRENT_LOADS,
+            runnable -> {
+                Thread thread = new Thread(runnable, "module-resolver");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private static final String PULLING_THE_MODULE_MESSAGE = "Pulling the module '%s' from the central";
+    private static final String PULLING_THE_MODULES_MESSAGE = "Pulling %d modules from the central: %s";
+    private static final String MODULE_PULLING_FAILED_MESSAGE = "Failed to pull the module: %s";
+    private static final String MODULE_PULLING_SUCCESS_MESSAGE = "Successfully pulled the module: %s";
+    private static final String MODULE_PULLING_PROGRESS_MESSAGE = "Pulled %d of %d modules: %s";
+    private static final String MODULE_VERSION_FAILED_MESSAGE = "Failed to resolve the latest version of: %s/%s";
+
+    private final BiConsumer<MessageType, String> notifier;
+    private final PackageSource packageSource;
+    private final Set<ModuleInfo> modules;
+
+    public ModuleResolver(LSClientLogger lsClientLogger) {
+        this(lsClientLogger == null ? (messageType, message) -> { } : lsClientLogger::notifyClient,
+                PackageSource.DEFAULT);
+    }
+
+    ModuleResolver(BiConsumer<MessageType, String> notifier, PackageSource packageSource) {
+        this.notifier = notifier;
+        this.packageSource = packageSource;
+        this.modules = new LinkedHashSet<>();
+    }
+
+    /**
+     * Adds a module to resolve. The latest version is resolved if the version of the module is not provided.
+     *
+     * @param moduleInfo the module to resolve
+     * @return this resolver
+     */
+    public ModuleResolver add(ModuleInfo moduleInfo) {
+        modules.add(moduleInfo);
+        return this;
+    }
+
+    /**
+     * Adds the modules the given document imports from other packages, so that the missing imports of the document are
+     * pulled along with the modules added by the caller. The versions are taken from the dependencies of the module of
+     * the document, and the latest versions are resolved for the imports that are not resolved yet.
+     *
+     * @param document the document to add the imports of
+     * @return this resolver
+     */
+    public ModuleResolver addImports(Document document) {
+        Module module = document.module();
+        Map<String, ModuleInfo> dependencies = new HashMap<>();
+        for (ModuleDependency dependency : module.moduleDependencies()) {
+            ModuleDescriptor descriptor = dependency.descriptor();
+            String packageName = descriptor.packageName().value();
+            dependencies.put(descriptor.org().value() + "/" + descriptor.name(), new ModuleInfo(
+                    descriptor.org().value(), packageName, packageName, descriptor.version().value().toString()));
+        }
+
+        PackageDescriptor currentPackage = module.packageInstance().descriptor();
+        ModulePartNode rootNode = document.syntaxTree().rootNode();
+        for (ImportDeclarationNode importNode : rootNode.imports()) {
+            if (importNode.orgName().isEmpty()) {
+                continue;
+            }
+            String org = importNode.orgName().get().orgName().text();
+            String moduleName = importNode.moduleName().stream()
+                    .map(IdentifierToken::text)
+                    .collect(Collectors.joining("."));
+            String packageName = currentPackage.name().value();
+            if (org.equals(currentPackage.org().value()) &&
+                    (moduleName.equals(packageName) || moduleName.startsWith(packageName + "."))) {
+                continue;
+            }
+            add(dependencies.getOrDefault(org + "/" + moduleName, new ModuleInfo(org, moduleName, moduleName, null)));
+        }
+        return this;
+    }
+
+    /**
+     * Resolves the added modules, pulling the modules that are not available locally.
+     *
+     * @return the compiled packages of the added modules, which are empty if a module cannot be resolved
+     */
+    public Map<ModuleInfo, Optional<Package>> resolve() {
+        return resolve(false);
+    }
+
+    /**
+     * Pulls the added modules that are not available locally. Unlike {@link #resolve()}, the modules that are already
+     * available are not loaded, which lets the caller defer their compilation until it is needed.
+     *
+     * @return the compiled packages of the pulled modules, which are empty if a module cannot be pulled
+     */
+    public Map<ModuleInfo, Optional<Package>> pullUnresolved() {
+        return resolve(true);
+    }
+
+    private Map<ModuleInfo, Optional<Package>> resolve(boolean unresolvedOnly) {
+        // Complete the module information, and collect the distinct packages to resolve
+        Map<ModuleInfo, ModuleInfo> packages = completeVersions();
+        Set<ModuleInfo> distinctPackages = packages.values().stream()
+                .filter(ModuleInfo::isComplete)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Set<ModuleInfo> unresolvedPackages = packageSource.unresolved(distinctPackages);
+        if (!unresolvedPackages.isEmpty()) {
+            if (unresolvedPackages.size() == 1) {
+                notifyClient(MessageType.Info, String.format(PULLING_THE_MODULE_MESSAGE,
+                        getSignature(unresolvedPackages.iterator().next())));
+            } else {
+                notifyClient(MessageType.Info, String.format(PULLING_THE_MODULES_MESSAGE, unresolvedPackages.size(),
+                        unresolvedPackages.stream().map(ModuleResolver::getSignature)
+                                .collect(Collectors.joining(", "))));
+            }
+            packageSource.pull(unresolvedPackages);
+        }
+
+        // Load the packages in parallel, reporting the progress of the pulled packages as they are compiled
+        AtomicInteger pulledCount = new AtomicInteger();
+        Map<ModuleInfo, CompletableFuture<Optional<Package>>> loads = new LinkedHashMap<>();
+        for (ModuleInfo pkg : unresolvedOnly ? unresolvedPackages : distinctPackages) {
+            CompletableFuture<Optional<Package>> load =
+                    CompletableFuture.supplyAsync(() -> packageSource.load(pkg), LOAD_EXECUTOR);
+            if (unresolvedPackages.contains(pkg)) {
+                load = load.whenComplete((result, throwable) -> {
+                    boolean pulled = throwable == null && result.isPresent();
+                    reportProgress(pkg, pulled, pulled ? pulledCount.incrementAndGet() : pulledCount.get(),
+                            unresolvedPackages.size());
+                });
+            }
+            loads.put(pkg, load);
+        }
+
+        Map<ModuleInfo, Optional<Package>> packagesByModule = new HashMap<>();
+        for (Map.Entry<ModuleInfo, ModuleInfo> entry : packages.entrySet()) {
+            CompletableFuture<Optional<Package>> load = loads.get(entry.getValue());
+            if (load == null && unresolvedOnly && entry.getValue().isComplete()) {
+                continue;
+            }
+            packagesByModule.put(entry.getKey(), load == null ? Optional.empty() : join(load));
+        }
+        return packagesByModule;
+    }
+
+    // Maps each module to its package, resolving the latest versions of the modules without a version concurrently
+    private Map<ModuleInfo, ModuleInfo> completeVersions() {
+        Map<ModuleInfo, CompletableFuture<String>> versions = new LinkedHashMap<>();
+        for (ModuleInfo moduleInfo : modules) {
+            versions.put(moduleInfo, moduleInfo.version() != null ?
+                    CompletableFuture.completedFuture(moduleInfo.version()) :
+                    packageSource.latestVersion(moduleInfo.org(), moduleInfo.packageName()));
+        }
+
+        Map<ModuleInfo, ModuleInfo> packages = new LinkedHashMap<>();
+        for (Map.Entry<ModuleInfo, CompletableFuture<String>> entry : versions.entrySet()) {
+            ModuleInfo moduleInfo = entry.getKey();
+            String version;
+            try {
+                version = entry.getValue().join();
+            } catch (CompletionException e) {
+                notifyClient(MessageType.Error,
+                        String.format(MODULE_VERSION_FAILED_MESSAGE, moduleInfo.org(), moduleInfo.packageName()));
+                version = null;
+            }
+            packages.put(moduleInfo,
+                    new ModuleInfo(moduleInfo.org(), moduleInfo.packageName(), moduleInfo.packageName(), version));
+        }
+        return packages;
+    }
+
+    private void reportProgress(ModuleInfo pkg, boolean pulled, int pulledCount, int totalCount) {
+        String signature = getSignature(pkg);
+        if (!pulled) {
+            notifyClient(MessageType.Error, String.format(MODULE_PULLING_FAILED_MESSAGE, signature));
+        } else if (totalCount == 1) {
+            notifyClient(MessageType.Info, String.format(MODULE_PULLING_SUCCESS_MESSAGE, signature));
+        } else {
+            notifyClient(MessageType.Info,
+                    String.format(MODULE_PULLING_PROGRESS_MESSAGE, pulledCount, totalCount, signature));
+        }
+    }
+
+    private void notifyClient(MessageType messageType, String message) {
+        notifier.accept(messageType, message);
+    }
+
+    private static String getSignature(ModuleInfo moduleInfo) {
+        return String.format("%s/%s:%s", moduleInfo.org(), moduleInfo.packageName(), moduleInfo.version());
+    }
+
+    private static Optional<Package> join(CompletableFuture<Optional<Package>> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Represents the source the modules are resolved from, which is the local repositories backed by Ballerina Central.
+     */
+    interface PackageSource {
+
+        PackageSource DEFAULT = new PackageSource() {
+            @Override
+            public CompletableFuture<String> latestVersion(String org, String packageName) {
+                return RemoteCentral.getInstance().latestPackageVersionAsync(org, packageName);
+            }
+
+            @Override
+            public Set<ModuleInfo> unresolved(Set<ModuleInfo> packages) {
+                return PackageUtil.getUnresolvedModules(packages);
+            }
+
+            @Override
+            public void pull(Set<ModuleInfo> packages) {
+                PackageUtil.pullModules(packages);
+            }
+
+            @Override
+            public Optional<Package> load(ModuleInfo pkg) {
+                return PackageUtil.getCompiledPackage(pkg.org(), pkg.packageName(), pkg.version());
+            }
+        };
+
+        CompletableFuture<String> latestVersion(String org, String packageName);
+
+        Set<ModuleInfo> unresolved(Set<ModuleInfo> packages);
+
+        void pull(Set<ModuleInfo> packages);
+
+        Optional<Package> load(ModuleInfo pkg);
+    }
+}
@@ -39,12 +39,10 @@ import io.ballerina.projects.environment.PackageResolver;
 import io.ballerina.projects.environment.ResolutionOptions;
 import io.ballerina.projects.environment.ResolutionRequest;
 import io.ballerina.projects.environment.ResolutionResponse;
-import io.ballerina.projects.repos.TempDirCompilationCache;
 import org.ballerinalang.langserver.LSClientLogger;
 import org.ballerinalang.langserver.commons.eventsync.exceptions.EventSyncException;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceDocumentException;
 import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
-import org.eclipse.lsp4j.MessageType;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -53,8 +51,11 @@ import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -67,10 +68,7 @@ public class PackageUtil {
 
     private static final String BALLERINA_HOME_PROPERTY = "ballerina.home";
     private static final BuildProject SAMPLE_PROJECT = getSampleProject();
-
-    private static final String PULLING_THE_MODULE_MESSAGE = "Pulling the module '%s' from the central";
-    private static final String MODULE_PULLING_FAILED_MESSAGE = "Failed to pull the module: %s";
-    private static final String MODULE_PULLING_SUCCESS_MESSAGE = "Successfully pulled the module: %s";
+    private static final CompiledPackageCache COMPILED_PACKAGE_CACHE = new CompiledPackageCache();
 
     // Concurrent map to store locks for each project
     private static final ConcurrentHashMap<Path, ReentrantLock> PROJECT_LOCKS = new ConcurrentHashMap<>();
@@ -116,15 +114,36 @@ public class PackageUtil {
      * @return An Optional containing the semantic model.
      */
     public static Optional<SemanticModel> getSemanticModel(String org, String name, String version) {
-        return getModulePackage(getSampleProject(), org, name, version).map(
+        return getCompiledPackage(org, name, version).map(
                 pkg -> getCompilation(pkg).getSemanticModel(pkg.getDefaultModule().moduleId()));
     }
 
     public static Optional<SemanticModel> getSemanticModel(String org, String name) {
-        return getModulePackage(getSampleProject(), org, name).map(
+        Optional<String> version = resolveLatestVersion(SAMPLE_PROJECT, org, name);
+        if (version.isPresent()) {
+            return getSemanticModel(org, name, version.get());
+        }
+        return getModulePackage(SAMPLE_PROJECT, org, name).map(
                 pkg -> getCompilation(pkg).getSemanticModel(pkg.getDefaultModule().moduleId()));
     }
 
+    /**
+     * Retrieves the compiled package identified by organization, name, and version. The compiled packages are cached,
+     * and concurrent requests for the same package share a single resolution and compilation.
+     *
+     * @param org     The organization name of the package
+     * @param name    The name of the package
+     * @param version The version of the package
+     * @return An Optional containing the compiled package
+     */
+    public static Optional<Package> getCompiledPackage(String org, String name, String version) {
+        return COMPILED_PACKAGE_CACHE.get(org, name, version, () -> {
+            Optional<Package> modulePackage = getModulePackage(SAMPLE_PROJECT, org, name, version);
+            modulePackage.ifPresent(PackageUtil::getCompilation);
+            return modulePackage;
+        });
+    }
+
     /**
      * Retrieves a package matching the specified organization, name, and version. If the package is not found in the
      * local cache, it attempts to fetch it from the remote repository.
@@ -151,22 +170,17 @@ public class PackageUtil {
 
         Path balaPath = resolutionResponse.get().resolvedPackage().project().sourceRoot();
         ProjectEnvironmentBuilder defaultBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
-        defaultBuilder.addCompilationCacheFactory(TempDirCompilationCache::from);
+        defaultBuilder.addCompilationCacheFactory(PersistentCompilationCache::from);
         BalaProject balaProject = BalaProject.loadProject(defaultBuilder, balaPath);
         return Optional.ofNullable(balaProject.currentPackage());
     }
 
     public static Optional<Package> getModulePackage(BuildProject buildProject, String org, String name) {
-        ResolutionRequest resolutionRequest = ResolutionRequest.from(
-                PackageDescriptor.from(PackageOrg.from(org), PackageName.from(name)));
-        PackageResolver packageResolver = buildProject.projectEnvironmentContext().getService(PackageResolver.class);
-        Collection<PackageMetadataResponse> packageMetadataResponses = packageResolver.resolvePackageMetadata(
-                Collections.singletonList(resolutionRequest),
-                ResolutionOptions.builder().setOffline(true).build());
-        Optional<PackageMetadataResponse> pkgMetadata = packageMetadataResponses.stream().findFirst();
+        Optional<PackageMetadataResponse> pkgMetadata = resolvePackageMetadata(buildProject, org, name);
         if (pkgMetadata.isEmpty()) {
             return Optional.empty();
         }
+        PackageResolver packageResolver = buildProject.projectEnvironmentContext().getService(PackageResolver.class);
 
         Collection<ResolutionResponse> resolutionResponses = packageResolver.resolvePackages(
                 Collections.singletonList(ResolutionRequest.from(pkgMetadata.get().resolvedDescriptor())),
@@ -178,11 +192,29 @@ public class PackageUtil {
 
         Path balaPath = resolutionResponse.get().resolvedPackage().project().sourceRoot();
         ProjectEnvironmentBuilder defaultBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
-        defaultBuilder.addCompilationCacheFactory(TempDirCompilationCache::from);
+        defaultBuilder.addCompilationCacheFactory(PersistentCompilationCache::from);
         BalaProject balaProject = BalaProject.loadProject(defaultBuilder, balaPath);
         return Optional.ofNullable(balaProject.currentPackage());
     }
 
+    private static Optional<PackageMetadataResponse> resolvePackageMetadata(BuildProject buildProject, String org,
+                                                                            String name) {
+        ResolutionRequest resolutionRequest = ResolutionRequest.from(
+                PackageDescriptor.from(PackageOrg.from(org), PackageName.from(name)));
+        PackageResolver packageResolver = buildProject.projectEnvironmentContext().getService(PackageResolver.class);
+        Collection<PackageMetadataResponse> packageMetadataResponses = packageResolver.resolvePackageMetadata(
+                Collections.singletonList(resolutionRequest),
+                ResolutionOptions.builder().setOffline(true).build());
+        return packageMetadataResponses.stream().findFirst();
+    }
+
+    private static Optional<String> resolveLatestVersion(BuildProject buildProject, String org, String name) {
+        return resolvePackageMetadata(buildProject, org, name)
+                .filter(response -> response.resolutionStatus() == ResolutionResponse.ResolutionStatus.RESOLVED &&
+                        response.resolvedDescriptor().version() != null)
+                .map(response -> response.resolvedDescriptor().version().value().toString());
+    }
+
     public static boolean isModuleUnresolved(String org, String name, String version) {
         ResolutionRequest resolutionRequest = ResolutionRequest.from(
                 PackageDescriptor.from(PackageOrg.from(org), PackageName.from(name), PackageVersion.from(version)));
@@ -194,6 +226,49 @@ public class PackageUtil {
                 .orElse(false);
     }
 
+    /**
+     * Returns the modules that are not available in the local repositories, resolving all the modules in a single
+     * batch.
+     *
+     * @param modules the modules with complete module information
+     * @return the unresolved modules
+     */
+    static Set<ModuleInfo> getUnresolvedModules(Collection<ModuleInfo> modules) {
+        if (modules.isEmpty()) {
+            return Set.of();
+        }
+        PackageResolver packageResolver = SAMPLE_PROJECT.projectEnvironmentContext().getService(PackageResolver.class);
+        Set<ModuleInfo> unresolvedModules = new HashSet<>();
+        for (PackageMetadataResponse response : packageResolver.resolvePackageMetadata(getResolutionRequests(modules),
+                ResolutionOptions.builder().setOffline(true).build())) {
+            if (response.resolutionStatus() == ResolutionResponse.ResolutionStatus.UNRESOLVED) {
+                unresolvedModules.add(ModuleInfo.from(response.packageLoadRequest().packageDescriptor()));
+            }
+        }
+        return unresolvedModules;
+    }
+
+    /**
+     * Pulls the given modules from the remote repository in a single resolution.
+     *
+     * @param modules the modules with complete module information
+     */
+    static void pullModules(Collection<ModuleInfo> modules) {
+        if (modules.isEmpty()) {
+            return;
+        }
+        SAMPLE_PROJECT.projectEnvironmentContext().getService(PackageResolver.class)
+                .resolvePackages(getResolutionRequests(modules),
+                        ResolutionOptions.builder().setOffline(false).setSticky(false).build());
+    }
+
+    private static List<ResolutionRequest> getResolutionRequests(Collection<ModuleInfo> modules) {
+        return modules.stream()
+                .map(module -> ResolutionRequest.from(PackageDescriptor.from(PackageOrg.from(module.org()),
+                        PackageName.from(module.packageName()), PackageVersion.from(module.version()))))
+                .toList();
+    }
+
     private static Path getPath(Path path) {
         return Objects.requireNonNull(path, "Path cannot be null");
     }
@@ -266,36 +341,15 @@ public class PackageUtil {
     }
 
     public static Optional<Package> pullModuleAndNotify(LSClientLogger lsClientLogger, ModuleInfo moduleInfo) {
+        // The latest version is resolved upfront, so that a failure to resolve it is thrown to the caller rather than
+        // being reported as an unresolved module
         ModuleInfo completeModuleInfo = fetchVersionIfNotExists(moduleInfo);
-        Optional<Package> modulePackage;
-        if (PackageUtil.isModuleUnresolved(completeModuleInfo.org(), completeModuleInfo.packageName(),
-                completeModuleInfo.version())) {
-            notifyClient(lsClientLogger, completeModuleInfo, MessageType.Info, PULLING_THE_MODULE_MESSAGE);
-            modulePackage = getModulePackage(SAMPLE_PROJECT, completeModuleInfo.org(), completeModuleInfo.packageName(),
-                    completeModuleInfo.version());
-            if (modulePackage.isEmpty()) {
-                notifyClient(lsClientLogger, completeModuleInfo, MessageType.Error, MODULE_PULLING_FAILED_MESSAGE);
-            } else {
-                notifyClient(lsClientLogger, completeModuleInfo, MessageType.Info, MODULE_PULLING_SUCCESS_MESSAGE);
-            }
-        } else {
-            modulePackage = getModulePackage(SAMPLE_PROJECT, completeModuleInfo.org(), completeModuleInfo.packageName(),
-                    completeModuleInfo.version());
-        }
-        return modulePackage;
-    }
-
-    private static void notifyClient(LSClientLogger lsClientLogger, ModuleInfo moduleInfo, MessageType messageType,
-                                     String message) {
-        if (lsClientLogger != null) {
-            String signature =
-                    String.format("%s/%s:%s", moduleInfo.org(), moduleInfo.packageName(), moduleInfo.version());
-            lsClientLogger.notifyClient(messageType, String.format(message, signature));
-        }
+        return new ModuleResolver(lsClientLogger).add(completeModuleInfo).resolve().get(completeModuleInfo);
     }
 
     /**
-     * Safely retrieves compilation from a project using a lock to ensure thread safety.
+     * Safely retrieves compilation from a project using a lock to ensure thread safety. The time spent, including the
+     * time waiting for a concurrent compilation of the project, is recorded in the {@link RequestMetrics}.
      *
      * @param balPackage The package from which to retrieve the compilation
      * @return The compilation of the project
@@ -303,11 +357,13 @@ public class PackageUtil {
     public static PackageCompilation getCompilation(Package balPackage) {
         Path id = balPackage.project().sourceRoot();
         ReentrantLock lock = PROJECT_LOCKS.computeIfAbsent(id, k -> new ReentrantLock());
+        long start = System.nanoTime();
         lock.lock();
         try {
             return balPackage.getCompilation();
         } finally {
             lock.unlock();
+            RequestMetrics.recordCompilation(System.nanoTime() - start);
         }
     }
 
@@ -0,0 +1,286 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import io.ballerina.projects.CompilationCache;
+import io.ballerina.projects.CompilerBackend;
+import io.ballerina.projects.ModuleName;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * A compilation cache for bala packages that persists the compiled artifacts under the user's home directory, so that
+ * they are reused across language server sessions.
+ *
+ * <p>
+ * The cache directory of a package is addressed by the distribution version, the organization, the name and the
+ * version of the package, and a digest of the bala contents. Since hashing a bala on every load is costly, the digest
+ * is stored against a fingerprint of the paths, sizes and modification times of the bala files, and it is only
+ * computed again once the fingerprint changes.
+ * </p>
+ *
+ * <p>
+ * The artifacts are stored by their SHA-256 checksum, and a single manifest maps each artifact to its checksum. Both
+ * the artifacts and the manifest are replaced atomically, and hence the manifest can only refer to a complete
+ * artifact of the same checksum. An artifact whose content does not match its checksum is ignored and recompiled.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class PersistentCompilationCache extends CompilationCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PersistentCompilationCache.class.getName());
+    private static final String CACHE_DIR_PROPERTY = "ballerina.modelgenerator.cache.dir";
+    private static final Path DEFAULT_CACHE_DIR =
+            Path.of(System.getProperty("user.home"), ".ballerina", "cache", "model-generator");
+    private static final String BIR_DIR = "bir";
+    private static final String BIR_EXTENSION = ".bir";
+    private static final String OBJECTS_DIR = "objects";
+    private static final String MANIFEST_FILE = "manifest.properties";
+    private static final String FINGERPRINTS_DIR = "fingerprints";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Path packageCacheDir;
+
+    private PersistentCompilationCache(Package pkg, Path packageCacheDir) {
+        this(pkg.packageOrg().value(), pkg.packageName().value(), pkg.packageVersion().value().toString(),
+                packageCacheDir);
+    }
+
+    PersistentCompilationCache(String org, String name, String version, Path packageCacheDir) {
+        super(org, name, version);
+        this.packageCacheDir = packageCacheDir;
+    }
+
+    /**
+     * Creates a persistent compilation cache for the given bala project. Falls back to a directory derived from the
+     * bala path if the digest of the bala contents could not be computed.
+     *
+     * @param project the bala project
+     * @return the compilation cache of the project
+     */
+    public static PersistentCompilationCache from(Project project) {
+        Package pkg = project.currentPackage();
+        Path cacheRoot = Optional.ofNullable(System.getProperty(CACHE_DIR_PROPERTY))
+                .map(Path::of)
+                .orElse(DEFAULT_CACHE_DIR);
+        Path packageVersionDir = cacheRoot
+                .resolve(RepoUtils.getBallerinaShortVersion())
+                .resolve(pkg.packageOrg().value())
+                .resolve(pkg.packageName().value())
+                .resolve(pkg.packageVersion().value().toString());
+        Path packageCacheDir = packageVersionDir.resolve(contentDigest(project.sourceRoot(), packageVersionDir));
+        return new PersistentCompilationCache(pkg, packageCacheDir);
+    }
+
+    @Override
+    public Optional<byte[]> getBir(ModuleName moduleName) {
+        return lookup(birEntry(moduleName)).flatMap(PersistentCompilationCache::readVerified);
+    }
+
+    @Override
+    public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
+        writeVerified(birEntry(moduleName), birContent.toByteArray());
+    }
+
+    @Override
+    public Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName) {
+        return lookup(libraryEntry(compilerBackend, libraryName))
+                .filter(libraryPath -> readVerified(libraryPath).isPresent());
+    }
+
+    @Override
+    public void cachePlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName,
+                                             ByteArrayOutputStream libraryContent) {
+        writeVerified(libraryEntry(compilerBackend, libraryName), libraryContent.toByteArray());
+    }
+
+    private static String birEntry(ModuleName moduleName) {
+        return BIR_DIR + "/" + moduleName.toString() + BIR_EXTENSION;
+    }
+
+    private static String libraryEntry(CompilerBackend compilerBackend, String libraryName) {
+        return compilerBackend.targetPlatform().code() + "/" + libraryName;
+    }
+
+    /**
+     * Returns the path of the artifact the manifest refers to for the given entry.
+     */
+    private Optional<Path> lookup(String entry) {
+        String checksum = readManifest().getProperty(entry);
+        if (checksum == null || !isDigest(checksum)) {
+            return Optional.empty();
+        }
+        Path filePath = objectPath(checksum, entry);
+        return Files.isRegularFile(filePath) ? Optional.of(filePath) : Optional.empty();
+    }
+
+    // The artifacts are stored in a directory named by their checksum
+    private static Optional<byte[]> readVerified(Path filePath) {
+        try {
+            byte[] content = Files.readAllBytes(filePath);
+            if (filePath.getParent().getFileName().toString().equals(digest(content))) {
+                return Optional.of(content);
+            }
+            // The artifact is corrupted, and will be replaced once recompiled
+            LOGGER.warning("Ignoring the compilation cache entry with a mismatching checksum: " + filePath);
+        } catch (IOException e) {
+            LOGGER.warning("Failed to read the compilation cache entry: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private synchronized void writeVerified(String entry, byte[] content) {
+        String checksum = digest(content);
+        Path filePath = objectPath(checksum, entry);
+        try {
+            Files.createDirectories(filePath.getParent());
+            // Write to a temporary file first, so that concurrent sessions never observe a partially written artifact
+            writeAtomically(filePath, out -> out.write(content));
+
+            Properties manifest = readManifest();
+            manifest.setProperty(entry, checksum);
+            writeAtomically(packageCacheDir.resolve(MANIFEST_FILE), out -> manifest.store(out, null));
+        } catch (IOException e) {
+            LOGGER.warning("Failed to write the compilation cache entry: " + e.getMessage());
+        }
+    }
+
+    private Properties readManifest() {
+        Properties manifest = new Properties();
+        Path manifestPath = packageCacheDir.resolve(MANIFEST_FILE);
+        if (!Files.isRegularFile(manifestPath)) {
+            return manifest;
+        }
+        try (InputStream in = Files.newInputStream(manifestPath)) {
+            manifest.load(in);
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warning("Ignoring the unreadable compilation cache manifest: " + manifestPath);
+            return new Properties();
+        }
+        return manifest;
+    }
+
+    // The file name of the artifact is preserved, since the compiler may depend on the name of a library
+    private Path objectPath(String checksum, String entry) {
+        return packageCacheDir.resolve(OBJECTS_DIR).resolve(checksum).resolve(Path.of(entry).getFileName());
+    }
+
+    /**
+     * Returns the digest of the contents of the given bala, reusing the digest stored in the cache as long as the
+     * fingerprint of the bala files is unchanged.
+     *
+     * @param balaPath          the path of the bala
+     * @param packageVersionDir the cache directory of the package version
+     * @return the digest of the bala contents
+     */
+    static String contentDigest(Path balaPath, Path packageVersionDir) {
+        try {
+            List<Path> files;
+            try (Stream<Path> paths = Files.walk(balaPath)) {
+                files = paths.filter(Files::isRegularFile).sorted().toList();
+            }
+            MessageDigest fingerprintDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            for (Path file : files) {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                fingerprintDigest.update((balaPath.relativize(file) + ":" + attributes.size() + ":" +
+                        attributes.lastModifiedTime().toMillis() + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            Path fingerprintPath = packageVersionDir.resolve(FINGERPRINTS_DIR)
+                    .resolve(HexFormat.of().formatHex(fingerprintDigest.digest()));
+            if (Files.isRegularFile(fingerprintPath)) {
+                String storedDigest = Files.readString(fingerprintPath, StandardCharsets.UTF_8).trim();
+                if (isDigest(storedDigest)) {
+                    return storedDigest;
+                }
+            }
+
+            MessageDigest contentDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            for (Path file : files) {
+                contentDigest.update(balaPath.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+                contentDigest.update(Files.readAllBytes(file));
+            }
+            String digest = HexFormat.of().formatHex(contentDigest.digest());
+            try {
+                Files.createDirectories(fingerprintPath.getParent());
+                writeAtomically(fingerprintPath, out -> out.write(digest.getBytes(StandardCharsets.UTF_8)));
+            } catch (IOException e) {
+                LOGGER.warning("Failed to store the digest of the bala: " + e.getMessage());
+            }
+            return digest;
+        } catch (IOException | UncheckedIOException | NoSuchAlgorithmException e) {
+            LOGGER.warning("Failed to compute the digest of the bala: " + e.getMessage());
+            return "unverified-" + Integer.toHexString(balaPath.toString().hashCode());
+        }
+    }
+
+    private static void writeAtomically(Path filePath, ContentWriter writer) throws IOException {
+        Path tempFile = Files.createTempFile(filePath.getParent(), filePath.getFileName().toString(), TEMP_EXTENSION);
+        try {
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                writer.write(out);
+            }
+            Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static boolean isDigest(String value) {
+        return value.length() == 64 && value.chars().allMatch(ch -> Character.digit(ch, 16) >= 0);
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(DIGEST_ALGORITHM).digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by the runtime", e);
+        }
+    }
+
+    /**
+     * Writes the content of a cache file.
+     */
+    @FunctionalInterface
+    private interface ContentWriter {
+
+        void write(OutputStream out) throws IOException;
+    }
+}
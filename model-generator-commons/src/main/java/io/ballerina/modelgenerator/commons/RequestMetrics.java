@@ -0,0 +1,414 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.LongStream;
+
+/**
+ * Records the latency of the requests served by the language server extensions, along with the time spent on compiling
+ * packages and querying the index databases while serving them.
+ *
+ * <p>
+ * Each endpoint keeps a latency histogram with fixed exponential buckets, the number of requests in flight and the
+ * number of failed requests. The latency of a request is split into the time it waited for a worker, the time spent on
+ * compilations, the time spent on database queries, and the rest, which is reported as the model building time. The
+ * compilation and query times are attributed to the request being served by the current thread. The components with
+ * their own metrics, such as the caches and the connection pools, register a gauge which is sampled when a snapshot is
+ * taken. The snapshots are served by the metrics service of the extensions, and are also written to the file given by
+ * the {@value #DUMP_FILE_PROPERTY} system property when the language server exits.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class RequestMetrics {
+
+    public static final String DUMP_FILE_PROPERTY = "ballerina.modelgenerator.metrics.file";
+    private static final Logger LOGGER = Logger.getLogger(RequestMetrics.class.getName());
+    private static final long[] BUCKET_BOUNDS_MILLIS =
+            {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000};
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    private final Map<String, EndpointRecorder> endpoints;
+    private final Map<String, Supplier<?>> gauges;
+    private final LatencyHistogram compilations;
+    private final LatencyHistogram queries;
+    private final ThreadLocal<Tracker> currentTracker;
+
+    private RequestMetrics() {
+        endpoints = new ConcurrentHashMap<>();
+        gauges = new ConcurrentHashMap<>();
+        compilations = new LatencyHistogram();
+        queries = new LatencyHistogram();
+        currentTracker = new ThreadLocal<>();
+
+        String dumpFile = System.getProperty(DUMP_FILE_PROPERTY);
+        if (dumpFile != null && !dumpFile.isBlank()) {
+            Runtime.getRuntime().addShutdownHook(
+                    new Thread(() -> dump(Path.of(dumpFile)), "model-generator-metrics-dump"));
+        }
+    }
+
+    public static RequestMetrics getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Serves a request asynchronously on the common pool, recording its metrics under the given endpoint.
+     *
+     * @param endpoint the name of the endpoint, which is the method name of the request
+     * @param handler  the handler of the request
+     * @param <T>      the type of the response
+     * @return the future of the response
+     */
+    public static <T> CompletableFuture<T> supplyAsync(String endpoint, Supplier<T> handler) {
+        Tracker tracker = getInstance().start(endpoint);
+        return CompletableFuture.supplyAsync(() -> tracker.run(handler));
+    }
+
+    /**
+     * Records the metrics of a request served by another executor, such as the debouncer, under the given endpoint.
+     * Only the latency is recorded for such requests, as the work is not bound to the thread of the request.
+     *
+     * @param endpoint the name of the endpoint, which is the method name of the request
+     * @param handler  the handler that dispatches the request
+     * @param <T>      the type of the response
+     * @return the future of the response returned by the handler
+     */
+    public static <T> CompletableFuture<T> track(String endpoint, Supplier<CompletableFuture<T>> handler) {
+        Tracker tracker = getInstance().start(endpoint);
+        CompletableFuture<T> future;
+        try {
+            future = handler.get();
+        } catch (RuntimeException e) {
+            tracker.finish(true);
+            throw e;
+        }
+        future.whenComplete((result, throwable) -> tracker.finish(throwable != null));
+        return future;
+    }
+
+    /**
+     * Records the time spent on a compilation, attributing it to the request served by the current thread.
+     *
+     * @param nanos the time spent in nanoseconds
+     */
+    public static void recordCompilation(long nanos) {
+        RequestMetrics metrics = getInstance();
+        metrics.compilations.record(nanos);
+        Tracker tracker = metrics.currentTracker.get();
+        if (tracker != null) {
+            tracker.compilationNanos += nanos;
+        }
+    }
+
+    /**
+     * Records the time spent on a database query, attributing it to the request served by the current thread.
+     *
+     * @param nanos the time spent in nanoseconds
+     */
+    public static void recordQuery(long nanos) {
+        RequestMetrics metrics = getInstance();
+        metrics.queries.record(nanos);
+        Tracker tracker = metrics.currentTracker.get();
+        if (tracker != null) {
+            tracker.queryNanos += nanos;
+        }
+    }
+
+    /**
+     * Registers a gauge that is sampled when a snapshot is taken. A gauge registered under an existing name replaces
+     * the previous one.
+     *
+     * @param name  the name of the gauge
+     * @param gauge the supplier of the current value, which is serialized as is into the snapshot
+     */
+    public void registerGauge(String name, Supplier<?> gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * Returns a snapshot of the metrics.
+     *
+     * @return the snapshot of the metrics
+     */
+    public Snapshot snapshot() {
+        Map<String, EndpointMetrics> endpointMetrics = new TreeMap<>();
+        endpoints.forEach((name, recorder) -> endpointMetrics.put(name, recorder.snapshot()));
+        Map<String, Object> gaugeValues = new TreeMap<>();
+        gauges.forEach((name, gauge) -> {
+            try {
+                gaugeValues.put(name, gauge.get());
+            } catch (RuntimeException e) {
+                gaugeValues.put(name, "Error: " + e.getMessage());
+            }
+        });
+        return new Snapshot(LongStream.of(BUCKET_BOUNDS_MILLIS).boxed().toList(), endpointMetrics,
+                compilations.snapshot(), queries.snapshot(), gaugeValues);
+    }
+
+    /**
+     * Clears the recorded requests, compilations and queries. The in-flight counts and the gauges are retained.
+     */
+    public void reset() {
+        endpoints.values().forEach(EndpointRecorder::reset);
+        compilations.reset();
+        queries.reset();
+    }
+
+    /**
+     * Writes a snapshot of the metrics to the given file in JSON.
+     *
+     * @param file the file to write to
+     * @return true if the snapshot is written successfully
+     */
+    public boolean dump(Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(file, GSON.toJson(snapshot()));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warning("Failed to write the metrics to " + file + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    private Tracker start(String endpoint) {
+        EndpointRecorder recorder = endpoints.computeIfAbsent(endpoint, k -> new EndpointRecorder());
+        recorder.inFlight.incrementAndGet();
+        return new Tracker(recorder);
+    }
+
+    /**
+     * Represents a snapshot of the metrics.
+     *
+     * @param bucketBoundsMillis the inclusive upper bounds of the histogram buckets, excluding the overflow bucket
+     * @param endpoints          the metrics of the endpoints, by the name of the endpoint
+     * @param compilations       the histogram of the compilations
+     * @param queries            the histogram of the database queries
+     * @param gauges             the sampled gauges, by the name of the gauge
+     */
+    public record Snapshot(List<Long> bucketBoundsMillis, Map<String, EndpointMetrics> endpoints,
+                           Histogram compilations, Histogram queries, Map<String, Object> gauges) {
+    }
+
+    /**
+     * Represents the metrics of an endpoint.
+     *
+     * @param inFlight             the number of requests being served
+     * @param failures             the number of requests that completed exceptionally
+     * @param latency              the histogram of the request latency
+     * @param averageQueueMillis   the average time a request waited for a worker
+     * @param averageCompileMillis the average time a request spent on compilations
+     * @param averageQueryMillis   the average time a request spent on database queries
+     * @param averageModelMillis   the average time a request spent on the rest of the work, mostly building the model
+     */
+    public record EndpointMetrics(int inFlight, long failures, Histogram latency, double averageQueueMillis,
+                                  double averageCompileMillis, double averageQueryMillis, double averageModelMillis) {
+    }
+
+    /**
+     * Represents a snapshot of a latency histogram. The percentiles are the upper bounds of the buckets they fall in.
+     *
+     * @param count       the number of recorded values
+     * @param totalMillis the sum of the recorded values
+     * @param maxMillis   the maximum recorded value
+     * @param p50Millis   the 50th percentile
+     * @param p90Millis   the 90th percentile
+     * @param p99Millis   the 99th percentile
+     * @param buckets     the number of values in each bucket, with the overflow bucket last
+     */
+    public record Histogram(long count, long totalMillis, long maxMillis, long p50Millis, long p90Millis,
+                            long p99Millis, List<Long> buckets) {
+    }
+
+    /**
+     * Tracks a request from the time it is received until it completes.
+     */
+    private class Tracker {
+
+        private final EndpointRecorder recorder;
+        private final long startNanos;
+        private long runNanos;
+        private long compilationNanos;
+        private long queryNanos;
+        private boolean executed;
+
+        Tracker(EndpointRecorder recorder) {
+            this.recorder = recorder;
+            this.startNanos = System.nanoTime();
+        }
+
+        <T> T run(Supplier<T> handler) {
+            Tracker previous = currentTracker.get();
+            currentTracker.set(this);
+            executed = true;
+            runNanos = System.nanoTime();
+            boolean failed = true;
+            try {
+                T result = handler.get();
+                failed = false;
+                return result;
+            } finally {
+                currentTracker.set(previous);
+                if (previous != null) {
+                    previous.compilationNanos += compilationNanos;
+                    previous.queryNanos += queryNanos;
+                }
+                finish(failed);
+            }
+        }
+
+        void finish(boolean failed) {
+            long endNanos = System.nanoTime();
+            recorder.inFlight.decrementAndGet();
+            recorder.latency.record(endNanos - startNanos);
+            if (failed) {
+                recorder.failures.increment();
+            }
+            if (executed) {
+                recorder.queueNanos.add(runNanos - startNanos);
+                recorder.compilationNanos.add(compilationNanos);
+                recorder.queryNanos.add(queryNanos);
+                recorder.modelNanos.add(Math.max(0, endNanos - runNanos - compilationNanos - queryNanos));
+            }
+        }
+    }
+
+    /**
+     * Accumulates the metrics of an endpoint.
+     */
+    private static class EndpointRecorder {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder failures = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder queueNanos = new LongAdder();
+        private final LongAdder compilationNanos = new LongAdder();
+        private final LongAdder queryNanos = new LongAdder();
+        private final LongAdder modelNanos = new LongAdder();
+
+        EndpointMetrics snapshot() {
+            Histogram histogram = latency.snapshot();
+            return new EndpointMetrics(inFlight.get(), failures.sum(), histogram,
+                    averageMillis(queueNanos, histogram.count()), averageMillis(compilationNanos, histogram.count()),
+                    averageMillis(queryNanos, histogram.count()), averageMillis(modelNanos, histogram.count()));
+        }
+
+        void reset() {
+            failures.reset();
+            latency.reset();
+            queueNanos.reset();
+            compilationNanos.reset();
+            queryNanos.reset();
+            modelNanos.reset();
+        }
+
+        private static double averageMillis(LongAdder totalNanos, long count) {
+            return count == 0 ? 0 : (double) totalNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+
+    /**
+     * A lock-free histogram of durations with fixed exponential buckets.
+     */
+    private static class LatencyHistogram {
+
+        private final LongAdder[] buckets;
+        private final LongAdder totalNanos;
+        private final AtomicLong maxNanos;
+
+        LatencyHistogram() {
+            buckets = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+            totalNanos = new LongAdder();
+            maxNanos = new AtomicLong();
+        }
+
+        void record(long nanos) {
+            int index = Arrays.binarySearch(BUCKET_BOUNDS_MILLIS, TimeUnit.NANOSECONDS.toMillis(nanos));
+            buckets[index < 0 ? -index - 1 : index].increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        Histogram snapshot() {
+            long[] counts = new long[buckets.length];
+            long count = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                counts[i] = buckets[i].sum();
+                count += counts[i];
+            }
+            long maxMillis = TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+            return new Histogram(count, TimeUnit.NANOSECONDS.toMillis(totalNanos.sum()), maxMillis,
+                    percentile(counts, count, 0.5, maxMillis), percentile(counts, count, 0.9, maxMillis),
+                    percentile(counts, count, 0.99, maxMillis), LongStream.of(counts).boxed().toList());
+        }
+
+        void reset() {
+            for (LongAdder bucket : buckets) {
+                bucket.reset();
+            }
+            totalNanos.reset();
+            maxNanos.set(0);
+        }
+
+        private static long percentile(long[] counts, long count, double quantile, long maxMillis) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(quantile * count);
+            long cumulative = 0;
+            for (int i = 0; i < BUCKET_BOUNDS_MILLIS.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= rank) {
+                    return Math.min(BUCKET_BOUNDS_MILLIS[i], maxMillis);
+                }
+            }
+            return maxMillis;
+        }
+    }
+
+    private static class Holder {
+
+        private static final RequestMetrics INSTANCE = new RequestMetrics();
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * A pool of long-lived, read-only SQLite connections for the bundled index databases.
+ *
+ * <p>
+ * The connections are opened in read-only mode with a shared page cache, memory-mapped I/O and {@code query_only}
+ * enabled, so that repeated lookups reuse the parsed schema and the warm page cache instead of re-opening the database
+ * file for every query. Each connection keeps a bounded cache of prepared statements. A connection acquired by a thread
+ * is re-entrant, hence nested queries issued while iterating a result set reuse the same connection.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class SQLiteConnectionPool implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(SQLiteConnectionPool.class.getName());
+    private static final String JDBC_PREFIX = "jdbc:sqlite:";
+
+    // SQLite open mode flag for SQLITE_OPEN_READONLY
+    private static final String OPEN_MODE_READ_ONLY = "1";
+    private static final String MMAP_SIZE = String.valueOf(256L * 1024 * 1024);
+    // Negative values are interpreted by SQLite as the cache size in KiB
+    private static final String CACHE_SIZE = String.valueOf(-16 * 1024);
+    static final int STATEMENT_CACHE_SIZE = 64;
+    private static final long ACQUIRE_TIMEOUT_SECONDS = 30;
+
+    private final String dbUrl;
+    private final Properties connectionProperties;
+    private final int maxConnections;
+    private final LinkedBlockingDeque<PooledConnection> idleConnections;
+    private final List<PooledConnection> allConnections;
+    private final ThreadLocal<PooledConnection> ownedConnection;
+    private final AtomicInteger openConnections;
+    private volatile boolean closed;
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder statementCacheHits = new LongAdder();
+    private final LongAdder statementCacheMisses = new LongAdder();
+
+    public SQLiteConnectionPool(Path dbFile, int maxConnections) {
+        this.dbUrl = JDBC_PREFIX + dbFile;
+        this.maxConnections = maxConnections;
+        this.connectionProperties = new Properties();
+        this.connectionProperties.setProperty("open_mode", OPEN_MODE_READ_ONLY);
+        this.connectionProperties.setProperty("shared_cache", "true");
+        this.connectionProperties.setProperty("mmap_size", MMAP_SIZE);
+        this.connectionProperties.setProperty("cache_size", CACHE_SIZE);
+        this.connectionProperties.setProperty("temp_store", "MEMORY");
+        this.connectionProperties.setProperty("query_only", "true");
+        this.idleConnections = new LinkedBlockingDeque<>();
+        this.allConnections = new ArrayList<>();
+        this.ownedConnection = new ThreadLocal<>();
+        this.openConnections = new AtomicInteger();
+    }
+
+    /**
+     * Copies the given index database from the classpath to a temporary location and creates a pool on top of it.
+     *
+     * @param indexFileName the name of the SQLite file resource
+     * @param classLoader   the class loader used to locate the resource
+     * @return a connection pool for the copied database
+     */
+    public static SQLiteConnectionPool fromResource(String indexFileName, ClassLoader classLoader) {
+        try {
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException("Failed to load SQLite JDBC driver", e);
+        }
+
+        Path tempDir;
+        try {
+            tempDir = Files.createTempDirectory("central-index");
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create a temporary directory", e);
+        }
+
+        URL dbUrl = classLoader.getResource(indexFileName);
+        if (dbUrl == null) {
+            throw new RuntimeException("Database resource not found: " + indexFileName);
+        }
+        Path tempFile = tempDir.resolve(indexFileName);
+        try (InputStream inputStream = dbUrl.openStream()) {
+            Files.copy(inputStream, tempFile);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
+        }
+
+        int poolSize = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+        return new SQLiteConnectionPool(tempFile, poolSize);
+    }
+
+    /**
+     * Acquires a connection from the pool. If the current thread already holds a connection, the same connection is
+     * returned. The returned connection must be closed to release it back to the pool.
+     *
+     * @return a pooled connection
+     * @throws SQLException if the pool is closed, a connection could not be opened or the acquire timed out
+     */
+    public PooledConnection acquire() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed: " + dbUrl);
+        }
+        PooledConnection current = ownedConnection.get();
+        if (current != null) {
+            current.depth++;
+            return current;
+        }
+
+        acquisitions.increment();
+        long acquireStart = System.nanoTime();
+        PooledConnection connection = idleConnections.pollFirst();
+        if (connection == null) {
+            connection = tryOpenConnection();
+        }
+        if (connection == null) {
+            waits.increment();
+            long start = System.nanoTime();
+            try {
+                connection = idleConnections.pollFirst(ACQUIRE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a database connection", e);
+            } finally {
+                totalWaitNanos.add(System.nanoTime() - start);
+            }
+            if (connection == null) {
+                throw new SQLException("Timed out waiting for a database connection: " + dbUrl);
+            }
+        }
+
+        connection.depth = 1;
+        connection.leaseStart = acquireStart;
+        ownedConnection.set(connection);
+        return connection;
+    }
+
+    private PooledConnection tryOpenConnection() throws SQLException {
+        while (true) {
+            int count = openConnections.get();
+            if (count >= maxConnections) {
+                return null;
+            }
+            if (openConnections.compareAndSet(count, count + 1)) {
+                break;
+            }
+        }
+        try {
+            PooledConnection connection = new PooledConnection(DriverManager.getConnection(dbUrl,
+                    connectionProperties));
+            synchronized (allConnections) {
+                allConnections.add(connection);
+            }
+            return connection;
+        } catch (SQLException e) {
+            openConnections.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void release(PooledConnection connection) {
+        ownedConnection.remove();
+        // The lease spans the queries issued by the caller and the iteration of their results
+        RequestMetrics.recordQuery(System.nanoTime() - connection.leaseStart);
+        if (closed) {
+            connection.closeQuietly();
+            return;
+        }
+        idleConnections.offerFirst(connection);
+    }
+
+    /**
+     * Returns a snapshot of the pool metrics.
+     *
+     * @return the current pool metrics
+     */
+    public PoolMetrics metrics() {
+        return new PoolMetrics(openConnections.get(), idleConnections.size(), maxConnections, acquisitions.sum(),
+                waits.sum(), TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum()), statementCacheHits.sum(),
+                statementCacheMisses.sum());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (allConnections) {
+            for (PooledConnection connection : allConnections) {
+                if (connection.depth == 0) {
+                    connection.closeQuietly();
+                }
+            }
+            allConnections.clear();
+        }
+        idleConnections.clear();
+    }
+
+    private static void closeStatement(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.warning("Error closing prepared statement: " + e.getMessage());
+        }
+    }
+
+    /**
+     * A connection leased from the pool. Closing it returns the underlying connection to the pool while keeping the
+     * connection and its cached statements open.
+     *
+     * @since 2.0.0
+     */
+    public class PooledConnection implements AutoCloseable {
+
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statementCache;
+        private int depth;
+        private long leaseStart;
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+            this.statementCache = new LinkedHashMap<>(16, 0.75f, true);
+        }
+
+        /**
+         * Returns a cached prepared statement for the given SQL, preparing it if required. The statement is owned by
+         * the pool and must not be closed by the caller, although its result sets should be.
+         *
+         * @param sql the SQL query
+         * @return the prepared statement
+         * @throws SQLException if the statement could not be prepared
+         */
+        public PreparedStatement prepareStatement(String sql) throws SQLException {
+            PreparedStatement statement = statementCache.get(sql);
+            if (statement != null && !statement.isClosed()) {
+                statementCacheHits.increment();
+                statement.clearParameters();
+                return statement;
+            }
+
+            statementCacheMisses.increment();
+            statement = connection.prepareStatement(sql);
+            statementCache.put(sql, statement);
+            if (statementCache.size() > STATEMENT_CACHE_SIZE) {
+                Iterator<PreparedStatement> iterator = statementCache.values().iterator();
+                PreparedStatement eldest = iterator.next();
+                iterator.remove();
+                closeStatement(eldest);
+            }
+            return statement;
+        }
+
+        @Override
+        public void close() {
+            if (--depth == 0) {
+                release(this);
+            }
+        }
+
+        private void closeQuietly() {
+            for (PreparedStatement statement : statementCache.values()) {
+                closeStatement(statement);
+            }
+            statementCache.clear();
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.warning("Error closing database connection: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Represents a snapshot of the connection pool metrics.
+     *
+     * @param openConnections      number of connections opened by the pool
+     * @param idleConnections      number of connections available in the pool
+     * @param maxConnections       maximum number of connections the pool can open
+     * @param acquisitions         number of top-level acquisitions served
+     * @param waits                number of acquisitions that had to wait for a free connection
+     * @param totalWaitMillis      total time spent waiting for a free connection
+     * @param statementCacheHits   number of prepared statements served from the cache
+     * @param statementCacheMisses number of prepared statements that had to be compiled
+     * @since 2.0.0
+     */
+    public record PoolMetrics(int openConnections, int idleConnections, int maxConnections, long acquisitions,
+                              long waits, long totalWaitMillis, long statementCacheHits, long statementCacheMisses) {
+
+    }
+}
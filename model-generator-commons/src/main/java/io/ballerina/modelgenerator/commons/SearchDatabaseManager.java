@@ -18,17 +18,10 @@
 
 package io.ballerina.modelgenerator.commons;
 
-import java.io.IOException;
-import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.logging.Logger;
 
@@ -46,7 +39,7 @@ public class SearchDatabaseManager {
 
     private static final String INDEX_FILE_NAME = "search-index.sqlite";
     private static final Logger LOGGER = Logger.getLogger(SearchDatabaseManager.class.getName());
-    private final String dbPath;
+    private final SQLiteConnectionPool connectionPool;
 
     private static class Holder {
 
@@ -58,31 +51,17 @@ public class SearchDatabaseManager {
     }
 
     private SearchDatabaseManager() {
-        try {
-            Class.forName("org.sqlite.JDBC");
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException("Failed to load SQLite JDBC driver", e);
-        }
-
-        Path tempDir;
-        try {
-            tempDir = Files.createTempDirectory("central-index");
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to create a temporary directory", e);
-        }
-
-        URL dbUrl = getClass().getClassLoader().getResource(INDEX_FILE_NAME);
-        if (dbUrl == null) {
-            throw new RuntimeException("Database resource not found: " + INDEX_FILE_NAME);
-        }
-        Path tempFile = tempDir.resolve(INDEX_FILE_NAME);
-        try {
-            Files.copy(dbUrl.openStream(), tempFile);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to copy the database file to the temporary directory", e);
-        }
+        connectionPool = SQLiteConnectionPool.fromResource(INDEX_FILE_NAME, getClass().getClassLoader());
+        RequestMetrics.getInstance().registerGauge("searchIndexPool", connectionPool::metrics);
+    }
 
-        dbPath = "jdbc:sqlite:" + tempFile;
+    /**
+     * Returns a snapshot of the connection pool metrics of the index database.
+     *
+     * @return the connection pool metrics
+     */
+    public SQLiteConnectionPool.PoolMetrics getPoolMetrics() {
+        return connectionPool.metrics();
     }
 
     /**
@@ -96,27 +75,10 @@ public class SearchDatabaseManager {
      */
     public List<SearchResult> searchFunctions(String q, int limit, int offset) {
         List<SearchResult> results = new ArrayList<>();
-        String sql = """
-                SELECT
-                    f.id,
-                    f.name AS function_name,
-                    f.description AS function_description,
-                    f.package_id,
-                    p.name AS package_name,
-                    p.org AS package_org,
-                    p.version AS package_version,
-                    fts.rank
-                FROM FunctionFTS AS fts
-                JOIN Function AS f ON fts.rowid = f.id
-                JOIN Package AS p ON f.package_id = p.id
-                WHERE fts.FunctionFTS MATCH ?
-                ORDER BY fts.rank
-                LIMIT ?
-                OFFSET ?;
-                """;
-
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        String sql = SearchIndexQueries.SEARCH_FUNCTIONS;
+
+        try (SQLiteConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
 
             stmt.setString(1, sanitizeQuery(q) + "*");
             stmt.setInt(2, limit);
@@ -155,27 +117,10 @@ public class SearchDatabaseManager {
      */
     public List<SearchResult> searchConnectors(String q, int limit, int offset) {
         List<SearchResult> results = new ArrayList<>();
-        String sql = """
-                SELECT
-                    c.id,
-                    c.name AS connector_name,
-                    c.description AS connector_description,
-                    c.package_id,
-                    p.name AS package_name,
-                    p.org AS package_org,
-                    p.version AS package_version,
-                    fts.rank
-                FROM ConnectorFTS AS fts
-                JOIN Connector AS c ON fts.rowid = c.id
-                JOIN Package AS p ON c.package_id = p.id
-                WHERE fts.ConnectorFTS MATCH ?
-                ORDER BY fts.rank
-                LIMIT ?
-                OFFSET ?;
-                """;
-
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        String sql = SearchIndexQueries.SEARCH_CONNECTORS;
+
+        try (SQLiteConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
 
             stmt.setString(1, sanitizeQuery(q) + "*");
             stmt.setInt(2, limit);
@@ -217,35 +162,10 @@ public class SearchDatabaseManager {
                                                         int limit, int offset) {
         List<SearchResult> results = new ArrayList<>();
 
-        StringBuilder sqlBuilder = new StringBuilder();
-        sqlBuilder.append("SELECT ")
-                .append("f.name AS function_name, ")
-                .append("f.description AS function_description, ")
-                .append("f.package_id, ")
-                .append("p.name AS package_name, ")
-                .append("p.org AS package_org, ")
-                .append("p.version AS package_version ")
-                .append("FROM Package p ")
-                .append("JOIN Function f ON p.id = f.package_id");
-
-        // Build the SQL query with IN clauses for both packages and functions
-        boolean whereAdded = false;
-        if (!packageNames.isEmpty()) {
-            sqlBuilder.append(" WHERE p.name IN (")
-                    .append(String.join(",", Collections.nCopies(packageNames.size(), "?")))
-                    .append(")");
-            whereAdded = true;
-        }
-        if (!functionNames.isEmpty()) {
-            sqlBuilder.append(whereAdded ? " AND" : " WHERE")
-                    .append(" f.name IN (")
-                    .append(String.join(",", Collections.nCopies(functionNames.size(), "?")))
-                    .append(")");
-        }
-        sqlBuilder.append(" LIMIT ? OFFSET ?");
+        String sql = SearchIndexQueries.functionsByPackages(packageNames.size(), functionNames.size());
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString())) {
+        try (SQLiteConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
 
             // Set parameters for package names
             int paramIndex = 1;
@@ -294,32 +214,10 @@ public class SearchDatabaseManager {
     public List<SearchResult> searchConnectorsByPackage(List<String> packageConnectorMap, int limit, int offset) {
         List<SearchResult> results = new ArrayList<>();
 
-        StringBuilder sqlBuilder = new StringBuilder();
-        sqlBuilder.append("SELECT ")
-                .append("c.name AS connector_name, ")
-                .append("c.description AS connector_description, ")
-                .append("c.package_id, ")
-                .append("p.name AS package_name, ")
-                .append("p.org AS package_org, ")
-                .append("p.version AS package_version ")
-                .append("FROM Package p ")
-                .append("JOIN Connector c ON p.id = c.package_id");
-
-        // Build the SQL query with IN clauses for both packages and connectors
-        if (!packageConnectorMap.isEmpty()) {
-            sqlBuilder.append(" WHERE (");
-            for (int i = 0; i < packageConnectorMap.size(); i++) {
-                if (i > 0) {
-                    sqlBuilder.append(" OR ");
-                }
-                sqlBuilder.append("(p.name = ? AND c.name = ?)");
-            }
-            sqlBuilder.append(")");
-        }
-        sqlBuilder.append(" LIMIT ? OFFSET ?");
+        String sql = SearchIndexQueries.connectorsByPackage(packageConnectorMap.size());
 
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString())) {
+        try (SQLiteConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
 
             // Set parameters for package names and connector names
             int paramIndex = 1;
@@ -364,27 +262,10 @@ public class SearchDatabaseManager {
      */
     public List<SearchResult> searchTypes(String q, int limit, int offset) {
         List<SearchResult> results = new ArrayList<>();
-        String sql = """
-                SELECT
-                    t.id,
-                    t.name AS type_name,
-                    t.description AS type_description,
-                    t.package_id,
-                    p.name AS package_name,
-                    p.org AS package_org,
-                    p.version AS package_version,
-                    fts.rank
-                FROM TypeFTS AS fts
-                JOIN Type AS t ON fts.rowid = t.id
-                JOIN Package AS p ON t.package_id = p.id
-                WHERE fts.TypeFTS MATCH ?
-                ORDER BY fts.rank
-                LIMIT ?
-                OFFSET ?;
-                """;
-
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        String sql = SearchIndexQueries.SEARCH_TYPES;
+
+        try (SQLiteConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
 
             stmt.setString(1, sanitizeQuery(q) + "*");
             stmt.setInt(2, limit);
@@ -424,25 +305,10 @@ public class SearchDatabaseManager {
     public List<SearchResult> searchTypesByPackages(List<String> packageNames, int limit, int offset) {
         List<SearchResult> results = new ArrayList<>();
 
-        StringBuilder sqlBuilder = new StringBuilder();
-        sqlBuilder.append("SELECT ")
-                .append("t.name AS type_name, ")
-                .append("t.description AS type_description, ")
-                .append("t.package_id, ")
-                .append("p.name AS package_name, ")
-                .append("p.org AS package_org, ")
-                .append("p.version AS package_version ")
-                .append("FROM Package p ")
-                .append("JOIN Type t ON p.id = t.package_id");
-
-        // Build the SQL query with IN clauses for packages
-        sqlBuilder.append(" WHERE p.name IN (")
-                .append(String.join(",", Collections.nCopies(packageNames.size(), "?")))
-                .append(")");
-        sqlBuilder.append(" LIMIT ? OFFSET ?");
-
-        try (Connection conn = DriverManager.getConnection(dbPath);
-             PreparedStatement stmt = conn.prepareStatement(sqlBuilder.toString())) {
+        String sql = SearchIndexQueries.typesByPackages(packageNames.size());
+
+        try (SQLiteConnectionPool.PooledConnection conn = connectionPool.acquire()) {
+            PreparedStatement stmt = conn.prepareStatement(sql);
 
             // Set parameters for package names
             int paramIndex = 1;
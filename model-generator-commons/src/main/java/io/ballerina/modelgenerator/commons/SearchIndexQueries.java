@@ -0,0 +1,207 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The queries issued by the {@link SearchDatabaseManager} against the search index. The index generator verifies the
+ * query plans of the same strings, and hence every lookup of the database manager must be built from this class.
+ *
+ * @since 2.0.0
+ */
+public final class SearchIndexQueries {
+
+    public static final String SEARCH_FUNCTIONS = """
+            SELECT
+                f.id,
+                f.name AS function_name,
+                f.description AS function_description,
+                f.package_id,
+                p.name AS package_name,
+                p.org AS package_org,
+                p.version AS package_version,
+                fts.rank
+            FROM FunctionFTS AS fts
+            JOIN Function AS f ON fts.rowid = f.id
+            JOIN Package AS p ON f.package_id = p.id
+            WHERE fts.FunctionFTS MATCH ?
+            ORDER BY fts.rank
+            LIMIT ?
+            OFFSET ?;
+            """;
+
+    public static final String SEARCH_CONNECTORS = """
+            SELECT
+                c.id,
+                c.name AS connector_name,
+                c.description AS connector_description,
+                c.package_id,
+                p.name AS package_name,
+                p.org AS package_org,
+                p.version AS package_version,
+                fts.rank
+            FROM ConnectorFTS AS fts
+            JOIN Connector AS c ON fts.rowid = c.id
+            JOIN Package AS p ON c.package_id = p.id
+            WHERE fts.ConnectorFTS MATCH ?
+            ORDER BY fts.rank
+            LIMIT ?
+            OFFSET ?;
+            """;
+
+    public static final String SEARCH_TYPES = """
+            SELECT
+                t.id,
+                t.name AS type_name,
+                t.description AS type_description,
+                t.package_id,
+                p.name AS package_name,
+                p.org AS package_org,
+                p.version AS package_version,
+                fts.rank
+            FROM TypeFTS AS fts
+            JOIN Type AS t ON fts.rowid = t.id
+            JOIN Package AS p ON t.package_id = p.id
+            WHERE fts.TypeFTS MATCH ?
+            ORDER BY fts.rank
+            LIMIT ?
+            OFFSET ?;
+            """;
+
+    private SearchIndexQueries() {
+    }
+
+    /**
+     * Returns the query to find the functions of the given packages by their names.
+     *
+     * @param packageCount  the number of package names to match, or zero to match every package
+     * @param functionCount the number of function names to match, or zero to match every function
+     * @return the query
+     */
+    public static String functionsByPackages(int packageCount, int functionCount) {
+        StringBuilder sqlBuilder = new StringBuilder();
+        sqlBuilder.append("SELECT ")
+                .append("f.name AS function_name, ")
+                .append("f.description AS function_description, ")
+                .append("f.package_id, ")
+                .append("p.name AS package_name, ")
+                .append("p.org AS package_org, ")
+                .append("p.version AS package_version ")
+                .append("FROM Package p ")
+                .append("JOIN Function f ON p.id = f.package_id");
+
+        // Build the SQL query with IN clauses for both packages and functions
+        boolean whereAdded = false;
+        if (packageCount > 0) {
+            sqlBuilder.append(" WHERE p.name IN (")
+                    .append(String.join(",", Collections.nCopies(packageCount, "?")))
+                    .append(")");
+            whereAdded = true;
+        }
+        if (functionCount > 0) {
+            sqlBuilder.append(whereAdded ? " AND" : " WHERE")
+                    .append(" f.name IN (")
+                    .append(String.join(",", Collections.nCopies(functionCount, "?")))
+                    .append(")");
+        }
+        sqlBuilder.append(" LIMIT ? OFFSET ?");
+        return sqlBuilder.toString();
+    }
+
+    /**
+     * Returns the query to find connectors by their package and connector names.
+     *
+     * @param connectorCount the number of package and connector name pairs to match, or zero to match every connector
+     * @return the query
+     */
+    public static String connectorsByPackage(int connectorCount) {
+        StringBuilder sqlBuilder = new StringBuilder();
+        sqlBuilder.append("SELECT ")
+                .append("c.name AS connector_name, ")
+                .append("c.description AS connector_description, ")
+                .append("c.package_id, ")
+                .append("p.name AS package_name, ")
+                .append("p.org AS package_org, ")
+                .append("p.version AS package_version ")
+                .append("FROM Package p ")
+                .append("JOIN Connector c ON p.id = c.package_id");
+
+        // Build the SQL query with IN clauses for both packages and connectors
+        if (connectorCount > 0) {
+            sqlBuilder.append(" WHERE (");
+            for (int i = 0; i < connectorCount; i++) {
+                if (i > 0) {
+                    sqlBuilder.append(" OR ");
+                }
+                sqlBuilder.append("(p.name = ? AND c.name = ?)");
+            }
+            sqlBuilder.append(")");
+        }
+        sqlBuilder.append(" LIMIT ? OFFSET ?");
+        return sqlBuilder.toString();
+    }
+
+    /**
+     * Returns the query to find the types of the given packages.
+     *
+     * @param packageCount the number of package names to match
+     * @return the query
+     */
+    public static String typesByPackages(int packageCount) {
+        StringBuilder sqlBuilder = new StringBuilder();
+        sqlBuilder.append("SELECT ")
+                .append("t.name AS type_name, ")
+                .append("t.description AS type_description, ")
+                .append("t.package_id, ")
+                .append("p.name AS package_name, ")
+                .append("p.org AS package_org, ")
+                .append("p.version AS package_version ")
+                .append("FROM Package p ")
+                .append("JOIN Type t ON p.id = t.package_id");
+
+        // Build the SQL query with IN clauses for packages
+        sqlBuilder.append(" WHERE p.name IN (")
+                .append(String.join(",", Collections.nCopies(packageCount, "?")))
+                .append(")");
+        sqlBuilder.append(" LIMIT ? OFFSET ?");
+        return sqlBuilder.toString();
+    }
+
+    /**
+     * Returns every distinct access path of the {@link SearchDatabaseManager}, with two values for each
+     * variable-length list of parameters. The variants without any filter list the whole index by design, and hence
+     * are not included.
+     *
+     * @return the queries to verify
+     */
+    public static List<String> accessPaths() {
+        return List.of(
+                SEARCH_FUNCTIONS,
+                SEARCH_CONNECTORS,
+                SEARCH_TYPES,
+                functionsByPackages(2, 0),
+                functionsByPackages(0, 2),
+                functionsByPackages(2, 2),
+                connectorsByPackage(2),
+                typesByPackages(2)
+        );
+    }
+}
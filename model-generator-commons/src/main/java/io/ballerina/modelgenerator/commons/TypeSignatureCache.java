@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the rendered type signatures of the type symbols of a compilation.
+ *
+ * <p>
+ * The signatures are keyed by the identity of the type symbol, along with the default module and the error handling
+ * they were rendered for. The cache of a compilation is discarded along with its semantic model, and retains the most
+ * recently used signatures up to a fixed capacity, as the semantic model of the workspace is long-lived.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class TypeSignatureCache {
+
+    private static final int MAX_ENTRIES = 4096;
+    private static final Map<SemanticModel, TypeSignatureCache> CACHES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<Key, String> signatures;
+
+    private TypeSignatureCache() {
+        this.signatures = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache of the compilation of the given semantic model.
+     *
+     * @param semanticModel the semantic model of the compilation
+     * @return the signature cache
+     */
+    static TypeSignatureCache of(SemanticModel semanticModel) {
+        return CACHES.computeIfAbsent(semanticModel, key -> new TypeSignatureCache());
+    }
+
+    /**
+     * Returns the cached signature of the given type symbol, rendering it with the provided renderer on a cache miss.
+     * The renderer is invoked outside the lock, as it renders the member types through the same cache.
+     *
+     * @param typeSymbol  the type symbol
+     * @param moduleInfo  the default module descriptor
+     * @param ignoreError whether the errors are ignored in the signature
+     * @param renderer    the renderer of the signature
+     * @return the type signature
+     */
+    String get(TypeSymbol typeSymbol, ModuleInfo moduleInfo, boolean ignoreError, Supplier<String> renderer) {
+        Key key = new Key(typeSymbol, moduleInfo, ignoreError);
+        synchronized (signatures) {
+            String signature = signatures.get(key);
+            if (signature != null) {
+                return signature;
+            }
+        }
+        String signature = renderer.get();
+        synchronized (signatures) {
+            signatures.put(key, signature);
+        }
+        return signature;
+    }
+
+    /**
+     * Represents the key of a rendered signature, which compares the type symbol by identity.
+     *
+     * @param typeSymbol  the type symbol
+     * @param moduleInfo  the default module descriptor
+     * @param ignoreError whether the errors are ignored in the signature
+     */
+    private record Key(TypeSymbol typeSymbol, ModuleInfo moduleInfo, boolean ignoreError) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && typeSymbol == key.typeSymbol && ignoreError == key.ignoreError &&
+                    Objects.equals(moduleInfo, key.moduleInfo);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(typeSymbol) + (moduleInfo == null ? 0 : moduleInfo.hashCode()))
+                    + Boolean.hashCode(ignoreError);
+        }
+    }
+}
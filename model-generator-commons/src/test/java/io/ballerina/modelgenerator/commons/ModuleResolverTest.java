@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import io.ballerina.projects.Package;
+import org.eclipse.lsp4j.MessageType;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Test the batch resolution of the modules and the notifications sent to the client, using a stubbed package source.
+ *
+ * @since 2.0.0
+ */
+public class ModuleResolverTest {
+
+    private static final ModuleInfo MODULE_A = new ModuleInfo("wso2", "a", "a", "1.0.0");
+    private static final ModuleInfo MODULE_B = new ModuleInfo("wso2", "b", "b", "1.0.0");
+    private static final ModuleInfo MODULE_C = new ModuleInfo("wso2", "c", "c", "1.0.0");
+
+    @Test(description = "The pulls of several modules are reported as a single stream of notifications")
+    public void testNotificationAggregation() {
+        StubPackageSource packageSource = new StubPackageSource(Set.of(), Set.of(MODULE_A, MODULE_B, MODULE_C));
+        List<Notification> notifications = new ArrayList<>();
+        Map<ModuleInfo, Optional<Package>> packages = newResolver(packageSource, notifications)
+                .add(MODULE_A).add(MODULE_B).add(MODULE_C).add(MODULE_A)
+                .resolve();
+
+        // The modules are pulled in a single resolution
+        Assert.assertEquals(packageSource.pulls, List.of(Set.of(MODULE_A, MODULE_B, MODULE_C)));
+        Assert.assertEquals(packages.keySet(), Set.of(MODULE_A, MODULE_B, MODULE_C));
+        packages.values().forEach(pkg -> Assert.assertTrue(pkg.isPresent()));
+
+        Assert.assertEquals(notifications.size(), 4);
+        Assert.assertEquals(notifications.get(0), new Notification(MessageType.Info,
+                "Pulling 3 modules from the central: wso2/a:1.0.0, wso2/b:1.0.0, wso2/c:1.0.0"));
+        Set<String> progress = new HashSet<>();
+        for (Notification notification : notifications.subList(1, notifications.size())) {
+            Assert.assertEquals(notification.messageType(), MessageType.Info);
+            progress.add(notification.message().substring(0, "Pulled 1 of 3".length()));
+        }
+        Assert.assertEquals(progress, Set.of("Pulled 1 of 3", "Pulled 2 of 3", "Pulled 3 of 3"));
+    }
+
+    @Test(description = "A module that fails to be pulled does not affect the other modules of the batch")
+    public void testPartialFailure() {
+        StubPackageSource packageSource = new StubPackageSource(Set.of(MODULE_A), Set.of(MODULE_B));
+        List<Notification> notifications = new ArrayList<>();
+        Map<ModuleInfo, Optional<Package>> packages = newResolver(packageSource, notifications)
+                .add(MODULE_A).add(MODULE_B).add(MODULE_C)
+                .pullUnresolved();
+
+        // The module available locally is neither pulled nor loaded
+        Assert.assertEquals(packageSource.pulls, List.of(Set.of(MODULE_B, MODULE_C)));
+        Assert.assertEquals(packages.keySet(), Set.of(MODULE_B, MODULE_C));
+        Assert.assertTrue(packages.get(MODULE_B).isPresent());
+        Assert.assertTrue(packages.get(MODULE_C).isEmpty());
+
+        Assert.assertEquals(notifications.get(0),
+                new Notification(MessageType.Info, "Pulling 2 modules from the central: wso2/b:1.0.0, wso2/c:1.0.0"));
+        Assert.assertEquals(new HashSet<>(notifications.subList(1, notifications.size())), Set.of(
+                new Notification(MessageType.Info, "Pulled 1 of 2 modules: wso2/b:1.0.0"),
+                new Notification(MessageType.Error, "Failed to pull the module: wso2/c:1.0.0")));
+    }
+
+    @Test(description = "The modules are reported as unresolved without failing when the central is offline")
+    public void testOffline() {
+        StubPackageSource packageSource = new StubPackageSource(Set.of(MODULE_A), Set.of());
+        packageSource.offline = true;
+        ModuleInfo latestModule = new ModuleInfo("wso2", "d", "d", null);
+        List<Notification> notifications = new ArrayList<>();
+        Map<ModuleInfo, Optional<Package>> packages = newResolver(packageSource, notifications)
+                .add(MODULE_A).add(MODULE_B).add(latestModule)
+                .resolve();
+
+        // The module available locally is still resolved
+        Assert.assertTrue(packages.get(MODULE_A).isPresent());
+        Assert.assertTrue(packages.get(MODULE_B).isEmpty());
+        Assert.assertTrue(packages.get(latestModule).isEmpty());
+        Assert.assertEquals(packageSource.pulls, List.of(Set.of(MODULE_B)));
+
+        Assert.assertEquals(notifications, List.of(
+                new Notification(MessageType.Error, "Failed to resolve the latest version of: wso2/d"),
+                new Notification(MessageType.Info, "Pulling the module 'wso2/b:1.0.0' from the central"),
+                new Notification(MessageType.Error, "Failed to pull the module: wso2/b:1.0.0")));
+    }
+
+    private static ModuleResolver newResolver(StubPackageSource packageSource, List<Notification> notifications) {
+        return new ModuleResolver((messageType, message) -> {
+            synchronized (notifications) {
+                notifications.add(new Notification(messageType, message));
+            }
+        }, packageSource);
+    }
+
+    private record Notification(MessageType messageType, String message) {
+    }
+
+    /**
+     * A package source with a fixed set of local packages, and a fixed set of packages that can be pulled.
+     */
+    private static class StubPackageSource implements ModuleResolver.PackageSource {
+
+        private final Set<ModuleInfo> localPackages;
+        private final Set<ModuleInfo> remotePackages;
+        private final List<Set<ModuleInfo>> pulls = new ArrayList<>();
+        private boolean offline;
+
+        StubPackageSource(Set<ModuleInfo> localPackages, Set<ModuleInfo> remotePackages) {
+            this.localPackages = new HashSet<>(localPackages);
+            this.remotePackages = remotePackages;
+        }
+
+        @Override
+        public CompletableFuture<String> latestVersion(String org, String packageName) {
+            if (offline) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Central is not reachable"));
+            }
+            return CompletableFuture.completedFuture("1.0.0");
+        }
+
+        @Override
+        public Set<ModuleInfo> unresolved(Set<ModuleInfo> packages) {
+            Set<ModuleInfo> unresolved = new LinkedHashSet<>(packages);
+            unresolved.removeAll(localPackages);
+            return unresolved;
+        }
+
+        @Override
+        public synchronized void pull(Set<ModuleInfo> packages) {
+            pulls.add(Set.copyOf(packages));
+            if (offline) {
+                return;
+            }
+            packages.stream().filter(remotePackages::contains).forEach(localPackages::add);
+        }
+
+        @Override
+        public synchronized Optional<Package> load(ModuleInfo pkg) {
+            return localPackages.contains(pkg) ? Optional.of(Mockito.mock(Package.class)) : Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import io.ballerina.projects.ModuleName;
+import io.ballerina.projects.PackageName;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Test the lookup of the compiled artifacts and the digest of the bala contents of the persistent compilation cache.
+ *
+ * @since 2.0.0
+ */
+public class PersistentCompilationCacheTest {
+
+    private static final ModuleName MODULE_NAME = ModuleName.from(PackageName.from("pkg"));
+    private static final byte[] BIR = "bir-content".getBytes(StandardCharsets.UTF_8);
+
+    private Path cacheDir;
+
+    @BeforeMethod
+    public void createCacheDir() throws IOException {
+        cacheDir = Files.createTempDirectory("compilation-cache");
+    }
+
+    @AfterMethod
+    public void deleteCacheDir() throws IOException {
+        try (Stream<Path> paths = Files.walk(cacheDir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test(description = "A cached artifact is served to another session of the same package")
+    public void testHit() throws IOException {
+        newCache().cacheBir(MODULE_NAME, birContent(BIR));
+
+        Optional<byte[]> bir = newCache().getBir(MODULE_NAME);
+        Assert.assertTrue(bir.isPresent());
+        Assert.assertEquals(bir.get(), BIR);
+
+        // Replacing the artifact keeps a single manifest entry, and leaves no temporary files behind
+        byte[] updatedBir = "updated-bir-content".getBytes(StandardCharsets.UTF_8);
+        newCache().cacheBir(MODULE_NAME, birContent(updatedBir));
+        Assert.assertEquals(newCache().getBir(MODULE_NAME).orElseThrow(), updatedBir);
+        try (Stream<Path> paths = Files.walk(cacheDir)) {
+            Assert.assertTrue(paths.noneMatch(path -> path.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test(description = "An artifact that has not been cached is not served")
+    public void testMiss() {
+        PersistentCompilationCache cache = newCache();
+        Assert.assertTrue(cache.getBir(MODULE_NAME).isEmpty());
+
+        cache.cacheBir(MODULE_NAME, birContent(BIR));
+        Assert.assertTrue(cache.getBir(ModuleName.from(PackageName.from("pkg"), "other")).isEmpty());
+    }
+
+    @Test(description = "A corrupted artifact or manifest is ignored, and the artifact is replaced once cached again")
+    public void testCorruptEntry() throws IOException {
+        PersistentCompilationCache cache = newCache();
+        cache.cacheBir(MODULE_NAME, birContent(BIR));
+        Path birPath;
+        try (Stream<Path> paths = Files.walk(cacheDir)) {
+            birPath = paths.filter(path -> path.getFileName().toString().endsWith(".bir")).findFirst().orElseThrow();
+        }
+
+        Files.write(birPath, "corrupted".getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(cache.getBir(MODULE_NAME).isEmpty());
+        cache.cacheBir(MODULE_NAME, birContent(BIR));
+        Assert.assertEquals(cache.getBir(MODULE_NAME).orElseThrow(), BIR);
+
+        Files.writeString(cacheDir.resolve("manifest.properties"), "bir/pkg.bir=\\uZZZZ");
+        Assert.assertTrue(cache.getBir(MODULE_NAME).isEmpty());
+        cache.cacheBir(MODULE_NAME, birContent(BIR));
+        Assert.assertEquals(cache.getBir(MODULE_NAME).orElseThrow(), BIR);
+    }
+
+    @Test(description = "The digest of a bala is reused until the size or the modification time of a file changes")
+    public void testContentDigest() throws IOException {
+        Path balaPath = Files.createDirectories(cacheDir.resolve("bala"));
+        Path sourceFile = balaPath.resolve("main.bal");
+        Files.writeString(sourceFile, "public function main() {}");
+        Path versionDir = cacheDir.resolve("version");
+
+        String digest = PersistentCompilationCache.contentDigest(balaPath, versionDir);
+        Assert.assertEquals(PersistentCompilationCache.contentDigest(balaPath, versionDir), digest);
+        List<Path> fingerprints;
+        try (Stream<Path> paths = Files.list(versionDir.resolve("fingerprints"))) {
+            fingerprints = paths.toList();
+        }
+        Assert.assertEquals(fingerprints.size(), 1);
+
+        // The stored digest is served without reading the bala contents
+        Files.writeString(fingerprints.get(0), "f".repeat(64));
+        Assert.assertEquals(PersistentCompilationCache.contentDigest(balaPath, versionDir), "f".repeat(64));
+
+        // A modified file changes the fingerprint, and the digest is computed again from the contents
+        Files.setLastModifiedTime(sourceFile, FileTime.fromMillis(0));
+        Assert.assertEquals(PersistentCompilationCache.contentDigest(balaPath, versionDir), digest);
+        Files.writeString(sourceFile, "public function main() {}\n");
+        Assert.assertNotEquals(PersistentCompilationCache.contentDigest(balaPath, versionDir), digest);
+    }
+
+    private PersistentCompilationCache newCache() {
+        return new PersistentCompilationCache("org", "pkg", "1.0.0", cacheDir);
+    }
+
+    private static ByteArrayOutputStream birContent(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(content);
+        return out;
+    }
+}
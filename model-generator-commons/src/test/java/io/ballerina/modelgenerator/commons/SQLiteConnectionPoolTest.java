@@ -0,0 +1,151 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test the leasing of the connections and the caching of the prepared statements of the SQLite connection pool.
+ *
+ * @since 2.0.0
+ */
+public class SQLiteConnectionPoolTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private Path dbFile;
+    private SQLiteConnectionPool pool;
+
+    @BeforeMethod
+    public void createDatabase() throws IOException, SQLException {
+        dbFile = Files.createTempFile("pool", ".sqlite");
+        try (Connection conn = DriverManager.getConnection("jdbc:sqlite:" + dbFile);
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE Item (id INTEGER PRIMARY KEY, name TEXT)");
+            stmt.executeUpdate("INSERT INTO Item (id, name) VALUES (1, 'first'), (2, 'second')");
+        }
+        pool = new SQLiteConnectionPool(dbFile, 1);
+    }
+
+    @AfterMethod
+    public void deleteDatabase() throws IOException {
+        pool.close();
+        Files.deleteIfExists(dbFile);
+    }
+
+    @Test(description = "A nested acquire on the same thread reuses the connection of the outer lease")
+    public void testNestedAcquire() throws Exception {
+        try (SQLiteConnectionPool.PooledConnection outer = pool.acquire()) {
+            PreparedStatement outerStmt = outer.prepareStatement("SELECT id FROM Item ORDER BY id");
+            try (ResultSet rs = outerStmt.executeQuery()) {
+                while (rs.next()) {
+                    // The pool has a single connection, hence a second lease would time out
+                    try (SQLiteConnectionPool.PooledConnection inner = pool.acquire()) {
+                        Assert.assertSame(inner, outer);
+                        PreparedStatement innerStmt = inner.prepareStatement("SELECT name FROM Item WHERE id = ?");
+                        innerStmt.setInt(1, rs.getInt(1));
+                        try (ResultSet innerRs = innerStmt.executeQuery()) {
+                            Assert.assertTrue(innerRs.next());
+                        }
+                    }
+                }
+            }
+
+            // Closing the inner lease does not release the connection held by the outer lease
+            Assert.assertEquals(pool.metrics().idleConnections(), 0);
+        }
+        SQLiteConnectionPool.PoolMetrics metrics = pool.metrics();
+        Assert.assertEquals(metrics.acquisitions(), 1);
+        Assert.assertEquals(metrics.idleConnections(), 1);
+
+        // Another thread acquires the released connection
+        CompletableFuture<Boolean> otherThread = CompletableFuture.supplyAsync(() -> {
+            try (SQLiteConnectionPool.PooledConnection connection = pool.acquire();
+                 ResultSet rs = connection.prepareStatement("SELECT COUNT(*) FROM Item").executeQuery()) {
+                return rs.next() && rs.getInt(1) == 2;
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        Assert.assertTrue(otherThread.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertEquals(pool.metrics().openConnections(), 1);
+    }
+
+    @Test(description = "The least recently used statement is closed once the statement cache is full")
+    public void testStatementCacheEviction() throws SQLException {
+        try (SQLiteConnectionPool.PooledConnection connection = pool.acquire()) {
+            PreparedStatement first = connection.prepareStatement(query(0));
+            PreparedStatement second = connection.prepareStatement(query(1));
+            for (int i = 2; i < SQLiteConnectionPool.STATEMENT_CACHE_SIZE; i++) {
+                connection.prepareStatement(query(i));
+            }
+
+            // Using the first statement makes the second statement the least recently used one
+            Assert.assertSame(connection.prepareStatement(query(0)), first);
+            connection.prepareStatement(query(SQLiteConnectionPool.STATEMENT_CACHE_SIZE));
+            Assert.assertFalse(first.isClosed());
+            Assert.assertTrue(second.isClosed());
+
+            // The evicted statement is prepared again
+            long misses = pool.metrics().statementCacheMisses();
+            PreparedStatement secondAgain = connection.prepareStatement(query(1));
+            Assert.assertNotSame(secondAgain, second);
+            Assert.assertEquals(pool.metrics().statementCacheMisses(), misses + 1);
+        }
+        Assert.assertEquals(pool.metrics().statementCacheMisses(), SQLiteConnectionPool.STATEMENT_CACHE_SIZE + 2);
+        Assert.assertEquals(pool.metrics().statementCacheHits(), 1);
+    }
+
+    @Test(description = "Closing the pool keeps a leased connection open until the lease is released")
+    public void testCloseWithOpenLease() throws SQLException {
+        SQLiteConnectionPool.PooledConnection connection = pool.acquire();
+        PreparedStatement stmt = connection.prepareStatement("SELECT COUNT(*) FROM Item");
+        pool.close();
+
+        // The lease can still be used
+        try (ResultSet rs = stmt.executeQuery()) {
+            Assert.assertTrue(rs.next());
+            Assert.assertEquals(rs.getInt(1), 2);
+        }
+        Assert.assertThrows(SQLException.class, pool::acquire);
+
+        // Releasing the lease closes the connection and its statements
+        connection.close();
+        Assert.assertTrue(stmt.isClosed());
+    }
+
+    private static String query(int index) {
+        return "SELECT name FROM Item WHERE id = " + index;
+    }
+}
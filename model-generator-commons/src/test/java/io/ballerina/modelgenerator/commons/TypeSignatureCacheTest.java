@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.modelgenerator.commons;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * Test the rendering of the type signatures, and the caching of the rendered signatures per semantic model.
+ *
+ * @since 2.0.0
+ */
+public class TypeSignatureCacheTest {
+
+    private static final ModuleInfo HTTP_MODULE = new ModuleInfo("ballerina", "http", "http", "2.12.0");
+    private static final ModuleInfo USER_MODULE = new ModuleInfo("wso2", "app", "app", "0.1.0");
+    private static final String RESPONSE_SIGNATURE = "ballerina/http:2.12.0:Response";
+    private static final String ERROR_SIGNATURE = "ballerina/http:2.12.0:ClientError";
+
+    @Test(description = "The signatures without a qualified module ID are returned as they are")
+    public void testUnqualifiedSignature() {
+        for (String signature : List.of("int", "map<string>", "int:Signed32", "record {| string path; |}")) {
+            TypeSymbol typeSymbol = typeSymbol(signature);
+            Assert.assertSame(CommonUtils.getTypeSignature(typeSymbol, HTTP_MODULE), signature);
+            Assert.assertSame(CommonUtils.getTypeSignature(typeSymbol, null), signature);
+        }
+    }
+
+    @Test(description = "The module prefix is omitted only for the types of the default module")
+    public void testQualifiedSignature() {
+        TypeSymbol typeSymbol = typeSymbol(RESPONSE_SIGNATURE);
+        Assert.assertEquals(CommonUtils.getTypeSignature(typeSymbol, HTTP_MODULE), "Response");
+        Assert.assertEquals(CommonUtils.getTypeSignature(typeSymbol, USER_MODULE), "http:Response");
+        Assert.assertEquals(CommonUtils.getTypeSignature(typeSymbol, null), "http:Response");
+
+        TypeSymbol unionSymbol = typeSymbol(RESPONSE_SIGNATURE + "|" + ERROR_SIGNATURE);
+        Assert.assertEquals(CommonUtils.getTypeSignature(unionSymbol, HTTP_MODULE), "Response|ClientError");
+        Assert.assertEquals(CommonUtils.getTypeSignature(unionSymbol, USER_MODULE), "http:Response|http:ClientError");
+
+        // The prefix of a module is the last part of its name
+        TypeSymbol langSymbol = typeSymbol("ballerina/lang.value:0.0.0:Cloneable");
+        Assert.assertEquals(CommonUtils.getTypeSignature(langSymbol, USER_MODULE), "value:Cloneable");
+    }
+
+    @Test(description = "The rendered member types are reused across the union types of a semantic model")
+    public void testCachedUnionMembers() {
+        SemanticModel semanticModel = Mockito.mock(SemanticModel.class);
+        TypeSymbol responseSymbol = typeSymbol(RESPONSE_SIGNATURE);
+        TypeSymbol errorSymbol = typeSymbol(ERROR_SIGNATURE);
+        TypeSymbol stringSymbol = typeSymbol("string");
+        UnionTypeSymbol firstUnion = unionTypeSymbol(RESPONSE_SIGNATURE + "|" + ERROR_SIGNATURE, responseSymbol,
+                errorSymbol);
+        UnionTypeSymbol secondUnion = unionTypeSymbol("string|" + RESPONSE_SIGNATURE, stringSymbol, responseSymbol);
+
+        Assert.assertEquals(CommonUtils.getTypeSignature(semanticModel, firstUnion, false, USER_MODULE),
+                "http:Response|http:ClientError");
+        Assert.assertEquals(CommonUtils.getTypeSignature(semanticModel, secondUnion, false, USER_MODULE),
+                "string|http:Response");
+        Mockito.verify(responseSymbol, Mockito.times(1)).signature();
+
+        // The union type itself is served from the cache
+        Assert.assertEquals(CommonUtils.getTypeSignature(semanticModel, firstUnion, false, USER_MODULE),
+                "http:Response|http:ClientError");
+        Mockito.verify(firstUnion, Mockito.times(1)).memberTypeDescriptors();
+
+        // The signature is rendered again for another default module and for another semantic model
+        Assert.assertEquals(CommonUtils.getTypeSignature(semanticModel, responseSymbol, false, HTTP_MODULE),
+                "Response");
+        Assert.assertEquals(CommonUtils.getTypeSignature(Mockito.mock(SemanticModel.class), firstUnion, false,
+                USER_MODULE), "http:Response|http:ClientError");
+        Mockito.verify(responseSymbol, Mockito.times(3)).signature();
+    }
+
+    private static TypeSymbol typeSymbol(String signature) {
+        TypeSymbol typeSymbol = Mockito.mock(TypeSymbol.class);
+        Mockito.when(typeSymbol.typeKind()).thenReturn(TypeDescKind.TYPE_REFERENCE);
+        Mockito.when(typeSymbol.signature()).thenReturn(signature);
+        return typeSymbol;
+    }
+
+    private static UnionTypeSymbol unionTypeSymbol(String signature, TypeSymbol... memberTypes) {
+        UnionTypeSymbol unionTypeSymbol = Mockito.mock(UnionTypeSymbol.class);
+        Mockito.when(unionTypeSymbol.typeKind()).thenReturn(TypeDescKind.UNION);
+        Mockito.when(unionTypeSymbol.memberTypeDescriptors()).thenReturn(List.of(memberTypes));
+        Mockito.when(unionTypeSymbol.signature()).thenReturn(signature);
+        return unionTypeSymbol;
+    }
+}
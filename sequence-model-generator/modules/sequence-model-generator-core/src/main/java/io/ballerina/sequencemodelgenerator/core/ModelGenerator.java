@@ -60,9 +60,8 @@ public class ModelGenerator {
         String moduleName = semanticModel.symbol(rootNode)
                 .flatMap(CommonUtil::getModuleName)
                 .orElse(Constants.DEFAULT_MODULE);
-        ParticipantManager.initialize(semanticModel, project);
-        ParticipantManager participantManager = ParticipantManager.getInstance();
-        participantManager.generateParticipant(semanticModel, rootNode, moduleName);
+        ParticipantManager participantManager = new ParticipantManager(semanticModel, project);
+        participantManager.generateParticipant(filePath, semanticModel, rootNode, moduleName);
         List<Participant> participants = participantManager.getParticipants();
 
         return new Diagram(participants, lineRange);
@@ -41,13 +41,16 @@ public class ParticipantAnalyzer extends NodeVisitor {
     private final SemanticModel semanticModel;
     private String name;
     private final String moduleName;
+    private final ParticipantManager participantManager;
     private Participant.ParticipantKind kind;
     private LineRange location;
     private List<SequenceNode> sequenceNodes;
 
-    public ParticipantAnalyzer(SemanticModel semanticModel, String moduleName) {
+    public ParticipantAnalyzer(SemanticModel semanticModel, String moduleName,
+                               ParticipantManager participantManager) {
         this.semanticModel = semanticModel;
         this.moduleName = moduleName;
+        this.participantManager = participantManager;
     }
 
     @Override
@@ -56,7 +59,8 @@ public class ParticipantAnalyzer extends NodeVisitor {
         kind = Participant.ParticipantKind.FUNCTION;
         location = functionDefinitionNode.location().lineRange();
 
-        ParticipantBodyAnalyzer participantBodyAnalyzer = new ParticipantBodyAnalyzer(semanticModel);
+        ParticipantBodyAnalyzer participantBodyAnalyzer = new ParticipantBodyAnalyzer(semanticModel,
+                participantManager);
         functionDefinitionNode.functionBody().accept(participantBodyAnalyzer);
         sequenceNodes = participantBodyAnalyzer.getSequenceNodes();
     }
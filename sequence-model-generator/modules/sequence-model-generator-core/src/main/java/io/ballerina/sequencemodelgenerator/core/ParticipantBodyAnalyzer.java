@@ -57,12 +57,14 @@ public class ParticipantBodyAnalyzer extends NodeVisitor {
 
     private final List<SequenceNode> sequenceNodes;
     private final SemanticModel semanticModel;
+    private final ParticipantManager participantManager;
     private final Stack<SequenceNode.Builder> nodeBuilderStack;
     private SequenceNode.Builder nodeBuilder;
     private Node variableNode;
 
-    public ParticipantBodyAnalyzer(SemanticModel semanticModel) {
+    public ParticipantBodyAnalyzer(SemanticModel semanticModel, ParticipantManager participantManager) {
         this.semanticModel = semanticModel;
+        this.participantManager = participantManager;
         this.sequenceNodes = new ArrayList<>();
         this.nodeBuilderStack = new Stack<>();
         this.nodeBuilder = new SequenceNode.Builder(semanticModel);
@@ -70,7 +72,7 @@ public class ParticipantBodyAnalyzer extends NodeVisitor {
 
     @Override
     public void visit(RemoteMethodCallActionNode remoteMethodCallActionNode) {
-        String targetId = ParticipantManager.getInstance().getParticipantId(remoteMethodCallActionNode.expression());
+        String targetId = participantManager.getParticipantId(remoteMethodCallActionNode.expression());
 
         nodeBuilder = new Interaction.Builder(semanticModel)
                 .interactionType(Interaction.InteractionType.ENDPOINT_CALL)
@@ -90,7 +92,7 @@ public class ParticipantBodyAnalyzer extends NodeVisitor {
 
     @Override
     public void visit(ClientResourceAccessActionNode resourceAccessActionNode) {
-        String targetId = ParticipantManager.getInstance().getParticipantId(resourceAccessActionNode.expression());
+        String targetId = participantManager.getParticipantId(resourceAccessActionNode.expression());
 
         nodeBuilder = new Interaction.Builder(semanticModel)
                 .interactionType(Interaction.InteractionType.ENDPOINT_CALL)
@@ -136,7 +138,7 @@ public class ParticipantBodyAnalyzer extends NodeVisitor {
     public void visit(FunctionCallExpressionNode functionCallExpressionNode) {
         NameReferenceNode functionName = functionCallExpressionNode.functionName();
 
-        String targetId = ParticipantManager.getInstance().getParticipantId(functionName);
+        String targetId = participantManager.getParticipantId(functionName);
         nodeBuilder = new Interaction.Builder(semanticModel)
                 .interactionType(Interaction.InteractionType.FUNCTION_CALL)
                 .targetId(targetId)
@@ -0,0 +1,209 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.sequencemodelgenerator.core;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleDependency;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.sequencemodelgenerator.core.model.Participant;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Caches the analyzed participants across the sequence diagram requests.
+ *
+ * <p>
+ * A participant is identified by the file and the range of its defining node, and is bound to the versions of the
+ * documents it was analyzed from. These are the documents of the module of the participant and the modules of the
+ * package it imports, which contribute to the semantic model used for the analysis. The project API shares the syntax
+ * trees of the unmodified documents across package instances, and hence an identity comparison of the syntax trees
+ * detects whether any of the contributing documents has changed. The participants it calls are resolved from the same
+ * semantic model, and hence their entries are valid whenever the entry of the participant is valid. The cached
+ * participants are copied on the way in and out, so that a request never observes the changes of another.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class ParticipantCache {
+
+    private static final int MAX_ENTRIES = 512;
+
+    private final Map<Key, Entry> entries;
+
+    private ParticipantCache() {
+        entries = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+
+    public static ParticipantCache getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns the cached entry of the given participant, if the participant is analyzed from the current versions of
+     * the contributing documents. Stale entries are removed.
+     *
+     * @param key     the key of the participant
+     * @param version the current versions of the contributing documents
+     * @return the cached entry if valid
+     */
+    public Optional<Entry> get(Key key, Version version) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            if (!entry.version().matches(version)) {
+                entries.remove(key);
+                return Optional.empty();
+            }
+            return Optional.of(entry);
+        }
+    }
+
+    public void put(Key key, Entry entry) {
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Represents the key of a participant.
+     *
+     * @param filePath    the path of the file defining the participant
+     * @param startOffset the start offset of the node defining the participant
+     * @param endOffset   the end offset of the node defining the participant
+     * @param kind        the kind of the node defining the participant
+     */
+    public record Key(Path filePath, int startOffset, int endOffset, SyntaxKind kind) {
+
+        public static Key from(Path filePath, Node node) {
+            return new Key(filePath, node.textRange().startOffset(), node.textRange().endOffset(), node.kind());
+        }
+    }
+
+    /**
+     * Represents a participant resolved while analyzing another participant.
+     *
+     * @param name  the name used to refer to the participant
+     * @param entry the analyzed participant
+     */
+    public record Dependency(String name, Entry entry) {
+    }
+
+    /**
+     * Represents the versions of the documents contributing to a participant.
+     *
+     * @param documentIds the IDs of the contributing documents
+     * @param syntaxTrees the syntax trees of the contributing documents, in the order of the IDs
+     */
+    public record Version(List<DocumentId> documentIds, List<SyntaxTree> syntaxTrees) {
+
+        /**
+         * Captures the versions of the documents of the module of the given file and the modules of the package it
+         * imports.
+         *
+         * @param project  the project of the sequence diagram
+         * @param filePath the path of the file defining the participant
+         * @return the versions of the contributing documents
+         */
+        public static Version of(Project project, Path filePath) {
+            List<DocumentId> documentIds = new ArrayList<>();
+            List<SyntaxTree> syntaxTrees = new ArrayList<>();
+            Package currentPackage = project.currentPackage();
+            Set<ModuleId> visited = new HashSet<>();
+            Deque<ModuleId> pending = new ArrayDeque<>();
+            pending.push(project.documentId(filePath).moduleId());
+            while (!pending.isEmpty()) {
+                ModuleId moduleId = pending.pop();
+                if (!visited.add(moduleId)) {
+                    continue;
+                }
+                Module module = currentPackage.module(moduleId);
+                for (DocumentId documentId : module.documentIds()) {
+                    documentIds.add(documentId);
+                    syntaxTrees.add(module.document(documentId).syntaxTree());
+                }
+                for (ModuleDependency dependency : module.moduleDependencies()) {
+                    if (currentPackage.moduleIds().contains(dependency.moduleId())) {
+                        pending.push(dependency.moduleId());
+                    }
+                }
+            }
+            return new Version(documentIds, syntaxTrees);
+        }
+
+        boolean matches(Version other) {
+            if (!documentIds.equals(other.documentIds)) {
+                return false;
+            }
+            for (int i = 0; i < syntaxTrees.size(); i++) {
+                if (syntaxTrees.get(i) != other.syntaxTrees.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Represents an analyzed participant. The entry holds a copy of the given participant and returns a new copy on
+     * each access.
+     *
+     * @param key          the key of the participant
+     * @param participant  the participant
+     * @param version      the versions of the documents the participant is analyzed from
+     * @param dependencies the participants resolved while analyzing the participant, in the order of resolution
+     */
+    public record Entry(Key key, Participant participant, Version version, List<Dependency> dependencies) {
+
+        public Entry {
+            participant = participant.copy();
+        }
+
+        @Override
+        public Participant participant() {
+            return participant.copy();
+        }
+    }
+
+    private static class Holder {
+
+        private static final ParticipantCache INSTANCE = new ParticipantCache();
+    }
+}
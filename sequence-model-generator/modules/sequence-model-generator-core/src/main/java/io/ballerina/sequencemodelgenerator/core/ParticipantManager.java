@@ -28,50 +28,44 @@ import io.ballerina.sequencemodelgenerator.core.model.Participant;
 import io.ballerina.tools.diagnostics.Location;
 
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
- * Manages the participants in the sequence diagram.
+ * Manages the participants of a sequence diagram request. A new instance is created for each request, whereas the
+ * analyzed participants are shared across requests through the {@link ParticipantCache}.
  *
  * @since 2.0.0
  */
 public class ParticipantManager {
 
-    private static ParticipantManager instance = null;
     private final Map<String, String> cache;
+    private final Map<String, ParticipantCache.Entry> entries;
     private final List<Participant> participants;
+    private final Deque<List<ParticipantCache.Dependency>> dependencyStack;
     private final SemanticModel semanticModel;
     private final Project project;
     private final String packageName;
 
-    private ParticipantManager(SemanticModel semanticModel, Project project) {
-        this.cache = new HashMap<>();
-        this.participants = new ArrayList<>();
-        this.semanticModel = semanticModel;
-        this.project = project;
-        this.packageName = project.currentPackage().packageName().toString();
-    }
-
     /**
-     * Initializes the participant manager. This method should be called before calling any other method.
+     * Creates the participant manager for a sequence diagram request.
      *
      * @param semanticModel semantic model of the sequence diagram
      * @param project       project of the sequence diagram
      */
-    public static void initialize(SemanticModel semanticModel, Project project) {
-        instance = new ParticipantManager(semanticModel, project);
-    }
-
-    /**
-     * Returns the participant manager instance.
-     *
-     * @return participant manager instance
-     */
-    public static ParticipantManager getInstance() {
-        return instance;
+    public ParticipantManager(SemanticModel semanticModel, Project project) {
+        this.cache = new HashMap<>();
+        this.entries = new HashMap<>();
+        this.participants = new ArrayList<>();
+        this.dependencyStack = new ArrayDeque<>();
+        this.semanticModel = semanticModel;
+        this.project = project;
+        this.packageName = project.currentPackage().packageName().toString();
     }
 
     /**
@@ -81,8 +75,13 @@ public class ParticipantManager {
      * @return participant ID
      */
     public String getParticipantId(Node name) {
-        String participantId = cache.get(name.toString());
+        String participantName = name.toString();
+        String participantId = cache.get(participantName);
         if (participantId != null) {
+            ParticipantCache.Entry entry = entries.get(participantName);
+            if (entry != null) {
+                addDependency(participantName, entry);
+            }
             return participantId;
         }
         try {
@@ -93,29 +92,27 @@ public class ParticipantManager {
             Path filePath = CommonUtil.getFilePath(project, fileName,
                     moduleName.equals(packageName) ? null : moduleName);
             SyntaxTree syntaxTree = CommonUtil.getSyntaxTree(project, filePath);
-            SemanticModel moduleSemanticModel = CommonUtil.getSemanticModel(project, filePath);
             NonTerminalNode participantNode = CommonUtil.getNode(syntaxTree, location.textRange());
-            return generateParticipant(moduleSemanticModel, participantNode, moduleName);
+            ParticipantCache.Entry entry = resolveParticipant(filePath, null, participantNode, moduleName);
+            addDependency(participantName, entry);
+            return entry.participant().id();
         } catch (RuntimeException e) {
             return null;
         }
     }
 
     /**
-     * Generates the participant node.
+     * Generates the participant node, reusing the cached participant if the module of the file is unchanged.
      *
-     * @param participantNode participant node
-     * @param moduleName      module name of the participant
+     * @param filePath            file path of the participant
+     * @param moduleSemanticModel semantic model of the module of the participant
+     * @param participantNode     participant node
+     * @param moduleName          module name of the participant
      * @return participant ID
      */
-    public String generateParticipant(SemanticModel moduleSemanticModel, Node participantNode, String moduleName) {
-        ParticipantAnalyzer participantAnalyzer = new ParticipantAnalyzer(moduleSemanticModel, moduleName);
-        participantNode.accept(participantAnalyzer);
-        Participant participant = participantAnalyzer.getParticipant();
-        participants.add(participant);
-        String participantId = participant.id();
-        cache.put(participant.name(), participantId);
-        return participantId;
+    public String generateParticipant(Path filePath, SemanticModel moduleSemanticModel, Node participantNode,
+                                      String moduleName) {
+        return resolveParticipant(filePath, moduleSemanticModel, participantNode, moduleName).participant().id();
     }
 
     /**
@@ -126,4 +123,58 @@ public class ParticipantManager {
     public List<Participant> getParticipants() {
         return participants;
     }
+
+    private ParticipantCache.Entry resolveParticipant(Path filePath, SemanticModel moduleSemanticModel,
+                                                      Node participantNode, String moduleName) {
+        ParticipantCache participantCache = ParticipantCache.getInstance();
+        ParticipantCache.Key key = ParticipantCache.Key.from(filePath, participantNode);
+        ParticipantCache.Version version = ParticipantCache.Version.of(project, filePath);
+        Optional<ParticipantCache.Entry> cachedEntry = participantCache.get(key, version);
+        if (cachedEntry.isPresent()) {
+            addParticipant(cachedEntry.get());
+            return cachedEntry.get();
+        }
+
+        SemanticModel participantSemanticModel = moduleSemanticModel != null ? moduleSemanticModel :
+                CommonUtil.getSemanticModel(project, filePath);
+        ParticipantAnalyzer participantAnalyzer =
+                new ParticipantAnalyzer(participantSemanticModel, moduleName, this);
+        dependencyStack.push(new ArrayList<>());
+        List<ParticipantCache.Dependency> dependencies;
+        try {
+            participantNode.accept(participantAnalyzer);
+        } finally {
+            dependencies = dependencyStack.pop();
+        }
+        ParticipantCache.Entry entry = new ParticipantCache.Entry(key, participantAnalyzer.getParticipant(),
+                version, List.copyOf(dependencies));
+        participantCache.put(key, entry);
+        registerParticipant(entry);
+        return entry;
+    }
+
+    // Adds a cached participant in the same order as the analysis would, where the dependencies that are not yet
+    // resolved in this request precede the participant
+    private void addParticipant(ParticipantCache.Entry entry) {
+        for (ParticipantCache.Dependency dependency : entry.dependencies()) {
+            if (!cache.containsKey(dependency.name())) {
+                addParticipant(dependency.entry());
+            }
+        }
+        registerParticipant(entry);
+    }
+
+    private void registerParticipant(ParticipantCache.Entry entry) {
+        Participant participant = entry.participant();
+        participants.add(participant);
+        cache.put(participant.name(), participant.id());
+        entries.put(participant.name(), entry);
+    }
+
+    private void addDependency(String participantName, ParticipantCache.Entry entry) {
+        List<ParticipantCache.Dependency> dependencies = dependencyStack.peek();
+        if (dependencies != null) {
+            dependencies.add(new ParticipantCache.Dependency(participantName, entry));
+        }
+    }
 }
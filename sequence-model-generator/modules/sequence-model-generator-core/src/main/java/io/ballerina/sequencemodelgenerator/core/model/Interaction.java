@@ -54,6 +54,11 @@ public class Interaction extends SequenceNode {
         return targetId;
     }
 
+    @Override
+    public Interaction copy() {
+        return new Interaction(copyProperties(properties()), location(), interactionType, targetId);
+    }
+
     public enum InteractionType {
         ENDPOINT_CALL,
         FUNCTION_CALL,
@@ -36,6 +36,15 @@ import java.util.List;
 public record Participant(String id, String name, ParticipantKind kind, String moduleName, List<SequenceNode> nodes,
                           LineRange location) {
 
+    /**
+     * Returns a copy of the participant, which does not share any mutable state with the participant.
+     *
+     * @return the copy of the participant
+     */
+    public Participant copy() {
+        return new Participant(id, name, kind, moduleName, SequenceNode.copyNodes(nodes), location);
+    }
+
     /**
      * Represents the kind of the participant.
      *
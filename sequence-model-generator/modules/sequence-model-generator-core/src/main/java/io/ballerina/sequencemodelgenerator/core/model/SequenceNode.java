@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Represents a sequence node in the sequence diagram.
@@ -68,6 +69,40 @@ public class SequenceNode {
         return location;
     }
 
+    /**
+     * Returns a copy of the node, which does not share any mutable state with the node.
+     *
+     * @return the copy of the node
+     */
+    public SequenceNode copy() {
+        List<Branch> copiedBranches = branches == null ? null : branches.stream()
+                .map(branch -> new Branch(branch.label(), copyNodes(branch.children())))
+                .collect(Collectors.toCollection(ArrayList::new));
+        return new SequenceNode(kind, copiedBranches, copyProperties(properties), location);
+    }
+
+    /**
+     * Returns copies of the given nodes.
+     *
+     * @param nodes the nodes to copy
+     * @return the copied nodes
+     */
+    public static List<SequenceNode> copyNodes(List<SequenceNode> nodes) {
+        return nodes == null ? null : nodes.stream()
+                .map(SequenceNode::copy)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    protected static Map<String, Object> copyProperties(Map<String, Object> properties) {
+        if (properties == null) {
+            return null;
+        }
+        Map<String, Object> copiedProperties = new HashMap<>();
+        properties.forEach((key, value) -> copiedProperties.put(key,
+                value instanceof List<?> list ? new ArrayList<>(list) : value));
+        return copiedProperties;
+    }
+
     /**
      * Represents a branch in the sequence node.
      *
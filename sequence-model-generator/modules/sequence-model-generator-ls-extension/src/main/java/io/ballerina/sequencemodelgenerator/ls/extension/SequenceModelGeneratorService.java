@@ -22,6 +22,7 @@ import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
 import io.ballerina.projects.Project;
 import io.ballerina.sequencemodelgenerator.core.ModelGenerator;
 import io.ballerina.sequencemodelgenerator.core.model.Diagram;
@@ -62,7 +63,7 @@ public class SequenceModelGeneratorService implements ExtendedLanguageServerServ
     @JsonRequest
     public CompletableFuture<SequenceDiagramServiceResponse> getSequenceDiagramModel(
             SequenceDiagramServiceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("sequenceModelGeneratorService/getSequenceDiagramModel", () -> {
             SequenceDiagramServiceResponse response = new SequenceDiagramServiceResponse();
             Path filePath = Path.of(request.getFilePath());
             try {
@@ -24,4 +24,5 @@ module io.ballerina.sequence.model.generator.ls.extension {
     requires com.google.gson;
     requires io.ballerina.tools.api;
     requires io.ballerina.sequence.model.generator.core;
+    requires io.ballerina.model.generator.commons;
 }
@@ -18,9 +18,6 @@
 
 package io.ballerina.servicemodelgenerator.extension;
 
-import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
-import com.google.gson.stream.JsonReader;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.ModuleSymbol;
 import io.ballerina.compiler.api.symbols.Symbol;
@@ -45,6 +42,7 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.modelgenerator.commons.CommonUtils;
 import io.ballerina.modelgenerator.commons.PackageUtil;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
 import io.ballerina.modelgenerator.commons.ServiceDatabaseManager;
 import io.ballerina.modelgenerator.commons.ServiceDeclaration;
 import io.ballerina.projects.Document;
@@ -92,6 +90,7 @@ import io.ballerina.servicemodelgenerator.extension.response.TriggerResponse;
 import io.ballerina.servicemodelgenerator.extension.util.ListenerUtil;
 import io.ballerina.servicemodelgenerator.extension.util.ServiceClassUtil;
 import io.ballerina.servicemodelgenerator.extension.util.ServiceModelUtils;
+import io.ballerina.servicemodelgenerator.extension.util.TemplateRegistry;
 import io.ballerina.servicemodelgenerator.extension.util.Utils;
 import io.ballerina.tools.text.LinePosition;
 import io.ballerina.tools.text.LineRange;
@@ -105,11 +104,6 @@ import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4j.jsonrpc.services.JsonSegment;
 import org.eclipse.lsp4j.services.LanguageServer;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.lang.reflect.Type;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -164,24 +158,9 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
 
     private WorkspaceManager workspaceManager;
     private final Map<String, TriggerProperty> triggerProperties;
-    private static final Type propertyMapType = new TypeToken<Map<String, TriggerProperty>>() {
-    }.getType();
 
     public ServiceModelGeneratorService() {
-        InputStream newPropertiesStream = getClass().getClassLoader()
-                .getResourceAsStream("trigger_properties.json");
-        Map<String, TriggerProperty> newTriggerProperties = Map.of();
-        if (newPropertiesStream != null) {
-            try (JsonReader reader = new JsonReader(new InputStreamReader(newPropertiesStream,
-                    StandardCharsets.UTF_8))) {
-                newTriggerProperties = new Gson().fromJson(reader, propertyMapType);
-                reader.close();
-                newPropertiesStream.close();
-            } catch (IOException e) {
-                // Ignore
-            }
-        }
-        this.triggerProperties = newTriggerProperties;
+        this.triggerProperties = TemplateRegistry.getInstance().getTriggerProperties();
     }
 
     @Override
@@ -202,7 +181,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<ListenerDiscoveryResponse> getListeners(ListenerDiscoveryRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/getListeners", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 Project project = this.workspaceManager.loadProject(filePath);
@@ -227,7 +206,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<ListenerModelResponse> getListenerModel(ListenerModelRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/getListenerModel", () -> {
             try {
                 return ListenerUtil.getListenerModelByName(request.moduleName())
                         .map(ListenerModelResponse::new)
@@ -246,7 +225,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> addListener(ListenerSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/addListener", () -> {
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Path filePath = Path.of(request.filePath());
@@ -280,7 +259,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
     @JsonRequest
     public CompletableFuture<AddOrGetDefaultListenerResponse> addOrGetDefaultListener(
             ListenerDiscoveryRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/addOrGetDefaultListener", () -> {
             try {
                 AddOrGetDefaultListenerResponse response = new AddOrGetDefaultListenerResponse();
                 Path filePath = Path.of(request.filePath());
@@ -330,7 +309,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<ServiceModelResponse> getServiceModel(ServiceModelRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/getServiceModel", () -> {
             try {
                 Optional<Service> service = ServiceModelUtils.getEmptyServiceModel(request.moduleName());
                 if (service.isEmpty()) {
@@ -365,7 +344,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> addService(ServiceSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/addService", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 Project project = this.workspaceManager.loadProject(filePath);
@@ -452,7 +431,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<TriggerListResponse> getTriggerModels(TriggerListRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/getTriggerModels", () -> {
             List<TriggerBasicInfo> triggerBasicInfoList = triggerProperties.values().stream()
                     .filter(triggerProperty -> filterTriggers(triggerProperty, request))
                     .map(trigger -> getTriggerBasicInfoByName(trigger.name()))
@@ -469,7 +448,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<FunctionModelResponse> getFunctionModel(FunctionModelRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/getFunctionModel", () -> {
             try {
                 return Utils.getFunctionModel(request.type(), request.functionName())
                         .map(FunctionModelResponse::new)
@@ -488,7 +467,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> addResource(FunctionSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/addResource", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 this.workspaceManager.loadProject(filePath);
@@ -546,7 +525,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<ServiceFromSourceResponse> getServiceFromSource(CommonModelFromSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/getServiceFromSource", () -> {
             Path filePath = Path.of(request.filePath());
             Optional<SemanticModel> semanticModelOp;
             Optional<Document> document;
@@ -640,7 +619,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<ListenerFromSourceResponse> getListenerFromSource(CommonModelFromSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/getListenerFromSource", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 Project project = this.workspaceManager.loadProject(filePath);
@@ -676,7 +655,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<TriggerResponse> getTriggerModel(TriggerRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/getTriggerModel", () -> {
             if (expectsTriggerByName(request)) {
                 return new TriggerResponse(getTriggerBasicInfoByName(request.packageName()).orElse(null));
             }
@@ -697,7 +676,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> addFunction(FunctionSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/addFunction", () -> {
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Path filePath = Path.of(request.filePath());
@@ -761,7 +740,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> updateFunction(FunctionModifierRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/updateFunction", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 this.workspaceManager.loadProject(filePath);
@@ -850,7 +829,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> updateService(ServiceModifierRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/updateService", () -> {
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Service service = request.service();
@@ -934,7 +913,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> updateListener(ListenerModifierRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/updateListener", () -> {
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Listener listener = request.listener();
@@ -968,7 +947,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
     @JsonRequest
     public CompletableFuture<ServiceClassModelResponse> getServiceClassModelFromSource(
             ClassModelFromSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/getServiceClassModelFromSource", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 try {
@@ -1002,7 +981,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> updateServiceClass(ServiceClassSourceRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/updateServiceClass", () -> {
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 ServiceClass serviceClass = request.serviceClass();
@@ -1044,7 +1023,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> addField(AddFieldRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/addField", () -> {
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Path filePath = Path.of(request.filePath());
@@ -1088,7 +1067,7 @@ public class ServiceModelGeneratorService implements ExtendedLanguageServerServi
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> updateClassField(ClassFieldModifierRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("serviceDesign/updateClassField", () -> {
             try {
                 List<TextEdit> edits = new ArrayList<>();
                 Path filePath = Path.of(request.filePath());
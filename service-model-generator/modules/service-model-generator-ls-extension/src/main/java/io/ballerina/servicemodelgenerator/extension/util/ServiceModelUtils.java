@@ -18,8 +18,6 @@
 
 package io.ballerina.servicemodelgenerator.extension.util;
 
-import com.google.gson.Gson;
-import com.google.gson.stream.JsonReader;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.AnnotationAttachPoint;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
@@ -41,10 +39,6 @@ import io.ballerina.servicemodelgenerator.extension.model.PropertyTypeMemberInfo
 import io.ballerina.servicemodelgenerator.extension.model.Service;
 import io.ballerina.servicemodelgenerator.extension.model.Value;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -586,17 +580,7 @@ public class ServiceModelUtils {
 
 
     public static Optional<Service> getHttpService() {
-        InputStream resourceStream = ServiceModelUtils.class.getClassLoader()
-                .getResourceAsStream("services/http.json");
-        if (resourceStream == null) {
-            return Optional.empty();
-        }
-
-        try (JsonReader reader = new JsonReader(new InputStreamReader(resourceStream, StandardCharsets.UTF_8))) {
-            return Optional.of(new Gson().fromJson(reader, Service.class));
-        } catch (IOException e) {
-            return Optional.empty();
-        }
+        return TemplateRegistry.getInstance().getService("http");
     }
 
     public static void updateListenerItems(String moduleName, SemanticModel semanticModel, Project project,
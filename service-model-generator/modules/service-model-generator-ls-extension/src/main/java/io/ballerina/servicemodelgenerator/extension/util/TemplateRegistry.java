@@ -0,0 +1,142 @@
+/*
+ *  Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com)
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.servicemodelgenerator.extension.util;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import io.ballerina.servicemodelgenerator.extension.model.Function;
+import io.ballerina.servicemodelgenerator.extension.model.Service;
+import io.ballerina.servicemodelgenerator.extension.model.TriggerProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the service and function templates bundled with the extension.
+ *
+ * <p>
+ * The templates are parsed once into JSON trees when the registry is created. The request handlers mutate the models
+ * they obtain, and hence every call materializes a new model from the parsed tree using a shared {@link Gson}
+ * instance, whose type adapters are created only once. This avoids the classpath lookup, the JSON parsing and the
+ * reflective adapter creation on each request. The trigger properties are never modified, and are shared as an
+ * immutable map.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class TemplateRegistry {
+
+    private static final String SERVICE_TEMPLATE = "services/%s.json";
+    private static final String FUNCTION_TEMPLATE = "functions/%s.json";
+    private static final String TRIGGER_PROPERTIES = "trigger_properties.json";
+    private static final List<String> BUNDLED_SERVICES = List.of("http");
+    private static final List<String> BUNDLED_FUNCTIONS = List.of("graphql_mutation", "graphql_query",
+            "graphql_subscription", "http_resource", "object_default", "object_init", "object_remote",
+            "object_resource");
+    private static final Type TRIGGER_PROPERTIES_TYPE = new TypeToken<Map<String, TriggerProperty>>() {
+    }.getType();
+
+    private final Gson gson;
+    private final Map<String, Optional<JsonElement>> templates;
+    private final Map<String, TriggerProperty> triggerProperties;
+
+    private TemplateRegistry() {
+        gson = new Gson();
+        templates = new ConcurrentHashMap<>();
+        BUNDLED_SERVICES.forEach(name -> getTemplate(String.format(SERVICE_TEMPLATE, name)));
+        BUNDLED_FUNCTIONS.forEach(name -> getTemplate(String.format(FUNCTION_TEMPLATE, name)));
+
+        // Create the type adapters upfront, so that the first request does not pay for the reflection
+        gson.getAdapter(Service.class);
+        gson.getAdapter(Function.class);
+
+        Map<String, TriggerProperty> properties = getTemplate(TRIGGER_PROPERTIES)
+                .<Map<String, TriggerProperty>>map(tree -> gson.fromJson(tree, TRIGGER_PROPERTIES_TYPE))
+                .orElse(Map.of());
+        triggerProperties = Collections.unmodifiableMap(properties);
+    }
+
+    public static TemplateRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Returns a new service model created from the template of the given service type.
+     *
+     * @param serviceType the service type, where the module separators are replaced with dots
+     * @return the service model if a template exists
+     */
+    public Optional<Service> getService(String serviceType) {
+        return getTemplate(String.format(SERVICE_TEMPLATE, serviceType))
+                .map(tree -> gson.fromJson(tree, Service.class));
+    }
+
+    /**
+     * Returns a new function model created from the template of the given name.
+     *
+     * @param name the name of the function template
+     * @return the function model if a template exists
+     */
+    public Optional<Function> getFunction(String name) {
+        return getTemplate(String.format(FUNCTION_TEMPLATE, name))
+                .map(tree -> gson.fromJson(tree, Function.class));
+    }
+
+    /**
+     * Returns the trigger properties mapped by the trigger ID.
+     *
+     * @return an unmodifiable map of the trigger properties
+     */
+    public Map<String, TriggerProperty> getTriggerProperties() {
+        return triggerProperties;
+    }
+
+    private Optional<JsonElement> getTemplate(String resourcePath) {
+        return templates.computeIfAbsent(resourcePath, TemplateRegistry::readTemplate);
+    }
+
+    private static Optional<JsonElement> readTemplate(String resourcePath) {
+        InputStream resourceStream = TemplateRegistry.class.getClassLoader().getResourceAsStream(resourcePath);
+        if (resourceStream == null) {
+            return Optional.empty();
+        }
+
+        try (JsonReader reader = new JsonReader(new InputStreamReader(resourceStream, StandardCharsets.UTF_8))) {
+            return Optional.of(JsonParser.parseReader(reader));
+        } catch (IOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static class Holder {
+
+        private static final TemplateRegistry INSTANCE = new TemplateRegistry();
+    }
+}
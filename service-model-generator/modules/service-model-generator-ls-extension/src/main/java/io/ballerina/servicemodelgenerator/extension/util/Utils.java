@@ -18,8 +18,6 @@
 
 package io.ballerina.servicemodelgenerator.extension.util;
 
-import com.google.gson.Gson;
-import com.google.gson.stream.JsonReader;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.ResourceMethodSymbol;
 import io.ballerina.compiler.api.symbols.Symbol;
@@ -70,10 +68,6 @@ import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextEdit;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -184,17 +178,7 @@ public final class Utils {
     }
 
     private static Optional<Service> getServiceByServiceType(String serviceType) {
-        InputStream resourceStream = Utils.class.getClassLoader()
-                .getResourceAsStream(String.format("services/%s.json", serviceType.replaceAll(":", ".")));
-        if (resourceStream == null) {
-            return Optional.empty();
-        }
-
-        try (JsonReader reader = new JsonReader(new InputStreamReader(resourceStream, StandardCharsets.UTF_8))) {
-            return Optional.of(new Gson().fromJson(reader, Service.class));
-        } catch (IOException e) {
-            return Optional.empty();
-        }
+        return TemplateRegistry.getInstance().getService(serviceType.replace(':', '.'));
     }
 
     public static Optional<ExpressionNode> getListenerExpression(ServiceDeclarationNode serviceNode) {
@@ -447,19 +431,8 @@ public final class Utils {
     }
 
     public static Optional<Function> getFunctionModel(String serviceType, String functionNameOrType) {
-        String resourcePath =  String.format("functions/%s_%s.json", serviceType.toLowerCase(Locale.US),
-                functionNameOrType.toLowerCase(Locale.US));
-        InputStream resourceStream = Utils.class.getClassLoader()
-                .getResourceAsStream(resourcePath);
-        if (resourceStream == null) {
-            return Optional.empty();
-        }
-
-        try (JsonReader reader = new JsonReader(new InputStreamReader(resourceStream, StandardCharsets.UTF_8))) {
-            return Optional.of(new Gson().fromJson(reader, Function.class));
-        } catch (IOException e) {
-            return Optional.empty();
-        }
+        return TemplateRegistry.getInstance().getFunction(String.format("%s_%s", serviceType.toLowerCase(Locale.US),
+                functionNameOrType.toLowerCase(Locale.US)));
     }
 
     public static void populateListenerInfo(Service serviceModel, ServiceDeclarationNode serviceNode) {
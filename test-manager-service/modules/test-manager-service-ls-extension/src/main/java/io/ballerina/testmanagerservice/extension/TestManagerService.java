@@ -22,6 +22,7 @@ import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.modelgenerator.commons.RequestMetrics;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
@@ -80,7 +81,7 @@ public class TestManagerService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<TestsDiscoveryResponse> discoverInFile(TestsDiscoveryRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("testManagerService/discoverInFile", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 this.workspaceManager.loadProject(filePath);
@@ -107,7 +108,7 @@ public class TestManagerService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<TestsDiscoveryResponse> discoverInProject(TestsDiscoveryRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("testManagerService/discoverInProject", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 Project project = this.workspaceManager.loadProject(filePath);
@@ -134,7 +135,7 @@ public class TestManagerService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<GetTestFunctionResponse> getTestFunction(GetTestFunctionRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("testManagerService/getTestFunction", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 Project project = this.workspaceManager.loadProject(filePath);
@@ -167,7 +168,7 @@ public class TestManagerService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> addTestFunction(AddTestFunctionRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("testManagerService/addTestFunction", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 this.workspaceManager.loadProject(filePath);
@@ -198,7 +199,7 @@ public class TestManagerService implements ExtendedLanguageServerService {
      */
     @JsonRequest
     public CompletableFuture<CommonSourceResponse> updateTestFunction(UpdateTestFunctionRequest request) {
-        return CompletableFuture.supplyAsync(() -> {
+        return RequestMetrics.supplyAsync("testManagerService/updateTestFunction", () -> {
             try {
                 Path filePath = Path.of(request.filePath());
                 this.workspaceManager.loadProject(filePath);